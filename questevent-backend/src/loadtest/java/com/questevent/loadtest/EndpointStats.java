@@ -0,0 +1,80 @@
+package com.questevent.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies and outcomes for one endpoint within a scenario. Every sample is
+ * kept (a run is a few hundred thousand requests at most), so percentiles
+ * are exact rather than bucketed.
+ */
+public class EndpointStats {
+
+    private final String endpoint;
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long clientErrors;
+    private long serverErrors;
+    private long failures;
+
+    public EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /** A response arrived; 4xx and 5xx are tallied separately from transport failures. */
+    public synchronized void record(long latencyNanos, int status) {
+        add(latencyNanos);
+        if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        }
+    }
+
+    /** No response: connection refused, reset or timed out. */
+    public synchronized void failure(long latencyNanos) {
+        add(latencyNanos);
+        failures++;
+    }
+
+    private void add(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    public synchronized LoadTestReport.EndpointResult result(double elapsedSeconds) {
+
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        long errors = serverErrors + failures;
+
+        return new LoadTestReport.EndpointResult(
+                endpoint,
+                count,
+                count / elapsedSeconds,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)),
+                millis(count == 0 ? 0 : sorted[count - 1]),
+                clientErrors,
+                serverErrors,
+                failures,
+                count == 0 ? 0 : (double) errors / count
+        );
+    }
+
+    /** Nearest-rank percentile. */
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,219 @@
+package com.questevent.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Ids the scenarios act on, sampled straight from the database the server
+ * runs against (normally a synthetic dataset from {@code ./gradlew seed}).
+ * Only seeded users are picked, so tokens always resolve to a known account.
+ * <p>
+ * Registrations, submissions and reviews can each happen once, so those come
+ * from queues that drain as the run goes; re-seed between runs that should
+ * be compared.
+ */
+public class Fixtures {
+
+    public record Registration(String email, UUID programId) {}
+
+    public record Submission(String email, UUID activityId, UUID programId) {}
+
+    public record Review(String judgeEmail, UUID submissionId) {}
+
+    private static final String SEEDED = "seed-user-%";
+
+    private static final String PARTICIPANTS = """
+            SELECT email FROM users
+            WHERE role = 'USER' AND email LIKE ?
+            ORDER BY user_id
+            LIMIT ?
+            """;
+
+    private static final String JUDGES = """
+            SELECT u.email FROM judges j
+            JOIN users u ON u.user_id = j.user_id
+            WHERE u.email LIKE ?
+            ORDER BY u.user_id
+            LIMIT ?
+            """;
+
+    private static final String ACTIVE_PROGRAMS = """
+            SELECT program_id FROM programs
+            WHERE status = 'ACTIVE'
+            ORDER BY program_id
+            LIMIT ?
+            """;
+
+    private static final String OPEN_REGISTRATIONS = """
+            SELECT u.email, p.program_id FROM users u
+            CROSS JOIN programs p
+            WHERE u.role = 'USER' AND u.email LIKE ? AND p.status = 'ACTIVE'
+              AND NOT EXISTS (
+                  SELECT 1 FROM program_registrations pr
+                  WHERE pr.program_id = p.program_id AND pr.user_id = u.user_id
+              )
+            ORDER BY p.program_id, u.user_id
+            LIMIT ?
+            """;
+
+    private static final String OPEN_SUBMISSIONS = """
+            SELECT u.email, a.activity_id, a.program_id FROM activity_registrations ar
+            JOIN users u ON u.user_id = ar.user_id
+            JOIN activities a ON a.activity_id = ar.activity_id
+            JOIN programs p ON p.program_id = a.program_id
+            WHERE u.email LIKE ? AND p.status = 'ACTIVE'
+              AND NOT EXISTS (
+                  SELECT 1 FROM activity_submissions s
+                  WHERE s.activity_registration_id = ar.activity_registration_id
+              )
+            ORDER BY ar.activity_registration_id
+            LIMIT ?
+            """;
+
+    private static final String PENDING_REVIEWS = """
+            SELECT ju.email, s.submission_id FROM activity_submissions s
+            JOIN activity_registrations ar ON ar.activity_registration_id = s.activity_registration_id
+            JOIN activities a ON a.activity_id = ar.activity_id
+            JOIN programs p ON p.program_id = a.program_id
+            JOIN judges j ON j.judge_id = p.judge_id
+            JOIN users ju ON ju.user_id = j.user_id
+            WHERE s.review_status = 'PENDING' AND ju.email LIKE ?
+            ORDER BY s.submitted_at
+            LIMIT ?
+            """;
+
+    private final List<String> participants;
+    private final List<String> judges;
+    private final List<UUID> activePrograms;
+    private final Queue<Registration> registrations;
+    private final Queue<Submission> submissions;
+    private final Queue<Review> reviews;
+
+    private Fixtures(
+            List<String> participants,
+            List<String> judges,
+            List<UUID> activePrograms,
+            List<Registration> registrations,
+            List<Submission> submissions,
+            List<Review> reviews
+    ) {
+        this.participants = participants;
+        this.judges = judges;
+        this.activePrograms = activePrograms;
+        this.registrations = new ConcurrentLinkedQueue<>(registrations);
+        this.submissions = new ConcurrentLinkedQueue<>(submissions);
+        this.reviews = new ConcurrentLinkedQueue<>(reviews);
+    }
+
+    public static Fixtures load(LoadTestSettings settings) throws SQLException {
+
+        int limit = settings.fixtureLimit();
+        try (Connection connection = DriverManager.getConnection(
+                settings.jdbcUrl(), settings.jdbcUsername(), settings.jdbcPassword())) {
+
+            List<String> participants = query(connection, PARTICIPANTS, limit, rs -> rs.getString(1));
+            List<String> judges = query(connection, JUDGES, limit, rs -> rs.getString(1));
+            List<UUID> activePrograms = query(connection, ACTIVE_PROGRAMS, limit, rs -> rs.getObject(1, UUID.class), false);
+
+            if (participants.isEmpty() || judges.isEmpty() || activePrograms.isEmpty()) {
+                throw new IllegalStateException(
+                        "No seeded users, judges or active programs found; run ./gradlew seed against " + settings.jdbcUrl());
+            }
+
+            // program-major, like a launch where everyone piles onto a few programs; shuffled with a
+            // fixed seed so users arrive interleaved, yet in the same order every run
+            Random random = new Random(42);
+            List<Registration> registrations = shuffled(random, query(connection, OPEN_REGISTRATIONS, limit,
+                    rs -> new Registration(rs.getString(1), rs.getObject(2, UUID.class))));
+            List<Submission> submissions = shuffled(random, query(connection, OPEN_SUBMISSIONS, limit,
+                    rs -> new Submission(rs.getString(1), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class))));
+            List<Review> reviews = query(connection, PENDING_REVIEWS, limit,
+                    rs -> new Review(rs.getString(1), rs.getObject(2, UUID.class)));
+
+            return new Fixtures(participants, judges, activePrograms, registrations, submissions, reviews);
+        }
+    }
+
+    public String participant(Random random) {
+        return participants.get(random.nextInt(participants.size()));
+    }
+
+    public String judge(Random random) {
+        return judges.get(random.nextInt(judges.size()));
+    }
+
+    public UUID activeProgram(Random random) {
+        return activePrograms.get(random.nextInt(activePrograms.size()));
+    }
+
+    public Optional<Registration> nextRegistration() {
+        return Optional.ofNullable(registrations.poll());
+    }
+
+    public Optional<Submission> nextSubmission() {
+        return Optional.ofNullable(submissions.poll());
+    }
+
+    public Optional<Review> nextReview() {
+        return Optional.ofNullable(reviews.poll());
+    }
+
+    public String describe() {
+        return "participants=" + participants.size()
+                + " | judges=" + judges.size()
+                + " | activePrograms=" + activePrograms.size()
+                + " | openRegistrations=" + registrations.size()
+                + " | openSubmissions=" + submissions.size()
+                + " | pendingReviews=" + reviews.size();
+    }
+
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private static <T> List<T> query(Connection connection, String sql, int limit, RowMapper<T> mapper)
+            throws SQLException {
+        return query(connection, sql, limit, mapper, true);
+    }
+
+    private static <T> List<T> query(
+            Connection connection,
+            String sql,
+            int limit,
+            RowMapper<T> mapper,
+            boolean seededOnly
+    ) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            if (seededOnly) {
+                statement.setString(index++, SEEDED);
+            }
+            statement.setInt(index, limit);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<T> rows = new ArrayList<>();
+                while (rs.next()) {
+                    rows.add(mapper.map(rs));
+                }
+                return rows;
+            }
+        }
+    }
+
+    private static <T> List<T> shuffled(Random random, List<T> rows) {
+        List<T> copy = new ArrayList<>(rows);
+        Collections.shuffle(copy, random);
+        return copy;
+    }
+}
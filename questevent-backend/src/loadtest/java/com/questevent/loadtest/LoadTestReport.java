@@ -0,0 +1,96 @@
+package com.questevent.loadtest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The outcome of a run, written as {@code loadtest.json} for comparison and
+ * {@code loadtest.html} for reading. {@code errorRate} counts 5xx responses
+ * and transport failures; 4xx responses are listed separately since a mix
+ * can legitimately trip business rules (a registration that filled up, a
+ * submission already reviewed).
+ */
+public record LoadTestReport(
+        Instant startedAt,
+        String baseUrl,
+        int concurrency,
+        double durationSeconds,
+        List<ScenarioResult> scenarios
+) {
+
+    public record ScenarioResult(
+            String scenario,
+            double elapsedSeconds,
+            long requests,
+            double throughputPerSecond,
+            List<EndpointResult> endpoints
+    ) {}
+
+    public record EndpointResult(
+            String endpoint,
+            long requests,
+            double throughputPerSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis,
+            long clientErrors,
+            long serverErrors,
+            long failures,
+            double errorRate
+    ) {}
+
+    /** One endpoint measured against the same endpoint of a baseline run. */
+    public record Comparison(
+            String scenario,
+            String endpoint,
+            EndpointResult baseline,
+            EndpointResult current,
+            boolean regressed
+    ) {
+
+        public double p99Change() {
+            return change(baseline.p99Millis(), current.p99Millis());
+        }
+
+        public double throughputChange() {
+            return change(baseline.throughputPerSecond(), current.throughputPerSecond());
+        }
+
+        private static double change(double before, double after) {
+            return before == 0 ? 0 : (after - before) / before;
+        }
+    }
+
+    /**
+     * Pairs every endpoint with its baseline counterpart. An endpoint regresses
+     * when its p99 grows, or its throughput shrinks, by more than
+     * {@code threshold}, or when its error rate rises at all.
+     */
+    public List<Comparison> compareTo(LoadTestReport baseline, double threshold) {
+
+        List<Comparison> comparisons = new ArrayList<>();
+        for (ScenarioResult scenario : scenarios) {
+            for (EndpointResult current : scenario.endpoints()) {
+                baseline.find(scenario.scenario(), current.endpoint()).ifPresent(before -> {
+                    boolean regressed = current.p99Millis() > before.p99Millis() * (1 + threshold)
+                            || current.throughputPerSecond() < before.throughputPerSecond() * (1 - threshold)
+                            || current.errorRate() > before.errorRate();
+                    comparisons.add(new Comparison(
+                            scenario.scenario(), current.endpoint(), before, current, regressed));
+                });
+            }
+        }
+        return comparisons;
+    }
+
+    private Optional<EndpointResult> find(String scenario, String endpoint) {
+        return scenarios.stream()
+                .filter(result -> result.scenario().equals(scenario))
+                .flatMap(result -> result.endpoints().stream())
+                .filter(result -> result.endpoint().equals(endpoint))
+                .findFirst();
+    }
+}
@@ -0,0 +1,221 @@
+package com.questevent.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-end load test against a running QuestEvent. Start the server on a
+ * seeded database with the {@code loadtest} profile, so it trusts
+ * {@link LocalIssuer}, then run {@code ./gradlew loadTest}:
+ * <pre>
+ *   ./gradlew seed -Pseed.users=100000
+ *   ./gradlew bootRun --args='--spring.profiles.active=loadtest'
+ *   ./gradlew loadTest -Ploadtest.concurrency=100 -Ploadtest.duration=PT2M
+ * </pre>
+ * Reports land in {@code build/reports/loadtest}; keep a {@code loadtest.json}
+ * and pass it as {@code -Ploadtest.baseline=...} to compare a later run.
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private final LoadTestSettings settings;
+    private final LocalIssuer issuer;
+    private final Fixtures fixtures;
+    private final HttpClient client;
+
+    private LoadTestRunner(LoadTestSettings settings, LocalIssuer issuer, Fixtures fixtures, HttpClient client) {
+        this.settings = settings;
+        this.issuer = issuer;
+        this.fixtures = fixtures;
+        this.client = client;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadTestSettings settings = LoadTestSettings.fromArgs(args);
+        ReportWriter writer = new ReportWriter();
+
+        // read before this run's report can overwrite it
+        LoadTestReport baseline = settings.baseline() == null ? null : writer.read(settings.baseline());
+
+        LoadTestReport report;
+        try (LocalIssuer issuer = new LocalIssuer(settings.issuerPort());
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            log.info("Local issuer started | issuer={}", issuer.issuer());
+
+            Fixtures fixtures = Fixtures.load(settings);
+            log.info("Fixtures loaded | {}", fixtures.describe());
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+
+            report = new LoadTestRunner(settings, issuer, fixtures, client).run();
+        }
+
+        Path json = settings.reportDir().resolve("loadtest.json");
+        Path html = settings.reportDir().resolve("loadtest.html");
+
+        List<LoadTestReport.Comparison> comparisons =
+                baseline == null ? List.of() : report.compareTo(baseline, settings.regressionThreshold());
+
+        writer.writeJson(report, json);
+        writer.writeHtml(report, comparisons, html);
+        log.info("Load test reports written | json={} | html={}", json, html);
+
+        List<LoadTestReport.Comparison> regressions =
+                comparisons.stream().filter(LoadTestReport.Comparison::regressed).toList();
+        for (LoadTestReport.Comparison regression : regressions) {
+            log.warn(
+                    "Regression against baseline | scenario={} | endpoint={} | p99Change={} | throughputChange={} | errorRate={}",
+                    regression.scenario(),
+                    regression.endpoint(),
+                    String.format("%+.1f%%", regression.p99Change() * 100),
+                    String.format("%+.1f%%", regression.throughputChange() * 100),
+                    regression.current().errorRate()
+            );
+        }
+        if (settings.failOnRegression() && !regressions.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    private LoadTestReport run() throws IOException, InterruptedException {
+
+        Instant startedAt = Instant.now();
+        checkServerTrustsIssuer();
+
+        List<LoadTestReport.ScenarioResult> results = settings.scenarios().stream()
+                .map(this::runScenario)
+                .toList();
+
+        return new LoadTestReport(
+                startedAt,
+                settings.baseUrl(),
+                settings.concurrency(),
+                settings.duration().toMillis() / 1000.0,
+                results
+        );
+    }
+
+    /** Fails fast when the server was started without the loadtest profile. */
+    private void checkServerTrustsIssuer() throws IOException, InterruptedException {
+
+        Scenario.Call probe = Scenario.Call.get(
+                "/api/leaderboard/global", "/api/leaderboard/global", fixtures.participant(new Random()));
+        HttpResponse<Void> response = client.send(request(probe), HttpResponse.BodyHandlers.discarding());
+
+        if (response.statusCode() == 401 || response.statusCode() == 403) {
+            throw new IllegalStateException("Server at " + settings.baseUrl() + " answered " + response.statusCode()
+                    + " to a local token; start it with --spring.profiles.active=loadtest");
+        }
+    }
+
+    private LoadTestReport.ScenarioResult runScenario(Scenario scenario) {
+
+        log.info("Scenario started | scenario={} | concurrency={} | duration={}",
+                scenario.displayName(), settings.concurrency(), settings.duration());
+
+        ConcurrentMap<String, EndpointStats> stats = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        long deadline = start + settings.duration().toNanos();
+
+        try (ExecutorService virtualUsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                virtualUsers.submit(() -> virtualUser(scenario, deadline, stats));
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        List<LoadTestReport.EndpointResult> endpoints = stats.values().stream()
+                .map(endpoint -> endpoint.result(elapsedSeconds))
+                .sorted(Comparator.comparing(LoadTestReport.EndpointResult::endpoint))
+                .toList();
+        long requests = endpoints.stream().mapToLong(LoadTestReport.EndpointResult::requests).sum();
+
+        LoadTestReport.ScenarioResult result = new LoadTestReport.ScenarioResult(
+                scenario.displayName(), elapsedSeconds, requests, requests / elapsedSeconds, endpoints);
+
+        for (LoadTestReport.EndpointResult endpoint : endpoints) {
+            log.info(
+                    "Scenario endpoint | scenario={} | endpoint={} | requests={} | p50={}ms | p95={}ms | p99={}ms | max={}ms | errorRate={}",
+                    result.scenario(),
+                    endpoint.endpoint(),
+                    endpoint.requests(),
+                    endpoint.p50Millis(),
+                    endpoint.p95Millis(),
+                    endpoint.p99Millis(),
+                    endpoint.maxMillis(),
+                    endpoint.errorRate()
+            );
+        }
+        log.info("Scenario finished | scenario={} | requests={} | throughput={}/s",
+                result.scenario(), requests, String.format("%.1f", result.throughputPerSecond()));
+        return result;
+    }
+
+    /** A closed-loop user: sends the next call as soon as the previous one answers. */
+    private void virtualUser(Scenario scenario, long deadline, ConcurrentMap<String, EndpointStats> stats) {
+
+        Random random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Optional<Scenario.Call> next = scenario.next(fixtures, random);
+            if (next.isEmpty()) {
+                return;
+            }
+
+            Scenario.Call call = next.get();
+            EndpointStats endpoint = stats.computeIfAbsent(call.endpoint(), EndpointStats::new);
+            HttpRequest request = request(call);
+
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                endpoint.record(System.nanoTime() - sent, response.statusCode());
+            } catch (IOException e) {
+                endpoint.failure(System.nanoTime() - sent);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private HttpRequest request(Scenario.Call call) {
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(settings.baseUrl() + call.path()))
+                .timeout(settings.requestTimeout())
+                .header("Authorization", "Bearer " + issuer.tokenFor(call.email()))
+                .header("Accept", "application/json");
+
+        if (call.body() == null) {
+            return builder.method(call.method(), HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder
+                .header("Content-Type", "application/json")
+                .method(call.method(), HttpRequest.BodyPublishers.ofString(call.body()))
+                .build();
+    }
+}
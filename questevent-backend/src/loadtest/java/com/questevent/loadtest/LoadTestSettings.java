@@ -0,0 +1,110 @@
+package com.questevent.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Knobs for one load-test run, read from {@code --loadtest.<key>=<value>}
+ * arguments ({@code ./gradlew loadTest -Ploadtest.<key>=<value>}).
+ * <p>
+ * Every scenario runs for {@code duration} with {@code concurrency} virtual
+ * users, one scenario after another, so their numbers do not bleed into
+ * each other.
+ */
+public record LoadTestSettings(
+        String baseUrl,
+        int issuerPort,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        List<Scenario> scenarios,
+        int concurrency,
+        Duration duration,
+        Duration requestTimeout,
+        int fixtureLimit,
+        Path reportDir,
+        Path baseline,
+        double regressionThreshold,
+        boolean failOnRegression
+) {
+
+    private static final String PREFIX = "--loadtest.";
+
+    public LoadTestSettings {
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("Load test needs at least one scenario");
+        }
+        if (concurrency < 1 || fixtureLimit < 1) {
+            throw new IllegalArgumentException("Load test concurrency and fixture-limit must be at least 1");
+        }
+        if (duration.isNegative() || duration.isZero() || requestTimeout.isNegative() || requestTimeout.isZero()) {
+            throw new IllegalArgumentException("Load test duration and request-timeout must be positive");
+        }
+        if (regressionThreshold < 0) {
+            throw new IllegalArgumentException("Load test regression-threshold must not be negative");
+        }
+    }
+
+    public static LoadTestSettings fromArgs(String[] args) {
+
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith(PREFIX) || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            String option = arg.substring(PREFIX.length());
+            int split = option.indexOf('=');
+            values.put(option.substring(0, split), option.substring(split + 1));
+        }
+
+        String baseline = values.remove("baseline");
+        LoadTestSettings settings = new LoadTestSettings(
+                values.getOrDefault("base-url", "http://localhost:8080"),
+                Integer.parseInt(values.getOrDefault("issuer-port", "9797")),
+                values.getOrDefault("jdbc-url", "jdbc:h2:file:./build/seed/questevent"),
+                values.getOrDefault("jdbc-username", "sa"),
+                values.getOrDefault("jdbc-password", ""),
+                scenarios(values.get("scenarios")),
+                Integer.parseInt(values.getOrDefault("concurrency", "50")),
+                Duration.parse(values.getOrDefault("duration", "PT60S")),
+                Duration.parse(values.getOrDefault("request-timeout", "PT10S")),
+                Integer.parseInt(values.getOrDefault("fixture-limit", "5000")),
+                Path.of(values.getOrDefault("report-dir", "build/reports/loadtest")),
+                baseline == null || baseline.isBlank() ? null : Path.of(baseline),
+                Double.parseDouble(values.getOrDefault("regression-threshold", "0.2")),
+                Boolean.parseBoolean(values.getOrDefault("fail-on-regression", "false"))
+        );
+
+        Set<String> known = Set.of(
+                "base-url", "issuer-port", "jdbc-url", "jdbc-username", "jdbc-password", "scenarios",
+                "concurrency", "duration", "request-timeout", "fixture-limit", "report-dir",
+                "regression-threshold", "fail-on-regression"
+        );
+        for (String key : values.keySet()) {
+            if (!known.contains(key)) {
+                throw new IllegalArgumentException("Unknown load test option: loadtest." + key);
+            }
+        }
+        return settings;
+    }
+
+    /** Comma-separated scenario names, e.g. {@code judge-review,leaderboard-polling}; all when absent. */
+    private static List<Scenario> scenarios(String names) {
+        if (names == null || names.isBlank()) {
+            return List.of(Scenario.values());
+        }
+        EnumSet<Scenario> selected = EnumSet.noneOf(Scenario.class);
+        Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(Scenario::fromName)
+                .forEach(selected::add);
+        return List.copyOf(selected);
+    }
+}
@@ -0,0 +1,162 @@
+package com.questevent.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jsonwebtoken.Jwts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stand-in for the Entra ID tenant: serves an OpenID discovery document and
+ * a JWKS on {@code http://localhost:<port>/loadtest}, and signs RS256 tokens
+ * shaped like the real ones ({@code preferred_username}, {@code email},
+ * {@code name} and {@code scp}). The application trusts it under the
+ * {@code loadtest} profile.
+ * <p>
+ * The key pair is kept under {@code build/loadtest} so a server that already
+ * cached the JWKS keeps accepting tokens from the next run.
+ */
+public class LocalIssuer implements AutoCloseable {
+
+    static final String AUDIENCE = "api://questevent-loadtest";
+    private static final Duration TOKEN_TTL = Duration.ofHours(2);
+    private static final Path KEY_DIR = Path.of("build", "loadtest");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentMap<String, String> tokens = new ConcurrentHashMap<>();
+    private final KeyPair keyPair;
+    private final String keyId;
+    private final String issuer;
+    private final HttpServer server;
+
+    public LocalIssuer(int port) throws IOException, GeneralSecurityException {
+        this.keyPair = loadOrCreateKeyPair();
+        this.keyId = keyId((RSAPublicKey) keyPair.getPublic());
+        this.issuer = "http://localhost:" + port + "/loadtest";
+
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.createContext("/loadtest/.well-known/openid-configuration", exchange -> json(exchange, Map.of(
+                "issuer", issuer,
+                "jwks_uri", issuer + "/jwks",
+                "id_token_signing_alg_values_supported", List.of("RS256")
+        )));
+        server.createContext("/loadtest/jwks", exchange -> json(exchange, jwks()));
+        server.start();
+    }
+
+    public String issuer() {
+        return issuer;
+    }
+
+    /** A token for the user with this email, cached for the life of the run. */
+    public String tokenFor(String email) {
+        return tokens.computeIfAbsent(email, this::sign);
+    }
+
+    private String sign(String email) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .id(UUID.randomUUID().toString())
+                .issuer(issuer)
+                .subject(email)
+                .audience().add(AUDIENCE).and()
+                .claim("preferred_username", email)
+                .claim("email", email)
+                .claim("name", email.substring(0, email.indexOf('@')))
+                .claim("scp", "access_as_user")
+                .issuedAt(Date.from(now))
+                .notBefore(Date.from(now.minusSeconds(60)))
+                .expiration(Date.from(now.plus(TOKEN_TTL)))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+
+    private Map<String, Object> jwks() {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return Map.of("keys", List.of(Map.of(
+                "kty", "RSA",
+                "use", "sig",
+                "alg", "RS256",
+                "kid", keyId,
+                "n", base64Url(publicKey.getModulus()),
+                "e", base64Url(publicKey.getPublicExponent())
+        )));
+    }
+
+    private void json(HttpExchange exchange, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static KeyPair loadOrCreateKeyPair() throws IOException, GeneralSecurityException {
+        Path privateFile = KEY_DIR.resolve("issuer-private.key");
+        Path publicFile = KEY_DIR.resolve("issuer-public.key");
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+
+        if (Files.exists(privateFile) && Files.exists(publicFile)) {
+            Base64.Decoder decoder = Base64.getDecoder();
+            return new KeyPair(
+                    keyFactory.generatePublic(new X509EncodedKeySpec(decoder.decode(Files.readString(publicFile).trim()))),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decoder.decode(Files.readString(privateFile).trim())))
+            );
+        }
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair created = generator.generateKeyPair();
+
+        Files.createDirectories(KEY_DIR);
+        Base64.Encoder encoder = Base64.getEncoder();
+        Files.writeString(privateFile, encoder.encodeToString(created.getPrivate().getEncoded()));
+        Files.writeString(publicFile, encoder.encodeToString(created.getPublic().getEncoded()));
+        return created;
+    }
+
+    private static String keyId(RSAPublicKey publicKey) throws GeneralSecurityException {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12));
+    }
+
+    /** JWK integers are unsigned big-endian, so drop the sign byte BigInteger may add. */
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,135 @@
+package com.questevent.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes {@link LoadTestReport}s as JSON, which a later run reads back as
+ * its baseline, and as a self-contained HTML page.
+ */
+public class ReportWriter {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .build();
+
+    public LoadTestReport read(Path json) throws IOException {
+        return objectMapper.readValue(json.toFile(), LoadTestReport.class);
+    }
+
+    public void writeJson(LoadTestReport report, Path json) throws IOException {
+        Files.createDirectories(json.getParent());
+        objectMapper.writeValue(json.toFile(), report);
+    }
+
+    public void writeHtml(LoadTestReport report, List<LoadTestReport.Comparison> comparisons, Path html)
+            throws IOException {
+
+        StringBuilder page = new StringBuilder("""
+                <!DOCTYPE html>
+                <html lang="en">
+                <head>
+                <meta charset="utf-8">
+                <title>QuestEvent load test</title>
+                <style>
+                body { font-family: sans-serif; margin: 2em; }
+                table { border-collapse: collapse; margin-bottom: 2em; }
+                th, td { border: 1px solid #ccc; padding: 4px 8px; text-align: right; }
+                th:first-child, td:first-child { text-align: left; }
+                .regressed { background: #fdd; }
+                </style>
+                </head>
+                <body>
+                """);
+
+        page.append("<h1>QuestEvent load test</h1>\n")
+                .append("<p>").append(escape(report.baseUrl()))
+                .append(" | started ").append(report.startedAt())
+                .append(" | ").append(report.concurrency()).append(" virtual users")
+                .append(" | ").append(format(report.durationSeconds())).append(" s per scenario</p>\n");
+
+        for (LoadTestReport.ScenarioResult scenario : report.scenarios()) {
+            page.append("<h2>").append(escape(scenario.scenario())).append("</h2>\n")
+                    .append("<p>").append(scenario.requests()).append(" requests in ")
+                    .append(format(scenario.elapsedSeconds())).append(" s, ")
+                    .append(format(scenario.throughputPerSecond())).append(" req/s</p>\n")
+                    .append("<table>\n<tr><th>Endpoint</th><th>Requests</th><th>req/s</th>")
+                    .append("<th>p50 ms</th><th>p95 ms</th><th>p99 ms</th><th>max ms</th>")
+                    .append("<th>4xx</th><th>5xx</th><th>Failures</th><th>Error rate</th></tr>\n");
+
+            for (LoadTestReport.EndpointResult endpoint : scenario.endpoints()) {
+                page.append("<tr><td>").append(escape(endpoint.endpoint())).append("</td>")
+                        .append(cell(endpoint.requests()))
+                        .append(cell(format(endpoint.throughputPerSecond())))
+                        .append(cell(format(endpoint.p50Millis())))
+                        .append(cell(format(endpoint.p95Millis())))
+                        .append(cell(format(endpoint.p99Millis())))
+                        .append(cell(format(endpoint.maxMillis())))
+                        .append(cell(endpoint.clientErrors()))
+                        .append(cell(endpoint.serverErrors()))
+                        .append(cell(endpoint.failures()))
+                        .append(cell(percent(endpoint.errorRate())))
+                        .append("</tr>\n");
+            }
+            page.append("</table>\n");
+        }
+
+        if (!comparisons.isEmpty()) {
+            page.append("<h2>Against baseline</h2>\n")
+                    .append("<table>\n<tr><th>Scenario / endpoint</th>")
+                    .append("<th>p99 ms (baseline)</th><th>p99 ms</th><th>p99 change</th>")
+                    .append("<th>req/s (baseline)</th><th>req/s</th><th>req/s change</th>")
+                    .append("<th>Error rate (baseline)</th><th>Error rate</th></tr>\n");
+
+            for (LoadTestReport.Comparison comparison : comparisons) {
+                page.append(comparison.regressed() ? "<tr class=\"regressed\">" : "<tr>")
+                        .append("<td>").append(escape(comparison.scenario() + " " + comparison.endpoint())).append("</td>")
+                        .append(cell(format(comparison.baseline().p99Millis())))
+                        .append(cell(format(comparison.current().p99Millis())))
+                        .append(cell(signedPercent(comparison.p99Change())))
+                        .append(cell(format(comparison.baseline().throughputPerSecond())))
+                        .append(cell(format(comparison.current().throughputPerSecond())))
+                        .append(cell(signedPercent(comparison.throughputChange())))
+                        .append(cell(percent(comparison.baseline().errorRate())))
+                        .append(cell(percent(comparison.current().errorRate())))
+                        .append("</tr>\n");
+            }
+            page.append("</table>\n");
+        }
+
+        page.append("</body>\n</html>\n");
+
+        Files.createDirectories(html.getParent());
+        Files.writeString(html, page);
+    }
+
+    private static String cell(Object value) {
+        return "<td>" + value + "</td>";
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String percent(double ratio) {
+        return String.format(Locale.ROOT, "%.2f%%", ratio * 100);
+    }
+
+    private static String signedPercent(double ratio) {
+        return String.format(Locale.ROOT, "%+.1f%%", ratio * 100);
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,157 @@
+package com.questevent.loadtest;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * The traffic mixes replayed against the server. Each one is a weighted set
+ * of operations that virtual users pick from until the scenario's time is
+ * up; one-shot operations (registering, submitting, reviewing) drop out of
+ * the mix once their fixtures run dry.
+ */
+public enum Scenario {
+
+    /** A program launch: participants browse the catalogue and register. */
+    REGISTRATION_BURST(List.of(
+            new Weighted(75, Scenario::registerForProgram),
+            new Weighted(25, Scenario::listPrograms)
+    )),
+
+    /** The hour before a deadline: submissions, with a glance at the program leaderboard. */
+    SUBMISSION_STORM(List.of(
+            new Weighted(80, Scenario::submitActivity),
+            new Weighted(20, Scenario::programLeaderboard)
+    )),
+
+    /** Judges working through their queues. */
+    JUDGE_REVIEW(List.of(
+            new Weighted(60, Scenario::reviewSubmission),
+            new Weighted(30, Scenario::pendingSubmissions),
+            new Weighted(10, Scenario::judgeStats)
+    )),
+
+    /** Dashboards refreshing leaderboards. */
+    LEADERBOARD_POLLING(List.of(
+            new Weighted(50, Scenario::globalLeaderboard),
+            new Weighted(50, Scenario::programLeaderboard)
+    ));
+
+    /** One request to send; {@code endpoint} is the path template the results are grouped by. */
+    public record Call(String endpoint, String method, String path, String email, String body) {
+
+        static Call get(String endpoint, String path, String email) {
+            return new Call("GET " + endpoint, "GET", path, email, null);
+        }
+    }
+
+    @FunctionalInterface
+    interface Operation {
+        Optional<Call> next(Fixtures fixtures, Random random);
+    }
+
+    private record Weighted(int weight, Operation operation) {}
+
+    private final List<Weighted> operations;
+    private final int totalWeight;
+
+    Scenario(List<Weighted> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Weighted::weight).sum();
+    }
+
+    /**
+     * The next call for a virtual user, or empty when every operation of the
+     * mix has run out of fixtures.
+     */
+    public Optional<Call> next(Fixtures fixtures, Random random) {
+
+        int roll = random.nextInt(totalWeight);
+        int chosen = 0;
+        while (roll >= operations.get(chosen).weight()) {
+            roll -= operations.get(chosen).weight();
+            chosen++;
+        }
+
+        // fall through to the other operations when the chosen one is exhausted
+        for (int i = 0; i < operations.size(); i++) {
+            Optional<Call> call = operations.get((chosen + i) % operations.size()).operation().next(fixtures, random);
+            if (call.isPresent()) {
+                return call;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String displayName() {
+        return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static Scenario fromName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.displayName().equals(name) || scenario.name().equalsIgnoreCase(name)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test scenario: " + name);
+    }
+
+    private static Optional<Call> registerForProgram(Fixtures fixtures, Random random) {
+        return fixtures.nextRegistration().map(registration -> new Call(
+                "POST /api/program-registrations",
+                "POST",
+                "/api/program-registrations",
+                registration.email(),
+                "{\"programId\":\"" + registration.programId() + "\"}"
+        ));
+    }
+
+    private static Optional<Call> listPrograms(Fixtures fixtures, Random random) {
+        return Optional.of(Call.get("/api/programs", "/api/programs", fixtures.participant(random)));
+    }
+
+    private static Optional<Call> submitActivity(Fixtures fixtures, Random random) {
+        return fixtures.nextSubmission().map(submission -> new Call(
+                "POST /api/submissions",
+                "POST",
+                "/api/submissions",
+                submission.email(),
+                "{\"activityId\":\"" + submission.activityId() + "\","
+                        + "\"submissionUrl\":\"https://example.com/loadtest/" + submission.activityId() + "\"}"
+        ));
+    }
+
+    private static Optional<Call> reviewSubmission(Fixtures fixtures, Random random) {
+        return fixtures.nextReview().map(review -> new Call(
+                "PATCH /api/judge/submissions/{submissionId}/review",
+                "PATCH",
+                "/api/judge/submissions/" + review.submissionId() + "/review",
+                review.judgeEmail(),
+                null
+        ));
+    }
+
+    private static Optional<Call> pendingSubmissions(Fixtures fixtures, Random random) {
+        return Optional.of(Call.get(
+                "/api/judge/submissions/pending", "/api/judge/submissions/pending", fixtures.judge(random)));
+    }
+
+    private static Optional<Call> judgeStats(Fixtures fixtures, Random random) {
+        return Optional.of(Call.get(
+                "/api/judge/submissions/stats", "/api/judge/submissions/stats", fixtures.judge(random)));
+    }
+
+    private static Optional<Call> globalLeaderboard(Fixtures fixtures, Random random) {
+        return Optional.of(Call.get(
+                "/api/leaderboard/global", "/api/leaderboard/global", fixtures.participant(random)));
+    }
+
+    private static Optional<Call> programLeaderboard(Fixtures fixtures, Random random) {
+        return Optional.of(Call.get(
+                "/api/leaderboard/program/{programId}",
+                "/api/leaderboard/program/" + fixtures.activeProgram(random),
+                fixtures.participant(random)
+        ));
+    }
+}
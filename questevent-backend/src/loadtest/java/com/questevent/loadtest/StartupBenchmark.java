@@ -0,0 +1,253 @@
+package com.questevent.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the packaged application repeatedly in each variant and records
+ * time-to-first-request (process launch until the probe path answers, with
+ * any status) and resident memory at that point:
+ * <ul>
+ *   <li>{@code plain}: the jar as is</li>
+ *   <li>{@code aot}: with {@code -Dspring.aot.enabled=true}</li>
+ *   <li>{@code aot+cds}: additionally with the AppCDS archive</li>
+ *   <li>{@code native}: the GraalVM executable, when one is given</li>
+ * </ul>
+ * The JVM variants run the extracted jar that trained the archive, so the
+ * class path matches. Run through {@code ./gradlew startupBenchmark -Paot},
+ * or {@code -Pnative} to include the native image; the report lands in
+ * {@code build/reports/startup}.
+ */
+public final class StartupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    private enum Variant {
+        PLAIN("plain"),
+        AOT("aot"),
+        AOT_CDS("aot+cds"),
+        NATIVE("native");
+
+        private final String displayName;
+
+        Variant(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    public record Run(double timeToFirstRequestMillis, double rssMb) {}
+
+    public record VariantResult(
+            String variant,
+            List<Run> runs,
+            double medianTimeToFirstRequestMillis,
+            double medianRssMb
+    ) {}
+
+    public record StartupReport(
+            Instant startedAt,
+            String jar,
+            String nativeExecutable,
+            List<VariantResult> variants
+    ) {}
+
+    private final StartupSettings settings;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    private StartupBenchmark(StartupSettings settings) {
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        StartupSettings settings = StartupSettings.fromArgs(args);
+        StartupReport report = new StartupBenchmark(settings).run();
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        Path json = settings.reportDir().resolve("startup.json");
+        Files.createDirectories(json.getParent());
+        objectMapper.writeValue(json.toFile(), report);
+
+        VariantResult plain = report.variants().get(0);
+        for (VariantResult result : report.variants()) {
+            log.info(
+                    "Startup | variant={} | runs={} | medianTimeToFirstRequestMs={} | medianRssMb={} | vsPlain={} | rssVsPlain={}",
+                    result.variant(),
+                    result.runs().size(),
+                    format(result.medianTimeToFirstRequestMillis()),
+                    format(result.medianRssMb()),
+                    change(result.medianTimeToFirstRequestMillis(), plain.medianTimeToFirstRequestMillis()),
+                    change(result.medianRssMb(), plain.medianRssMb())
+            );
+        }
+        log.info("Startup report written | json={}", json);
+    }
+
+    private StartupReport run() throws IOException, InterruptedException {
+
+        if (!Files.isRegularFile(settings.cdsArchive())) {
+            throw new IllegalStateException("No CDS archive at " + settings.cdsArchive() + "; run ./gradlew cdsArchive -Paot");
+        }
+        if (settings.nativeExecutable() != null && !Files.isExecutable(settings.nativeExecutable())) {
+            throw new IllegalStateException("No native executable at " + settings.nativeExecutable()
+                    + "; run ./gradlew nativeCompile -Pnative");
+        }
+
+        Instant startedAt = Instant.now();
+        List<VariantResult> results = new ArrayList<>();
+
+        for (Variant variant : Variant.values()) {
+            if (variant == Variant.NATIVE && settings.nativeExecutable() == null) {
+                continue;
+            }
+            List<Run> runs = new ArrayList<>();
+            for (int i = 1; i <= settings.runs(); i++) {
+                Run run = start(variant, i);
+                log.info("Startup run | variant={} | run={} | timeToFirstRequestMs={} | rssMb={}",
+                        variant.displayName, i, format(run.timeToFirstRequestMillis()), format(run.rssMb()));
+                runs.add(run);
+            }
+            results.add(new VariantResult(
+                    variant.displayName,
+                    runs,
+                    median(runs.stream().mapToDouble(Run::timeToFirstRequestMillis).toArray()),
+                    median(runs.stream().mapToDouble(Run::rssMb).toArray())
+            ));
+        }
+        return new StartupReport(
+                startedAt,
+                settings.jar().toString(),
+                settings.nativeExecutable() == null ? null : settings.nativeExecutable().toString(),
+                results
+        );
+    }
+
+    private Run start(Variant variant, int index) throws IOException, InterruptedException {
+
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        if (variant == Variant.NATIVE) {
+            command.add(settings.nativeExecutable().toString());
+        } else {
+            command.add(settings.java().toString());
+            command.add("--enable-preview");
+            if (variant != Variant.PLAIN) {
+                command.add("-Dspring.aot.enabled=true");
+            }
+            if (variant == Variant.AOT_CDS) {
+                command.add("-XX:SharedArchiveFile=" + settings.cdsArchive());
+            }
+            command.add("-jar");
+            command.add(settings.jar().toString());
+        }
+        command.add("--server.port=" + port);
+        command.addAll(settings.appArgs());
+
+        Path output = settings.reportDir().resolve("logs")
+                .resolve(variant.name().toLowerCase(Locale.ROOT) + "-" + index + ".log");
+        Files.createDirectories(output.getParent());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile())
+                .start();
+        try {
+            awaitFirstResponse(process, port, start, output);
+            double millis = (System.nanoTime() - start) / 1_000_000.0;
+            return new Run(millis, rssMb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private void awaitFirstResponse(Process process, int port, long start, Path output)
+            throws IOException, InterruptedException {
+
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + settings.probePath()))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = start + settings.timeout().toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + "; see " + output);
+            }
+            try {
+                client.send(probe, HttpResponse.BodyHandlers.discarding());
+                return;
+            } catch (IOException notListeningYet) {
+                Thread.sleep(10);
+            }
+        }
+        throw new IllegalStateException("No response within " + settings.timeout() + "; see " + output);
+    }
+
+    /** Resident set size from {@code /proc}, or {@code ps} where there is none. */
+    private static double rssMb(long pid) throws IOException, InterruptedException {
+
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.isReadable(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D+", "")) / 1024.0;
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String kilobytes = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return kilobytes.isEmpty() ? Double.NaN : Long.parseLong(kilobytes) / 1024.0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static String change(double value, double baseline) {
+        return String.format(Locale.ROOT, "%+.1f%%", (value / baseline - 1) * 100);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+}
@@ -0,0 +1,86 @@
+package com.questevent.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Knobs for the startup benchmark, read from {@code --startup.<key>=<value>}
+ * arguments ({@code ./gradlew startupBenchmark -Paot -Pstartup.<key>=<value>}).
+ * The build passes {@code java}, {@code jar} and {@code cds-archive}, and
+ * with {@code -Pnative} also {@code native-executable}, which adds the
+ * native binary to the comparison.
+ * {@code app-args} is a space-separated list handed to the application on
+ * every run, typically the datasource to start against.
+ */
+public record StartupSettings(
+        Path java,
+        Path jar,
+        Path cdsArchive,
+        Path nativeExecutable,
+        int runs,
+        Duration timeout,
+        String probePath,
+        List<String> appArgs,
+        Path reportDir
+) {
+
+    private static final String PREFIX = "--startup.";
+
+    public StartupSettings {
+        if (java == null || jar == null || cdsArchive == null) {
+            throw new IllegalArgumentException("Startup benchmark needs startup.java, startup.jar and startup.cds-archive");
+        }
+        if (runs < 1) {
+            throw new IllegalArgumentException("Startup benchmark runs must be at least 1");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Startup benchmark timeout must be positive");
+        }
+    }
+
+    public static StartupSettings fromArgs(String[] args) {
+
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith(PREFIX) || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognised argument: " + arg);
+            }
+            String option = arg.substring(PREFIX.length());
+            int split = option.indexOf('=');
+            values.put(option.substring(0, split), option.substring(split + 1));
+        }
+
+        StartupSettings settings = new StartupSettings(
+                path(values.get("java")),
+                path(values.get("jar")),
+                path(values.get("cds-archive")),
+                path(values.get("native-executable")),
+                Integer.parseInt(values.getOrDefault("runs", "5")),
+                Duration.parse(values.getOrDefault("timeout", "PT2M")),
+                values.getOrDefault("probe-path", "/actuator/health"),
+                Arrays.stream(values.getOrDefault("app-args", "").split("\\s+"))
+                        .filter(arg -> !arg.isBlank())
+                        .toList(),
+                Path.of(values.getOrDefault("report-dir", "build/reports/startup"))
+        );
+
+        Set<String> known = Set.of(
+                "java", "jar", "cds-archive", "native-executable", "runs", "timeout", "probe-path", "app-args", "report-dir"
+        );
+        for (String key : values.keySet()) {
+            if (!known.contains(key)) {
+                throw new IllegalArgumentException("Unknown startup benchmark option: startup." + key);
+            }
+        }
+        return settings;
+    }
+
+    private static Path path(String value) {
+        return value == null || value.isBlank() ? null : Path.of(value);
+    }
+}
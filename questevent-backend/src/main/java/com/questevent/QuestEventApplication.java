@@ -1,9 +1,12 @@
 package com.questevent;
 
+import com.questevent.config.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeImageHints.class)
 public class QuestEventApplication {
 
     public static void main(String[] args) {
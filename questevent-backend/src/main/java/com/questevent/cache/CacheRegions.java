@@ -0,0 +1,23 @@
+package com.questevent.cache;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache region names. Every region must be declared
+ * in {@code ehcache.xml}; startup fails on a missing one.
+ */
+public final class CacheRegions {
+
+    public static final String PROGRAMS = "programs";
+    public static final String ACTIVITIES = "activities";
+    public static final String JUDGES = "judges";
+
+    // query result regions, invalidated whenever a table they read is written
+    public static final String ACTIVITIES_BY_PROGRAM = "activities-by-program";
+
+    public static final List<String> ENTITY_REGIONS = List.of(PROGRAMS, ACTIVITIES, JUDGES);
+    public static final List<String> QUERY_REGIONS = List.of(ACTIVITIES_BY_PROGRAM);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,92 @@
+package com.questevent.cache;
+
+import com.questevent.service.PrerequisiteGraph;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Compiled prerequisite graphs keyed by programId.
+ * <p>
+ * Activity and prerequisite writes evict the program's graph once their
+ * transaction commits, and the next read compiles it again. The TTL limits
+ * how stale a graph can get on other instances, which never see the
+ * eviction.
+ */
+@Component
+public class PrerequisiteGraphCache {
+
+    private record Entry(PrerequisiteGraph graph, long cachedAtNanos) {}
+
+    private final Map<UUID, Entry> graphs = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final boolean enabled;
+    private final long ttlNanos;
+
+    public PrerequisiteGraphCache(
+            @Value("${questevent.prerequisite-cache.enabled:true}") boolean enabled,
+            @Value("${questevent.prerequisite-cache.ttl:PT10M}") Duration ttl
+    ) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public PrerequisiteGraph get(UUID programId, Function<UUID, PrerequisiteGraph> compiler) {
+
+        if (!enabled) {
+            return compiler.apply(programId);
+        }
+
+        Entry entry = graphs.get(programId);
+        if (entry != null && System.nanoTime() - entry.cachedAtNanos() <= ttlNanos) {
+            return entry.graph();
+        }
+
+        // compiled outside the map so a slow compile never blocks other programs;
+        // not stored if an eviction happened meanwhile, as it may predate that write
+        long generation = evictions.get();
+        PrerequisiteGraph graph = compiler.apply(programId);
+        if (evictions.get() == generation) {
+            graphs.put(programId, new Entry(graph, System.nanoTime()));
+        }
+        return graph;
+    }
+
+    public void evictAfterCommit(UUID programId) {
+
+        if (!enabled || programId == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(programId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(programId);
+            }
+        });
+    }
+
+    public void clear() {
+        evictions.incrementAndGet();
+        graphs.clear();
+    }
+
+    private void evict(UUID programId) {
+        evictions.incrementAndGet();
+        graphs.remove(programId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.questevent.cache;
+
+import com.questevent.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Per-region view of the Hibernate second-level cache for the reference
+ * data regions in {@link CacheRegions}. Counts come from Hibernate
+ * statistics and are zero unless {@code hibernate.generate_statistics} is on.
+ */
+@Slf4j
+@Component
+public class SecondLevelCacheStats {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public List<CacheRegionStatsDTO> getRegionStats() {
+
+        Statistics statistics = sessionFactory.getStatistics();
+
+        return Stream.concat(
+                        CacheRegions.ENTITY_REGIONS.stream(),
+                        CacheRegions.QUERY_REGIONS.stream()
+                )
+                .map(region -> toDto(region, statistics.getCacheRegionStatistics(region)))
+                .toList();
+    }
+
+    public void evictRegion(String region) {
+
+        if (!CacheRegions.ENTITY_REGIONS.contains(region)
+                && !CacheRegions.QUERY_REGIONS.contains(region)) {
+            throw new IllegalArgumentException("Unknown cache region: " + region);
+        }
+
+        sessionFactory.getCache().evictRegion(region);
+
+        log.info("Second-level cache region evicted | region={}", region);
+    }
+
+    private static CacheRegionStatsDTO toDto(String region, CacheRegionStatistics stats) {
+
+        if (stats == null) {
+            return new CacheRegionStatsDTO(region, 0, 0, 0, 0, 0.0);
+        }
+
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        long lookups = hits + misses;
+
+        return new CacheRegionStatsDTO(
+                region,
+                hits,
+                misses,
+                stats.getPutCount(),
+                stats.getElementCountInMemory(),
+                lookups == 0 ? 0.0 : (double) hits / lookups
+        );
+    }
+}
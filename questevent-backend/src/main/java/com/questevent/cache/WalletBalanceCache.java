@@ -0,0 +1,267 @@
+package com.questevent.cache;
+
+import com.questevent.dto.ProgramWalletBalanceDTO;
+import com.questevent.dto.UserWalletBalanceDTO;
+import com.questevent.entity.ProgramWallet;
+import com.questevent.entity.UserWallet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory wallet balances keyed by userId and by (userId, programId).
+ * <p>
+ * Write paths call the {@code *AfterCommit} methods once they have changed a
+ * wallet; the new balance is published only when the surrounding transaction
+ * commits, so a rollback never leaks into the cache. Read paths only fill
+ * missing or expired entries, so a slow read can never overwrite a newer
+ * write-through value. Entries expire after a TTL as a safety net.
+ * <p>
+ * Every insert respects {@code max-entries}: a full map first drops the
+ * expired entries of both balance maps, and a write-through that still finds no room removes the
+ * key instead of keeping the balance its commit replaced.
+ */
+@Component
+public class WalletBalanceCache {
+
+    private interface Entry {
+        long cachedAtNanos();
+    }
+
+    private record UserWalletEntry(
+            UUID walletId,
+            Long gems,
+            Instant createdAt,
+            Instant updatedAt,
+            long cachedAtNanos
+    ) implements Entry {}
+
+    private record ProgramWalletEntry(
+            UUID programWalletId,
+            Long gems,
+            long cachedAtNanos
+    ) implements Entry {}
+
+    private record ProgramWalletKey(Long userId, UUID programId) {}
+
+    private final Map<String, Long> userIdsByEmail = new ConcurrentHashMap<>();
+    private final Map<Long, UserWalletEntry> userWallets = new ConcurrentHashMap<>();
+    private final Map<ProgramWalletKey, ProgramWalletEntry> programWallets = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long sweepIntervalNanos;
+
+    public WalletBalanceCache(
+            @Value("${questevent.wallet-cache.enabled:true}") boolean enabled,
+            @Value("${questevent.wallet-cache.ttl:PT5M}") Duration ttl,
+            @Value("${questevent.wallet-cache.max-entries:100000}") int maxEntries
+    ) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        // a full map of live entries is scanned at most this often, not on every insert
+        this.sweepIntervalNanos = ttlNanos / 10;
+    }
+
+    public Optional<Long> findUserIdByEmail(String email) {
+        if (!enabled || email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(userIdsByEmail.get(email));
+    }
+
+    public void rememberUserId(String email, Long userId) {
+        if (!enabled || email == null || userId == null || isFull(userIdsByEmail)) {
+            return;
+        }
+        userIdsByEmail.putIfAbsent(email, userId);
+    }
+
+    public Optional<UserWalletBalanceDTO> getUserWallet(Long userId) {
+        if (!enabled || userId == null) {
+            return Optional.empty();
+        }
+
+        UserWalletEntry entry = userWallets.get(userId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry.cachedAtNanos())) {
+            userWallets.remove(userId, entry);
+            return Optional.empty();
+        }
+
+        UserWalletBalanceDTO dto = new UserWalletBalanceDTO();
+        dto.setWalletId(entry.walletId());
+        dto.setGems(entry.gems());
+        dto.setCreatedAt(entry.createdAt());
+        dto.setUpdatedAt(entry.updatedAt());
+        return Optional.of(dto);
+    }
+
+    public Optional<ProgramWalletBalanceDTO> getProgramWallet(Long userId, UUID programId) {
+        if (!enabled || userId == null || programId == null) {
+            return Optional.empty();
+        }
+
+        ProgramWalletKey key = new ProgramWalletKey(userId, programId);
+        ProgramWalletEntry entry = programWallets.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry.cachedAtNanos())) {
+            programWallets.remove(key, entry);
+            return Optional.empty();
+        }
+
+        ProgramWalletBalanceDTO dto = new ProgramWalletBalanceDTO();
+        dto.setProgramWalletId(entry.programWalletId());
+        dto.setUserId(userId);
+        dto.setProgramId(programId);
+        dto.setGems(entry.gems());
+        return Optional.of(dto);
+    }
+
+    // Read-side population: never replaces an entry written through by a commit
+    public void populateUserWallet(Long userId, UserWallet wallet) {
+        if (!enabled || userId == null || wallet == null || !hasRoom(userWallets)) {
+            return;
+        }
+        userWallets.merge(userId, toEntry(wallet), (current, loaded) ->
+                isExpired(current.cachedAtNanos()) ? loaded : current);
+    }
+
+    public void populateProgramWallet(Long userId, UUID programId, ProgramWallet wallet) {
+        if (!enabled || userId == null || programId == null || wallet == null
+                || !hasRoom(programWallets)) {
+            return;
+        }
+        programWallets.merge(new ProgramWalletKey(userId, programId), toEntry(wallet),
+                (current, loaded) -> isExpired(current.cachedAtNanos()) ? loaded : current);
+    }
+
+    public void putUserWalletAfterCommit(Long userId, UserWallet wallet) {
+        if (!enabled || userId == null || wallet == null) {
+            return;
+        }
+        // snapshot at commit time so @PreUpdate timestamps set during flush are included
+        afterCommit(() -> putWritten(userWallets, userId, toEntry(wallet)));
+    }
+
+    public void putProgramWalletAfterCommit(Long userId, UUID programId, ProgramWallet wallet) {
+        if (!enabled || userId == null || programId == null || wallet == null) {
+            return;
+        }
+        ProgramWalletKey key = new ProgramWalletKey(userId, programId);
+        afterCommit(() -> putWritten(programWallets, key, toEntry(wallet)));
+    }
+
+    public void evictUserAfterCommit(Long userId) {
+        if (!enabled || userId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            userWallets.remove(userId);
+            userIdsByEmail.values().removeIf(userId::equals);
+            programWallets.keySet().removeIf(key -> userId.equals(key.userId()));
+        });
+    }
+
+    public void evictProgramAfterCommit(UUID programId) {
+        if (!enabled || programId == null) {
+            return;
+        }
+        afterCommit(() ->
+                programWallets.keySet().removeIf(key -> programId.equals(key.programId())));
+    }
+
+    public void clear() {
+        userIdsByEmail.clear();
+        userWallets.clear();
+        programWallets.clear();
+    }
+
+    private void afterCommit(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        // on rollback the previously cached balance is still the committed one
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private boolean isExpired(long cachedAtNanos) {
+        return System.nanoTime() - cachedAtNanos > ttlNanos;
+    }
+
+    private boolean isFull(Map<?, ?> map) {
+        return map.size() >= maxEntries;
+    }
+
+    private <K, V extends Entry> void putWritten(Map<K, V> map, K key, V entry) {
+        if (map.containsKey(key) || hasRoom(map)) {
+            map.put(key, entry);
+        } else {
+            // no room: an absent key is read from the database, never from a stale entry
+            map.remove(key);
+        }
+    }
+
+    private boolean hasRoom(Map<?, ? extends Entry> map) {
+        if (!isFull(map)) {
+            return true;
+        }
+        sweepExpired();
+        return !isFull(map);
+    }
+
+    // one interval gates both balance maps, so both are swept whenever it opens;
+    // emails map to ids that never change and are only bounded, not expired
+    private void sweepExpired() {
+        long now = System.nanoTime();
+        long last = lastSweepNanos.get();
+        if (now - last < sweepIntervalNanos || !lastSweepNanos.compareAndSet(last, now)) {
+            return;
+        }
+        userWallets.values().removeIf(entry -> isExpired(entry.cachedAtNanos()));
+        programWallets.values().removeIf(entry -> isExpired(entry.cachedAtNanos()));
+    }
+
+    private static UserWalletEntry toEntry(UserWallet wallet) {
+        return new UserWalletEntry(
+                wallet.getWalletId(),
+                wallet.getGems(),
+                wallet.getCreatedAt(),
+                wallet.getUpdatedAt(),
+                System.nanoTime()
+        );
+    }
+
+    private static ProgramWalletEntry toEntry(ProgramWallet wallet) {
+        return new ProgramWalletEntry(
+                wallet.getProgramWalletId(),
+                wallet.getGems(),
+                System.nanoTime()
+        );
+    }
+}
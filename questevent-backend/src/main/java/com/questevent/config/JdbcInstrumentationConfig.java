@@ -0,0 +1,42 @@
+package com.questevent.config;
+
+import com.questevent.datasource.SlowQueryLog;
+import com.questevent.datasource.TimedDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} in a {@link TimedDataSource}
+ * when either consumer is on: the {@code Server-Timing} sql phase or the
+ * {@link SlowQueryLog}.
+ */
+@Configuration
+public class JdbcInstrumentationConfig {
+
+    // only the bean named dataSource: with the read replica on, that is the routing proxy over both pools
+    @Bean
+    public static BeanPostProcessor timedDataSourcePostProcessor(
+            ObjectProvider<SlowQueryLog> slowQueryLog,
+            @Value("${questevent.server-timing.enabled:true}") boolean serverTimingEnabled
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                        || bean instanceof TimedDataSource) {
+                    return bean;
+                }
+                SlowQueryLog log = slowQueryLog.getIfAvailable();
+                if (log == null && !serverTimingEnabled) {
+                    return bean;
+                }
+                return new TimedDataSource(dataSource, log);
+            }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.questevent.config;
+
+import com.questevent.rbac.RbacService;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image that the Spring AOT pass does
+ * not infer on its own. Registered through {@code @ImportRuntimeHints} on
+ * the application class and evaluated at build time only, so scanning the
+ * class path here costs nothing at runtime.
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+    private static final String DTO_PACKAGE = "com.questevent.dto";
+    private static final String ENTITY_PACKAGE = "com.questevent.entity";
+
+    // jjwt-api loads its implementation by class name and the JSON binding through ServiceLoader
+    private static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+
+        // JPQL constructor expressions (SELECT new com.questevent.dto.LeaderboardDTO(...)) resolve the
+        // constructor reflectively; Jackson binds the rest through their Lombok-generated accessors
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        for (Class<?> dto : classesIn(DTO_PACKAGE, classLoader)) {
+            hints.reflection().registerType(dto, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            bindings.registerReflectionHints(hints.reflection(), dto);
+        }
+
+        // Hibernate reads and writes the mapped fields; some entities are serialized as they are
+        for (Class<?> entity : classesIn(ENTITY_PACKAGE, classLoader)) {
+            hints.reflection().registerType(entity,
+                    MemberCategory.DECLARED_FIELDS,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_DECLARED_METHODS);
+            bindings.registerReflectionHints(hints.reflection(), entity);
+        }
+
+        // @PreAuthorize("@rbac...") is evaluated by SpEL against the bean
+        hints.reflection().registerType(RbacService.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // TimedDataSource hands out JDK proxies; SlowQueryLog replays the captured setXxx calls
+        hints.proxies().registerJdkProxy(Connection.class);
+        hints.proxies().registerJdkProxy(Statement.class);
+        hints.proxies().registerJdkProxy(PreparedStatement.class);
+        hints.proxies().registerJdkProxy(CallableStatement.class);
+        hints.reflection().registerType(PreparedStatement.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // second-level cache: the provider is named in application.yml, the regions in ehcache.xml
+        hints.resources().registerPattern("ehcache.xml");
+        hints.reflection().registerType(TypeReference.of("org.ehcache.jsr107.EhcacheCachingProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("META-INF/services/javax.cache.spi.CachingProvider");
+
+        // Flyway's vendor location, scanned on the class path at runtime
+        hints.resources().registerPattern("db/migration/postgresql/*.sql");
+
+        for (String type : JJWT_TYPES) {
+            if (ClassUtils.isPresent(type, classLoader)) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+        // springdoc serves the Swagger UI from the webjar and reads its version from the Maven metadata
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+    }
+
+    /** Top-level and static nested classes of a package, abstract ones included. */
+    private static List<Class<?>> classesIn(String basePackage, ClassLoader classLoader) {
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+
+        return scanner.findCandidateComponents(basePackage).stream()
+                .<Class<?>>map(definition -> ClassUtils.resolveClassName(definition.getBeanClassName(), classLoader))
+                .toList();
+    }
+}
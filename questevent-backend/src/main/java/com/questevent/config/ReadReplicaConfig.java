@@ -0,0 +1,105 @@
+package com.questevent.config;
+
+import com.questevent.datasource.ReadReplicaRoutingDataSource;
+import com.questevent.datasource.ReadYourWritesTracker;
+import com.questevent.datasource.ReplicaHealthMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Primary and replica Hikari pools behind one routing {@link DataSource}.
+ * The primary pool keeps the {@code spring.datasource} settings; the replica
+ * pool is bound from {@code questevent.read-replica.datasource}
+ * ({@code jdbc-url}, {@code username}, {@code password} and any Hikari
+ * setting). Off by default, in which case Boot's single pool is used.
+ * Flyway migrates through the primary pool.
+ * <p>
+ * With open-in-view one Hibernate session spans the whole request. Hibernate
+ * gives its connection back after every transaction here instead of holding
+ * it until the session closes, so each transaction is routed on its own: a
+ * read-only RBAC check that went to the replica does not carry the
+ * replica connection into the request's later writes.
+ */
+@Configuration
+@ConditionalOnProperty(name = "questevent.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    @ConfigurationProperties("questevent.read-replica.datasource")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("HikariPool-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${questevent.read-replica.max-lag:PT30S}") Duration maxLag
+    ) {
+        return new ReplicaHealthMonitor(replicaDataSource, maxLag);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${questevent.read-replica.read-your-writes-window:PT5S}") Duration window
+    ) {
+        return new ReadYourWritesTracker(window);
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaHealthMonitor replicaHealthMonitor,
+            ReadYourWritesTracker readYourWritesTracker
+    ) {
+        return new ReadReplicaRoutingDataSource(
+                primaryDataSource,
+                replicaDataSource,
+                replicaHealthMonitor,
+                readYourWritesTracker
+        );
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(
+                AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+        );
+    }
+
+    // defers the physical connection to the first statement, when the
+    // transaction's read-only flag is already set
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+}
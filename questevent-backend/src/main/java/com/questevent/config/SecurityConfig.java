@@ -1,13 +1,21 @@
 package com.questevent.config;
 
+import com.questevent.rbac.RbacService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -18,8 +26,44 @@ import java.util.List;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final String METRICS_SCRAPER = "METRICS_SCRAPER";
+
+    /**
+     * The Prometheus scrape, behind HTTP Basic for the scraper's account:
+     * endpoint names, latency histograms and pool and cache stats are not
+     * for anonymous callers. Without a configured password no account
+     * exists and every scrape is refused.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsScrapeFilterChain(
+            HttpSecurity http,
+            @Value("${questevent.metrics-scrape.username:prometheus}") String username,
+            @Value("${questevent.metrics-scrape.password:}") String password
+    ) throws Exception {
+
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            // stored with its encoder id, e.g. {bcrypt}$2a$10$...
+            scrapers.createUser(User.withUsername(username)
+                    .password(password)
+                    .roles(METRICS_SCRAPER)
+                    .build());
+        }
+
+        http
+                .securityMatcher("/actuator/prometheus")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth.anyRequest().hasRole(METRICS_SCRAPER))
+                .userDetailsService(scrapers)
+                .httpBasic(Customizer.withDefaults());
+
+        return http.build();
+    }
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RbacService rbac) throws Exception {
 
         JwtAuthenticationConverter jwtAuthenticationConverter =
                 new JwtAuthenticationConverter();
@@ -58,6 +102,14 @@ public class SecurityConfig {
                                 "/v3/api-docs/**"
                         ).permitAll()
 
+                        // health checks; /actuator/prometheus has its own chain above
+                        .requestMatchers("/actuator/health").permitAll()
+
+                        // slow-query fingerprints and plans reveal schema and data shapes
+                        .requestMatchers("/actuator/slowqueries", "/actuator/slowqueries/**")
+                        .access((authentication, context) ->
+                                new AuthorizationDecision(rbac.isPlatformOwner(authentication.get())))
+
                         .requestMatchers("/api/**", "/api/users/me/complete-profile").authenticated()
                         .anyRequest().denyAll()
                 )
@@ -0,0 +1,59 @@
+package com.questevent.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.timing.ServerTimingFilter;
+import com.questevent.timing.TimedJacksonHttpMessageConverter;
+import com.questevent.timing.TimedJwtDecoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+
+/**
+ * Wires the per-request phase timings: the collecting filter, and timed
+ * decorators around the JWT decoder and the JSON converter. SQL time comes
+ * from {@link JdbcInstrumentationConfig}, RBAC time from
+ * {@code ServiceMetricsAspect}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "questevent.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            @Value("${questevent.server-timing.header-enabled:true}") boolean headerEnabled,
+            @Value("${questevent.server-timing.slow-request-threshold:PT1S}") Duration slowRequestThreshold
+    ) {
+        FilterRegistrationBean<ServerTimingFilter> registration =
+                new FilterRegistrationBean<>(new ServerTimingFilter(headerEnabled, slowRequestThreshold));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    // replaces Boot's converter, which backs off when one is defined
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public static BeanPostProcessor timedJwtDecoderPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof JwtDecoder decoder && !(bean instanceof TimedJwtDecoder)) {
+                    return new TimedJwtDecoder(decoder);
+                }
+                return bean;
+            }
+        };
+    }
+}
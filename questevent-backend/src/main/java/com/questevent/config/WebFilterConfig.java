@@ -0,0 +1,50 @@
+package com.questevent.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.datasource.DatabaseBulkhead;
+import com.questevent.web.AdaptiveConcurrencyLimitFilter;
+import com.questevent.web.AdaptiveConcurrencyLimiter;
+import com.questevent.web.DatabaseBulkheadFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WebFilterConfig {
+
+    /**
+     * Sheds by priority before the bulkhead, so low-priority requests are
+     * turned away instead of queueing for a connection.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "questevent.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> adaptiveConcurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            ObjectMapper objectMapper
+    ) {
+        FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new AdaptiveConcurrencyLimitFilter(limiter, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    /**
+     * Runs after Spring Security so unauthenticated requests are turned
+     * away before they take a bulkhead permit.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "questevent.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<DatabaseBulkheadFilter> databaseBulkheadFilter(
+            DatabaseBulkhead bulkhead,
+            ObjectMapper objectMapper
+    ) {
+        FilterRegistrationBean<DatabaseBulkheadFilter> registration =
+                new FilterRegistrationBean<>(new DatabaseBulkheadFilter(bulkhead, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 2);
+        return registration;
+    }
+}
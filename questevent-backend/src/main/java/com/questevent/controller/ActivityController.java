@@ -3,8 +3,10 @@ package com.questevent.controller;
 import com.questevent.dto.ActivityRequestDTO;
 import com.questevent.dto.ActivityResponseDTO;
 import com.questevent.dto.ActivityWithRegistrationStatusDTO;
+import com.questevent.dto.ContentVersion;
 import com.questevent.entity.Activity;
 import com.questevent.service.ActivityService;
+import com.questevent.utils.ConditionalGet;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -70,11 +73,19 @@ public class ActivityController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved activities"),
+            @ApiResponse(responseCode = "304", description = "Activities unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Program not found")
     })
     public ResponseEntity<List<ActivityResponseDTO>> getActivities(
             @Parameter(description = "Program ID", required = true)
-            @PathVariable UUID programId) {
+            @PathVariable UUID programId,
+            WebRequest request) {
+
+        ContentVersion version = activityService.getActivitiesVersion(programId);
+        if (ConditionalGet.notModified(request, version)) {
+            log.debug("Activities not modified for programId={}", programId);
+            return null;
+        }
 
         log.info("Fetching activities for programId={}", programId);
 
@@ -152,11 +163,19 @@ public class ActivityController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved activities"),
+            @ApiResponse(responseCode = "304", description = "Activities unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Program not found")
     })
     public ResponseEntity<List<ActivityResponseDTO>> getCompulsoryActivities(
             @Parameter(description = "Program ID", required = true)
-            @PathVariable UUID programId) {
+            @PathVariable UUID programId,
+            WebRequest request) {
+
+        ContentVersion version = activityService.getActivitiesVersion(programId);
+        if (ConditionalGet.notModified(request, version)) {
+            log.debug("Compulsory activities not modified for programId={}", programId);
+            return null;
+        }
 
         log.info("Fetching compulsory activities for programId={}", programId);
 
@@ -180,13 +199,21 @@ public class ActivityController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved activities"),
+            @ApiResponse(responseCode = "304", description = "Activities and registrations unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Program not found")
     })
     public ResponseEntity<List<ActivityWithRegistrationStatusDTO>> getActivitiesForUser(
             @Parameter(description = "Program ID", required = true)
-            @PathVariable UUID programId
+            @PathVariable UUID programId,
+            WebRequest request
     ) {
 
+        ContentVersion version = activityService.getActivitiesForUserVersion(programId);
+        if (ConditionalGet.notModified(request, version)) {
+            log.debug("User activities not modified for programId={}", programId);
+            return null;
+        }
+
         log.info("Fetching activities with registration status for programId={}", programId);
 
         List<ActivityWithRegistrationStatusDTO> response =
@@ -211,6 +238,7 @@ public class ActivityController {
         response.setActivityDescription(activity.getActivityDescription());
         response.setRewardGems(activity.getRewardGems());
         response.setCreatedAt(activity.getCreatedAt());
+        response.setUpdatedAt(activity.getUpdatedAt());
         response.setIsCompulsory(activity.getIsCompulsory());
         return response;
     }
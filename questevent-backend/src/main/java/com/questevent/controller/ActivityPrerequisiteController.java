@@ -0,0 +1,109 @@
+package com.questevent.controller;
+
+import com.questevent.dto.ActivityPrerequisitesDTO;
+import com.questevent.dto.ActivityPrerequisitesRequestDTO;
+import com.questevent.dto.ActivityUnlockStatusDTO;
+import com.questevent.service.ActivityPrerequisiteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/programs/{programId}/activities")
+@RequiredArgsConstructor
+@Tag(name = "Activity Prerequisites", description = "Activity prerequisite and unlock APIs")
+public class ActivityPrerequisiteController {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ActivityPrerequisiteController.class);
+
+    private final ActivityPrerequisiteService activityPrerequisiteService;
+
+    @PreAuthorize("@rbac.canViewProgram(authentication, #programId)")
+    @GetMapping("/{activityId}/prerequisites")
+    @Operation(
+            summary = "Get activity prerequisites",
+            description = "Returns the explicit prerequisites of an activity. Optional activities "
+                    + "additionally require every compulsory activity of the program"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Prerequisites retrieved"),
+            @ApiResponse(responseCode = "404", description = "Activity not found"),
+            @ApiResponse(responseCode = "409", description = "Activity does not belong to this program")
+    })
+    public ResponseEntity<ActivityPrerequisitesDTO> getPrerequisites(
+            @Parameter(description = "Program ID", required = true) @PathVariable UUID programId,
+            @Parameter(description = "Activity ID", required = true) @PathVariable UUID activityId) {
+
+        log.debug("Fetching prerequisites for activityId={}, programId={}", activityId, programId);
+
+        return ResponseEntity.ok(
+                activityPrerequisiteService.getPrerequisites(programId, activityId));
+    }
+
+    @PreAuthorize("@rbac.canManageProgram(authentication, #programId)")
+    @PutMapping("/{activityId}/prerequisites")
+    @Operation(
+            summary = "Replace activity prerequisites",
+            description = "Sets the activities that must be approved before users can register for this one"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Prerequisites updated"),
+            @ApiResponse(responseCode = "400", description = "Prerequisite outside the program, self-reference, "
+                    + "or optional prerequisite on a compulsory activity"),
+            @ApiResponse(responseCode = "403", description = "Permission denied"),
+            @ApiResponse(responseCode = "404", description = "Activity not found"),
+            @ApiResponse(responseCode = "409", description = "Change would create a prerequisite cycle")
+    })
+    public ResponseEntity<ActivityPrerequisitesDTO> setPrerequisites(
+            @Parameter(description = "Program ID", required = true) @PathVariable UUID programId,
+            @Parameter(description = "Activity ID", required = true) @PathVariable UUID activityId,
+            @RequestBody ActivityPrerequisitesRequestDTO request) {
+
+        log.info("Updating prerequisites for activityId={}, programId={}", activityId, programId);
+
+        ActivityPrerequisitesDTO response = activityPrerequisiteService.setPrerequisites(
+                programId, activityId, request.getPrerequisiteActivityIds());
+
+        log.info("Prerequisites updated for activityId={}, count={}",
+                activityId, response.prerequisiteActivityIds().size());
+
+        return ResponseEntity.ok(response);
+    }
+
+    @PreAuthorize("@rbac.canViewProgram(authentication, #programId) "
+            + "and (#userId == null or @rbac.canManageProgram(authentication, #programId))")
+    @GetMapping("/unlocked")
+    @Operation(
+            summary = "Get unlocked activities",
+            description = "Returns every activity of the program with whether the user has unlocked it "
+                    + "and which prerequisites are still missing. Defaults to the logged-in user; "
+                    + "hosts may pass a userId"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Unlock status retrieved"),
+            @ApiResponse(responseCode = "403", description = "Permission denied"),
+            @ApiResponse(responseCode = "404", description = "Program not found")
+    })
+    public ResponseEntity<List<ActivityUnlockStatusDTO>> getUnlockedActivities(
+            @Parameter(description = "Program ID", required = true) @PathVariable UUID programId,
+            @Parameter(description = "User to inspect (program host or owner only)")
+            @RequestParam(required = false) Long userId) {
+
+        log.debug("Fetching unlocked activities for programId={}, userId={}", programId, userId);
+
+        return ResponseEntity.ok(
+                activityPrerequisiteService.getUnlockStatus(programId, userId));
+    }
+}
@@ -3,6 +3,7 @@ package com.questevent.controller;
 import com.questevent.dto.*;
 import com.questevent.enums.CompletionStatus;
 import com.questevent.service.ActivityRegistrationService;
+import com.questevent.utils.CursorPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -85,25 +86,60 @@ public class ActivityRegistrationController {
 
     }
 
+    @PreAuthorize("@rbac.canManageProgram(authentication, @rbac.getProgramIdByActivityId(#activityId))")
+    @PostMapping("/activities/{activityId}/participants/bulk")
+    @Operation(
+            summary = "Add participants to activity in bulk (Host only)",
+            description = "Registers a list of users, or every user of a department, for the activity. "
+                    + "Users already registered are skipped"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-user enrollment summary"),
+            @ApiResponse(responseCode = "400", description = "Neither or both of userIds and department given, or too many users"),
+            @ApiResponse(responseCode = "403", description = "Permission denied"),
+            @ApiResponse(responseCode = "404", description = "Activity not found")
+    })
+    public ResponseEntity<BulkEnrollmentResultDTO> addParticipantsToActivity(
+            @Parameter(description = "Activity ID", required = true) @PathVariable UUID activityId,
+            @RequestBody BulkEnrollmentRequestDTO request) {
+
+        log.info("Host adding participants to activity in bulk: activityId={}, department={}",
+                activityId, request.getDepartment());
+
+        BulkEnrollmentResultDTO result =
+                activityRegistrationService.addParticipantsToActivity(activityId, request);
+
+        log.info("Bulk participants added to activity: activityId={}, enrolled={}",
+                activityId, result.enrolled());
+
+        return ResponseEntity.ok(result);
+    }
+
     @PreAuthorize("@rbac.isPlatformOwner(authentication)")
     @GetMapping
     @Operation(
             summary = "Get all activity registrations",
-            description = "Retrieves all activity registrations (Platform Owner only)"
+            description = "Retrieves activity registrations one page at a time (Platform Owner only)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved registrations"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public ResponseEntity<List<ActivityRegistrationDTO>> getAllRegistrations() {
+    public ResponseEntity<List<ActivityRegistrationDTO>> getAllRegistrations(
+            @Parameter(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, default 50, max 200")
+            @RequestParam(required = false) Integer limit) {
 
-        log.info("Fetching all activity registrations (platform owner)");
+        log.info("Fetching activity registrations page (platform owner)");
 
-        List<ActivityRegistrationDTO> registrations =
-                activityRegistrationService.getAllRegistrations();
+        int pageLimit = CursorPagination.resolveLimit(limit);
+        CursorPageDTO<ActivityRegistrationDTO> page =
+                activityRegistrationService.getAllRegistrations(cursor, pageLimit);
 
-        log.debug("Total activity registrations fetched={}", registrations.size());
-        return ResponseEntity.ok(registrations);
+        log.debug("Activity registrations fetched={} | hasNext={}", page.items().size(), page.hasNext());
+        return CursorPagination.toResponse(page, pageLimit);
     }
 
     @PreAuthorize("@rbac.canAccessActivityRegistration(authentication, #id)")
@@ -0,0 +1,64 @@
+package com.questevent.controller;
+
+import com.questevent.cache.SecondLevelCacheStats;
+import com.questevent.dto.CacheRegionStatsDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache/regions")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Second-level cache statistics APIs (Platform Owner only)")
+public class CacheStatsController {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(CacheStatsController.class);
+
+    private final SecondLevelCacheStats cacheStats;
+
+    @PreAuthorize("@rbac.isPlatformOwner(authentication)")
+    @GetMapping
+    @Operation(
+            summary = "Get cache region statistics",
+            description = "Returns hits, misses, puts, cached entries and hit rate for each reference data cache region"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Platform Owner only")
+    })
+    public ResponseEntity<List<CacheRegionStatsDTO>> getRegionStats() {
+        return ResponseEntity.ok(cacheStats.getRegionStats());
+    }
+
+    @PreAuthorize("@rbac.isPlatformOwner(authentication)")
+    @DeleteMapping("/{region}")
+    @Operation(
+            summary = "Evict a cache region",
+            description = "Drops every entry of the region, e.g. after the database was edited outside the application"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Region evicted"),
+            @ApiResponse(responseCode = "400", description = "Unknown region"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Platform Owner only")
+    })
+    public ResponseEntity<Void> evictRegion(
+            @Parameter(description = "Cache region name", required = true)
+            @PathVariable String region
+    ) {
+        log.info("Cache region eviction requested | region={}", region);
+
+        cacheStats.evictRegion(region);
+        return ResponseEntity.noContent().build();
+    }
+}
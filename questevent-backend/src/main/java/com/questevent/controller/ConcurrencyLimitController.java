@@ -0,0 +1,39 @@
+package com.questevent.controller;
+
+import com.questevent.dto.ConcurrencyLimitStatsDTO;
+import com.questevent.web.AdaptiveConcurrencyLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/concurrency-limits")
+@RequiredArgsConstructor
+@Tag(name = "Concurrency Limits", description = "Adaptive concurrency limit statistics APIs (Platform Owner only)")
+public class ConcurrencyLimitController {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    @PreAuthorize("@rbac.isPlatformOwner(authentication)")
+    @GetMapping
+    @Operation(
+            summary = "Get concurrency limits",
+            description = "Returns the current limit, in-flight requests, admitted and shed counts and no-load latency, globally and per endpoint group"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Platform Owner only")
+    })
+    public ResponseEntity<List<ConcurrencyLimitStatsDTO>> getLimits() {
+        return ResponseEntity.ok(limiter.getStats());
+    }
+}
@@ -1,9 +1,11 @@
 package com.questevent.controller;
 
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.JudgeSubmissionDTO;
 import com.questevent.dto.JudgeSubmissionDetailsDTO;
 import com.questevent.dto.JudgeSubmissionStatsDTO;
 import com.questevent.service.JudgeService;
+import com.questevent.utils.CursorPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -119,7 +121,8 @@ public class JudgeController {
             summary = "Get all submissions for judge",
             description = "Returns all submissions (PENDING + REVIEWED) " +
                     "for programs where the judge is assigned. " +
-                    "OWNER role sees all submissions."
+                    "OWNER role sees all submissions. " +
+                    "Paged by cursor; follow the Link rel=\"next\" header for more."
     )
     @ApiResponses({
             @ApiResponse(
@@ -136,14 +139,19 @@ public class JudgeController {
                     "or @rbac.canJudgeAccessAnyProgram(authentication)"
     )
     @GetMapping("/submissions")
-    public ResponseEntity<List<JudgeSubmissionDTO>> getAllSubmissions() {
-        log.info("Fetching all submissions for judge");
+    public ResponseEntity<List<JudgeSubmissionDTO>> getAllSubmissions(
+            @Parameter(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, default 50, max 200")
+            @RequestParam(required = false) Integer limit) {
+        log.info("Fetching submissions page for judge");
 
-        List<JudgeSubmissionDTO> submissions =
-                judgeService.getAllSubmissionsForJudge(null);
+        int pageLimit = CursorPagination.resolveLimit(limit);
+        CursorPageDTO<JudgeSubmissionDTO> page =
+                judgeService.getAllSubmissionsForJudge(cursor, pageLimit, null);
 
-        log.debug("All submissions fetched, count={}", submissions.size());
-        return ResponseEntity.ok(submissions);
+        log.debug("Submissions fetched, count={} | hasNext={}", page.items().size(), page.hasNext());
+        return CursorPagination.toResponse(page, pageLimit);
     }
 
     @Operation(
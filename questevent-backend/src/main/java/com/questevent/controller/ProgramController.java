@@ -1,10 +1,13 @@
 package com.questevent.controller;
 
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.ProgramRequestDTO;
 import com.questevent.dto.ProgramResponseDTO;
 import com.questevent.entity.Program;
 import com.questevent.service.ProgramService;
 import com.questevent.service.ProgramWalletTransactionService;
+import com.questevent.utils.ConditionalGet;
+import com.questevent.utils.CursorPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,6 +20,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -64,16 +68,32 @@ public class ProgramController {
 
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    @Operation(summary = "Get all programs", description = "Retrieves a list of all programs")
+    @Operation(summary = "Get all programs", description = "Retrieves programs one page at a time; follow the Link rel=\"next\" header for more")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved list of programs")
-    public ResponseEntity<List<ProgramResponseDTO>> getAllPrograms() {
-        log.info("Fetching all programs");
+    @ApiResponse(responseCode = "304", description = "Programs unchanged since the given ETag")
+    public ResponseEntity<List<ProgramResponseDTO>> getAllPrograms(
+            @Parameter(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, default 50, max 200")
+            @RequestParam(required = false) Integer limit,
+            WebRequest request) {
+        int pageLimit = CursorPagination.resolveLimit(limit);
+        if (ConditionalGet.notModified(request, programService.getAllProgramsVersion(cursor, pageLimit))) {
+            log.debug("Programs page not modified");
+            return null;
+        }
 
-        List<Program> programs = programService.getAllPrograms();
-        log.debug("Total programs fetched={}", programs.size());
+        log.info("Fetching programs page");
 
-        return ResponseEntity.ok(
-                programs.stream().map(this::convertToResponseDTO).toList()
+        CursorPageDTO<Program> page = programService.getAllPrograms(cursor, pageLimit);
+        log.debug("Programs fetched={} | hasNext={}", page.items().size(), page.hasNext());
+
+        return CursorPagination.toResponse(
+                new CursorPageDTO<>(
+                        page.items().stream().map(this::convertToResponseDTO).toList(),
+                        page.nextCursor()
+                ),
+                pageLimit
         );
     }
 
@@ -82,12 +102,20 @@ public class ProgramController {
     @Operation(summary = "Get program by ID", description = "Retrieves a specific program by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Program found"),
+            @ApiResponse(responseCode = "304", description = "Program unchanged since the given ETag or date"),
             @ApiResponse(responseCode = "404", description = "Program not found")
     })
-    public ResponseEntity<ProgramResponseDTO> getProgramById(@Parameter(description = "Program ID", required = true) @PathVariable UUID programId) {
+    public ResponseEntity<ProgramResponseDTO> getProgramById(
+            @Parameter(description = "Program ID", required = true) @PathVariable UUID programId,
+            WebRequest request) {
         log.info("Fetching program with programId={}", programId);
 
-        Program program = programService.getProgramById(programId);
+        if (ConditionalGet.notModified(request, programService.getProgramVersion(programId))) {
+            log.debug("Program not modified programId={}", programId);
+            return null;
+        }
+
+        Program program = programService.getCurrentProgram(programId);
 
         log.debug("Program fetched: programId={}, status={}",
                 program.getProgramId(), program.getStatus());
@@ -100,9 +128,14 @@ public class ProgramController {
     @Operation(summary = "Get all my hosted programs", description = "Retrieves all programs hosted by the current user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved programs"),
+            @ApiResponse(responseCode = "304", description = "Programs unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<List<ProgramResponseDTO>> getMyPrograms() {
+    public ResponseEntity<List<ProgramResponseDTO>> getMyPrograms(WebRequest request) {
+        if (ConditionalGet.notModified(request, programService.getHostedProgramsVersion())) {
+            return null;
+        }
+
         log.info("Fetching programs hosted by current user");
 
         List<Program> programs = programService.getMyPrograms();
@@ -142,9 +175,14 @@ public class ProgramController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved programs"),
+            @ApiResponse(responseCode = "304", description = "Programs unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<List<ProgramResponseDTO>> getProgramsWhereUserIsJudge() {
+    public ResponseEntity<List<ProgramResponseDTO>> getProgramsWhereUserIsJudge(WebRequest request) {
+        if (ConditionalGet.notModified(request, programService.getJudgedProgramsVersion())) {
+            return null;
+        }
+
         log.info("Fetching programs where current user is judge");
 
         List<Program> programs = programService.getProgramsWhereUserIsJudge();
@@ -242,9 +280,14 @@ public class ProgramController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved programs"),
+            @ApiResponse(responseCode = "304", description = "Programs unchanged since the given ETag"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
-    public ResponseEntity<List<ProgramResponseDTO>> getDraftProgramsByHost() {
+    public ResponseEntity<List<ProgramResponseDTO>> getDraftProgramsByHost(WebRequest request) {
+        if (ConditionalGet.notModified(request, programService.getHostedProgramsVersion())) {
+            return null;
+        }
+
         log.info("Fetching draft programs hosted by current user");
 
         List<Program> programs = programService.getDraftProgramsByHost();
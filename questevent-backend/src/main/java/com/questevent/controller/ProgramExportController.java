@@ -0,0 +1,156 @@
+package com.questevent.controller;
+
+import com.questevent.enums.ExportFormat;
+import com.questevent.service.ProgramExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/programs/{programId}/exports")
+@Tag(name = "Program Exports", description = "Streaming exports of program data")
+public class ProgramExportController {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ProgramExportController.class);
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    @FunctionalInterface
+    private interface Exporter {
+        long export(UUID programId, ExportFormat format, OutputStream out);
+    }
+
+    private final ProgramExportService programExportService;
+
+    public ProgramExportController(ProgramExportService programExportService) {
+        this.programExportService = programExportService;
+    }
+
+    @PreAuthorize("@rbac.canManageProgram(authentication, #programId)")
+    @GetMapping("/registrations")
+    @Operation(
+            summary = "Export program registrations",
+            description = "Streams every registration of the program as NDJSON or CSV"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Program host or Platform Owner only"),
+            @ApiResponse(responseCode = "404", description = "Program not found")
+    })
+    public ResponseEntity<StreamingResponseBody> exportRegistrations(
+            @Parameter(description = "Program ID", required = true)
+            @PathVariable UUID programId,
+            @Parameter(description = "ndjson (default) or csv")
+            @RequestParam(required = false) String format,
+            @Parameter(description = "Compress the export with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        return stream("registrations", programId, format, gzip,
+                programExportService::exportRegistrations);
+    }
+
+    @PreAuthorize("@rbac.canManageProgram(authentication, #programId)")
+    @GetMapping("/submissions")
+    @Operation(
+            summary = "Export program submissions",
+            description = "Streams every activity submission of the program as NDJSON or CSV"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Program host or Platform Owner only"),
+            @ApiResponse(responseCode = "404", description = "Program not found")
+    })
+    public ResponseEntity<StreamingResponseBody> exportSubmissions(
+            @Parameter(description = "Program ID", required = true)
+            @PathVariable UUID programId,
+            @Parameter(description = "ndjson (default) or csv")
+            @RequestParam(required = false) String format,
+            @Parameter(description = "Compress the export with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        return stream("submissions", programId, format, gzip,
+                programExportService::exportSubmissions);
+    }
+
+    @PreAuthorize("@rbac.canManageProgram(authentication, #programId)")
+    @GetMapping("/wallets")
+    @Operation(
+            summary = "Export program wallet balances",
+            description = "Streams every participant wallet of the program as NDJSON or CSV"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Program host or Platform Owner only"),
+            @ApiResponse(responseCode = "404", description = "Program not found")
+    })
+    public ResponseEntity<StreamingResponseBody> exportWallets(
+            @Parameter(description = "Program ID", required = true)
+            @PathVariable UUID programId,
+            @Parameter(description = "ndjson (default) or csv")
+            @RequestParam(required = false) String format,
+            @Parameter(description = "Compress the export with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        return stream("wallets", programId, format, gzip,
+                programExportService::exportWallets);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(
+            String dataset,
+            UUID programId,
+            String format,
+            boolean gzip,
+            Exporter exporter
+    ) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+
+        // fail with a proper status before the body starts streaming
+        programExportService.requireProgram(programId);
+
+        log.info("Streaming program export | dataset={} | programId={} | format={} | gzip={}",
+                dataset, programId, exportFormat, gzip);
+
+        String filename = "program-" + programId + "-" + dataset + "." + exportFormat.getExtension();
+        MediaType contentType = MediaType.parseMediaType(exportFormat.getContentType());
+
+        if (gzip) {
+            filename += ".gz";
+            contentType = MediaType.parseMediaType("application/gzip");
+        }
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                exporter.export(programId, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                exporter.export(programId, exportFormat, out);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -2,6 +2,7 @@ package com.questevent.controller;
 
 import com.questevent.dto.*;
 import com.questevent.service.ProgramRegistrationService;
+import com.questevent.utils.CursorPagination;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -83,25 +84,61 @@ public class ProgramRegistrationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PreAuthorize("@rbac.canManageProgram(authentication, #programId)")
+    @PostMapping("/programs/{programId}/participants/bulk")
+    @Operation(
+            summary = "Add participants to program in bulk (Host only)",
+            description = "Registers a list of users, or every user of a department, for the program "
+                    + "and creates their program wallets. Users already registered are skipped"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-user enrollment summary"),
+            @ApiResponse(responseCode = "400", description = "Neither or both of userIds and department given, or too many users"),
+            @ApiResponse(responseCode = "403", description = "Permission denied"),
+            @ApiResponse(responseCode = "404", description = "Program not found")
+    })
+    public ResponseEntity<BulkEnrollmentResultDTO> addParticipantsByHost(
+            @Parameter(description = "Program ID", required = true)
+            @PathVariable UUID programId,
+            @RequestBody BulkEnrollmentRequestDTO request) {
+
+        log.info("Host adding participants in bulk: programId={}, department={}",
+                programId, request.getDepartment());
+
+        BulkEnrollmentResultDTO result =
+                programRegistrationService.addParticipantsToProgram(programId, request);
+
+        log.info("Bulk participants added by host: programId={}, enrolled={}",
+                programId, result.enrolled());
+
+        return ResponseEntity.ok(result);
+    }
+
     @PreAuthorize("@rbac.isPlatformOwner(authentication)")
     @GetMapping
     @Operation(
             summary = "Get all program registrations",
-            description = "Retrieves all program registrations (Platform Owner only)"
+            description = "Retrieves program registrations one page at a time (Platform Owner only)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved registrations"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
             @ApiResponse(responseCode = "403", description = "Forbidden")
     })
-    public ResponseEntity<List<ProgramRegistrationDTO>> getAllRegistrations() {
+    public ResponseEntity<List<ProgramRegistrationDTO>> getAllRegistrations(
+            @Parameter(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, default 50, max 200")
+            @RequestParam(required = false) Integer limit) {
 
-        log.info("Fetching all program registrations (platform owner)");
+        log.info("Fetching program registrations page (platform owner)");
 
-        List<ProgramRegistrationDTO> registrations =
-                programRegistrationService.getAllRegistrations();
+        int pageLimit = CursorPagination.resolveLimit(limit);
+        CursorPageDTO<ProgramRegistrationDTO> page =
+                programRegistrationService.getAllRegistrations(cursor, pageLimit);
 
-        log.debug("Total registrations fetched={}", registrations.size());
-        return ResponseEntity.ok(registrations);
+        log.debug("Registrations fetched={} | hasNext={}", page.items().size(), page.hasNext());
+        return CursorPagination.toResponse(page, pageLimit);
     }
 
     @PreAuthorize("@rbac.canAccessProgramRegistration(authentication, #id)")
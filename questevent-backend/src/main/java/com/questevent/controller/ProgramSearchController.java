@@ -0,0 +1,93 @@
+package com.questevent.controller;
+
+import com.questevent.dto.CursorPageDTO;
+import com.questevent.dto.ProgramSearchFacetsDTO;
+import com.questevent.dto.ProgramSearchHitDTO;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.service.ProgramSearchService;
+import com.questevent.utils.CursorPagination;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/programs/search")
+@RequiredArgsConstructor
+@Tag(name = "Program Search", description = "Full-text program and activity search APIs")
+public class ProgramSearchController {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgramSearchController.class);
+
+    private final ProgramSearchService programSearchService;
+
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping
+    @Operation(
+            summary = "Search programs",
+            description = "Matches program titles and descriptions and activity names, descriptions "
+                    + "and rulebooks, best match first; follow the Link rel=\"next\" header for more"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching programs retrieved"),
+            @ApiResponse(responseCode = "400", description = "Empty or too long query, or invalid cursor")
+    })
+    public ResponseEntity<List<ProgramSearchHitDTO>> search(
+            @Parameter(description = "Search text; supports \"quoted phrases\", or, and -excluded words", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Only programs of this department")
+            @RequestParam(required = false) Department department,
+            @Parameter(description = "Only programs in this status")
+            @RequestParam(required = false) ProgramStatus status,
+            @Parameter(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, default 50, max 200")
+            @RequestParam(required = false) Integer limit) {
+
+        log.info("Searching programs | department={} | status={}", department, status);
+
+        int pageLimit = CursorPagination.resolveLimit(limit);
+        CursorPageDTO<ProgramSearchHitDTO> page =
+                programSearchService.search(q, department, status, cursor, pageLimit);
+
+        log.debug("Program search hits={} | hasNext={}", page.items().size(), page.hasNext());
+
+        return CursorPagination.toResponse(page, pageLimit);
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/facets")
+    @Operation(
+            summary = "Search facet counts",
+            description = "Counts the programs matching the query per department and per status"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Facet counts retrieved"),
+            @ApiResponse(responseCode = "400", description = "Empty or too long query")
+    })
+    public ResponseEntity<ProgramSearchFacetsDTO> facets(
+            @Parameter(description = "Search text", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Department filter, applied to the status counts")
+            @RequestParam(required = false) Department department,
+            @Parameter(description = "Status filter, applied to the department counts")
+            @RequestParam(required = false) ProgramStatus status) {
+
+        log.debug("Fetching program search facets | department={} | status={}", department, status);
+
+        return ResponseEntity.ok(programSearchService.facets(q, department, status));
+    }
+}
@@ -1,9 +1,12 @@
 package com.questevent.controller;
 
 import com.questevent.dto.CompleteProfileRequest;
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.UserResponseDto;
 import com.questevent.entity.User;
 import com.questevent.service.UserService;
+import com.questevent.utils.CursorPagination;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -53,12 +56,18 @@ public class UserController {
     @GetMapping
     @Operation(
             summary = "Get all users",
-            description = "Fetch all users (Platform Owner only)"
+            description = "Fetch users one page at a time; follow the Link rel=\"next\" header for more"
     )
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        return ResponseEntity.ok(
-                userService.getAllUsers()
-        );
+    public ResponseEntity<List<UserResponseDto>> getAllUsers(
+            @Parameter(description = "Opaque cursor from the previous page's X-Next-Cursor header")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, default 50, max 200")
+            @RequestParam(required = false) Integer limit) {
+
+        int pageLimit = CursorPagination.resolveLimit(limit);
+        CursorPageDTO<UserResponseDto> page = userService.getAllUsers(cursor, pageLimit);
+
+        return CursorPagination.toResponse(page, pageLimit);
     }
 
     @PreAuthorize("@rbac.isPlatformOwner(authentication)")
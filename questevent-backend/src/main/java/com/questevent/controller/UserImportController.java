@@ -0,0 +1,73 @@
+package com.questevent.controller;
+
+import com.questevent.dto.UserImportResultDTO;
+import com.questevent.enums.ExportFormat;
+import com.questevent.service.UserImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+@RestController
+@RequestMapping("/api/admin/users/import")
+@RequiredArgsConstructor
+@Tag(name = "User Import", description = "Bulk user import APIs (Platform Owner only)")
+public class UserImportController {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(UserImportController.class);
+
+    private static final MediaType CSV = MediaType.valueOf(ExportFormat.CSV.getContentType());
+
+    private final UserImportService userImportService;
+
+    @PreAuthorize("@rbac.isPlatformOwner(authentication)")
+    @PostMapping(consumes = {"application/x-ndjson", "text/csv"})
+    @Operation(
+            summary = "Import users",
+            description = "Streams an NDJSON or CSV body (optionally gzip-encoded) and upserts users by email, "
+                    + "creating wallets for new users. Invalid rows are reported per line without aborting the import"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see per-row errors"),
+            @ApiResponse(responseCode = "400", description = "CSV header is missing a required column"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Platform Owner only"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type")
+    })
+    public ResponseEntity<UserImportResultDTO> importUsers(
+            @Parameter(description = "application/x-ndjson or text/csv")
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request
+    ) throws IOException {
+
+        ExportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(CSV)
+                ? ExportFormat.CSV
+                : ExportFormat.NDJSON;
+
+        log.info("User import requested: format={}, encoding={}", format, contentEncoding);
+
+        InputStream body = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(request.getInputStream())
+                : request.getInputStream();
+
+        UserImportResultDTO result = userImportService.importUsers(body, format);
+
+        log.info("User import finished: rowsRead={}, failed={}", result.rowsRead(), result.failed());
+        return ResponseEntity.ok(result);
+    }
+}
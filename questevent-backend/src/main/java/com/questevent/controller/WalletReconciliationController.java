@@ -0,0 +1,61 @@
+package com.questevent.controller;
+
+import com.questevent.dto.ReconciliationStatusDTO;
+import com.questevent.service.WalletReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/wallet-reconciliation")
+@RequiredArgsConstructor
+@Tag(name = "Wallet Reconciliation", description = "Wallet balance reconciliation APIs (Platform Owner only)")
+public class WalletReconciliationController {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(WalletReconciliationController.class);
+
+    private final WalletReconciliationService reconciliationService;
+
+    @PreAuthorize("@rbac.isPlatformOwner(authentication)")
+    @PostMapping("/run")
+    @Operation(
+            summary = "Run wallet reconciliation",
+            description = "Compares all user and program wallet balances against approved submissions and writes a discrepancy report"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reconciliation finished"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Platform Owner only"),
+            @ApiResponse(responseCode = "409", description = "Reconciliation already running")
+    })
+    public ResponseEntity<ReconciliationStatusDTO> runReconciliation() {
+        log.info("Manual wallet reconciliation requested");
+
+        ReconciliationStatusDTO status = reconciliationService.reconcile();
+
+        log.info("Manual wallet reconciliation finished, discrepancies={}",
+                status.discrepancies());
+        return ResponseEntity.ok(status);
+    }
+
+    @PreAuthorize("@rbac.isPlatformOwner(authentication)")
+    @GetMapping("/status")
+    @Operation(
+            summary = "Get wallet reconciliation progress",
+            description = "Returns the phase, rows scanned, rows per second and discrepancy count of the current or last run"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status retrieved"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Platform Owner only")
+    })
+    public ResponseEntity<ReconciliationStatusDTO> getReconciliationStatus() {
+        return ResponseEntity.ok(reconciliationService.getStatus());
+    }
+}
@@ -0,0 +1,125 @@
+package com.questevent.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps concurrent database-bound requests at the connection pool size.
+ * <p>
+ * Requests beyond the cap wait on a fair semaphore, at most
+ * {@code max-queue} of them and for at most {@code max-wait}; the rest are
+ * turned away at once. With virtual threads there is no thread pool left
+ * to limit concurrency, so without this every burst would queue inside
+ * Hikari until {@code connection-timeout} and fail there, after holding
+ * its request open for the whole timeout.
+ */
+@Slf4j
+@Component
+public class DatabaseBulkhead {
+
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public DatabaseBulkhead(
+            @Value("${questevent.bulkhead.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${questevent.bulkhead.max-queue:50}") int maxQueue,
+            @Value("${questevent.bulkhead.max-wait:PT0.5S}") Duration maxWait
+    ) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("questevent.bulkhead.max-concurrent must be at least 1");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Takes a permit, waiting briefly if the queue has room. Every
+     * {@code true} must be paired with one {@link #release()}.
+     */
+    public boolean tryEnter() {
+
+        // zero-timeout acquire honours fairness, unlike tryAcquire()
+        if (tryAcquire(0)) {
+            return true;
+        }
+
+        if (waiting.incrementAndGet() > maxQueue) {
+            waiting.decrementAndGet();
+            reject();
+            return false;
+        }
+
+        try {
+            if (tryAcquire(maxWaitNanos)) {
+                return true;
+            }
+        } finally {
+            waiting.decrementAndGet();
+        }
+
+        reject();
+        return false;
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private boolean tryAcquire(long timeoutNanos) {
+        try {
+            if (permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return true;
+            }
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject() {
+        rejected.increment();
+        log.debug(
+                "Request rejected by database bulkhead | inFlight={} | waiting={} | rejected={}",
+                getInFlight(),
+                waiting.get(),
+                rejected.sum()
+        );
+    }
+}
@@ -0,0 +1,113 @@
+package com.questevent.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the
+ * replica pool and everything else to the primary.
+ * <p>
+ * Reads stay on the primary while the replica is unhealthy, and while the
+ * current user is inside their read-your-writes window. Connections are
+ * requested when a transaction runs its first statement, so it must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy};
+ * by then the transaction's read-only flag is known.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealthMonitor health;
+    private final ReadYourWritesTracker readYourWrites;
+
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder replicaConnections = new LongAdder();
+    private final LongAdder replicaFallbacks = new LongAdder();
+
+    public ReadReplicaRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaHealthMonitor health,
+            ReadYourWritesTracker readYourWrites
+    ) {
+        this.primary = primary;
+        this.replica = replica;
+        this.health = health;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (health.isHealthy() && !readYourWrites.isSticky(currentPrincipal())) {
+                try {
+                    Connection connection = replica.getConnection();
+                    replicaConnections.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    replicaFallbacks.increment();
+                    health.markDown(e.getMessage());
+                }
+            }
+        } else {
+            trackWrite();
+        }
+
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        // explicit credentials bypass routing
+        return primary.getConnection(username, password);
+    }
+
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    public long getReplicaConnections() {
+        return replicaConnections.sum();
+    }
+
+    public long getReplicaFallbacks() {
+        return replicaFallbacks.sum();
+    }
+
+    // records the write once the transaction commits; rolled back work does not count
+    private void trackWrite() {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        String principal = currentPrincipal();
+        if (principal == null) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(principal);
+            }
+        });
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated()
+                ? authentication.getName()
+                : null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.questevent.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers when each user last committed a write. For one window after
+ * that, their read-only transactions stay on the primary, so a replica that
+ * is a few hundred milliseconds behind never hides the user's own change.
+ * <p>
+ * Kept per instance; a request landing on another instance right after a
+ * write may still read from the replica.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier clock;
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Duration window, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    public void recordWrite(String principal) {
+        if (principal == null || windowNanos <= 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        lastWriteNanos.put(principal, now);
+        if (lastWriteNanos.size() > PURGE_THRESHOLD) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    public boolean isSticky(String principal) {
+        if (principal == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteNanos.get(principal);
+        return writtenAt != null && clock.getAsLong() - writtenAt <= windowNanos;
+    }
+}
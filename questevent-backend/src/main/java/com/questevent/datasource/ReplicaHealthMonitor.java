@@ -0,0 +1,97 @@
+package com.questevent.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Tracks whether the replica may serve reads. It is probed on a fixed
+ * interval; on Postgres the probe also reads the replay lag and takes the
+ * replica out of rotation while the lag exceeds {@code max-lag}. A failed
+ * connection attempt from the routing data source takes it out immediately,
+ * and the next successful probe puts it back.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    // zero when the replica has replayed everything it received, so an idle
+    // primary does not make the replica look stale
+    private static final String POSTGRES_LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END
+            """;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource replica;
+    private final Duration maxLag;
+
+    private volatile boolean healthy = true;
+
+    public ReplicaHealthMonitor(DataSource replica, Duration maxLag) {
+        this.replica = replica;
+        this.maxLag = maxLag;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${questevent.read-replica.health-check-interval:PT10S}",
+            initialDelayString = "${questevent.read-replica.health-check-interval:PT10S}"
+    )
+    public void check() {
+
+        try (Connection connection = replica.getConnection()) {
+
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                markDown("connection validation failed");
+                return;
+            }
+
+            Duration lag = replicationLag(connection);
+            if (lag.compareTo(maxLag) > 0) {
+                markDown("replication lag " + lag.toMillis() + "ms exceeds " + maxLag.toMillis() + "ms");
+                return;
+            }
+
+            if (!healthy) {
+                log.info("Read replica back in rotation | lagMs={}", lag.toMillis());
+            }
+            healthy = true;
+
+        } catch (SQLException e) {
+            markDown(e.getMessage());
+        }
+    }
+
+    public void markDown(String reason) {
+        if (healthy) {
+            log.warn("Read replica out of rotation, reads go to the primary | reason={}", reason);
+        }
+        healthy = false;
+    }
+
+    private static Duration replicationLag(Connection connection) throws SQLException {
+
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            return Duration.ZERO;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(POSTGRES_LAG_QUERY)) {
+            double seconds = rs.next() ? rs.getDouble(1) : 0.0;
+            return Duration.ofMillis(Math.round(seconds * 1000));
+        }
+    }
+}
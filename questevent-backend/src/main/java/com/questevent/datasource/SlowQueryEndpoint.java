@@ -0,0 +1,41 @@
+package com.questevent.datasource;
+
+import com.questevent.dto.SlowQueryReportDTO;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/slowqueries} lists the {@link SlowQueryLog} entries,
+ * slowest total first; {@code DELETE} clears them, e.g. before a load test.
+ * Platform owners only, see {@code SecurityConfig}.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@ConditionalOnProperty(name = "questevent.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public SlowQueryReportDTO slowQueries() {
+        return new SlowQueryReportDTO(
+                slowQueryLog.getThresholdNanos() / 1_000_000.0,
+                slowQueryLog.isExplainEnabled(),
+                slowQueryLog.getRecorded(),
+                slowQueryLog.getDropped(),
+                slowQueryLog.snapshot()
+        );
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryLog.reset();
+    }
+}
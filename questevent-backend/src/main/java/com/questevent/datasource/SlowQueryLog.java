@@ -0,0 +1,311 @@
+package com.questevent.datasource;
+
+import com.questevent.dto.SlowQueryDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Statements slower than the threshold, aggregated per fingerprint: the
+ * SQL with literals and bind markers folded to {@code ?} and {@code IN}
+ * lists collapsed, so every call of a derived query lands on one entry.
+ * Fed by {@link TimedDataSource} and read through the
+ * {@code /actuator/slowqueries} endpoint.
+ * <p>
+ * With explain enabled (the {@code profiling} profile), a statement that
+ * is new or at least twice as slow as the one last explained is planned
+ * again with the same bind values, on a single background thread, in a
+ * read-only transaction that is rolled back. Only {@code SELECT}s without
+ * a locking clause or data-modifying CTE are re-run as
+ * {@code EXPLAIN (ANALYZE, BUFFERS)}; writes and locking reads get a plain
+ * {@code EXPLAIN}, which plans without executing. PostgreSQL only.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "questevent.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLog implements DisposableBean {
+
+    /** A {@code PreparedStatement.setXxx(index, value...)} call, replayed onto the EXPLAIN statement. */
+    public record Binding(Method setter, Object[] args) {}
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern POSITIONAL_MARKER = Pattern.compile("\\$\\d+");
+    private static final Pattern MARKER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LOCKING_CLAUSE = Pattern.compile(
+            "\\bfor\\s+(?:no\\s+key\\s+)?(?:update|share)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DATA_MODIFYING = Pattern.compile(
+            "\\b(?:insert|update|delete|merge)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EXPLAINABLE = Pattern.compile(
+            "^(?:select|with|values|insert|update|delete|merge)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final long thresholdNanos;
+    private final int maxFingerprints;
+    private final boolean explainEnabled;
+    private final Duration explainTimeout;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final ThreadPoolExecutor explainer;
+
+    public SlowQueryLog(
+            @Value("${questevent.slow-query.threshold:PT0.1S}") Duration threshold,
+            @Value("${questevent.slow-query.max-fingerprints:500}") int maxFingerprints,
+            @Value("${questevent.slow-query.explain-enabled:false}") boolean explainEnabled,
+            @Value("${questevent.slow-query.explain-timeout:PT5S}") Duration explainTimeout
+    ) {
+        this.thresholdNanos = threshold.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.explainEnabled = explainEnabled;
+        this.explainTimeout = explainTimeout;
+
+        // one plan at a time and a short backlog; beyond that a plan is skipped until the query is slow again
+        this.explainer = new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public boolean isExplainEnabled() {
+        return explainEnabled;
+    }
+
+    public long getThresholdNanos() {
+        return thresholdNanos;
+    }
+
+    public long getRecorded() {
+        return recorded.get();
+    }
+
+    /** Slow statements whose fingerprint did not fit under {@code max-fingerprints}. */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Called after every statement; cheap unless {@code nanos} is over the
+     * threshold. {@code bindings} may be {@code null} when they were not
+     * captured or cannot be replayed.
+     */
+    void record(String sql, long nanos, Collection<Binding> bindings, DataSource source) {
+
+        if (nanos < thresholdNanos || sql == null) {
+            return;
+        }
+        recorded.incrementAndGet();
+
+        String fingerprint = fingerprint(sql);
+        Entry entry = entries.get(fingerprint);
+        if (entry == null) {
+            if (entries.size() >= maxFingerprints) {
+                dropped.incrementAndGet();
+                return;
+            }
+            entry = entries.computeIfAbsent(fingerprint, Entry::new);
+        }
+
+        String explainPrefix = explainEnabled && bindings != null ? explainCommand(sql) : null;
+        if (entry.add(sql, nanos, explainPrefix != null)) {
+            Entry explained = entry;
+            List<Binding> values = List.copyOf(bindings);
+            try {
+                explainer.execute(() -> explain(explained, explainPrefix + sql, nanos, values, source));
+            } catch (RejectedExecutionException e) {
+                explained.planFailed();
+            }
+        }
+    }
+
+    /** Entries by total time, slowest first. */
+    public List<SlowQueryDTO> snapshot() {
+        return entries.values().stream()
+                .map(Entry::toDto)
+                .sorted(Comparator.comparingDouble(SlowQueryDTO::totalMillis).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        entries.clear();
+        recorded.set(0);
+        dropped.set(0);
+    }
+
+    static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = POSITIONAL_MARKER.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = MARKER_LIST.matcher(normalized).replaceAll("(?+)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * The EXPLAIN prefix for a statement, or {@code null} when it cannot be
+     * explained. ANALYZE executes the statement, so it is kept to plain reads:
+     * on a write it would run the write again, and on a locking read it would
+     * take the row locks.
+     */
+    static String explainCommand(String sql) {
+        String statement = sql.stripLeading();
+        if (!EXPLAINABLE.matcher(statement).lookingAt()) {
+            return null;
+        }
+        String head = statement.toLowerCase(Locale.ROOT);
+        boolean read = head.startsWith("select") || head.startsWith("with") || head.startsWith("values");
+        if (read && !LOCKING_CLAUSE.matcher(statement).find() && !DATA_MODIFYING.matcher(statement).find()) {
+            return "EXPLAIN (ANALYZE, BUFFERS) ";
+        }
+        return "EXPLAIN ";
+    }
+
+    private void explain(Entry entry, String explainSql, long nanos, List<Binding> bindings, DataSource source) {
+        try (Connection connection = source.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                entry.planned(nanos, "EXPLAIN needs PostgreSQL; not captured on "
+                        + connection.getMetaData().getDatabaseProductName());
+                return;
+            }
+
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try {
+                try (Statement timeout = connection.createStatement()) {
+                    timeout.execute("SET LOCAL statement_timeout = " + explainTimeout.toMillis());
+                }
+                try (PreparedStatement statement = connection.prepareStatement(explainSql)) {
+                    for (Binding binding : bindings) {
+                        binding.setter().invoke(statement, binding.args());
+                    }
+                    StringJoiner plan = new StringJoiner("\n");
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            plan.add(rs.getString(1));
+                        }
+                    }
+                    entry.planned(nanos, plan.toString());
+                }
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | IllegalAccessException | InvocationTargetException e) {
+            entry.planned(nanos, "EXPLAIN failed: " + e.getMessage());
+            log.warn("Slow query explain failed | fingerprint={} | error={}", entry.fingerprint, e.getMessage());
+        } catch (RuntimeException e) {
+            entry.planFailed();
+            log.warn("Slow query explain failed | fingerprint={} | error={}", entry.fingerprint, e.toString());
+        }
+    }
+
+    /**
+     * Waits until the plans queued so far are captured; false when that
+     * takes longer than {@code timeout} or the queue is full.
+     */
+    public boolean awaitPlans(Duration timeout) throws InterruptedException {
+        try {
+            explainer.submit(() -> { }).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException | ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        explainer.shutdownNow();
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private String slowestSql;
+        private Instant lastSeen;
+        private String plan;
+        private long plannedNanos;
+        private Instant planCapturedAt;
+        private boolean explaining;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        /** Adds one execution; true when it should be explained. */
+        synchronized boolean add(String sql, long nanos, boolean explainable) {
+            count++;
+            totalNanos += nanos;
+            lastSeen = Instant.now();
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+                slowestSql = sql;
+            }
+            if (!explainable || explaining || (plan != null && nanos < 2 * plannedNanos)) {
+                return false;
+            }
+            explaining = true;
+            return true;
+        }
+
+        synchronized void planned(long nanos, String plan) {
+            this.plan = plan;
+            this.plannedNanos = nanos;
+            this.planCapturedAt = Instant.now();
+            this.explaining = false;
+        }
+
+        synchronized void planFailed() {
+            this.explaining = false;
+        }
+
+        synchronized SlowQueryDTO toDto() {
+            return new SlowQueryDTO(
+                    fingerprint,
+                    count,
+                    totalNanos / 1_000_000.0,
+                    count == 0 ? 0 : totalNanos / 1_000_000.0 / count,
+                    maxNanos / 1_000_000.0,
+                    slowestSql,
+                    lastSeen,
+                    plan,
+                    plan == null ? null : plannedNanos / 1_000_000.0,
+                    planCapturedAt
+            );
+        }
+    }
+}
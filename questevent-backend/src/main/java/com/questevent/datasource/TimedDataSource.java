@@ -0,0 +1,174 @@
+package com.questevent.datasource;
+
+import com.questevent.timing.RequestTimings;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Times JDBC statement execution for the request's {@code sql} phase and
+ * the {@link SlowQueryLog}.
+ * <p>
+ * Without a slow-query log, only connections handed out on a thread
+ * serving a timed request are wrapped; scheduled jobs, async exports and
+ * the seed loader get the pool's connection untouched. Time is taken around
+ * the {@code execute*} calls, so it covers the round trip and, with the
+ * Postgres driver's default of fetching the whole result, the rows too.
+ */
+public class TimedDataSource extends DelegatingDataSource {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public TimedDataSource(DataSource targetDataSource) {
+        this(targetDataSource, null);
+    }
+
+    public TimedDataSource(DataSource targetDataSource, SlowQueryLog slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        if (slowQueryLog == null && RequestTimings.current() == null) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                TimedDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection)
+        );
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof Statement statement) {
+                Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                        : statement instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                // prepareStatement and prepareCall take the SQL first; createStatement gets it at execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return Proxy.newProxyInstance(
+                        TimedDataSource.class.getClassLoader(),
+                        new Class<?>[]{type},
+                        new StatementHandler(statement, (Connection) proxy, sql)
+                );
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final String preparedSql;
+
+        /** The current bind value per index, kept only while plans are captured; null once unreplayable. */
+        private Map<Integer, SlowQueryLog.Binding> bindings;
+
+        private StatementHandler(Statement target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+            this.bindings = slowQueryLog != null && slowQueryLog.isExplainEnabled() && preparedSql != null
+                    ? new TreeMap<>()
+                    : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try (RequestTimings.Span span = RequestTimings.time(RequestTimings.Phase.SQL)) {
+                    return invokeTarget(target, method, args);
+                } finally {
+                    if (slowQueryLog != null) {
+                        boolean prepared = args == null || args.length == 0 || !(args[0] instanceof String);
+                        slowQueryLog.record(
+                                prepared ? preparedSql : (String) args[0],
+                                System.nanoTime() - start,
+                                prepared && bindings != null ? bindings.values() : null,
+                                getTargetDataSource()
+                        );
+                    }
+                }
+            }
+            if (bindings != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer) {
+                bind(method, args);
+            } else if (bindings != null && name.equals("clearParameters")) {
+                bindings.clear();
+            }
+            // Statement.getConnection must not leak the unwrapped connection
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private void bind(Method method, Object[] args) {
+            String name = method.getName();
+            // streams and readers are consumed by the first execution
+            if (name.endsWith("Stream") || name.endsWith("Reader") || name.endsWith("Blob") || name.endsWith("Clob")) {
+                bindings = null;
+                return;
+            }
+            bindings.put((Integer) args[0], new SlowQueryLog.Binding(method, args.clone()));
+        }
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class && !method.getName().equals("toString");
+    }
+
+    /** equals and hashCode compare proxies, as pools and Hibernate expect. */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.questevent.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// explicit prerequisites only; optional activities also implicitly require every compulsory one
+public record ActivityPrerequisitesDTO(
+        UUID activityId,
+        List<UUID> prerequisiteActivityIds
+) {}
@@ -0,0 +1,15 @@
+package com.questevent.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ActivityPrerequisitesRequestDTO {
+    private List<UUID> prerequisiteActivityIds;
+}
@@ -0,0 +1,13 @@
+package com.questevent.dto;
+
+import com.questevent.enums.CompletionStatus;
+import com.questevent.enums.ReviewStatus;
+
+import java.util.UUID;
+
+// reviewStatus is null when the registration has no submission yet
+public record ActivityProgressRow(
+        UUID activityId,
+        CompletionStatus completionStatus,
+        ReviewStatus reviewStatus
+) {}
@@ -15,5 +15,6 @@ public class ActivityResponseDTO {
     private String activityDescription;
     private Long rewardGems;
     private Instant createdAt;
+    private Instant updatedAt;
     private Boolean isCompulsory;
 }
\ No newline at end of file
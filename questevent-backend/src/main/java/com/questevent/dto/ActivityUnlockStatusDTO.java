@@ -0,0 +1,13 @@
+package com.questevent.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ActivityUnlockStatusDTO(
+        UUID activityId,
+        String activityName,
+        boolean compulsory,
+        boolean unlocked,
+        boolean approved,
+        List<UUID> missingPrerequisiteIds
+) {}
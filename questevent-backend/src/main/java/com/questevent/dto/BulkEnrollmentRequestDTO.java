@@ -0,0 +1,17 @@
+package com.questevent.dto;
+
+import com.questevent.enums.Department;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// exactly one of userIds or department
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkEnrollmentRequestDTO {
+    private List<Long> userIds;
+    private Department department;
+}
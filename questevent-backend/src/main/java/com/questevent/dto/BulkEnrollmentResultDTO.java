@@ -0,0 +1,11 @@
+package com.questevent.dto;
+
+import java.util.List;
+
+public record BulkEnrollmentResultDTO(
+        int requested,
+        int enrolled,
+        int alreadyRegistered,
+        int notFound,
+        List<BulkEnrollmentUserResultDTO> results
+) {}
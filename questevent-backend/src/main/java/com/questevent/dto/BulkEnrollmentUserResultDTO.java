@@ -0,0 +1,8 @@
+package com.questevent.dto;
+
+import com.questevent.enums.BulkEnrollmentStatus;
+
+public record BulkEnrollmentUserResultDTO(
+        Long userId,
+        BulkEnrollmentStatus status
+) {}
@@ -0,0 +1,10 @@
+package com.questevent.dto;
+
+public record CacheRegionStatsDTO(
+        String region,
+        long hits,
+        long misses,
+        long puts,
+        long elementsInMemory,
+        double hitRate
+) {}
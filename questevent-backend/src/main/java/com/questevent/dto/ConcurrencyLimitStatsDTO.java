@@ -0,0 +1,10 @@
+package com.questevent.dto;
+
+public record ConcurrencyLimitStatsDTO(
+        String group,
+        int limit,
+        int inFlight,
+        long admitted,
+        long shed,
+        double noLoadLatencyMillis
+) {}
@@ -0,0 +1,27 @@
+package com.questevent.dto;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Validators of a GET response, taken from the versions its body is built
+ * from: a strong entity tag over those parts, and the Last-Modified time
+ * where one is exact ({@code null} otherwise, e.g. when rows can disappear
+ * without moving any timestamp).
+ */
+public record ContentVersion(String etag, Instant lastModified) {
+
+    public static ContentVersion of(Instant lastModified, Object... parts) {
+        String key = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return new ContentVersion(
+                "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"",
+                lastModified
+        );
+    }
+}
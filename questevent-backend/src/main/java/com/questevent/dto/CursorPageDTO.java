@@ -0,0 +1,17 @@
+package com.questevent.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is null on the
+ * last page.
+ */
+public record CursorPageDTO<T>(
+        List<T> items,
+        String nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.questevent.dto;
+
+import java.util.UUID;
+
+public record PrerequisiteEdge(
+        UUID activityId,
+        UUID prerequisiteActivityId
+) {}
@@ -0,0 +1,10 @@
+package com.questevent.dto;
+
+import java.time.Instant;
+
+// change times and activity version of one program row, the validators of its detail and activity lists
+public record ProgramContentVersion(
+        Instant updatedAt,
+        long activitiesVersion,
+        Instant activitiesUpdatedAt
+) {}
@@ -0,0 +1,12 @@
+package com.questevent.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ProgramRegistrationExportRow(
+        UUID programRegistrationId,
+        Long userId,
+        String userName,
+        String userEmail,
+        Instant registeredAt
+) {}
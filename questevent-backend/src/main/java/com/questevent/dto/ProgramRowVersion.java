@@ -0,0 +1,10 @@
+package com.questevent.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// key and change time of one program row, enough to validate a page of the listing
+public record ProgramRowVersion(
+        UUID programId,
+        Instant updatedAt
+) {}
@@ -0,0 +1,20 @@
+package com.questevent.dto;
+
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+
+// department and status are optional filters
+public record ProgramSearchCriteria(
+        String query,
+        Department department,
+        ProgramStatus status
+) {
+
+    public ProgramSearchCriteria withoutDepartment() {
+        return new ProgramSearchCriteria(query, null, status);
+    }
+
+    public ProgramSearchCriteria withoutStatus() {
+        return new ProgramSearchCriteria(query, department, null);
+    }
+}
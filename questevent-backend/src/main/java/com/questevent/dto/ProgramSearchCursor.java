@@ -0,0 +1,27 @@
+package com.questevent.dto;
+
+import java.util.UUID;
+
+/**
+ * Keyset position in a ranked search: the next page holds hits ranked
+ * below {@code rank}, or ranked equal with a greater {@code programId}.
+ */
+public record ProgramSearchCursor(
+        float rank,
+        UUID programId
+) {
+
+    public static ProgramSearchCursor of(ProgramSearchHitDTO hit) {
+        return new ProgramSearchCursor(hit.rank(), hit.programId());
+    }
+
+    public boolean precedes(float otherRank, UUID otherProgramId) {
+        int byRank = Float.compare(otherRank, rank);
+        return byRank < 0 || (byRank == 0 && otherProgramId.compareTo(programId) > 0);
+    }
+
+    @Override
+    public String toString() {
+        return rank + ":" + programId;
+    }
+}
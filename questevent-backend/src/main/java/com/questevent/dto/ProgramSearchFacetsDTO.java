@@ -0,0 +1,13 @@
+package com.questevent.dto;
+
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+
+import java.util.Map;
+
+// each facet is counted with the other facet's filter applied, but not its own
+public record ProgramSearchFacetsDTO(
+        long total,
+        Map<Department, Long> departments,
+        Map<ProgramStatus, Long> statuses
+) {}
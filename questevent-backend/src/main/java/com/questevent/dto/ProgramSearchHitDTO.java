@@ -0,0 +1,15 @@
+package com.questevent.dto;
+
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+
+import java.util.UUID;
+
+public record ProgramSearchHitDTO(
+        UUID programId,
+        String programTitle,
+        String programDescription,
+        Department department,
+        ProgramStatus status,
+        float rank
+) {}
@@ -0,0 +1,9 @@
+package com.questevent.dto;
+
+import java.time.Instant;
+
+// count and newest change of a set of programs; lastModified is null while the set is empty
+public record ProgramSetVersion(
+        Long programCount,
+        Instant lastModified
+) {}
@@ -0,0 +1,11 @@
+package com.questevent.dto;
+
+import java.util.UUID;
+
+public record ProgramWalletExportRow(
+        UUID programWalletId,
+        Long userId,
+        String userName,
+        String userEmail,
+        Long gems
+) {}
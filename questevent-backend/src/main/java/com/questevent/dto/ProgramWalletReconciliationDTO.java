@@ -0,0 +1,10 @@
+package com.questevent.dto;
+
+import java.util.UUID;
+
+public record ProgramWalletReconciliationDTO(
+        Long userId,
+        UUID programId,
+        Long actualGems,
+        Long expectedGems
+) {}
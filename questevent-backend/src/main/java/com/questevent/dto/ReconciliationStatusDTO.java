@@ -0,0 +1,14 @@
+package com.questevent.dto;
+
+import java.time.Instant;
+
+public record ReconciliationStatusDTO(
+        boolean running,
+        String phase,
+        long rowsScanned,
+        long discrepancies,
+        double rowsPerSecond,
+        Instant startedAt,
+        Instant finishedAt,
+        String reportPath
+) {}
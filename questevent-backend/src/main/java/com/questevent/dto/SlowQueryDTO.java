@@ -0,0 +1,16 @@
+package com.questevent.dto;
+
+import java.time.Instant;
+
+public record SlowQueryDTO(
+        String fingerprint,
+        long count,
+        double totalMillis,
+        double meanMillis,
+        double maxMillis,
+        String slowestSql,
+        Instant lastSeen,
+        String plan,
+        Double plannedMillis,
+        Instant planCapturedAt
+) {}
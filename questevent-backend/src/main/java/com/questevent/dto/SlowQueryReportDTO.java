@@ -0,0 +1,11 @@
+package com.questevent.dto;
+
+import java.util.List;
+
+public record SlowQueryReportDTO(
+        double thresholdMillis,
+        boolean explainEnabled,
+        long recorded,
+        long dropped,
+        List<SlowQueryDTO> queries
+) {}
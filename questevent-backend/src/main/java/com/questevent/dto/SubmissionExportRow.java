@@ -0,0 +1,19 @@
+package com.questevent.dto;
+
+import com.questevent.enums.ReviewStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record SubmissionExportRow(
+        UUID submissionId,
+        UUID activityId,
+        String activityName,
+        Long userId,
+        String userName,
+        String submissionUrl,
+        ReviewStatus reviewStatus,
+        Long awardedGems,
+        Instant submittedAt,
+        Instant reviewedAt
+) {}
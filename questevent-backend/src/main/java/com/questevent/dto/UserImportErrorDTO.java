@@ -0,0 +1,7 @@
+package com.questevent.dto;
+
+public record UserImportErrorDTO(
+        long line,
+        String email,
+        String message
+) {}
@@ -0,0 +1,14 @@
+package com.questevent.dto;
+
+import java.util.List;
+
+public record UserImportResultDTO(
+        long rowsRead,
+        long created,
+        long updated,
+        long failed,
+        long durationMillis,
+        double rowsPerSecond,
+        List<UserImportErrorDTO> errors,
+        boolean errorsTruncated
+) {}
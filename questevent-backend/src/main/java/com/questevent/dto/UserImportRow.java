@@ -0,0 +1,14 @@
+package com.questevent.dto;
+
+import com.questevent.enums.Department;
+import com.questevent.enums.Role;
+
+// one validated row of a user import; line is the 1-based line in the upload
+public record UserImportRow(
+        long line,
+        String email,
+        String name,
+        Department department,
+        String gender,
+        Role role
+) {}
@@ -0,0 +1,7 @@
+package com.questevent.dto;
+
+public record UserWalletReconciliationDTO(
+        Long userId,
+        Long actualGems,
+        Long expectedGems
+) {}
@@ -1,6 +1,9 @@
 package com.questevent.entity;
+import com.questevent.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.Id;
 
 import java.time.Instant;
@@ -8,6 +11,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ACTIVITIES)
 @Table(name = "activities")
 @Data
 public class Activity {
@@ -43,9 +48,19 @@ public class Activity {
     @Column(name = "created_at",updatable = false)
     private Instant createdAt;
 
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
     @PrePersist
     public void onCreate() {
-        this.createdAt = Instant.now();
+        Instant now = Instant.now();
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        this.updatedAt = Instant.now();
     }
 
     @Column(name = "is_compulsory", nullable = false)
@@ -53,4 +68,11 @@ public class Activity {
 
     @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ActivityRegistration> registrations;
+
+    @OneToMany(mappedBy = "activity", cascade = CascadeType.ALL, orphanRemoval = true)
+    private List<ActivityPrerequisite> prerequisites;
+
+    // edges where this activity is the prerequisite; removed with it
+    @OneToMany(mappedBy = "prerequisite", cascade = CascadeType.REMOVE)
+    private List<ActivityPrerequisite> dependents;
 }
\ No newline at end of file
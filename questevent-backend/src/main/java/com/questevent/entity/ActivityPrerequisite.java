@@ -0,0 +1,32 @@
+package com.questevent.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.util.UUID;
+
+// explicit edge of a program's prerequisite DAG: activity requires prerequisite
+@Data
+@Entity
+@Table(
+        name = "activity_prerequisites",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_activity_prerequisite",
+                columnNames = {"activity_id", "prerequisite_activity_id"}
+        )
+)
+public class ActivityPrerequisite {
+
+    @Id
+    @GeneratedValue
+    @Column(name = "activity_prerequisite_id", nullable = false, updatable = false)
+    private UUID activityPrerequisiteId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "activity_id", nullable = false)
+    private Activity activity;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "prerequisite_activity_id", nullable = false)
+    private Activity prerequisite;
+}
@@ -9,6 +9,13 @@ import java.util.UUID;
 
 
 @Entity
+@NamedEntityGraph(
+        name = "ActivityRegistration.activityAndUser",
+        attributeNodes = {
+                @NamedAttributeNode("activity"),
+                @NamedAttributeNode("user")
+        }
+)
 @Table(name = "activity_registrations",
 uniqueConstraints = @UniqueConstraint(columnNames = {"activity_id","user_id"}))
 @Data
@@ -19,14 +26,14 @@ public class ActivityRegistration {
     @Column(name = "activity_registration_id", nullable = false, updatable = false)
     private UUID activityRegistrationId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "activity_id",
             foreignKey = @ForeignKey(name = "activity_id")
     )
     private Activity activity;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "user_id",
             foreignKey = @ForeignKey(name = "user_id")
@@ -38,7 +45,13 @@ public class ActivityRegistration {
     @Column(name = "completion_status", nullable = false)
     private CompletionStatus completionStatus = CompletionStatus.NOT_COMPLETED;
 
-    @OneToOne(mappedBy = "activityRegistration", cascade = CascadeType.ALL, orphanRemoval = true)
+    // inverse side: only lazy with bytecode enhancement (see build.gradle)
+    @OneToOne(
+            mappedBy = "activityRegistration",
+            cascade = CascadeType.ALL,
+            orphanRemoval = true,
+            fetch = FetchType.LAZY
+    )
     private ActivitySubmission activitySubmission;
 
  
@@ -9,6 +9,42 @@ import java.util.UUID;
 
 @Data
 @Entity
+@NamedEntityGraphs({
+        // list views: activity and participant of each submission
+        @NamedEntityGraph(
+                name = "ActivitySubmission.registration",
+                attributeNodes = @NamedAttributeNode(value = "activityRegistration", subgraph = "registration"),
+                subgraphs = @NamedSubgraph(
+                        name = "registration",
+                        attributeNodes = {
+                                @NamedAttributeNode("activity"),
+                                @NamedAttributeNode("user")
+                        }
+                )
+        ),
+        // review paths: additionally the program and its judge
+        @NamedEntityGraph(
+                name = "ActivitySubmission.review",
+                attributeNodes = @NamedAttributeNode(value = "activityRegistration", subgraph = "registration"),
+                subgraphs = {
+                        @NamedSubgraph(
+                                name = "registration",
+                                attributeNodes = {
+                                        @NamedAttributeNode(value = "activity", subgraph = "activity"),
+                                        @NamedAttributeNode("user")
+                                }
+                        ),
+                        @NamedSubgraph(
+                                name = "activity",
+                                attributeNodes = @NamedAttributeNode(value = "program", subgraph = "program")
+                        ),
+                        @NamedSubgraph(
+                                name = "program",
+                                attributeNodes = @NamedAttributeNode("judge")
+                        )
+                }
+        )
+})
 @Table(
         name = "activity_submissions",
         uniqueConstraints = {
@@ -1,12 +1,17 @@
 package com.questevent.entity;
 
+import com.questevent.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.JUDGES)
 @Table(name = "judges")
 @Data
 public class Judge {
@@ -15,7 +20,7 @@ public class Judge {
     @Column(name = "judge_id", nullable = false, updatable = false)
     private UUID judgeId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(
             name = "user_id",
             nullable = false,
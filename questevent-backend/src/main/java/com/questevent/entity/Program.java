@@ -3,8 +3,11 @@ package com.questevent.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.questevent.enums.Department;
 import com.questevent.enums.ProgramStatus;
+import com.questevent.cache.CacheRegions;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Cascade;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -13,6 +16,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PROGRAMS)
 @Data
 @Table(name = "programs")
 public class Program {
@@ -71,11 +76,20 @@ public class Program {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    // aggregate version of the program's activities, bumped by ProgramRepository.bumpActivitiesVersion;
+    // written on insert only, so saving a program never overwrites a concurrent bump with the value it read
+    @Column(name = "activities_version", nullable = false, updatable = false)
+    private long activitiesVersion;
+
+    @Column(name = "activities_updated_at", nullable = false, updatable = false)
+    private Instant activitiesUpdatedAt;
+
     @PrePersist
     protected void onCreate() {
         Instant now = Instant.now();
         this.createdAt = now;
         this.updatedAt = now;
+        this.activitiesUpdatedAt = now;
     }
 
     @PreUpdate
@@ -0,0 +1,52 @@
+package com.questevent.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.UuidGenerator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Durable record of a program wallet credit that has been accepted but not
+ * yet applied to the wallet balance. Written in the same transaction as the
+ * approval that produced it, and marked applied in the same transaction that
+ * increments the wallet.
+ */
+@Data
+@Entity
+@Table(
+        name = "program_wallet_credit_intents",
+        indexes = {
+                @Index(name = "idx_credit_intent_pending", columnList = "applied_at, created_at"),
+                @Index(name = "idx_credit_intent_program", columnList = "program_id, applied_at")
+        }
+)
+public class ProgramWalletCreditIntent {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    @Column(name = "intent_id", updatable = false, nullable = false)
+    private UUID intentId;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    @Column(name = "program_id", nullable = false, updatable = false)
+    private UUID programId;
+
+    @Column(name = "amount", nullable = false, updatable = false)
+    private Long amount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "applied_at")
+    private Instant appliedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = Instant.now();
+    }
+}
@@ -12,8 +12,11 @@ import java.util.List;
 @Table(name = "users")
 public class User {
 
+    // pooled sequence: one nextval per 50 new users, and unlike IDENTITY it
+    // lets Hibernate batch the inserts. V1_1 sets the sequence to INCREMENT BY 50.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_user_id_seq", allocationSize = 50)
     @Column(name = "user_id", nullable = false, updatable = false)
     private Long userId;
 
@@ -23,7 +26,13 @@ public class User {
     @Column(unique = true, nullable = false)
     private String email;
 
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    // inverse side: only lazy with bytecode enhancement (see build.gradle)
+    @OneToOne(
+            mappedBy = "user",
+            cascade = CascadeType.ALL,
+            orphanRemoval = true,
+            fetch = FetchType.LAZY
+    )
     private UserWallet wallet;
 
     @Enumerated(EnumType.STRING)
@@ -19,7 +19,7 @@ public class UserWallet {
     @Column(name = "wallet_id", updatable = false, nullable = false)
     private UUID walletId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JsonIgnore
     @JoinColumn(name = "user_id", nullable = false, unique = true)
     private User user;
@@ -0,0 +1,7 @@
+package com.questevent.enums;
+
+public enum BulkEnrollmentStatus {
+    ENROLLED,
+    ALREADY_REGISTERED,
+    USER_NOT_FOUND
+}
@@ -0,0 +1,120 @@
+package com.questevent.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes one JSON object per line. Messages in the services'
+ * {@code "Text | key=value | key=value"} shape are split so the text
+ * becomes {@code message} and each pair a member of {@code fields};
+ * anything else is kept whole as {@code message}.
+ */
+public class KeyValueJsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    static final String SEPARATOR = " | ";
+
+    private static final Pattern KEY_VALUE = Pattern.compile("([A-Za-z_][\\w.-]*)=(.*)", Pattern.DOTALL);
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+
+        try (JsonGenerator json = jsonFactory.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("@timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            json.writeStringField("level", event.getLevel().toString());
+            json.writeStringField("logger", event.getLoggerName());
+            json.writeStringField("thread", event.getThreadName());
+            writeMessage(json, event.getFormattedMessage());
+            writeMdc(json, event.getMDCPropertyMap());
+            writeThrowable(json, event.getThrowableProxy());
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        out.writeBytes(LINE_SEPARATOR);
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    private static void writeMessage(JsonGenerator json, String message) throws IOException {
+
+        if (message == null || !message.contains(SEPARATOR)) {
+            json.writeStringField("message", message);
+            return;
+        }
+
+        String[] parts = message.split(Pattern.quote(SEPARATOR));
+        StringBuilder text = new StringBuilder(parts[0]);
+        Map<String, String> fields = new LinkedHashMap<>();
+        String lastKey = null;
+
+        for (int i = 1; i < parts.length; i++) {
+            Matcher pair = KEY_VALUE.matcher(parts[i]);
+            if (pair.matches()) {
+                lastKey = pair.group(1);
+                fields.put(lastKey, pair.group(2));
+            } else if (lastKey != null) {
+                // a value that itself contained the separator
+                fields.merge(lastKey, SEPARATOR + parts[i], String::concat);
+            } else {
+                text.append(SEPARATOR).append(parts[i]);
+            }
+        }
+
+        json.writeStringField("message", text.toString());
+        if (!fields.isEmpty()) {
+            json.writeObjectFieldStart("fields");
+            for (Map.Entry<String, String> field : fields.entrySet()) {
+                json.writeStringField(field.getKey(), field.getValue());
+            }
+            json.writeEndObject();
+        }
+    }
+
+    private static void writeMdc(JsonGenerator json, Map<String, String> mdc) throws IOException {
+        if (mdc == null || mdc.isEmpty()) {
+            return;
+        }
+        json.writeObjectFieldStart("mdc");
+        for (Map.Entry<String, String> entry : mdc.entrySet()) {
+            json.writeStringField(entry.getKey(), entry.getValue());
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeThrowable(JsonGenerator json, IThrowableProxy throwable) throws IOException {
+        if (throwable == null) {
+            return;
+        }
+        json.writeStringField("exception", throwable.getClassName());
+        json.writeStringField("stack_trace", ThrowableProxyUtil.asString(throwable));
+    }
+}
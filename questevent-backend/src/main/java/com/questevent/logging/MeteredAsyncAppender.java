@@ -0,0 +1,39 @@
+package com.questevent.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts what it drops: events below WARN once
+ * the queue passes the discarding threshold, and any event when the queue
+ * is full and {@code neverBlock} is set. Request threads never wait on
+ * log I/O; the counts show how much was lost for it.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+
+        int remaining = getRemainingCapacity();
+
+        if ((remaining < getDiscardingThreshold() && isDiscardable(event))
+                || (remaining == 0 && isNeverBlock())) {
+            dropped.increment();
+            return;
+        }
+
+        super.append(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueueDepth() {
+        return getNumberOfElementsInQueue();
+    }
+}
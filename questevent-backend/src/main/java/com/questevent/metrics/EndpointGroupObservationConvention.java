@@ -0,0 +1,32 @@
+package com.questevent.metrics;
+
+import com.questevent.web.EndpointGroup;
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adds the {@link EndpointGroup} as a {@code group} tag to
+ * {@code http.server.requests}, so latency can be compared per area
+ * without summing over every URI template.
+ */
+@Component
+public class EndpointGroupObservationConvention extends DefaultServerRequestObservationConvention {
+
+    static final String GROUP = "group";
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(group(context));
+    }
+
+    private static KeyValue group(ServerRequestObservationContext context) {
+        String path = EndpointGroup.pathWithinApplication(context.getCarrier());
+        if (!path.startsWith("/api/")) {
+            return KeyValue.of(GROUP, "none");
+        }
+        return KeyValue.of(GROUP, EndpointGroup.of(context.getCarrier()).name().toLowerCase());
+    }
+}
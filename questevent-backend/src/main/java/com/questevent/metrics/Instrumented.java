@@ -0,0 +1,21 @@
+package com.questevent.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times every public method of the annotated bean into
+ * {@value ServiceMetricsAspect#CALLS_METRIC}, tagged with the given group.
+ * Only calls through the Spring proxy are timed, not self-invocations.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Instrumented {
+
+    /** Low-cardinality area name, e.g. {@code judge} or {@code wallet}. */
+    String value();
+}
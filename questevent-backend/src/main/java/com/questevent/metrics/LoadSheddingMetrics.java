@@ -0,0 +1,70 @@
+package com.questevent.metrics;
+
+import com.questevent.datasource.DatabaseBulkhead;
+import com.questevent.dto.ConcurrencyLimitStatsDTO;
+import com.questevent.web.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the adaptive concurrency limits and the database bulkhead,
+ * so shedding shows up next to the latency it protects.
+ */
+@Component
+public class LoadSheddingMetrics implements MeterBinder {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final DatabaseBulkhead bulkhead;
+
+    public LoadSheddingMetrics(AdaptiveConcurrencyLimiter limiter, DatabaseBulkhead bulkhead) {
+        this.limiter = limiter;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        for (ConcurrencyLimitStatsDTO partition : limiter.getStats()) {
+            String group = partition.group().toLowerCase();
+
+            Gauge.builder("questevent.concurrency.limit", limiter, stat(partition.group(), ConcurrencyLimitStatsDTO::limit))
+                    .description("Current adaptive concurrency limit")
+                    .tag("group", group)
+                    .register(registry);
+            Gauge.builder("questevent.concurrency.in.flight", limiter, stat(partition.group(), ConcurrencyLimitStatsDTO::inFlight))
+                    .description("Requests currently admitted")
+                    .tag("group", group)
+                    .register(registry);
+            FunctionCounter.builder("questevent.concurrency.shed", limiter, stat(partition.group(), ConcurrencyLimitStatsDTO::shed))
+                    .description("Requests rejected with 503 by the concurrency limit")
+                    .tag("group", group)
+                    .register(registry);
+        }
+
+        Gauge.builder("questevent.bulkhead.in.flight", bulkhead, DatabaseBulkhead::getInFlight)
+                .description("Requests holding a database bulkhead permit")
+                .register(registry);
+        Gauge.builder("questevent.bulkhead.waiting", bulkhead, DatabaseBulkhead::getWaiting)
+                .description("Requests queued for a database bulkhead permit")
+                .register(registry);
+        FunctionCounter.builder("questevent.bulkhead.rejected", bulkhead, DatabaseBulkhead::getRejected)
+                .description("Requests rejected with 503 by the database bulkhead")
+                .register(registry);
+    }
+
+    private static ToDoubleFunction<AdaptiveConcurrencyLimiter> stat(
+            String group,
+            ToDoubleFunction<ConcurrencyLimitStatsDTO> value
+    ) {
+        return limiter -> limiter.getStats().stream()
+                .filter(stats -> stats.group().equals(group))
+                .mapToDouble(value)
+                .findFirst()
+                .orElse(Double.NaN);
+    }
+}
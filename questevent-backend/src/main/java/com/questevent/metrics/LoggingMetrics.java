@@ -0,0 +1,58 @@
+package com.questevent.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import com.questevent.logging.LoggerRateSamplingFilter;
+import com.questevent.logging.MeteredAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Publishes the async appender's queue depth and drops, and the events
+ * thinned out by rate sampling. Binds nothing when the active logging
+ * profile uses neither.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        Iterator<Appender<ILoggingEvent>> appenders =
+                context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof MeteredAsyncAppender async) {
+                Gauge.builder("questevent.logging.queue.depth", async, MeteredAsyncAppender::getQueueDepth)
+                        .description("Log events waiting for the async appender")
+                        .tag("appender", async.getName())
+                        .register(registry);
+                FunctionCounter.builder("questevent.logging.dropped", async, MeteredAsyncAppender::getDroppedCount)
+                        .description("Log events dropped because the async queue was full")
+                        .tag("appender", async.getName())
+                        .register(registry);
+            }
+        }
+
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof LoggerRateSamplingFilter sampling) {
+                FunctionCounter.builder("questevent.logging.sampled.out", sampling, LoggerRateSamplingFilter::getSampledOutCount)
+                        .description("Log events dropped by per-logger rate sampling")
+                        .register(registry);
+            }
+        }
+    }
+}
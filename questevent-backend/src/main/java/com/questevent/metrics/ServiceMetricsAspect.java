@@ -0,0 +1,75 @@
+package com.questevent.metrics;
+
+import com.questevent.timing.RequestTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times {@link Instrumented} beans and counts RBAC decisions.
+ * <p>
+ * Tags stay low-cardinality: group, class and method come from code, the
+ * outcome is {@code success} or {@code error}, and errors carry the
+ * exception's simple class name. RBAC time also goes to the request's
+ * {@code Server-Timing} breakdown.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    public static final String CALLS_METRIC = "questevent.service.calls";
+    public static final String RBAC_METRIC = "questevent.rbac.checks";
+
+    static final String NONE = "none";
+
+    private final MeterRegistry registry;
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * *(..)) && @within(instrumented)")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint, Instrumented instrumented) throws Throwable {
+
+        Timer.Sample sample = Timer.start(registry);
+        String exception = NONE;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(CALLS_METRIC)
+                    .description("Latency of service methods")
+                    .tag("group", instrumented.value())
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", NONE.equals(exception) ? "success" : "error")
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    @Around("execution(public boolean com.questevent.rbac.RbacService.*(..))")
+    public Object timeRbacCheck(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        Timer.Sample sample = Timer.start(registry);
+        String decision = "error";
+
+        try (RequestTimings.Span span = RequestTimings.time(RequestTimings.Phase.RBAC)) {
+            Object granted = joinPoint.proceed();
+            decision = Boolean.TRUE.equals(granted) ? "granted" : "denied";
+            return granted;
+        } finally {
+            sample.stop(Timer.builder(RBAC_METRIC)
+                    .description("Latency and decisions of RBAC checks")
+                    .tag("check", joinPoint.getSignature().getName())
+                    .tag("decision", decision)
+                    .register(registry));
+        }
+    }
+}
@@ -74,10 +74,7 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return programRepository.findById(programId)
-                .map(p -> p.getUser() != null &&
-                        p.getUser().getUserId().equals(user.getUserId()))
-                .orElse(false);
+        return programRepository.existsByProgramIdAndUser_UserId(programId, user.getUserId());
     }
 
     public boolean canViewProgram(Authentication authentication, UUID programId) {
@@ -89,9 +86,7 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return !programRepository
-                .findByJudgeUserId(user.getUserId())
-                .isEmpty();
+        return programRepository.existsByJudge_User_UserId(user.getUserId());
     }
 
     public boolean canJudgeAccessProgram(
@@ -102,17 +97,11 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return programRepository.findById(programId)
-                .map(p ->
-                        p.getJudge() != null &&
-                                p.getJudge().getUser().getUserId().equals(user.getUserId())
-                )
-                .orElse(false);
+        return programRepository.existsByProgramIdAndJudge_User_UserId(programId, user.getUserId());
     }
 
     public UUID getProgramIdByActivityId(UUID activityId) {
-        return activityRepository.findById(activityId)
-                .map(a -> a.getProgram().getProgramId())
+        return activityRepository.findProgramIdByActivityId(activityId)
                 .orElse(null);
     }
 
@@ -123,17 +112,10 @@ public class RbacService {
         User user = currentUser(authentication);
         if (user == null) return false;
 
-        Program program = programRepository.findById(programId).orElse(null);
-        if (program == null) return false;
-
         // ❌ Judge of this program cannot register for it
-        Judge judge = program.getJudge();
-        if (judge != null &&
-                judge.getUser().getUserId().equals(user.getUserId())) {
-            return false;
-        }
-
-        return true;
+        return programRepository.findJudgeUserIdByProgramId(programId)
+                .map(judgeUserId -> !judgeUserId.equals(user.getUserId()))
+                .orElse(false);
     }
 
 
@@ -145,14 +127,7 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return programRegistrationRepository.findById(registrationId)
-                .map(reg ->
-                        reg.getUser().getUserId().equals(user.getUserId()) ||
-                                reg.getProgram().getUser().getUserId().equals(user.getUserId()) ||
-                                (reg.getProgram().getJudge() != null &&
-                                        reg.getProgram().getJudge().getUser().getUserId().equals(user.getUserId()))
-                )
-                .orElse(false);
+        return programRegistrationRepository.isAccessibleBy(registrationId, user.getUserId());
     }
 
     public boolean canRegisterForActivity(
@@ -163,7 +138,7 @@ public class RbacService {
         if (user == null) return false;
 
         Activity activity =
-                activityRepository.findById(activityId).orElse(null);
+                activityRepository.findWithProgramAndJudgeByActivityId(activityId).orElse(null);
         if (activity == null) return false;
 
         Program program = activity.getProgram();
@@ -187,12 +162,11 @@ public class RbacService {
         }
 
         // User must not already be registered for this activity
-        return activityRegistrationRepository
-                .findByActivityActivityIdAndUserUserId(
+        return !activityRegistrationRepository
+                .existsByActivity_ActivityIdAndUser_UserId(
                         activityId,
                         user.getUserId()
-                )
-                .isEmpty();
+                );
     }
 
 
@@ -204,25 +178,7 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return activityRegistrationRepository.findById(registrationId)
-                .map(reg ->
-                        reg.getUser().getUserId().equals(user.getUserId()) ||
-                                reg.getActivity()
-                                        .getProgram()
-                                        .getUser()
-                                        .getUserId()
-                                        .equals(user.getUserId()) ||
-                                (
-                                        reg.getActivity().getProgram().getJudge() != null &&
-                                                reg.getActivity()
-                                                        .getProgram()
-                                                        .getJudge()
-                                                        .getUser()
-                                                        .getUserId()
-                                                        .equals(user.getUserId())
-                                )
-                )
-                .orElse(false);
+        return activityRegistrationRepository.isAccessibleBy(registrationId, user.getUserId());
     }
 
     public boolean canSubmitActivity(
@@ -252,11 +208,10 @@ public class RbacService {
         if (user == null) return false;
 
         return submissionRepository
-                .findByActivityRegistrationActivityActivityIdAndActivityRegistrationUserUserId(
+                .existsByActivityRegistrationActivityActivityIdAndActivityRegistrationUserUserId(
                         activityId,
                         user.getUserId()
-                )
-                .isPresent();
+                );
     }
 
     public boolean canResubmitSubmission(
@@ -285,18 +240,11 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return submissionRepository.findById(submissionId)
-                .map(sub -> {
-                    Program program =
-                            sub.getActivityRegistration()
-                                    .getActivity()
-                                    .getProgram();
-
-                    Judge judge = program.getJudge();
-                    return judge != null &&
-                            judge.getUser().getUserId().equals(user.getUserId());
-                })
-                .orElse(false);
+        return submissionRepository
+                .existsBySubmissionIdAndActivityRegistrationActivityProgramJudgeUserUserId(
+                        submissionId,
+                        user.getUserId()
+                );
     }
 
     public boolean canAccessProgramWallet(
@@ -307,11 +255,7 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return programWalletRepository.findById(programWalletId)
-                .map(w ->
-                        w.getUser().getUserId().equals(user.getUserId()) ||
-                                w.getProgram().getUser().getUserId().equals(user.getUserId()))
-                .orElse(false);
+        return programWalletRepository.isAccessibleBy(programWalletId, user.getUserId());
     }
 
     public boolean canAccessMyProgramWallet(
@@ -329,9 +273,7 @@ public class RbacService {
         if (user == null) return false;
         if (isOwner(user)) return true;
 
-        return programRepository.findById(programId)
-                .map(p -> p.getUser().getUserId().equals(user.getUserId()))
-                .orElse(false);
+        return programRepository.existsByProgramIdAndUser_UserId(programId, user.getUserId());
     }
 }
 
@@ -0,0 +1,31 @@
+package com.questevent.repository;
+
+import com.questevent.dto.PrerequisiteEdge;
+import com.questevent.entity.ActivityPrerequisite;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ActivityPrerequisiteRepository
+        extends JpaRepository<ActivityPrerequisite, UUID> {
+
+    @Query("""
+        SELECT new com.questevent.dto.PrerequisiteEdge(
+            p.activity.activityId,
+            p.prerequisite.activityId
+        )
+        FROM ActivityPrerequisite p
+        WHERE p.activity.program.programId = :programId
+    """)
+    List<PrerequisiteEdge> findEdgesByProgramId(UUID programId);
+
+    List<ActivityPrerequisite> findByActivity_ActivityId(UUID activityId);
+
+    // a compulsory activity lists this one as a prerequisite
+    boolean existsByPrerequisite_ActivityIdAndActivity_IsCompulsoryTrue(UUID prerequisiteActivityId);
+
+    // this activity lists an optional activity as a prerequisite
+    boolean existsByActivity_ActivityIdAndPrerequisite_IsCompulsoryFalse(UUID activityId);
+}
@@ -1,9 +1,15 @@
 package com.questevent.repository;
 
+import com.questevent.dto.ActivityProgressRow;
+import com.questevent.dto.ActivityRegistrationDTO;
 import com.questevent.entity.ActivityRegistration;
 import com.questevent.enums.CompletionStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,20 +17,96 @@ import java.util.UUID;
 public interface ActivityRegistrationRepository
         extends JpaRepository<ActivityRegistration, UUID> {
 
+    String ACTIVITY_AND_USER = "ActivityRegistration.activityAndUser";
+
+    String SELECT_DTO = """
+        SELECT new com.questevent.dto.ActivityRegistrationDTO(
+            r.activityRegistrationId,
+            a.activityId,
+            a.activityName,
+            u.userId,
+            u.name,
+            r.completionStatus
+        )
+        FROM ActivityRegistration r
+        JOIN r.activity a
+        JOIN r.user u
+        """;
+
     boolean existsByActivity_ActivityIdAndUser_UserId(UUID activityId, Long userId);
 
+    // one row per activity of the program the user registered for
+    @Query("""
+        SELECT new com.questevent.dto.ActivityProgressRow(
+            a.activityId,
+            r.completionStatus,
+            s.reviewStatus
+        )
+        FROM ActivityRegistration r
+        JOIN r.activity a
+        LEFT JOIN r.activitySubmission s
+        WHERE a.program.programId = :programId
+          AND r.user.userId = :userId
+    """)
+    List<ActivityProgressRow> findProgressByProgramIdAndUserId(UUID programId, Long userId);
+
+    @Query("""
+        SELECT r.user.userId
+        FROM ActivityRegistration r
+        WHERE r.activity.activityId = :activityId
+          AND r.user.userId IN :userIds
+    """)
+    List<Long> findRegisteredUserIds(UUID activityId, Collection<Long> userIds);
+
+    @EntityGraph(ACTIVITY_AND_USER)
+    Optional<ActivityRegistration> findWithActivityAndUserByActivityRegistrationId(UUID activityRegistrationId);
+
+    @EntityGraph(ACTIVITY_AND_USER)
     List<ActivityRegistration> findByActivityActivityId(UUID activityId);
 
+    @EntityGraph(ACTIVITY_AND_USER)
     List<ActivityRegistration> findByUserUserId(Long userId);
 
     Optional<ActivityRegistration> findByActivityActivityIdAndUserUserId(UUID activityId, Long userId);
 
-    List<ActivityRegistration> findByActivityActivityIdAndCompletionStatus(UUID activityId, CompletionStatus status);
-
-    List<ActivityRegistration> findByUserUserIdAndCompletionStatus(Long userId, CompletionStatus status);
-
     long countByActivityActivityId(UUID activityId);
 
     boolean existsByActivity_ActivityIdAndUser_UserIdAndCompletionStatus(UUID activityId, Long userId, CompletionStatus completionStatus);
-}
 
+    // Read-only views: select the DTO columns directly, no managed entities
+
+    @Query(SELECT_DTO + "WHERE r.activityRegistrationId = :registrationId")
+    Optional<ActivityRegistrationDTO> findDtoById(UUID registrationId);
+
+    @Query(SELECT_DTO + "WHERE a.activityId = :activityId")
+    List<ActivityRegistrationDTO> findDtosByActivityId(UUID activityId);
+
+    @Query(SELECT_DTO + "WHERE u.userId = :userId")
+    List<ActivityRegistrationDTO> findDtosByUserId(Long userId);
+
+    @Query(SELECT_DTO + "WHERE a.activityId = :activityId AND r.completionStatus = :status")
+    List<ActivityRegistrationDTO> findDtosByActivityIdAndStatus(UUID activityId, CompletionStatus status);
+
+    @Query(SELECT_DTO + "WHERE u.userId = :userId AND r.completionStatus = :status")
+    List<ActivityRegistrationDTO> findDtosByUserIdAndStatus(Long userId, CompletionStatus status);
+
+    @Query(SELECT_DTO + "ORDER BY r.activityRegistrationId")
+    List<ActivityRegistrationDTO> findDtoPage(Limit limit);
+
+    @Query(SELECT_DTO + "WHERE r.activityRegistrationId > :afterRegistrationId ORDER BY r.activityRegistrationId")
+    List<ActivityRegistrationDTO> findDtoPageAfter(UUID afterRegistrationId, Limit limit);
+
+    // participant, program host or program judge
+    @Query("""
+        SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END
+        FROM ActivityRegistration r
+        JOIN r.activity a
+        JOIN a.program p
+        LEFT JOIN p.judge j
+        WHERE r.activityRegistrationId = :registrationId
+          AND (r.user.userId = :userId
+               OR p.user.userId = :userId
+               OR j.user.userId = :userId)
+    """)
+    boolean isAccessibleBy(UUID registrationId, Long userId);
+}
@@ -1,17 +1,50 @@
 package com.questevent.repository;
 
+import com.questevent.cache.CacheRegions;
 import com.questevent.dto.ActivityWithRegistrationStatusDTO;
 import com.questevent.entity.Activity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ActivityRepository extends JpaRepository<Activity, UUID> {
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ACTIVITIES_BY_PROGRAM)
+    })
     List<Activity> findByProgram_ProgramId(UUID programId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.ACTIVITIES_BY_PROGRAM)
+    })
     List<Activity> findByProgram_ProgramIdAndIsCompulsoryTrue(UUID programId);
 
+    // bodies validated by the program's activities version: read from the rows and written back to the cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    List<Activity> findCurrentByProgram_ProgramId(UUID programId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    List<Activity> findCurrentByProgram_ProgramIdAndIsCompulsoryTrue(UUID programId);
+
+    @Query("SELECT a.program.programId FROM Activity a WHERE a.activityId = :activityId")
+    Optional<UUID> findProgramIdByActivityId(UUID activityId);
+
+    @Query("""
+        SELECT a
+        FROM Activity a
+        JOIN FETCH a.program p
+        JOIN FETCH p.judge
+        WHERE a.activityId = :activityId
+    """)
+    Optional<Activity> findWithProgramAndJudgeByActivityId(UUID activityId);
+
     @Query("""
         SELECT new com.questevent.dto.ActivityWithRegistrationStatusDTO(
             a.activityId,
@@ -1,19 +1,31 @@
 package com.questevent.repository;
 
+import com.questevent.dto.ProgramWalletReconciliationDTO;
+import com.questevent.dto.SubmissionDetailsResponseDTO;
+import com.questevent.dto.SubmissionExportRow;
+import com.questevent.dto.UserSubmissionSummaryDTO;
 import com.questevent.entity.ActivitySubmission;
 import com.questevent.enums.ReviewStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ActivitySubmissionRepository
         extends JpaRepository<ActivitySubmission, UUID> {
 
+    String REGISTRATION = "ActivitySubmission.registration";
+    String REVIEW = "ActivitySubmission.review";
 
     boolean existsByActivityRegistration_ActivityRegistrationId(
             UUID activityRegistrationId
@@ -33,6 +45,55 @@ public interface ActivitySubmissionRepository
             Long userId
     );
 
+    @Query("""
+        SELECT new com.questevent.dto.SubmissionDetailsResponseDTO(
+            s.submissionId,
+            a.activityId,
+            s.submissionUrl,
+            s.reviewStatus,
+            s.awardedGems,
+            s.reviewedAt
+        )
+        FROM ActivitySubmission s
+        JOIN s.activityRegistration ar
+        JOIN ar.activity a
+        WHERE a.activityId = :activityId
+          AND ar.user.userId = :userId
+    """)
+    Optional<SubmissionDetailsResponseDTO> findDetailsByActivityIdAndUserId(
+            UUID activityId,
+            Long userId
+    );
+
+    @Query("""
+        SELECT new com.questevent.dto.UserSubmissionSummaryDTO(
+            s.submissionId,
+            a.activityId,
+            a.activityName,
+            s.reviewStatus,
+            s.submittedAt,
+            s.reviewedAt
+        )
+        FROM ActivitySubmission s
+        JOIN s.activityRegistration ar
+        JOIN ar.activity a
+        WHERE ar.user.userId = :userId
+    """)
+    List<UserSubmissionSummaryDTO> findSummariesByUserId(Long userId);
+
+    boolean existsByActivityRegistrationActivityActivityIdAndActivityRegistrationUserUserId(
+            UUID activityId,
+            Long userId
+    );
+
+    boolean existsBySubmissionIdAndActivityRegistrationActivityProgramJudgeUserUserId(
+            UUID submissionId,
+            Long judgeUserId
+    );
+
+    @EntityGraph(REVIEW)
+    Optional<ActivitySubmission> findWithReviewContextBySubmissionId(UUID submissionId);
+
     long countByReviewStatusAndActivityRegistration_Activity_Program_Judge_User_UserId(
             ReviewStatus reviewStatus,
             Long judgeUserId
@@ -45,6 +106,7 @@ public interface ActivitySubmissionRepository
     );
 
     // Existing (keep)
+    @EntityGraph(REGISTRATION)
     List<ActivitySubmission>
     findByReviewStatus(
             ReviewStatus reviewStatus
@@ -52,6 +114,7 @@ public interface ActivitySubmissionRepository
 
 
 
+    @EntityGraph(REGISTRATION)
     List<ActivitySubmission>
     findByReviewStatusAndActivityRegistrationActivityProgramJudgeUserUserId(
             ReviewStatus reviewStatus,
@@ -59,6 +122,7 @@ public interface ActivitySubmissionRepository
     );
 
 
+    @EntityGraph(REGISTRATION)
     List<ActivitySubmission>
     findByReviewStatusAndActivityRegistrationActivityActivityId(
             ReviewStatus reviewStatus,
@@ -66,6 +130,7 @@ public interface ActivitySubmissionRepository
     );
 
 
+    @EntityGraph(REGISTRATION)
     List<ActivitySubmission>
     findByReviewStatusAndActivityRegistrationActivityActivityIdAndActivityRegistrationActivityProgramJudgeUserUserId(
             ReviewStatus reviewStatus,
@@ -73,9 +138,28 @@ public interface ActivitySubmissionRepository
             Long judgeUserId
     );
 
+    @EntityGraph(REGISTRATION)
+    List<ActivitySubmission> findByOrderBySubmissionIdAsc(Limit limit);
+
+    @EntityGraph(REGISTRATION)
+    List<ActivitySubmission> findBySubmissionIdGreaterThanOrderBySubmissionIdAsc(
+            UUID submissionId,
+            Limit limit
+    );
+
+    @EntityGraph(REGISTRATION)
     List<ActivitySubmission>
-    findByActivityRegistrationActivityProgramJudgeUserUserId(
-            Long judgeUserId
+    findByActivityRegistrationActivityProgramJudgeUserUserIdOrderBySubmissionIdAsc(
+            Long judgeUserId,
+            Limit limit
+    );
+
+    @EntityGraph(REGISTRATION)
+    List<ActivitySubmission>
+    findByActivityRegistrationActivityProgramJudgeUserUserIdAndSubmissionIdGreaterThanOrderBySubmissionIdAsc(
+            Long judgeUserId,
+            UUID submissionId,
+            Limit limit
     );
 
 
@@ -91,4 +175,58 @@ public interface ActivitySubmissionRepository
             Long userId
     );
 
+    // Approved awards of unsettled programs that have no program wallet to hold them
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.questevent.dto.ProgramWalletReconciliationDTO(
+            ar.user.userId,
+            a.program.programId,
+            0L,
+            SUM(s.awardedGems)
+        )
+        FROM ActivitySubmission s
+        JOIN s.activityRegistration ar
+        JOIN ar.activity a
+        WHERE s.reviewStatus = com.questevent.enums.ReviewStatus.APPROVED
+          AND (a.program.status IS NULL
+               OR a.program.status <> com.questevent.enums.ProgramStatus.COMPLETED)
+          AND NOT EXISTS (
+              SELECT 1 FROM ProgramWallet pw
+              WHERE pw.user.userId = ar.user.userId
+                AND pw.program.programId = a.program.programId
+          )
+        GROUP BY ar.user.userId, a.program.programId
+        HAVING SUM(s.awardedGems) > 0
+    """)
+    Stream<ProgramWalletReconciliationDTO> streamApprovedGemsWithoutProgramWallet();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.questevent.dto.SubmissionExportRow(
+            s.submissionId,
+            a.activityId,
+            a.activityName,
+            u.userId,
+            u.name,
+            s.submissionUrl,
+            s.reviewStatus,
+            s.awardedGems,
+            s.submittedAt,
+            s.reviewedAt
+        )
+        FROM ActivitySubmission s
+        JOIN s.activityRegistration ar
+        JOIN ar.activity a
+        JOIN ar.user u
+        WHERE a.program.programId = :programId
+        ORDER BY s.submissionId
+    """)
+    Stream<SubmissionExportRow> streamExportByProgramId(UUID programId);
+
 }
@@ -0,0 +1,328 @@
+package com.questevent.repository;
+
+import com.questevent.dto.ProgramSearchCriteria;
+import com.questevent.dto.ProgramSearchCursor;
+import com.questevent.dto.ProgramSearchFacetsDTO;
+import com.questevent.dto.ProgramSearchHitDTO;
+import com.questevent.entity.Activity;
+import com.questevent.entity.Program;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index for the H2/test setup, where there is no
+ * {@code tsvector}. Terms are lower-cased words; every query term must
+ * match (no stemming, no {@code or} or {@code -} operators). Scores use the
+ * same field weights as the Postgres index and are divided by
+ * {@code 1 + ln(document length)}, so ranks are comparable in order but not
+ * in value.
+ * <p>
+ * Built from the database on startup and refreshed after each committed
+ * program or activity write on this instance.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "questevent.search.engine", havingValue = "memory")
+public class InMemoryProgramSearchIndex implements ProgramSearchIndex {
+
+    // ts_rank weights for A (title), B, C and D (rulebook)
+    static final float TITLE_WEIGHT = 1.0f;
+    static final float DESCRIPTION_WEIGHT = 0.4f;
+    static final float ACTIVITY_NAME_WEIGHT = 0.4f;
+    static final float ACTIVITY_DESCRIPTION_WEIGHT = 0.2f;
+    static final float RULEBOOK_WEIGHT = 0.1f;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in",
+            "is", "it", "of", "on", "or", "that", "the", "to", "with"
+    );
+
+    private static final Comparator<ProgramSearchHitDTO> RANK_ORDER =
+            Comparator.comparing(ProgramSearchHitDTO::rank, Comparator.reverseOrder())
+                    .thenComparing(ProgramSearchHitDTO::programId);
+
+    private record Document(
+            UUID programId,
+            String programTitle,
+            String programDescription,
+            Department department,
+            ProgramStatus status,
+            Map<String, Float> termWeights,
+            float lengthNorm
+    ) {}
+
+    private final ProgramRepository programRepository;
+    private final ActivityRepository activityRepository;
+
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InMemoryProgramSearchIndex(
+            ProgramRepository programRepository,
+            ActivityRepository activityRepository
+    ) {
+        this.programRepository = programRepository;
+        this.activityRepository = activityRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+
+        Map<UUID, List<Activity>> activitiesByProgram = activityRepository.findAll().stream()
+                .collect(Collectors.groupingBy(activity -> activity.getProgram().getProgramId()));
+
+        List<Program> programs = programRepository.findAll();
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            for (Program program : programs) {
+                put(program, activitiesByProgram.getOrDefault(program.getProgramId(), List.of()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("In-memory program search index built | programs={} | terms={}",
+                programs.size(), postings.size());
+    }
+
+    @Override
+    public List<ProgramSearchHitDTO> search(
+            ProgramSearchCriteria criteria,
+            ProgramSearchCursor after,
+            int limit
+    ) {
+        List<String> terms = tokenize(criteria.query());
+
+        lock.readLock().lock();
+        try {
+            List<ProgramSearchHitDTO> hits = new ArrayList<>();
+            for (UUID programId : matching(terms)) {
+                Document document = documents.get(programId);
+                if (!passes(document, criteria)) {
+                    continue;
+                }
+                float rank = score(document, terms);
+                if (after == null || after.precedes(rank, programId)) {
+                    hits.add(new ProgramSearchHitDTO(
+                            programId,
+                            document.programTitle(),
+                            document.programDescription(),
+                            document.department(),
+                            document.status(),
+                            rank
+                    ));
+                }
+            }
+            hits.sort(RANK_ORDER);
+            return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ProgramSearchFacetsDTO facets(ProgramSearchCriteria criteria) {
+
+        List<String> terms = tokenize(criteria.query());
+        Map<Department, Long> departments = new EnumMap<>(Department.class);
+        Map<ProgramStatus, Long> statuses = new EnumMap<>(ProgramStatus.class);
+        long total = 0;
+
+        lock.readLock().lock();
+        try {
+            for (UUID programId : matching(terms)) {
+                Document document = documents.get(programId);
+                if (passes(document, criteria.withoutDepartment())) {
+                    departments.merge(document.department(), 1L, Long::sum);
+                }
+                if (passes(document, criteria.withoutStatus()) && document.status() != null) {
+                    statuses.merge(document.status(), 1L, Long::sum);
+                }
+                if (passes(document, criteria)) {
+                    total++;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new ProgramSearchFacetsDTO(total, departments, statuses);
+    }
+
+    @Override
+    public void programChanged(UUID programId) {
+        afterCommit(() -> refresh(programId));
+    }
+
+    @Override
+    public void programDeleted(UUID programId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(programId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private void refresh(UUID programId) {
+
+        // read outside the lock; the committed state is visible after commit
+        Program program = programRepository.findById(programId).orElse(null);
+        List<Activity> activities = program != null
+                ? activityRepository.findByProgram_ProgramId(programId)
+                : List.of();
+
+        lock.writeLock().lock();
+        try {
+            remove(programId);
+            if (program != null) {
+                put(program, activities);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Program program, List<Activity> activities) {
+
+        Map<String, Float> weights = new HashMap<>();
+        int length = addField(weights, program.getProgramTitle(), TITLE_WEIGHT)
+                + addField(weights, program.getProgramDescription(), DESCRIPTION_WEIGHT);
+        for (Activity activity : activities) {
+            length += addField(weights, activity.getActivityName(), ACTIVITY_NAME_WEIGHT)
+                    + addField(weights, activity.getActivityDescription(), ACTIVITY_DESCRIPTION_WEIGHT)
+                    + addField(weights, activity.getActivityRulebook(), RULEBOOK_WEIGHT);
+        }
+
+        UUID programId = program.getProgramId();
+        documents.put(programId, new Document(
+                programId,
+                program.getProgramTitle(),
+                program.getProgramDescription(),
+                program.getDepartment(),
+                program.getStatus(),
+                weights,
+                1.0f + (float) Math.log(Math.max(1, length))
+        ));
+        for (String term : weights.keySet()) {
+            postings.computeIfAbsent(term, key -> new HashSet<>()).add(programId);
+        }
+    }
+
+    private void remove(UUID programId) {
+        Document document = documents.remove(programId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.termWeights().keySet()) {
+            Set<UUID> ids = postings.get(term);
+            if (ids != null) {
+                ids.remove(programId);
+                if (ids.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    // programs containing every term, smallest posting list first
+    private Set<UUID> matching(List<String> terms) {
+
+        if (terms.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Set<UUID>> lists = new ArrayList<>(terms.size());
+        for (String term : new LinkedHashSet<>(terms)) {
+            Set<UUID> ids = postings.get(term);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<UUID> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static boolean passes(Document document, ProgramSearchCriteria criteria) {
+        return (criteria.department() == null || criteria.department() == document.department())
+                && (criteria.status() == null || criteria.status() == document.status());
+    }
+
+    private static float score(Document document, List<String> terms) {
+        float sum = 0;
+        for (String term : terms) {
+            sum += document.termWeights().getOrDefault(term, 0f);
+        }
+        return sum / document.lengthNorm();
+    }
+
+    private static int addField(Map<String, Float> weights, String text, float weight) {
+        List<String> terms = tokenize(text);
+        for (String term : terms) {
+            weights.merge(term, weight, Float::sum);
+        }
+        return terms.size();
+    }
+
+    private static void afterCommit(Runnable action) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
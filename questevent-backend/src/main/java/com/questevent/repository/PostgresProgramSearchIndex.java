@@ -0,0 +1,175 @@
+package com.questevent.repository;
+
+import com.questevent.dto.ProgramSearchCriteria;
+import com.questevent.dto.ProgramSearchCursor;
+import com.questevent.dto.ProgramSearchFacetsDTO;
+import com.questevent.dto.ProgramSearchHitDTO;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Searches the {@code program_search} table created by the
+ * {@code V4__program_search} migration. Triggers on
+ * {@code programs} and {@code activities} keep each program's weighted
+ * {@code tsvector} current inside the writing transaction, so the
+ * change callbacks have nothing to do.
+ * <p>
+ * Queries use {@code websearch_to_tsquery}, which accepts free text with
+ * quotes, {@code or} and {@code -}, and never fails on user input. Hits are
+ * ranked with {@code ts_rank_cd}, normalised by document length so long
+ * rulebooks do not drown out titles.
+ * <p>
+ * The GIN index finds the matches; the rank is computed per query, so each
+ * page ranks every match and the cursor only filters them before a
+ * {@code LIMIT} top-N sort. Any page, first or deep, costs in proportion
+ * to the number of matches.
+ */
+@Repository
+@ConditionalOnProperty(
+        name = "questevent.search.engine",
+        havingValue = "postgres",
+        matchIfMissing = true
+)
+public class PostgresProgramSearchIndex implements ProgramSearchIndex {
+
+    private static final String MATCHES = """
+            FROM program_search ps,
+                 websearch_to_tsquery('english', :query) AS q(query)
+            WHERE ps.search_vector @@ q.query
+            """;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<ProgramSearchHitDTO> search(
+            ProgramSearchCriteria criteria,
+            ProgramSearchCursor after,
+            int limit
+    ) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT s.program_id, p.program_title, p.program_description,
+                       s.department, s.status, s.rank
+                FROM (
+                    SELECT ps.program_id, ps.department, ps.status,
+                           ts_rank_cd(ps.search_vector, q.query, 1) AS rank
+                """)
+                .append(MATCHES);
+        appendFilters(sql, criteria);
+        sql.append(") s JOIN programs p ON p.program_id = s.program_id ");
+
+        if (after != null) {
+            sql.append("""
+                    WHERE s.rank < :afterRank
+                       OR (s.rank = :afterRank AND s.program_id > :afterProgramId)
+                    """);
+        }
+
+        sql.append("ORDER BY s.rank DESC, s.program_id LIMIT :limit");
+
+        Query query = em.createNativeQuery(sql.toString());
+        bindCriteria(query, criteria);
+        if (after != null) {
+            query.setParameter("afterRank", after.rank());
+            query.setParameter("afterProgramId", after.programId());
+        }
+        query.setParameter("limit", limit);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+
+        List<ProgramSearchHitDTO> hits = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            hits.add(new ProgramSearchHitDTO(
+                    (UUID) row[0],
+                    (String) row[1],
+                    (String) row[2],
+                    Department.valueOf((String) row[3]),
+                    row[4] != null ? ProgramStatus.valueOf((String) row[4]) : null,
+                    ((Number) row[5]).floatValue()
+            ));
+        }
+        return hits;
+    }
+
+    @Override
+    public ProgramSearchFacetsDTO facets(ProgramSearchCriteria criteria) {
+
+        Map<Department, Long> departments = new EnumMap<>(Department.class);
+        for (Object[] row : countBy("department", criteria.withoutDepartment())) {
+            departments.put(Department.valueOf((String) row[0]), ((Number) row[1]).longValue());
+        }
+
+        Map<ProgramStatus, Long> statuses = new EnumMap<>(ProgramStatus.class);
+        long total = 0;
+        for (Object[] row : countBy("status", criteria.withoutStatus())) {
+            long count = ((Number) row[1]).longValue();
+            if (row[0] != null) {
+                statuses.put(ProgramStatus.valueOf((String) row[0]), count);
+            }
+            if (criteria.status() == null || criteria.status().name().equals(row[0])) {
+                total += count;
+            }
+        }
+
+        return new ProgramSearchFacetsDTO(total, departments, statuses);
+    }
+
+    @Override
+    public void programChanged(UUID programId) {
+        // maintained by trg_programs_search and trg_activities_search
+    }
+
+    @Override
+    public void programDeleted(UUID programId) {
+        // program_search rows cascade with the program
+    }
+
+    private List<Object[]> countBy(String column, ProgramSearchCriteria criteria) {
+
+        StringBuilder sql = new StringBuilder("SELECT ps.")
+                .append(column)
+                .append(", count(*) ")
+                .append(MATCHES);
+        appendFilters(sql, criteria);
+        sql.append(" GROUP BY ps.").append(column);
+
+        Query query = em.createNativeQuery(sql.toString());
+        bindCriteria(query, criteria);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = query.getResultList();
+        return rows;
+    }
+
+    private static void appendFilters(StringBuilder sql, ProgramSearchCriteria criteria) {
+        if (criteria.department() != null) {
+            sql.append(" AND ps.department = :department");
+        }
+        if (criteria.status() != null) {
+            sql.append(" AND ps.status = :status");
+        }
+        sql.append('\n');
+    }
+
+    private static void bindCriteria(Query query, ProgramSearchCriteria criteria) {
+        query.setParameter("query", criteria.query());
+        if (criteria.department() != null) {
+            query.setParameter("department", criteria.department().name());
+        }
+        if (criteria.status() != null) {
+            query.setParameter("status", criteria.status().name());
+        }
+    }
+}
@@ -1,13 +1,37 @@
 package com.questevent.repository;
 
+import com.questevent.dto.ProgramRegistrationDTO;
+import com.questevent.dto.ProgramRegistrationExportRow;
 import com.questevent.entity.ProgramRegistration;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ProgramRegistrationRepository extends JpaRepository<ProgramRegistration, UUID> {
 
+    String SELECT_DTO = """
+        SELECT new com.questevent.dto.ProgramRegistrationDTO(
+            r.programRegistrationId,
+            p.programId,
+            p.programTitle,
+            u.userId,
+            u.name,
+            r.registeredAt
+        )
+        FROM ProgramRegistration r
+        JOIN r.program p
+        JOIN r.user u
+        """;
+
     boolean existsByProgram_ProgramIdAndUser_UserId(UUID programId, Long userId);
 
     List<ProgramRegistration> findByProgramProgramId(UUID programId);
@@ -17,4 +41,61 @@ public interface ProgramRegistrationRepository extends JpaRepository<ProgramRegi
     Optional<ProgramRegistration> findByProgramProgramIdAndUserUserId(UUID programId, Long userId);
 
     long countByProgramProgramId(UUID programId);
+
+    @Query("""
+        SELECT r.user.userId
+        FROM ProgramRegistration r
+        WHERE r.program.programId = :programId
+          AND r.user.userId IN :userIds
+    """)
+    List<Long> findRegisteredUserIds(UUID programId, Collection<Long> userIds);
+
+    // participant, program host or program judge
+    @Query("""
+        SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END
+        FROM ProgramRegistration r
+        JOIN r.program p
+        LEFT JOIN p.judge j
+        WHERE r.programRegistrationId = :registrationId
+          AND (r.user.userId = :userId
+               OR p.user.userId = :userId
+               OR j.user.userId = :userId)
+    """)
+    boolean isAccessibleBy(UUID registrationId, Long userId);
+
+    // Read-only views: select the DTO columns directly, no managed entities
+
+    @Query(SELECT_DTO + "WHERE r.programRegistrationId = :registrationId")
+    Optional<ProgramRegistrationDTO> findDtoById(UUID registrationId);
+
+    @Query(SELECT_DTO + "WHERE p.programId = :programId")
+    List<ProgramRegistrationDTO> findDtosByProgramId(UUID programId);
+
+    @Query(SELECT_DTO + "WHERE u.userId = :userId")
+    List<ProgramRegistrationDTO> findDtosByUserId(Long userId);
+
+    @Query(SELECT_DTO + "ORDER BY r.programRegistrationId")
+    List<ProgramRegistrationDTO> findDtoPage(Limit limit);
+
+    @Query(SELECT_DTO + "WHERE r.programRegistrationId > :afterRegistrationId ORDER BY r.programRegistrationId")
+    List<ProgramRegistrationDTO> findDtoPageAfter(UUID afterRegistrationId, Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.questevent.dto.ProgramRegistrationExportRow(
+            r.programRegistrationId,
+            u.userId,
+            u.name,
+            u.email,
+            r.registeredAt
+        )
+        FROM ProgramRegistration r
+        JOIN r.user u
+        WHERE r.program.programId = :programId
+        ORDER BY r.programRegistrationId
+    """)
+    Stream<ProgramRegistrationExportRow> streamExportByProgramId(UUID programId);
 }
\ No newline at end of file
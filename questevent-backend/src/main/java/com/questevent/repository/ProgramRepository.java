@@ -1,14 +1,27 @@
 package com.questevent.repository;
 
+import com.questevent.dto.ProgramContentVersion;
+import com.questevent.dto.ProgramRowVersion;
+import com.questevent.dto.ProgramSetVersion;
 import com.questevent.entity.Program;
 import com.questevent.enums.Department;
 import com.questevent.enums.ProgramStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProgramRepository extends JpaRepository<Program, UUID> {
@@ -21,6 +34,70 @@ public interface ProgramRepository extends JpaRepository<Program, UUID> {
 
     List<Program> findByStatusAndUser_UserId(ProgramStatus status, Long userId);
 
+    List<Program> findByOrderByProgramIdAsc(Limit limit);
+
+    List<Program> findByProgramIdGreaterThanOrderByProgramIdAsc(UUID programId, Limit limit);
+
     @Query("SELECT p FROM Program p WHERE p.judge.user.userId = :userId")
     List<Program> findByJudgeUserId(@Param("userId") Long userId);
+
+    // access checks are not query-cached: the cache is per instance, so a judge
+    // reassigned on one instance would keep its access on the others until expiry
+    boolean existsByProgramIdAndUser_UserId(UUID programId, Long userId);
+
+    boolean existsByJudge_User_UserId(Long userId);
+
+    boolean existsByProgramIdAndJudge_User_UserId(UUID programId, Long userId);
+
+    @Query("SELECT p.judge.user.userId FROM Program p WHERE p.programId = :programId")
+    Optional<Long> findJudgeUserIdByProgramId(@Param("programId") UUID programId);
+
+    // serializes changes to a program's prerequisite graph; the version bump of an activity write waits on it too
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Program p WHERE p.programId = :programId")
+    Optional<Program> findByIdForUpdate(@Param("programId") UUID programId);
+
+    // validators of the program detail and its activity lists, read from the row: the programs region is
+    // per instance, so a cached Program can miss a write made on another instance until it expires
+    @Query("""
+        SELECT new com.questevent.dto.ProgramContentVersion(p.updatedAt, p.activitiesVersion, p.activitiesUpdatedAt)
+        FROM Program p
+        WHERE p.programId = :programId
+    """)
+    Optional<ProgramContentVersion> findContentVersion(@Param("programId") UUID programId);
+
+    // body behind findContentVersion: read from the row and written back to the cache, never older than its validator
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "REFRESH"))
+    Optional<Program> findCurrentByProgramId(UUID programId);
+
+    // validators of one page of the listing: the rows it returns, read in the listing's own key order
+    @Query("SELECT new com.questevent.dto.ProgramRowVersion(p.programId, p.updatedAt) FROM Program p ORDER BY p.programId")
+    List<ProgramRowVersion> findRowVersions(Limit limit);
+
+    @Query("""
+        SELECT new com.questevent.dto.ProgramRowVersion(p.programId, p.updatedAt)
+        FROM Program p
+        WHERE p.programId > :programId
+        ORDER BY p.programId
+    """)
+    List<ProgramRowVersion> findRowVersionsAfter(@Param("programId") UUID programId, Limit limit);
+
+    // any insert, update or delete among a user's programs moves the count or the newest change
+    @Query("SELECT new com.questevent.dto.ProgramSetVersion(COUNT(p), MAX(p.updatedAt)) FROM Program p WHERE p.user.userId = :userId")
+    ProgramSetVersion findHostedVersion(@Param("userId") Long userId);
+
+    @Query("SELECT new com.questevent.dto.ProgramSetVersion(COUNT(p), MAX(p.updatedAt)) FROM Program p WHERE p.judge.user.userId = :userId")
+    ProgramSetVersion findJudgedVersion(@Param("userId") Long userId);
+
+    // a bulk update, so Hibernate also evicts the cached programs; activities change far less often than they are read.
+    // Callers run it in the same transaction as the activity write, so the version cannot lag the data it describes
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE Program p
+        SET p.activitiesVersion = p.activitiesVersion + 1,
+            p.activitiesUpdatedAt = :changedAt
+        WHERE p.programId = :programId
+    """)
+    int bumpActivitiesVersion(UUID programId, Instant changedAt);
 }
@@ -0,0 +1,37 @@
+package com.questevent.repository;
+
+import com.questevent.dto.ProgramSearchCriteria;
+import com.questevent.dto.ProgramSearchCursor;
+import com.questevent.dto.ProgramSearchFacetsDTO;
+import com.questevent.dto.ProgramSearchHitDTO;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text index over program titles and descriptions and the names,
+ * descriptions and rulebooks of their activities.
+ * <p>
+ * {@code questevent.search.engine} picks the implementation: {@code postgres}
+ * (default) uses a trigger-maintained {@code tsvector} column with a GIN
+ * index, {@code memory} an in-process inverted index for H2 and tests.
+ */
+public interface ProgramSearchIndex {
+
+    /**
+     * Hits ordered by rank descending, then programId, starting after
+     * {@code after} when it is not null; at most {@code limit} rows.
+     */
+    List<ProgramSearchHitDTO> search(
+            ProgramSearchCriteria criteria,
+            ProgramSearchCursor after,
+            int limit
+    );
+
+    ProgramSearchFacetsDTO facets(ProgramSearchCriteria criteria);
+
+    // called by write paths once a program or one of its activities changed
+    void programChanged(UUID programId);
+
+    void programDeleted(UUID programId);
+}
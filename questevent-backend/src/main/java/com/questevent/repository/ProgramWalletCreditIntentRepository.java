@@ -0,0 +1,57 @@
+package com.questevent.repository;
+
+import com.questevent.entity.ProgramWalletCreditIntent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProgramWalletCreditIntentRepository
+        extends JpaRepository<ProgramWalletCreditIntent, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT i FROM ProgramWalletCreditIntent i
+        WHERE i.intentId IN :intentIds
+          AND i.appliedAt IS NULL
+    """)
+    List<ProgramWalletCreditIntent> findPendingForUpdate(Collection<UUID> intentIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT i FROM ProgramWalletCreditIntent i
+        WHERE i.programId = :programId
+          AND i.appliedAt IS NULL
+    """)
+    List<ProgramWalletCreditIntent> findPendingByProgramForUpdate(UUID programId);
+
+    @Query("""
+        SELECT i FROM ProgramWalletCreditIntent i
+        WHERE i.appliedAt IS NULL
+          AND i.createdAt < :createdBefore
+        ORDER BY i.createdAt, i.intentId
+    """)
+    List<ProgramWalletCreditIntent> findStalePending(Instant createdBefore, Limit limit);
+
+    // keyset continuation of findStalePending after the intent (createdAt, intentId)
+    @Query("""
+        SELECT i FROM ProgramWalletCreditIntent i
+        WHERE i.appliedAt IS NULL
+          AND i.createdAt < :createdBefore
+          AND (i.createdAt > :createdAt
+               OR (i.createdAt = :createdAt AND i.intentId > :intentId))
+        ORDER BY i.createdAt, i.intentId
+    """)
+    List<ProgramWalletCreditIntent> findStalePendingAfter(
+            Instant createdBefore,
+            Instant createdAt,
+            UUID intentId,
+            Limit limit
+    );
+}
@@ -1,13 +1,24 @@
 package com.questevent.repository;
 
+import com.questevent.dto.ProgramWalletExportRow;
+import com.questevent.dto.ProgramWalletReconciliationDTO;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramWallet;
 import com.questevent.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ProgramWalletRepository extends JpaRepository<ProgramWallet, UUID> {
 
@@ -22,4 +33,88 @@ public interface ProgramWalletRepository extends JpaRepository<ProgramWallet, UU
 
     List<ProgramWallet> findByProgramProgramId(UUID programId);
 
+    // settlement zeroes the balances it moves; a concurrent incrementGems waits for it to commit
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pw FROM ProgramWallet pw WHERE pw.program.programId = :programId")
+    List<ProgramWallet> findByProgramIdForUpdate(UUID programId);
+
+    boolean existsByUserUserIdAndProgramProgramId(Long userId, UUID programId);
+
+    @Query("""
+        SELECT pw.user.userId
+        FROM ProgramWallet pw
+        WHERE pw.program.programId = :programId
+          AND pw.user.userId IN :userIds
+    """)
+    List<Long> findUserIdsWithWallet(UUID programId, Collection<Long> userIds);
+
+    // wallet holder or program host
+    @Query("""
+        SELECT CASE WHEN COUNT(pw) > 0 THEN true ELSE false END
+        FROM ProgramWallet pw
+        WHERE pw.programWalletId = :programWalletId
+          AND (pw.user.userId = :userId
+               OR pw.program.user.userId = :userId)
+    """)
+    boolean isAccessibleBy(UUID programWalletId, Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ProgramWallet pw
+        SET pw.gems = pw.gems + :amount
+        WHERE pw.user.userId = :userId
+          AND pw.program.programId = :programId
+    """)
+    int incrementGems(Long userId, UUID programId, Long amount);
+
+    // Expected balance = approved awards of the program, until settlement moves them to the user wallet.
+    // Credits still waiting in the coalescing outbox count towards the actual balance.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.questevent.dto.ProgramWalletReconciliationDTO(
+            pw.user.userId,
+            pw.program.programId,
+            pw.gems + COALESCE((
+                SELECT SUM(i.amount)
+                FROM ProgramWalletCreditIntent i
+                WHERE i.appliedAt IS NULL
+                  AND i.userId = pw.user.userId
+                  AND i.programId = pw.program.programId
+            ), 0L),
+            COALESCE((
+                SELECT SUM(s.awardedGems)
+                FROM ActivitySubmission s
+                WHERE s.reviewStatus = com.questevent.enums.ReviewStatus.APPROVED
+                  AND s.activityRegistration.user.userId = pw.user.userId
+                  AND s.activityRegistration.activity.program.programId = pw.program.programId
+                  AND (pw.program.status IS NULL
+                       OR pw.program.status <> com.questevent.enums.ProgramStatus.COMPLETED)
+            ), 0L)
+        )
+        FROM ProgramWallet pw
+    """)
+    Stream<ProgramWalletReconciliationDTO> streamProgramWalletReconciliation();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.questevent.dto.ProgramWalletExportRow(
+            pw.programWalletId,
+            u.userId,
+            u.name,
+            u.email,
+            pw.gems
+        )
+        FROM ProgramWallet pw
+        JOIN pw.user u
+        WHERE pw.program.programId = :programId
+        ORDER BY pw.programWalletId
+    """)
+    Stream<ProgramWalletExportRow> streamExportByProgramId(UUID programId);
+
 }
@@ -1,9 +1,27 @@
 package com.questevent.repository;
 
+import com.questevent.enums.Department;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.questevent.entity.User;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    List<User> findByEmailIn(Collection<String> emails);
+
+    List<User> findByOrderByUserIdAsc(Limit limit);
+
+    List<User> findByUserIdGreaterThanOrderByUserIdAsc(Long userId, Limit limit);
+
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN :userIds")
+    List<Long> findExistingUserIds(Collection<Long> userIds);
+
+    @Query("SELECT u.userId FROM User u WHERE u.department = :department ORDER BY u.userId")
+    List<Long> findUserIdsByDepartment(Department department);
 }
@@ -1,12 +1,17 @@
 package com.questevent.repository;
 
+import com.questevent.dto.UserWalletReconciliationDTO;
 import com.questevent.entity.UserWallet;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface UserWalletRepository extends JpaRepository<UserWallet, UUID> {
     Optional<UserWallet> findByUserUserId(Long userId);
@@ -17,4 +22,25 @@ public interface UserWalletRepository extends JpaRepository<UserWallet, UUID> {
         ORDER BY w.gems DESC
     """)
     List<UserWallet> findGlobalLeaderboard();
+
+    // Expected balance = approved awards of programs that have been settled (COMPLETED)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT new com.questevent.dto.UserWalletReconciliationDTO(
+            w.user.userId,
+            w.gems,
+            COALESCE((
+                SELECT SUM(s.awardedGems)
+                FROM ActivitySubmission s
+                WHERE s.reviewStatus = com.questevent.enums.ReviewStatus.APPROVED
+                  AND s.activityRegistration.user.userId = w.user.userId
+                  AND s.activityRegistration.activity.program.status = com.questevent.enums.ProgramStatus.COMPLETED
+            ), 0L)
+        )
+        FROM UserWallet w
+    """)
+    Stream<UserWalletReconciliationDTO> streamUserWalletReconciliation();
 }
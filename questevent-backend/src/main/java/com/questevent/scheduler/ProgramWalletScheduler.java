@@ -1,11 +1,13 @@
 package com.questevent.scheduler;
 
+import com.questevent.metrics.Instrumented;
 import com.questevent.service.ProgramWalletTransactionService;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 @Component
+@Instrumented("settlement")
 @EnableScheduling
 public class ProgramWalletScheduler {
 
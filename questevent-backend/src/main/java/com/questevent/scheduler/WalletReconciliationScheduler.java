@@ -0,0 +1,34 @@
+package com.questevent.scheduler;
+
+import com.questevent.metrics.Instrumented;
+import com.questevent.service.WalletReconciliationService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Instrumented("reconciliation")
+@EnableScheduling
+@ConditionalOnProperty(
+        name = "questevent.reconciliation.enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class WalletReconciliationScheduler {
+
+    private final WalletReconciliationService reconciliationService;
+
+    public WalletReconciliationScheduler(
+            WalletReconciliationService reconciliationService
+    ) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    // Runs daily at 2:00 AM, after the 12:01 AM auto-settlement has moved
+    // expired program balances into user wallets
+    @Scheduled(cron = "${questevent.reconciliation.cron:0 0 2 * * ?}")
+    public void reconcileWallets() {
+        reconciliationService.reconcile();
+    }
+}
@@ -0,0 +1,22 @@
+package com.questevent.seed;
+
+import java.time.Duration;
+
+public record SeedReport(
+        long users,
+        long programs,
+        long activities,
+        long programRegistrations,
+        long activityRegistrations,
+        long submissions,
+        Duration elapsed
+) {
+
+    public String describe() {
+        return String.format(
+                "users=%d programs=%d activities=%d programRegistrations=%d activityRegistrations=%d submissions=%d in %ds",
+                users, programs, activities, programRegistrations, activityRegistrations, submissions,
+                elapsed.toSeconds()
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.questevent.seed;
+
+/**
+ * Shape of a synthetic world. Every participant registers for
+ * {@code programsPerUser} open programs and, in each, for the compulsory
+ * activities plus optional ones up to {@code activitiesPerProgramRegistration};
+ * {@code submissionRatio} of those registrations get a submission.
+ * <p>
+ * Roughly, submissions = users x programsPerUser x
+ * activitiesPerProgramRegistration x submissionRatio, so the defaults of
+ * {@code 3 x 4 x 0.8} give about 10 submissions per user.
+ */
+public record SeedSettings(
+        int users,
+        int programs,
+        int activitiesPerProgram,
+        int compulsoryPerProgram,
+        int programsPerUser,
+        int activitiesPerProgramRegistration,
+        double submissionRatio,
+        int chunkSize,
+        int parallelism,
+        long randomSeed
+) {
+
+    public SeedSettings {
+        if (users < 0 || programs < 1) {
+            throw new IllegalArgumentException("Seed needs at least one program and a non-negative user count");
+        }
+        if (activitiesPerProgram < 1 || compulsoryPerProgram < 0 || compulsoryPerProgram > activitiesPerProgram) {
+            throw new IllegalArgumentException("Seed needs 0 <= compulsory-per-program <= activities-per-program, and at least one activity");
+        }
+        if (programsPerUser < 0 || activitiesPerProgramRegistration < compulsoryPerProgram) {
+            throw new IllegalArgumentException("Seed activities-per-program-registration must cover the compulsory activities");
+        }
+        if (submissionRatio < 0 || submissionRatio > 1) {
+            throw new IllegalArgumentException("Seed submission-ratio must be between 0 and 1");
+        }
+        if (chunkSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Seed chunk-size and parallelism must be at least 1");
+        }
+    }
+
+    /** One host per five programs and one judge per ten, at least one of each. */
+    int hosts() {
+        return Math.max(1, programs / 5);
+    }
+
+    int judges() {
+        return Math.max(1, programs / 10);
+    }
+}
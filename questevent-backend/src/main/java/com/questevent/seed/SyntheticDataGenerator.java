@@ -0,0 +1,527 @@
+package com.questevent.seed;
+
+import com.questevent.enums.CompletionStatus;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.enums.ReviewStatus;
+import com.questevent.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads a synthetic world straight through JDBC batches, bypassing the
+ * persistence context so millions of rows load with flat memory.
+ * <p>
+ * Staff users, judges, programs and activities are written first; the
+ * participants then follow in chunks of {@code chunkSize} users, each
+ * chunk in its own transaction and generated from its own seeded random,
+ * so chunks run in parallel and a run is reproducible.
+ * <p>
+ * Rows respect every unique constraint and the wallet invariants the
+ * reconciliation job checks: approved gems of completed programs sit in
+ * the user wallet, those of open programs in the program wallet. User
+ * ids continue after the current maximum and the user id sequence is
+ * moved past them. The schema must already exist.
+ */
+@Slf4j
+@Component
+public class SyntheticDataGenerator {
+
+    private static final int JDBC_BATCH_SIZE = 1_000;
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (user_id, name, email, department, gender, role, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_WALLET = """
+            INSERT INTO wallets (wallet_id, user_id, gems, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)""";
+    private static final String INSERT_JUDGE = """
+            INSERT INTO judges (judge_id, user_id)
+            VALUES (?, ?)""";
+    private static final String INSERT_PROGRAM = """
+            INSERT INTO programs (program_id, user_id, program_title, program_description, department,
+                                  start_date, end_date, status, judge_id, created_at, updated_at,
+                                  activities_version, activities_updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_ACTIVITY = """
+            INSERT INTO activities (activity_id, program_id, name, activity_duration, rulebook, description,
+                                    reward_gems, created_at, updated_at, is_compulsory)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final String INSERT_PROGRAM_REGISTRATION = """
+            INSERT INTO program_registrations (program_registration_id, program_id, user_id, registered_at)
+            VALUES (?, ?, ?, ?)""";
+    private static final String INSERT_PROGRAM_WALLET = """
+            INSERT INTO program_wallets (program_wallet_id, program_id, user_id, gems, status)
+            VALUES (?, ?, ?, ?, ?)""";
+    private static final String INSERT_ACTIVITY_REGISTRATION = """
+            INSERT INTO activity_registrations (activity_registration_id, activity_id, user_id, completion_status)
+            VALUES (?, ?, ?, ?)""";
+    // one statement per review state, so no row binds an untyped null
+    private static final String INSERT_PENDING_SUBMISSION = """
+            INSERT INTO activity_submissions (submission_id, activity_registration_id, review_status, submission_url,
+                                              submitted_at)
+            VALUES (?, ?, 'PENDING', ?, ?)""";
+    private static final String INSERT_APPROVED_SUBMISSION = """
+            INSERT INTO activity_submissions (submission_id, activity_registration_id, review_status, submission_url,
+                                              submitted_at, reviewed_at, reviewed_by, awarded_gems)
+            VALUES (?, ?, 'APPROVED', ?, ?, ?, ?, ?)""";
+    private static final String INSERT_REJECTED_SUBMISSION = """
+            INSERT INTO activity_submissions (submission_id, activity_registration_id, review_status, submission_url,
+                                              submitted_at, reviewed_at, reviewed_by)
+            VALUES (?, ?, 'REJECTED', ?, ?, ?, ?)""";
+
+    private static final String[] GENDERS = {"MALE", "FEMALE", "NA"};
+    private static final String[] TOPICS = {
+            "Hackathon", "Wellness", "Security", "Onboarding", "Sustainability",
+            "Mentoring", "Quiz", "Innovation", "Fitness", "Learning"
+    };
+
+    private record ActivitySeed(UUID activityId, boolean compulsory, long rewardGems) {}
+
+    private record ProgramSeed(UUID programId, ProgramStatus status, UUID judgeId, List<ActivitySeed> activities) {}
+
+    /** Rows of one chunk, in foreign-key order. */
+    private static final class Rows {
+        final List<Object[]> users = new ArrayList<>();
+        final List<Object[]> wallets = new ArrayList<>();
+        final List<Object[]> programRegistrations = new ArrayList<>();
+        final List<Object[]> programWallets = new ArrayList<>();
+        final List<Object[]> activityRegistrations = new ArrayList<>();
+        final List<Object[]> pendingSubmissions = new ArrayList<>();
+        final List<Object[]> approvedSubmissions = new ArrayList<>();
+        final List<Object[]> rejectedSubmissions = new ArrayList<>();
+
+        int submissionCount() {
+            return pendingSubmissions.size() + approvedSubmissions.size() + rejectedSubmissions.size();
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final LongAdder programRegistrations = new LongAdder();
+    private final LongAdder activityRegistrations = new LongAdder();
+    private final LongAdder submissions = new LongAdder();
+
+    public SyntheticDataGenerator(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public SeedReport generate(SeedSettings settings) throws Exception {
+
+        long start = System.nanoTime();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        programRegistrations.reset();
+        activityRegistrations.reset();
+        submissions.reset();
+
+        Long maxUserId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(user_id), 0) FROM users", Long.class);
+        long firstUserId = (maxUserId == null ? 0 : maxUserId) + 1;
+        long firstParticipantId = firstUserId + settings.hosts() + settings.judges();
+
+        log.info(
+                "Synthetic data generation started | users={} | programs={} | firstUserId={} | parallelism={}",
+                settings.users(),
+                settings.programs(),
+                firstUserId,
+                settings.parallelism()
+        );
+
+        List<ProgramSeed> programs = transactionTemplate.execute(
+                status -> writeStaffAndPrograms(settings, firstUserId, now)
+        );
+        List<ProgramSeed> open = programs.stream()
+                .filter(program -> program.status() != ProgramStatus.DRAFT)
+                .toList();
+
+        writeParticipants(settings, open, firstParticipantId, now);
+
+        long nextUserId = firstParticipantId + settings.users();
+        // pooled generator: the next block starts at (value - 49), so leave a full block of room
+        jdbcTemplate.execute("ALTER SEQUENCE users_user_id_seq RESTART WITH " + (nextUserId + 50));
+
+        SeedReport report = new SeedReport(
+                nextUserId - firstUserId,
+                programs.size(),
+                (long) programs.size() * settings.activitiesPerProgram(),
+                programRegistrations.sum(),
+                activityRegistrations.sum(),
+                submissions.sum(),
+                Duration.ofNanos(System.nanoTime() - start)
+        );
+
+        log.info("Synthetic data generation finished | {}", report.describe());
+        return report;
+    }
+
+    private List<ProgramSeed> writeStaffAndPrograms(SeedSettings settings, long firstUserId, Instant now) {
+
+        SplittableRandom random = new SplittableRandom(settings.randomSeed());
+
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> wallets = new ArrayList<>();
+        List<Object[]> judges = new ArrayList<>();
+        List<Long> hostIds = new ArrayList<>();
+        List<UUID> judgeIds = new ArrayList<>();
+
+        long userId = firstUserId;
+        for (int i = 0; i < settings.hosts(); i++, userId++) {
+            addUser(users, wallets, random, userId, Role.HOST, 0L, now);
+            hostIds.add(userId);
+        }
+        for (int i = 0; i < settings.judges(); i++, userId++) {
+            addUser(users, wallets, random, userId, Role.JUDGE, 0L, now);
+            UUID judgeId = uuid(random);
+            judges.add(new Object[]{judgeId, userId});
+            judgeIds.add(judgeId);
+        }
+
+        List<Object[]> programRows = new ArrayList<>();
+        List<Object[]> activityRows = new ArrayList<>();
+        List<ProgramSeed> programs = new ArrayList<>(settings.programs());
+
+        for (int i = 0; i < settings.programs(); i++) {
+            UUID programId = uuid(random);
+            ProgramStatus status = programStatus(random);
+            UUID judgeId = judgeIds.get(i % judgeIds.size());
+            String topic = TOPICS[random.nextInt(TOPICS.length)];
+
+            Instant startDate = switch (status) {
+                case COMPLETED -> now.minus(60 + random.nextInt(300), ChronoUnit.DAYS);
+                case ACTIVE -> now.minus(1 + random.nextInt(30), ChronoUnit.DAYS);
+                case DRAFT -> now.plus(7 + random.nextInt(60), ChronoUnit.DAYS);
+            };
+            Instant endDate = startDate.plus(14 + random.nextInt(45), ChronoUnit.DAYS);
+            if (status == ProgramStatus.COMPLETED && endDate.isAfter(now)) {
+                endDate = now.minus(1, ChronoUnit.DAYS);
+            }
+
+            programRows.add(new Object[]{
+                    programId,
+                    hostIds.get(i % hostIds.size()),
+                    topic + " Program " + (i + 1),
+                    "Synthetic " + topic.toLowerCase() + " program for scale testing",
+                    department(random).name(),
+                    Timestamp.from(startDate),
+                    Timestamp.from(endDate),
+                    status.name(),
+                    judgeId,
+                    Timestamp.from(startDate.minus(7, ChronoUnit.DAYS)),
+                    Timestamp.from(now),
+                    0L,
+                    Timestamp.from(startDate.minus(7, ChronoUnit.DAYS))
+            });
+
+            List<ActivitySeed> activities = new ArrayList<>(settings.activitiesPerProgram());
+            for (int a = 0; a < settings.activitiesPerProgram(); a++) {
+                boolean compulsory = a < settings.compulsoryPerProgram();
+                ActivitySeed activity = new ActivitySeed(uuid(random), compulsory, 10L * (1 + random.nextInt(10)));
+                activities.add(activity);
+                activityRows.add(new Object[]{
+                        activity.activityId(),
+                        programId,
+                        (compulsory ? "Compulsory " : "") + topic + " Activity " + (a + 1),
+                        30 + random.nextInt(150),
+                        "Follow the " + topic.toLowerCase() + " rulebook",
+                        "Synthetic activity " + (a + 1) + " of " + topic.toLowerCase(),
+                        activity.rewardGems(),
+                        Timestamp.from(startDate.minus(7, ChronoUnit.DAYS)),
+                        Timestamp.from(startDate.minus(7, ChronoUnit.DAYS)),
+                        compulsory
+                });
+            }
+
+            programs.add(new ProgramSeed(programId, status, judgeId, activities));
+        }
+
+        insert(INSERT_USER, users);
+        insert(INSERT_WALLET, wallets);
+        insert(INSERT_JUDGE, judges);
+        insert(INSERT_PROGRAM, programRows);
+        insert(INSERT_ACTIVITY, activityRows);
+
+        log.info(
+                "Synthetic staff and programs written | hosts={} | judges={} | programs={} | activities={}",
+                hostIds.size(),
+                judgeIds.size(),
+                programRows.size(),
+                activityRows.size()
+        );
+
+        return programs;
+    }
+
+    private void writeParticipants(
+            SeedSettings settings,
+            List<ProgramSeed> open,
+            long firstParticipantId,
+            Instant now
+    ) throws Exception {
+
+        int chunks = (int) ((settings.users() + (long) settings.chunkSize() - 1) / settings.chunkSize());
+        LongAdder usersWritten = new LongAdder();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(settings.parallelism())) {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                long from = firstParticipantId + (long) chunk * settings.chunkSize();
+                int count = (int) Math.min(settings.chunkSize(), firstParticipantId + settings.users() - from);
+                long chunkSeed = settings.randomSeed() * 31 + chunk + 1;
+
+                futures.add(executor.submit(() -> {
+                    Rows rows = participants(settings, open, from, count, new SplittableRandom(chunkSeed), now);
+                    transactionTemplate.executeWithoutResult(status -> write(rows));
+                    usersWritten.add(count);
+                    log.info(
+                            "Synthetic participants written | users={}/{} | submissions={}",
+                            usersWritten.sum(),
+                            settings.users(),
+                            submissions.sum()
+                    );
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private Rows participants(
+            SeedSettings settings,
+            List<ProgramSeed> open,
+            long firstUserId,
+            int count,
+            SplittableRandom random,
+            Instant now
+    ) {
+        Rows rows = new Rows();
+        int programsPerUser = Math.min(settings.programsPerUser(), open.size());
+
+        for (long userId = firstUserId; userId < firstUserId + count; userId++) {
+
+            long walletGems = 0;
+
+            for (int index : distinct(random, open.size(), programsPerUser)) {
+                ProgramSeed program = open.get(index);
+                Instant registeredAt = now.minus(1 + random.nextInt(90), ChronoUnit.DAYS);
+
+                rows.programRegistrations.add(new Object[]{
+                        uuid(random), program.programId(), userId, Timestamp.from(registeredAt)
+                });
+
+                long approvedGems = registerActivities(settings, program, userId, registeredAt, random, rows, now);
+                boolean settled = program.status() == ProgramStatus.COMPLETED;
+
+                rows.programWallets.add(new Object[]{
+                        uuid(random),
+                        program.programId(),
+                        userId,
+                        settled ? 0L : approvedGems,
+                        program.status().name()
+                });
+                if (settled) {
+                    walletGems += approvedGems;
+                }
+            }
+
+            addUser(rows.users, rows.wallets, random, userId, Role.USER, walletGems, now);
+        }
+
+        return rows;
+    }
+
+    /** Registers for every compulsory activity and a random set of optional ones; returns approved gems. */
+    private long registerActivities(
+            SeedSettings settings,
+            ProgramSeed program,
+            long userId,
+            Instant registeredAt,
+            SplittableRandom random,
+            Rows rows,
+            Instant now
+    ) {
+        List<ActivitySeed> activities = program.activities();
+        int compulsory = settings.compulsoryPerProgram();
+        int optionalAvailable = activities.size() - compulsory;
+        int optional = Math.min(
+                optionalAvailable,
+                random.nextInt(settings.activitiesPerProgramRegistration() - compulsory + 1)
+        );
+
+        List<ActivitySeed> chosen = new ArrayList<>(activities.subList(0, compulsory));
+        for (int index : distinct(random, optionalAvailable, optional)) {
+            chosen.add(activities.get(compulsory + index));
+        }
+
+        long approvedGems = 0;
+
+        for (ActivitySeed activity : chosen) {
+            UUID registrationId = uuid(random);
+            boolean submitted = random.nextDouble() < settings.submissionRatio();
+
+            rows.activityRegistrations.add(new Object[]{
+                    registrationId,
+                    activity.activityId(),
+                    userId,
+                    (submitted ? CompletionStatus.COMPLETED : CompletionStatus.NOT_COMPLETED).name()
+            });
+
+            if (!submitted) {
+                continue;
+            }
+
+            UUID submissionId = uuid(random);
+            String url = "https://example.com/submissions/" + registrationId;
+            Instant submittedAt = registeredAt.plus(random.nextInt(72), ChronoUnit.HOURS);
+            Instant reviewedAt = submittedAt.plus(1 + random.nextInt(48), ChronoUnit.HOURS);
+            if (reviewedAt.isAfter(now)) {
+                reviewedAt = now;
+            }
+
+            switch (reviewStatus(random)) {
+                case PENDING -> rows.pendingSubmissions.add(new Object[]{
+                        submissionId, registrationId, url, Timestamp.from(submittedAt)
+                });
+                case APPROVED -> {
+                    rows.approvedSubmissions.add(new Object[]{
+                            submissionId, registrationId, url, Timestamp.from(submittedAt),
+                            Timestamp.from(reviewedAt), program.judgeId(), activity.rewardGems()
+                    });
+                    approvedGems += activity.rewardGems();
+                }
+                case REJECTED -> rows.rejectedSubmissions.add(new Object[]{
+                        submissionId, registrationId, url, Timestamp.from(submittedAt),
+                        Timestamp.from(reviewedAt), program.judgeId()
+                });
+            }
+        }
+
+        return approvedGems;
+    }
+
+    private void write(Rows rows) {
+        insert(INSERT_USER, rows.users);
+        insert(INSERT_WALLET, rows.wallets);
+        insert(INSERT_PROGRAM_REGISTRATION, rows.programRegistrations);
+        insert(INSERT_PROGRAM_WALLET, rows.programWallets);
+        insert(INSERT_ACTIVITY_REGISTRATION, rows.activityRegistrations);
+        insert(INSERT_PENDING_SUBMISSION, rows.pendingSubmissions);
+        insert(INSERT_APPROVED_SUBMISSION, rows.approvedSubmissions);
+        insert(INSERT_REJECTED_SUBMISSION, rows.rejectedSubmissions);
+
+        programRegistrations.add(rows.programRegistrations.size());
+        activityRegistrations.add(rows.activityRegistrations.size());
+        submissions.add(rows.submissionCount());
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += JDBC_BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + JDBC_BATCH_SIZE)));
+        }
+    }
+
+    private static void addUser(
+            List<Object[]> users,
+            List<Object[]> wallets,
+            SplittableRandom random,
+            long userId,
+            Role role,
+            long gems,
+            Instant now
+    ) {
+        Timestamp createdAt = Timestamp.from(now.minus(100 + random.nextInt(600), ChronoUnit.DAYS));
+
+        users.add(new Object[]{
+                userId,
+                "Seed User " + userId,
+                "seed-user-" + userId + "@questevent.test",
+                department(random).name(),
+                GENDERS[random.nextInt(GENDERS.length)],
+                role.name(),
+                createdAt,
+                Timestamp.from(now)
+        });
+        wallets.add(new Object[]{uuid(random), userId, gems, createdAt, Timestamp.from(now)});
+    }
+
+    /** {@code count} distinct indexes below {@code bound}; count is small next to bound in practice. */
+    private static int[] distinct(SplittableRandom random, int bound, int count) {
+        int[] picked = new int[count];
+        if (count * 2 > bound) {
+            int[] all = new int[bound];
+            for (int i = 0; i < bound; i++) {
+                all[i] = i;
+            }
+            for (int i = 0; i < count; i++) {
+                int swap = i + random.nextInt(bound - i);
+                int tmp = all[i];
+                all[i] = all[swap];
+                all[swap] = tmp;
+                picked[i] = all[i];
+            }
+            return picked;
+        }
+
+        int found = 0;
+        while (found < count) {
+            int candidate = random.nextInt(bound);
+            boolean seen = false;
+            for (int i = 0; i < found && !seen; i++) {
+                seen = picked[i] == candidate;
+            }
+            if (!seen) {
+                picked[found++] = candidate;
+            }
+        }
+        return picked;
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        // random (version 4) layout, but from the seeded generator so runs repeat
+        long most = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long least = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static Department department(SplittableRandom random) {
+        Department[] departments = Department.values();
+        return departments[random.nextInt(departments.length)];
+    }
+
+    private static ProgramStatus programStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 60) {
+            return ProgramStatus.ACTIVE;
+        }
+        return roll < 90 ? ProgramStatus.COMPLETED : ProgramStatus.DRAFT;
+    }
+
+    private static ReviewStatus reviewStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 55) {
+            return ReviewStatus.APPROVED;
+        }
+        return roll < 85 ? ReviewStatus.PENDING : ReviewStatus.REJECTED;
+    }
+}
@@ -0,0 +1,65 @@
+package com.questevent.seed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Command-line entry point for {@link SyntheticDataGenerator}: with the
+ * {@code seed} profile the application loads the configured world and
+ * exits. Run it with {@code ./gradlew seed}; the knobs are the
+ * {@code questevent.seed.*} properties in {@code application-seed.yml}.
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataRunner implements ApplicationRunner {
+
+    private final SyntheticDataGenerator generator;
+    private final ConfigurableApplicationContext context;
+    private final SeedSettings settings;
+
+    public SyntheticDataRunner(
+            SyntheticDataGenerator generator,
+            ConfigurableApplicationContext context,
+            @Value("${questevent.seed.users}") int users,
+            @Value("${questevent.seed.programs}") int programs,
+            @Value("${questevent.seed.activities-per-program}") int activitiesPerProgram,
+            @Value("${questevent.seed.compulsory-per-program}") int compulsoryPerProgram,
+            @Value("${questevent.seed.programs-per-user}") int programsPerUser,
+            @Value("${questevent.seed.activities-per-program-registration}") int activitiesPerProgramRegistration,
+            @Value("${questevent.seed.submission-ratio}") double submissionRatio,
+            @Value("${questevent.seed.chunk-size}") int chunkSize,
+            @Value("${questevent.seed.parallelism}") int parallelism,
+            @Value("${questevent.seed.random-seed}") long randomSeed
+    ) {
+        this.generator = generator;
+        this.context = context;
+        this.settings = new SeedSettings(
+                users,
+                programs,
+                activitiesPerProgram,
+                compulsoryPerProgram,
+                programsPerUser,
+                activitiesPerProgramRegistration,
+                submissionRatio,
+                chunkSize,
+                parallelism,
+                randomSeed
+        );
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+
+        SeedReport report = generator.generate(settings);
+        log.info("Seed complete | {}", report.describe());
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+}
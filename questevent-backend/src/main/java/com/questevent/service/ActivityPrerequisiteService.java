@@ -0,0 +1,363 @@
+package com.questevent.service;
+
+import com.questevent.cache.PrerequisiteGraphCache;
+import com.questevent.dto.ActivityPrerequisitesDTO;
+import com.questevent.dto.ActivityProgressRow;
+import com.questevent.dto.ActivityUnlockStatusDTO;
+import com.questevent.entity.Activity;
+import com.questevent.entity.ActivityPrerequisite;
+import com.questevent.entity.Program;
+import com.questevent.enums.CompletionStatus;
+import com.questevent.enums.ReviewStatus;
+import com.questevent.exception.ActivityNotFoundException;
+import com.questevent.exception.InvalidOperationException;
+import com.questevent.exception.ProgramNotFoundException;
+import com.questevent.exception.ResourceConflictException;
+import com.questevent.repository.ActivityPrerequisiteRepository;
+import com.questevent.repository.ActivityRegistrationRepository;
+import com.questevent.repository.ActivityRepository;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.utils.SecurityUserResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Prerequisite gating for activity registration. Each program's rules are
+ * compiled into a {@link PrerequisiteGraph} and cached. A user's progress in
+ * the program is loaded with one query and turned into bitsets. A user may
+ * register for an activity once every activity it requires is registered,
+ * completed and approved.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityPrerequisiteService {
+
+    private record Progress(BitSet registered, BitSet completed, BitSet approved) {}
+
+    private final ActivityPrerequisiteRepository prerequisiteRepository;
+    private final ActivityRepository activityRepository;
+    private final ActivityRegistrationRepository activityRegistrationRepository;
+    private final ProgramRepository programRepository;
+    private final PrerequisiteGraphCache graphCache;
+    private final SecurityUserResolver securityUserResolver;
+
+    @Transactional(readOnly = true)
+    public void checkEligibility(Activity activity, Long userId) {
+
+        Program program = activity.getProgram();
+        if (program == null) {
+            return;
+        }
+
+        PrerequisiteGraph graph = graphFor(program.getProgramId());
+        if (!graph.contains(activity.getActivityId())) {
+            // created after the graph was compiled on another instance
+            graph = compile(program.getProgramId());
+        }
+
+        BitSet required = graph.requiredFor(activity.getActivityId());
+        if (required.isEmpty()) {
+            return;
+        }
+
+        Progress progress = loadProgress(graph, userId);
+
+        for (int i = required.nextSetBit(0); i >= 0; i = required.nextSetBit(i + 1)) {
+
+            String kind = graph.isCompulsoryAt(i) ? "compulsory activity" : "prerequisite activity";
+            String name = graph.activityNameAt(i);
+
+            if (!progress.registered().get(i)) {
+                throw new InvalidOperationException(
+                        "Register for " + kind + " '" + name + "' before registering for this activity"
+                );
+            }
+
+            if (!progress.completed().get(i)) {
+                throw new InvalidOperationException(
+                        "Complete " + kind + " '" + name + "' before registering for this activity"
+                );
+            }
+
+            if (!progress.approved().get(i)) {
+                throw new InvalidOperationException(
+                        Character.toUpperCase(kind.charAt(0)) + kind.substring(1) + " '" + name
+                                + "' must be approved by a judge before registering for this activity"
+                );
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivityUnlockStatusDTO> getUnlockStatus(UUID programId, Long userId) {
+
+        if (programRepository.findById(programId).isEmpty()) {
+            log.warn("Program not found while computing unlocked activities | programId={}", programId);
+            throw new ProgramNotFoundException("Program not found");
+        }
+
+        Long targetUserId = userId != null
+                ? userId
+                : securityUserResolver.getCurrentUser().getUserId();
+
+        PrerequisiteGraph graph = graphFor(programId);
+        BitSet approved = loadProgress(graph, targetUserId).approved();
+
+        List<ActivityUnlockStatusDTO> statuses = new ArrayList<>(graph.size());
+        for (int i = 0; i < graph.size(); i++) {
+            BitSet missing = graph.requiredAt(i);
+            missing.andNot(approved);
+
+            statuses.add(new ActivityUnlockStatusDTO(
+                    graph.activityIdAt(i),
+                    graph.activityNameAt(i),
+                    graph.isCompulsoryAt(i),
+                    missing.isEmpty(),
+                    approved.get(i),
+                    graph.toIds(missing)
+            ));
+        }
+
+        log.debug(
+                "Unlocked activities computed | programId={} | userId={} | activities={} | approved={}",
+                programId,
+                targetUserId,
+                graph.size(),
+                approved.cardinality()
+        );
+
+        return statuses;
+    }
+
+    @Transactional(readOnly = true)
+    public ActivityPrerequisitesDTO getPrerequisites(UUID programId, UUID activityId) {
+
+        Activity activity = findActivityInProgram(programId, activityId);
+        PrerequisiteGraph graph = graphFor(programId);
+
+        List<UUID> prerequisiteIds = graph.contains(activity.getActivityId())
+                ? graph.explicitPrerequisitesOf(activity.getActivityId())
+                : List.of();
+
+        return new ActivityPrerequisitesDTO(activityId, prerequisiteIds);
+    }
+
+    @Transactional
+    public ActivityPrerequisitesDTO setPrerequisites(
+            UUID programId,
+            UUID activityId,
+            List<UUID> prerequisiteActivityIds
+    ) {
+
+        log.debug(
+                "Set prerequisites requested | programId={} | activityId={} | count={}",
+                programId,
+                activityId,
+                prerequisiteActivityIds != null ? prerequisiteActivityIds.size() : 0
+        );
+
+        // two concurrent edits could each pass the cycle check against the other's missing edge
+        lockProgram(programId);
+
+        Activity activity = findActivityInProgram(programId, activityId);
+
+        Set<UUID> requested = new LinkedHashSet<>(
+                prerequisiteActivityIds != null ? prerequisiteActivityIds : List.of()
+        );
+
+        // validate against the committed state, not a possibly stale cached graph
+        PrerequisiteGraph graph = compile(programId);
+
+        for (UUID prerequisiteId : requested) {
+
+            if (prerequisiteId == null || prerequisiteId.equals(activityId)) {
+                throw new IllegalArgumentException("An activity cannot be its own prerequisite");
+            }
+
+            if (!graph.contains(prerequisiteId)) {
+                throw new IllegalArgumentException(
+                        "Prerequisite activity " + prerequisiteId + " does not belong to this program"
+                );
+            }
+
+            if (Boolean.TRUE.equals(activity.getIsCompulsory())
+                    && !graph.isCompulsory(prerequisiteId)) {
+                throw new IllegalArgumentException(
+                        "A compulsory activity can only require other compulsory activities"
+                );
+            }
+
+            if (graph.requires(prerequisiteId, activityId)) {
+                log.warn(
+                        "Prerequisite cycle rejected | activityId={} | prerequisiteId={}",
+                        activityId,
+                        prerequisiteId
+                );
+                throw new ResourceConflictException(
+                        "Prerequisite " + prerequisiteId + " already requires this activity"
+                );
+            }
+        }
+
+        // diff instead of clear-and-insert: Hibernate flushes inserts before
+        // orphan deletes, which would trip the unique constraint
+        List<ActivityPrerequisite> current =
+                prerequisiteRepository.findByActivity_ActivityId(activityId);
+
+        List<ActivityPrerequisite> removed = new ArrayList<>();
+        Set<UUID> kept = new LinkedHashSet<>();
+        for (ActivityPrerequisite edge : current) {
+            UUID prerequisiteId = edge.getPrerequisite().getActivityId();
+            if (requested.contains(prerequisiteId)) {
+                kept.add(prerequisiteId);
+            } else {
+                removed.add(edge);
+            }
+        }
+
+        List<ActivityPrerequisite> added = new ArrayList<>();
+        for (UUID prerequisiteId : requested) {
+            if (!kept.contains(prerequisiteId)) {
+                ActivityPrerequisite edge = new ActivityPrerequisite();
+                edge.setActivity(activity);
+                edge.setPrerequisite(activityRepository.getReferenceById(prerequisiteId));
+                added.add(edge);
+            }
+        }
+
+        prerequisiteRepository.deleteAll(removed);
+        prerequisiteRepository.saveAll(added);
+        graphCache.evictAfterCommit(programId);
+
+        log.info(
+                "Prerequisites updated | programId={} | activityId={} | added={} | removed={}",
+                programId,
+                activityId,
+                added.size(),
+                removed.size()
+        );
+
+        return new ActivityPrerequisitesDTO(activityId, List.copyOf(requested));
+    }
+
+    /**
+     * Rejects flipping {@code isCompulsory} when it would close a cycle:
+     * optional activities implicitly require every compulsory one. Holds
+     * the program lock of {@link #lockProgram} until the caller commits.
+     */
+    @Transactional
+    public void validateCompulsoryChange(Activity activity, Boolean compulsory) {
+
+        boolean before = Boolean.TRUE.equals(activity.getIsCompulsory());
+        boolean after = Boolean.TRUE.equals(compulsory);
+
+        if (before == after || activity.getActivityId() == null) {
+            return;
+        }
+
+        lockProgram(activity.getProgram().getProgramId());
+
+        if (after && prerequisiteRepository
+                .existsByActivity_ActivityIdAndPrerequisite_IsCompulsoryFalse(activity.getActivityId())) {
+            throw new ResourceConflictException(
+                    "Remove optional prerequisites before making this activity compulsory"
+            );
+        }
+
+        if (!after && prerequisiteRepository
+                .existsByPrerequisite_ActivityIdAndActivity_IsCompulsoryTrue(activity.getActivityId())) {
+            throw new ResourceConflictException(
+                    "Activity is a prerequisite of a compulsory activity and must stay compulsory"
+            );
+        }
+    }
+
+    public void evictProgram(UUID programId) {
+        graphCache.evictAfterCommit(programId);
+    }
+
+    /**
+     * Locks the program row for the rest of the transaction, so prerequisite
+     * edits, compulsory flips and activity deletes of one program run one at
+     * a time against committed state.
+     */
+    @Transactional
+    public void lockProgram(UUID programId) {
+        if (programRepository.findByIdForUpdate(programId).isEmpty()) {
+            throw new ProgramNotFoundException("Program not found");
+        }
+    }
+
+    private PrerequisiteGraph graphFor(UUID programId) {
+        return graphCache.get(programId, this::compile);
+    }
+
+    private PrerequisiteGraph compile(UUID programId) {
+
+        PrerequisiteGraph graph = PrerequisiteGraph.compile(
+                programId,
+                activityRepository.findByProgram_ProgramId(programId),
+                prerequisiteRepository.findEdgesByProgramId(programId)
+        );
+
+        log.debug("Prerequisite graph compiled | programId={} | activities={}", programId, graph.size());
+
+        return graph;
+    }
+
+    private Progress loadProgress(PrerequisiteGraph graph, Long userId) {
+
+        List<ActivityProgressRow> rows = activityRegistrationRepository
+                .findProgressByProgramIdAndUserId(graph.getProgramId(), userId);
+
+        List<UUID> registered = new ArrayList<>(rows.size());
+        List<UUID> completed = new ArrayList<>();
+        List<UUID> approved = new ArrayList<>();
+
+        for (ActivityProgressRow row : rows) {
+            registered.add(row.activityId());
+            if (row.completionStatus() == CompletionStatus.COMPLETED) {
+                completed.add(row.activityId());
+            }
+            if (row.reviewStatus() == ReviewStatus.APPROVED) {
+                approved.add(row.activityId());
+            }
+        }
+
+        return new Progress(
+                graph.toBitSet(registered),
+                graph.toBitSet(completed),
+                graph.toBitSet(approved)
+        );
+    }
+
+    private Activity findActivityInProgram(UUID programId, UUID activityId) {
+
+        Activity activity = activityRepository.findById(activityId)
+                .orElseThrow(() -> {
+                    log.warn("Activity not found | activityId={}", activityId);
+                    return new ActivityNotFoundException("Activity not found");
+                });
+
+        if (!activity.getProgram().getProgramId().equals(programId)) {
+            log.warn(
+                    "Activity-program mismatch | activityId={} | programId={}",
+                    activityId,
+                    programId
+            );
+            throw new ResourceConflictException("Activity does not belong to this program");
+        }
+
+        return activity;
+    }
+}
@@ -3,24 +3,26 @@ package com.questevent.service;
 import com.questevent.dto.*;
 import com.questevent.entity.Activity;
 import com.questevent.entity.ActivityRegistration;
-import com.questevent.entity.ActivitySubmission;
-import com.questevent.entity.Program;
 import com.questevent.entity.User;
 import com.questevent.enums.CompletionStatus;
-import com.questevent.enums.ReviewStatus;
 import com.questevent.exception.*;
 import com.questevent.repository.ActivityRegistrationRepository;
 import com.questevent.repository.ActivityRepository;
-import com.questevent.repository.ActivitySubmissionRepository;
 import com.questevent.repository.UserRepository;
+import com.questevent.utils.CursorPagination;
 import com.questevent.utils.SecurityUserResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -29,8 +31,9 @@ public class ActivityRegistrationService {
 
     private final ActivityRegistrationRepository activityRegistrationRepository;
     private final ActivityRepository activityRepository;
-    private final ActivitySubmissionRepository activitySubmissionRepository;
     private final UserRepository userRepository;
+    private final BulkEnrollmentSupport bulkEnrollmentSupport;
+    private final ActivityPrerequisiteService activityPrerequisiteService;
     private final SecurityUserResolver securityUserResolver; // ✅ added
 
     @Transactional
@@ -51,7 +54,7 @@ public class ActivityRegistrationService {
                     return new ActivityNotFoundException("Activity not found");
                 });
 
-        validateCompulsoryActivities(activity, userId);
+        activityPrerequisiteService.checkEligibility(activity, userId);
 
         if (activityRegistrationRepository
                 .existsByActivity_ActivityIdAndUser_UserId(
@@ -86,41 +89,42 @@ public class ActivityRegistrationService {
     }
 
     @Transactional(readOnly = true)
-    public List<ActivityRegistrationDTO> getAllRegistrations() {
-        return activityRegistrationRepository.findAll()
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+    public CursorPageDTO<ActivityRegistrationDTO> getAllRegistrations(String cursor, int limit) {
+
+        UUID afterRegistrationId = CursorPagination.decodeUuid(cursor);
+        Limit fetch = Limit.of(limit + 1);
+
+        List<ActivityRegistrationDTO> registrations = afterRegistrationId == null
+                ? activityRegistrationRepository.findDtoPage(fetch)
+                : activityRegistrationRepository.findDtoPageAfter(afterRegistrationId, fetch);
+
+        return CursorPagination.toPage(
+                registrations,
+                limit,
+                ActivityRegistrationDTO::getActivityRegistrationId,
+                Function.identity()
+        );
     }
 
     @Transactional(readOnly = true)
     public ActivityRegistrationDTO getRegistrationById(UUID id) {
 
-        ActivityRegistration registration =
-                activityRegistrationRepository.findById(id)
-                        .orElseThrow(() ->
-                                new ResourceNotFoundException("Registration not found")
-                        );
-
-        return mapToDTO(registration);
+        return activityRegistrationRepository.findDtoById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Registration not found")
+                );
     }
 
     @Transactional(readOnly = true)
     public List<ActivityRegistrationDTO> getRegistrationsByActivityId(UUID activityId) {
 
-        return activityRegistrationRepository.findByActivityActivityId(activityId)
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+        return activityRegistrationRepository.findDtosByActivityId(activityId);
     }
 
     @Transactional(readOnly = true)
     public List<ActivityRegistrationDTO> getRegistrationsByUserId(Long userId) {
 
-        return activityRegistrationRepository.findByUserUserId(userId)
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+        return activityRegistrationRepository.findDtosByUserId(userId);
     }
 
     @Transactional(readOnly = true)
@@ -129,10 +133,7 @@ public class ActivityRegistrationService {
             CompletionStatus status) {
 
         return activityRegistrationRepository
-                .findByActivityActivityIdAndCompletionStatus(activityId, status)
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+                .findDtosByActivityIdAndStatus(activityId, status);
     }
 
     @Transactional(readOnly = true)
@@ -141,10 +142,7 @@ public class ActivityRegistrationService {
             CompletionStatus status) {
 
         return activityRegistrationRepository
-                .findByUserUserIdAndCompletionStatus(userId, status)
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+                .findDtosByUserIdAndStatus(userId, status);
     }
 
     @Transactional
@@ -153,7 +151,7 @@ public class ActivityRegistrationService {
             ActivityCompletionUpdateDTO updateDTO) {
 
         ActivityRegistration registration =
-                activityRegistrationRepository.findById(id)
+                activityRegistrationRepository.findWithActivityAndUserByActivityRegistrationId(id)
                         .orElseThrow(() ->
                                 new ResourceNotFoundException("Registration not found")
                         );
@@ -182,75 +180,6 @@ public class ActivityRegistrationService {
                 .countByActivityActivityId(activityId);
     }
 
-    private void validateCompulsoryActivities(Activity activity, Long userId) {
-
-        if (Boolean.TRUE.equals(activity.getIsCompulsory())) {
-            return;
-        }
-
-        Program program = activity.getProgram();
-        if (program == null) {
-            return;
-        }
-
-        List<Activity> compulsoryActivities =
-                activityRepository
-                        .findByProgram_ProgramIdAndIsCompulsoryTrue(
-                                program.getProgramId()
-                        );
-
-        for (Activity compulsory : compulsoryActivities) {
-
-            // Check if user has registered for the compulsory activity
-            boolean registered =
-                    activityRegistrationRepository
-                            .existsByActivity_ActivityIdAndUser_UserId(
-                                    compulsory.getActivityId(),
-                                    userId
-                            );
-
-            if (!registered) {
-                throw new InvalidOperationException(
-                        "Register for compulsory activity '"
-                                + compulsory.getActivityName()
-                                + "' before registering for this activity"
-                );
-            }
-
-            // Check if the registration is completed
-            boolean completed =
-                    activityRegistrationRepository
-                            .existsByActivity_ActivityIdAndUser_UserIdAndCompletionStatus(
-                                    compulsory.getActivityId(),
-                                    userId,
-                                    CompletionStatus.COMPLETED
-                            );
-
-            if (!completed) {
-                throw new InvalidOperationException(
-                        "Complete compulsory activity '"
-                                + compulsory.getActivityName()
-                                + "' before registering for this activity"
-                );
-            }
-
-            // Check if the submission exists and is approved by judge
-            ActivitySubmission submission =
-                    activitySubmissionRepository
-                            .findUserSubmissionForActivity(
-                                    compulsory.getActivityId(),
-                                    userId
-                            )
-                            .orElse(null);
-
-            if (submission == null || submission.getReviewStatus() != ReviewStatus.APPROVED) {
-                throw new InvalidOperationException(
-                        "Compulsory activity must be approved by a judge before registering for this activity"
-                );
-            }
-        }
-    }
-
     @Transactional
     public ActivityRegistrationResponseDTO addParticipantToActivity(
             UUID activityId,
@@ -301,6 +230,64 @@ public class ActivityRegistrationService {
         return mapToResponseDTO(saved);
     }
 
+    @Transactional
+    public BulkEnrollmentResultDTO addParticipantsToActivity(
+            UUID activityId,
+            BulkEnrollmentRequestDTO request
+    ) {
+
+        log.debug("Bulk participant addition to activity requested | activityId={}", activityId);
+
+        Activity activity = activityRepository.findById(activityId)
+                .orElseThrow(() ->
+                        new ActivityNotFoundException("Activity not found")
+                );
+
+        List<Long> userIds = bulkEnrollmentSupport.resolveUserIds(request);
+        Set<Long> existingUserIds = bulkEnrollmentSupport.findExistingUserIds(userIds);
+        List<Long> candidates = userIds.stream()
+                .filter(existingUserIds::contains)
+                .toList();
+
+        Set<Long> alreadyRegistered = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            alreadyRegistered.addAll(
+                    activityRegistrationRepository.findRegisteredUserIds(activityId, candidates));
+        }
+
+        List<Long> toEnroll = candidates.stream()
+                .filter(userId -> !alreadyRegistered.contains(userId))
+                .toList();
+
+        bulkEnrollmentSupport.insertInBatches(toEnroll, chunk -> {
+            List<ActivityRegistration> registrations = new ArrayList<>(chunk.size());
+
+            for (Long userId : chunk) {
+                ActivityRegistration registration = new ActivityRegistration();
+                registration.setActivity(activity);
+                registration.setUser(userRepository.getReferenceById(userId));
+                registration.setCompletionStatus(CompletionStatus.NOT_COMPLETED);
+                registrations.add(registration);
+            }
+
+            activityRegistrationRepository.saveAll(registrations);
+        });
+
+        BulkEnrollmentResultDTO result =
+                bulkEnrollmentSupport.summarize(userIds, existingUserIds, alreadyRegistered);
+
+        log.info(
+                "Participants added to activity in bulk | activityId={} | requested={} | enrolled={} | alreadyRegistered={} | notFound={}",
+                activityId,
+                result.requested(),
+                result.enrolled(),
+                result.alreadyRegistered(),
+                result.notFound()
+        );
+
+        return result;
+    }
+
     private ActivityRegistrationDTO mapToDTO(ActivityRegistration registration) {
         return new ActivityRegistrationDTO(
                 registration.getActivityRegistrationId(),
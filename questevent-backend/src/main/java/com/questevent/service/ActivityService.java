@@ -1,20 +1,26 @@
 package com.questevent.service;
 
+import com.questevent.dto.ActivityProgressRow;
 import com.questevent.dto.ActivityRequestDTO;
 import com.questevent.dto.ActivityWithRegistrationStatusDTO;
+import com.questevent.dto.ContentVersion;
+import com.questevent.dto.ProgramContentVersion;
 import com.questevent.entity.Activity;
 import com.questevent.entity.Program;
 import com.questevent.entity.User;
+import com.questevent.repository.ActivityRegistrationRepository;
 import com.questevent.repository.ActivityRepository;
 import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramSearchIndex;
 import com.questevent.utils.SecurityUserResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.questevent.exception.ActivityNotFoundException;
 import com.questevent.exception.ProgramNotFoundException;
 import com.questevent.exception.ResourceConflictException;
 
-
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,16 +31,26 @@ public class ActivityService {
     private final ActivityRepository activityRepository;
     private final ProgramRepository programRepository;
     private final SecurityUserResolver securityUserResolver;
+    private final ActivityPrerequisiteService activityPrerequisiteService;
+    private final ProgramSearchIndex programSearchIndex;
+    private final ActivityRegistrationRepository activityRegistrationRepository;
 
     public ActivityService(
             ActivityRepository activityRepository,
-            ProgramRepository programRepository, SecurityUserResolver securityUserResolver
+            ProgramRepository programRepository, SecurityUserResolver securityUserResolver,
+            ActivityPrerequisiteService activityPrerequisiteService,
+            ProgramSearchIndex programSearchIndex,
+            ActivityRegistrationRepository activityRegistrationRepository
     ) {
         this.activityRepository = activityRepository;
         this.programRepository = programRepository;
         this.securityUserResolver = securityUserResolver;
+        this.activityPrerequisiteService = activityPrerequisiteService;
+        this.programSearchIndex = programSearchIndex;
+        this.activityRegistrationRepository = activityRegistrationRepository;
     }
 
+    @Transactional
     public Activity createActivity(UUID programId, ActivityRequestDTO dto) {
 
         log.debug("Create activity requested | programId={}", programId);
@@ -51,6 +67,9 @@ public class ActivityService {
         activity.setProgram(program);
 
         Activity saved = activityRepository.save(activity);
+        activityPrerequisiteService.evictProgram(programId);
+        programRepository.bumpActivitiesVersion(programId, Instant.now());
+        programSearchIndex.programChanged(programId);
 
         log.info(
                 "Activity created | activityId={} | programId={}",
@@ -61,6 +80,7 @@ public class ActivityService {
         return saved;
     }
 
+    @Transactional
     public Activity updateActivity(UUID programId, UUID activityId, ActivityRequestDTO dto) {
 
         log.debug(
@@ -85,9 +105,13 @@ public class ActivityService {
             throw new ResourceConflictException("Activity does not belong to this program");
         }
 
+        activityPrerequisiteService.validateCompulsoryChange(existingActivity, dto.getIsCompulsory());
         mapDtoToEntity(dto, existingActivity);
 
         Activity updated = activityRepository.save(existingActivity);
+        activityPrerequisiteService.evictProgram(programId);
+        programRepository.bumpActivitiesVersion(programId, Instant.now());
+        programSearchIndex.programChanged(programId);
 
         log.info(
                 "Activity updated | activityId={} | programId={}",
@@ -102,13 +126,14 @@ public class ActivityService {
 
         log.debug("Fetching activities by program | programId={}", programId);
 
-        if (!programRepository.existsById(programId)) {
+        if (!programExists(programId)) {
             log.warn("Program not found while fetching activities | programId={}", programId);
             throw new ProgramNotFoundException("Program not found");
         }
 
+        // validated by the row's activities version, so the body must not come from an older cached list
         List<Activity> activities =
-                activityRepository.findByProgram_ProgramId(programId);
+                activityRepository.findCurrentByProgram_ProgramId(programId);
 
         log.info(
                 "Activities fetched | programId={} | count={}",
@@ -119,6 +144,7 @@ public class ActivityService {
         return activities;
     }
 
+    @Transactional
     public void deleteActivity(UUID programId, UUID activityId) {
 
         log.debug(
@@ -142,7 +168,12 @@ public class ActivityService {
             throw new ResourceConflictException("Activity does not belong to this program");
         }
 
+        // before the delete, in the same order as setPrerequisites, so the two cannot deadlock
+        activityPrerequisiteService.lockProgram(programId);
         activityRepository.delete(activity);
+        activityPrerequisiteService.evictProgram(programId);
+        programRepository.bumpActivitiesVersion(programId, Instant.now());
+        programSearchIndex.programChanged(programId);
 
         log.info(
                 "Activity deleted | activityId={} | programId={}",
@@ -158,7 +189,7 @@ public class ActivityService {
                 programId
         );
 
-        if (!programRepository.existsById(programId)) {
+        if (!programExists(programId)) {
             log.warn(
                     "Program not found while fetching compulsory activities | programId={}",
                     programId
@@ -166,9 +197,10 @@ public class ActivityService {
             throw new ProgramNotFoundException("Program not found");
         }
 
+        // validated by the row's activities version, so the body must not come from an older cached list
         List<Activity> activities =
                 activityRepository
-                        .findByProgram_ProgramIdAndIsCompulsoryTrue(programId);
+                        .findCurrentByProgram_ProgramIdAndIsCompulsoryTrue(programId);
 
         log.info(
                 "Compulsory activities fetched | programId={} | count={}",
@@ -181,7 +213,7 @@ public class ActivityService {
 
     public List<ActivityWithRegistrationStatusDTO> getActivitiesForUser(UUID programId) {
 
-        if (!programRepository.existsById(programId)) {
+        if (!programExists(programId)) {
             throw new ProgramNotFoundException("Program not found");
         }
 
@@ -193,6 +225,58 @@ public class ActivityService {
         );
     }
 
+    /**
+     * Version of the activity lists of a program (all and compulsory), read
+     * from the program row rather than the second-level cache.
+     */
+    public ContentVersion getActivitiesVersion(UUID programId) {
+
+        ProgramContentVersion program = findContentVersion(programId);
+
+        return ContentVersion.of(
+                program.activitiesUpdatedAt(),
+                programId,
+                program.activitiesVersion()
+        );
+    }
+
+    /**
+     * Version of {@link #getActivitiesForUser}: the program's activities
+     * plus the caller's registrations in it, read through the (user, status)
+     * index instead of the whole view. Registrations carry no timestamp,
+     * so there is no Last-Modified.
+     */
+    public ContentVersion getActivitiesForUserVersion(UUID programId) {
+
+        ProgramContentVersion program = findContentVersion(programId);
+        Long userId = securityUserResolver.getCurrentUser().getUserId();
+
+        List<String> progress = activityRegistrationRepository
+                .findProgressByProgramIdAndUserId(programId, userId)
+                .stream()
+                .map(ActivityProgressRow::toString)
+                .sorted()
+                .toList();
+
+        return ContentVersion.of(
+                null,
+                programId,
+                program.activitiesVersion(),
+                userId,
+                progress
+        );
+    }
+
+    private ProgramContentVersion findContentVersion(UUID programId) {
+        return programRepository.findContentVersion(programId)
+                .orElseThrow(() -> new ProgramNotFoundException("Program not found"));
+    }
+
+    // findById is answered from the second-level cache; existsById always runs a count query
+    private boolean programExists(UUID programId) {
+        return programRepository.findById(programId).isPresent();
+    }
+
     private void mapDtoToEntity(ActivityRequestDTO dto, Activity activity) {
         activity.setActivityName(dto.getActivityName());
         activity.setActivityDuration(dto.getActivityDuration());
@@ -0,0 +1,123 @@
+package com.questevent.service;
+
+import com.questevent.dto.BulkEnrollmentRequestDTO;
+import com.questevent.dto.BulkEnrollmentResultDTO;
+import com.questevent.dto.BulkEnrollmentUserResultDTO;
+import com.questevent.enums.BulkEnrollmentStatus;
+import com.questevent.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Shared steps of the program and activity bulk enrollment paths: resolving
+ * the target users, the set-based existence check, chunked inserts and the
+ * per-user summary.
+ * <p>
+ * Chunks match {@code hibernate.jdbc.batch_size}, so each chunk goes out as
+ * one JDBC batch per table; the persistence context is flushed and cleared
+ * between chunks to keep memory flat for department-sized requests.
+ */
+@Component
+public class BulkEnrollmentSupport {
+
+    private final UserRepository userRepository;
+    private final int batchSize;
+    private final int maxUsers;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BulkEnrollmentSupport(
+            UserRepository userRepository,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+            @Value("${questevent.bulk-enrollment.max-users:5000}") int maxUsers
+    ) {
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+        this.maxUsers = maxUsers;
+    }
+
+    public List<Long> resolveUserIds(BulkEnrollmentRequestDTO request) {
+
+        if (request == null) {
+            throw new IllegalArgumentException("Bulk enrollment request is required");
+        }
+
+        boolean hasUserIds = request.getUserIds() != null && !request.getUserIds().isEmpty();
+        boolean hasDepartment = request.getDepartment() != null;
+
+        if (hasUserIds == hasDepartment) {
+            throw new IllegalArgumentException("Provide either userIds or department");
+        }
+
+        List<Long> userIds = hasUserIds
+                ? new ArrayList<>(new LinkedHashSet<>(request.getUserIds()))
+                : userRepository.findUserIdsByDepartment(request.getDepartment());
+
+        if (userIds.contains(null)) {
+            throw new IllegalArgumentException("userIds must not contain null");
+        }
+
+        if (userIds.size() > maxUsers) {
+            throw new IllegalArgumentException(
+                    "Bulk enrollment is limited to " + maxUsers + " users per request"
+            );
+        }
+
+        return userIds;
+    }
+
+    public Set<Long> findExistingUserIds(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(userRepository.findExistingUserIds(userIds));
+    }
+
+    public <T> void insertInBatches(List<T> userIds, Consumer<List<T>> insertChunk) {
+
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            insertChunk.accept(userIds.subList(from, Math.min(from + batchSize, userIds.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    public BulkEnrollmentResultDTO summarize(
+            List<Long> userIds,
+            Set<Long> existingUserIds,
+            Collection<Long> alreadyRegistered
+    ) {
+        List<BulkEnrollmentUserResultDTO> results = new ArrayList<>(userIds.size());
+        int enrolled = 0;
+        int skipped = 0;
+        int notFound = 0;
+
+        for (Long userId : userIds) {
+            BulkEnrollmentStatus status;
+            if (!existingUserIds.contains(userId)) {
+                status = BulkEnrollmentStatus.USER_NOT_FOUND;
+                notFound++;
+            } else if (alreadyRegistered.contains(userId)) {
+                status = BulkEnrollmentStatus.ALREADY_REGISTERED;
+                skipped++;
+            } else {
+                status = BulkEnrollmentStatus.ENROLLED;
+                enrolled++;
+            }
+            results.add(new BulkEnrollmentUserResultDTO(userId, status));
+        }
+
+        return new BulkEnrollmentResultDTO(userIds.size(), enrolled, skipped, notFound, results);
+    }
+}
@@ -0,0 +1,147 @@
+package com.questevent.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.questevent.enums.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows one at a time as NDJSON or CSV. Nothing is retained
+ * between rows, so memory use does not depend on the number of rows.
+ * Closing flushes but does not close the target stream.
+ */
+final class ExportRowWriter<T extends Record> implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportFormat format;
+    private final Method[] accessors;
+    private final JsonGenerator json;
+    private final ObjectWriter jsonWriter;
+    private final Writer csv;
+    private long rowCount;
+    private boolean closed;
+
+    ExportRowWriter(
+            ExportFormat format,
+            Class<T> rowType,
+            OutputStream out,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        this.format = format;
+
+        RecordComponent[] components = rowType.getRecordComponents();
+        this.accessors = new Method[components.length];
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = components[i].getAccessor();
+        }
+
+        if (format == ExportFormat.NDJSON) {
+            this.json = objectMapper.getFactory().createGenerator(out);
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.json.setRootValueSeparator(new SerializedString("\n"));
+            this.jsonWriter = objectMapper.writer()
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.csv = null;
+        } else {
+            this.json = null;
+            this.jsonWriter = null;
+            this.csv = new BufferedWriter(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                    BUFFER_SIZE
+            );
+            writeCsvHeader(components);
+        }
+    }
+
+    void write(T row) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            jsonWriter.writeValue(json, row);
+        } else {
+            writeCsvRow(row);
+        }
+        rowCount++;
+    }
+
+    long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (json != null) {
+            if (rowCount > 0) {
+                json.writeRaw('\n');
+            }
+            json.close();
+        } else {
+            csv.flush();
+        }
+    }
+
+    private void writeCsvHeader(RecordComponent[] components) throws IOException {
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            csv.write(components[i].getName());
+        }
+        csv.write('\n');
+    }
+
+    private void writeCsvRow(T row) throws IOException {
+        for (int i = 0; i < accessors.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            Object value = readComponent(row, accessors[i]);
+            if (value != null) {
+                csv.write(escapeCsv(value));
+            }
+        }
+        csv.write('\n');
+    }
+
+    static String escapeCsv(Object value) {
+
+        String text = value.toString();
+
+        // keep spreadsheet apps from evaluating user-supplied text as a formula
+        if (value instanceof CharSequence && !text.isEmpty()
+                && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static Object readComponent(Record row, Method accessor) {
+        try {
+            return accessor.invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unreadable export column: " + accessor.getName(), e);
+        }
+    }
+}
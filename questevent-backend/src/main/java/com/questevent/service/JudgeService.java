@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.JudgeSubmissionDTO;
 import com.questevent.dto.JudgeSubmissionDetailsDTO;
 import com.questevent.dto.JudgeSubmissionStatsDTO;
@@ -22,7 +23,9 @@ public interface JudgeService {
     );
 
 
-    List<JudgeSubmissionDTO> getAllSubmissionsForJudge(
+    CursorPageDTO<JudgeSubmissionDTO> getAllSubmissionsForJudge(
+            String cursor,
+            int limit,
             Authentication authentication
     );
 
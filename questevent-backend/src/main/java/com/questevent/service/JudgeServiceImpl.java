@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.JudgeSubmissionDTO;
 import com.questevent.dto.JudgeSubmissionDetailsDTO;
 import com.questevent.dto.JudgeSubmissionStatsDTO;
@@ -8,13 +9,16 @@ import com.questevent.enums.CompletionStatus;
 import com.questevent.enums.ReviewStatus;
 import com.questevent.enums.Role;
 import com.questevent.exception.*;
+import com.questevent.metrics.Instrumented;
 import com.questevent.repository.ActivityRegistrationRepository;
 import com.questevent.repository.ActivitySubmissionRepository;
 import com.questevent.repository.JudgeRepository;
 import com.questevent.repository.UserRepository;
+import com.questevent.utils.CursorPagination;
 import com.questevent.utils.SecurityUserResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +29,7 @@ import java.util.UUID;
 
 @Slf4j
 @Service
+@Instrumented("judge")
 @RequiredArgsConstructor
 public class JudgeServiceImpl implements JudgeService {
 
@@ -71,7 +76,7 @@ public class JudgeServiceImpl implements JudgeService {
             Authentication ignored
     ) {
 
-        ActivitySubmission submission = submissionRepository.findById(submissionId)
+        ActivitySubmission submission = submissionRepository.findWithReviewContextBySubmissionId(submissionId)
                 .orElseThrow(() ->
                         new SubmissionNotFoundException("Submission not found")
                 );
@@ -127,7 +132,7 @@ public class JudgeServiceImpl implements JudgeService {
         User user = currentUser();
 
         ActivitySubmission submission =
-                submissionRepository.findById(submissionId)
+                submissionRepository.findWithReviewContextBySubmissionId(submissionId)
                         .orElseThrow(() ->
                                 new SubmissionNotFoundException(
                                         "Submission not found"
@@ -228,16 +233,25 @@ public class JudgeServiceImpl implements JudgeService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<JudgeSubmissionDTO> getAllSubmissionsForJudge(Authentication ignored) {
+    public CursorPageDTO<JudgeSubmissionDTO> getAllSubmissionsForJudge(
+            String cursor,
+            int limit,
+            Authentication ignored
+    ) {
 
         User user = currentUser();
+        UUID afterSubmissionId = CursorPagination.decodeUuid(cursor);
+        Limit fetch = Limit.of(limit + 1);
 
         // OWNER sees everything
         if (user.getRole() == Role.OWNER) {
-            return submissionRepository.findAll()
-                    .stream()
-                    .map(this::mapToDto)
-                    .toList();
+            List<ActivitySubmission> submissions = afterSubmissionId == null
+                    ? submissionRepository.findByOrderBySubmissionIdAsc(fetch)
+                    : submissionRepository
+                            .findBySubmissionIdGreaterThanOrderBySubmissionIdAsc(afterSubmissionId, fetch);
+
+            return CursorPagination.toPage(
+                    submissions, limit, ActivitySubmission::getSubmissionId, this::mapToDto);
         }
 
         // Not a judge → return empty list (NO error)
@@ -245,24 +259,32 @@ public class JudgeServiceImpl implements JudgeService {
                 judgeRepository.existsByUserUserId(user.getUserId());
 
         if (!isJudge) {
-            return List.of(); // ✅ []
+            return new CursorPageDTO<>(List.of(), null); // ✅ []
         }
 
         // Judge → ONLY their assigned programs
-        return submissionRepository
-                .findByActivityRegistrationActivityProgramJudgeUserUserId(
-                        user.getUserId()
-                )
-                .stream()
-                .map(this::mapToDto)
-                .toList();
+        List<ActivitySubmission> submissions = afterSubmissionId == null
+                ? submissionRepository
+                        .findByActivityRegistrationActivityProgramJudgeUserUserIdOrderBySubmissionIdAsc(
+                                user.getUserId(),
+                                fetch
+                        )
+                : submissionRepository
+                        .findByActivityRegistrationActivityProgramJudgeUserUserIdAndSubmissionIdGreaterThanOrderBySubmissionIdAsc(
+                                user.getUserId(),
+                                afterSubmissionId,
+                                fetch
+                        );
+
+        return CursorPagination.toPage(
+                submissions, limit, ActivitySubmission::getSubmissionId, this::mapToDto);
     }
 
     @Override
     @Transactional
     public void reviewSubmission(UUID submissionId) {
 
-        ActivitySubmission submission = submissionRepository.findById(submissionId)
+        ActivitySubmission submission = submissionRepository.findWithReviewContextBySubmissionId(submissionId)
                 .orElseThrow(() ->
                         new SubmissionNotFoundException("Submission not found")
                 );
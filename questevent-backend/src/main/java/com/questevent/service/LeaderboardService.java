@@ -3,21 +3,25 @@ package com.questevent.service;
 import com.questevent.dto.LeaderboardDTO;
 import com.questevent.exception.InvalidLeaderboardRequestException;
 import com.questevent.exception.LeaderboardNotFoundException;
+import com.questevent.metrics.Instrumented;
 import com.questevent.repository.LeaderboardRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
 @Service
+@Instrumented("leaderboard")
 @RequiredArgsConstructor
 public class LeaderboardService {
 
     private final LeaderboardRepository leaderboardRepository;
 
+    @Transactional(readOnly = true)
     public List<LeaderboardDTO> getGlobalLeaderboard() {
 
         log.debug("Fetching global leaderboard");
@@ -38,6 +42,7 @@ public class LeaderboardService {
         return leaderboard;
     }
 
+    @Transactional(readOnly = true)
     public List<LeaderboardDTO> getProgramLeaderboard(UUID programId) {
 
         log.debug(
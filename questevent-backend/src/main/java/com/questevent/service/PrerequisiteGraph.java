@@ -0,0 +1,199 @@
+package com.questevent.service;
+
+import com.questevent.dto.PrerequisiteEdge;
+import com.questevent.entity.Activity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compiled prerequisite DAG of one program. Activities are numbered
+ * 0..n-1, and every activity gets the bitset of all activities it requires,
+ * directly or transitively. Eligibility then means that bitset is a subset
+ * of the user's approved-activity bitset.
+ * <p>
+ * An optional activity implicitly requires every compulsory activity. A
+ * compulsory activity only requires its explicit prerequisites, which
+ * {@link ActivityPrerequisiteService} restricts to compulsory activities.
+ * Instances are immutable and safe to share between threads.
+ */
+public final class PrerequisiteGraph {
+
+    private final UUID programId;
+    private final List<UUID> activityIds;
+    private final List<String> activityNames;
+    private final BitSet compulsory;
+    private final Map<UUID, Integer> indexById;
+    private final BitSet[] explicit;
+    private final BitSet[] required;
+
+    private PrerequisiteGraph(
+            UUID programId,
+            List<UUID> activityIds,
+            List<String> activityNames,
+            BitSet compulsory,
+            Map<UUID, Integer> indexById,
+            BitSet[] explicit,
+            BitSet[] required
+    ) {
+        this.programId = programId;
+        this.activityIds = activityIds;
+        this.activityNames = activityNames;
+        this.compulsory = compulsory;
+        this.indexById = indexById;
+        this.explicit = explicit;
+        this.required = required;
+    }
+
+    public static PrerequisiteGraph compile(
+            UUID programId,
+            List<Activity> activities,
+            Collection<PrerequisiteEdge> edges
+    ) {
+        int n = activities.size();
+        List<UUID> ids = new ArrayList<>(n);
+        List<String> names = new ArrayList<>(n);
+        Map<UUID, Integer> indexById = new HashMap<>(n * 2);
+        BitSet compulsory = new BitSet(n);
+
+        for (int i = 0; i < n; i++) {
+            Activity activity = activities.get(i);
+            ids.add(activity.getActivityId());
+            names.add(activity.getActivityName());
+            indexById.put(activity.getActivityId(), i);
+            if (Boolean.TRUE.equals(activity.getIsCompulsory())) {
+                compulsory.set(i);
+            }
+        }
+
+        BitSet[] explicit = new BitSet[n];
+        BitSet[] required = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            explicit[i] = new BitSet(n);
+        }
+
+        for (PrerequisiteEdge edge : edges) {
+            Integer from = indexById.get(edge.activityId());
+            Integer to = indexById.get(edge.prerequisiteActivityId());
+            if (from != null && to != null) {
+                explicit[from].set(to);
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            required[i] = (BitSet) explicit[i].clone();
+            if (!compulsory.get(i)) {
+                required[i].or(compulsory);
+            }
+        }
+
+        // transitive closure by fixed point; terminates even if a cycle slipped in
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < n; i++) {
+                BitSet closure = (BitSet) required[i].clone();
+                for (int j = required[i].nextSetBit(0); j >= 0; j = required[i].nextSetBit(j + 1)) {
+                    closure.or(required[j]);
+                }
+                if (!closure.equals(required[i])) {
+                    required[i] = closure;
+                    changed = true;
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            required[i].clear(i);
+        }
+
+        return new PrerequisiteGraph(
+                programId,
+                List.copyOf(ids),
+                names,
+                compulsory,
+                Map.copyOf(indexById),
+                explicit,
+                required
+        );
+    }
+
+    public UUID getProgramId() {
+        return programId;
+    }
+
+    public int size() {
+        return activityIds.size();
+    }
+
+    public boolean contains(UUID activityId) {
+        return indexById.containsKey(activityId);
+    }
+
+    public UUID activityIdAt(int index) {
+        return activityIds.get(index);
+    }
+
+    public String activityNameAt(int index) {
+        return activityNames.get(index);
+    }
+
+    public boolean isCompulsory(UUID activityId) {
+        return compulsory.get(indexOf(activityId));
+    }
+
+    public boolean isCompulsoryAt(int index) {
+        return compulsory.get(index);
+    }
+
+    // all activities the given one requires, directly or transitively
+    public BitSet requiredFor(UUID activityId) {
+        return (BitSet) required[indexOf(activityId)].clone();
+    }
+
+    public BitSet requiredAt(int index) {
+        return (BitSet) required[index].clone();
+    }
+
+    public boolean requires(UUID activityId, UUID prerequisiteId) {
+        return required[indexOf(activityId)].get(indexOf(prerequisiteId));
+    }
+
+    public List<UUID> explicitPrerequisitesOf(UUID activityId) {
+        return toIds(explicit[indexOf(activityId)]);
+    }
+
+    public BitSet toBitSet(Collection<UUID> ids) {
+        BitSet bits = new BitSet(size());
+        for (UUID id : ids) {
+            Integer index = indexById.get(id);
+            if (index != null) {
+                bits.set(index);
+            }
+        }
+        return bits;
+    }
+
+    public List<UUID> toIds(BitSet bits) {
+        List<UUID> ids = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            ids.add(activityIds.get(i));
+        }
+        return ids;
+    }
+
+    private int indexOf(UUID activityId) {
+        Integer index = indexById.get(activityId);
+        if (index == null) {
+            throw new IllegalArgumentException(
+                    "Activity " + activityId + " does not belong to program " + programId
+            );
+        }
+        return index;
+    }
+}
@@ -0,0 +1,134 @@
+package com.questevent.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.dto.ProgramRegistrationExportRow;
+import com.questevent.dto.ProgramWalletExportRow;
+import com.questevent.dto.SubmissionExportRow;
+import com.questevent.enums.ExportFormat;
+import com.questevent.exception.ProgramNotFoundException;
+import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.repository.ProgramRegistrationRepository;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramWalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streams a program's registrations, submissions and wallets straight from
+ * forward-only result sets into the response body. Rows are DTO projections,
+ * so nothing accumulates in the persistence context.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgramExportService {
+
+    private final ProgramRepository programRepository;
+    private final ProgramRegistrationRepository programRegistrationRepository;
+    private final ActivitySubmissionRepository submissionRepository;
+    private final ProgramWalletRepository programWalletRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public void requireProgram(UUID programId) {
+        if (!programRepository.existsById(programId)) {
+            log.warn("Program not found for export | programId={}", programId);
+            throw new ProgramNotFoundException("Program not found");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportRegistrations(UUID programId, ExportFormat format, OutputStream out) {
+        return export(
+                "registrations",
+                programId,
+                format,
+                out,
+                ProgramRegistrationExportRow.class,
+                () -> programRegistrationRepository.streamExportByProgramId(programId)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public long exportSubmissions(UUID programId, ExportFormat format, OutputStream out) {
+        return export(
+                "submissions",
+                programId,
+                format,
+                out,
+                SubmissionExportRow.class,
+                () -> submissionRepository.streamExportByProgramId(programId)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public long exportWallets(UUID programId, ExportFormat format, OutputStream out) {
+        return export(
+                "wallets",
+                programId,
+                format,
+                out,
+                ProgramWalletExportRow.class,
+                () -> programWalletRepository.streamExportByProgramId(programId)
+        );
+    }
+
+    private <T extends Record> long export(
+            String dataset,
+            UUID programId,
+            ExportFormat format,
+            OutputStream out,
+            Class<T> rowType,
+            Supplier<Stream<T>> query
+    ) {
+        long start = System.nanoTime();
+
+        log.info(
+                "Program export started | dataset={} | programId={} | format={}",
+                dataset,
+                programId,
+                format
+        );
+
+        try (Stream<T> rows = query.get();
+             ExportRowWriter<T> writer =
+                     new ExportRowWriter<>(format, rowType, out, objectMapper)) {
+
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+            writer.close();
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info(
+                    "Program export finished | dataset={} | programId={} | rows={} | elapsedMs={}",
+                    dataset,
+                    programId,
+                    writer.getRowCount(),
+                    elapsedMillis
+            );
+            return writer.getRowCount();
+
+        } catch (IOException e) {
+            // usually the client went away mid-download
+            log.warn(
+                    "Program export aborted | dataset={} | programId={} | reason={}",
+                    dataset,
+                    programId,
+                    e.getMessage()
+            );
+            throw new UncheckedIOException(e);
+        }
+    }
+}
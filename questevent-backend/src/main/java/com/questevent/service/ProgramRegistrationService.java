@@ -3,20 +3,28 @@ package com.questevent.service;
 import com.questevent.dto.*;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramRegistration;
+import com.questevent.entity.ProgramWallet;
 import com.questevent.entity.User;
 import com.questevent.exception.*;
 import com.questevent.repository.ProgramRegistrationRepository;
 import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramWalletRepository;
 import com.questevent.repository.UserRepository;
+import com.questevent.utils.CursorPagination;
 import com.questevent.utils.SecurityUserResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -27,6 +35,8 @@ public class ProgramRegistrationService {
     private final ProgramRepository programRepository;
     private final UserRepository userRepository;
     private final ProgramWalletService programWalletService;
+    private final ProgramWalletRepository programWalletRepository;
+    private final BulkEnrollmentSupport bulkEnrollmentSupport;
     private final SecurityUserResolver securityUserResolver;
 
     @Transactional
@@ -141,15 +151,98 @@ public class ProgramRegistrationService {
         return mapToResponseDTO(saved);
     }
 
-    @Transactional(readOnly = true)
-    public List<ProgramRegistrationDTO> getAllRegistrations() {
+    @Transactional
+    public BulkEnrollmentResultDTO addParticipantsToProgram(
+            UUID programId,
+            BulkEnrollmentRequestDTO request) {
+
+        log.debug("Bulk participant addition requested | programId={}", programId);
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> {
+                    log.error("Program not found while adding participants | programId={}", programId);
+                    return new ProgramNotFoundException("Program not found");
+                });
 
-        log.info("Fetching all program registrations");
+        List<Long> userIds = bulkEnrollmentSupport.resolveUserIds(request);
+        Set<Long> existingUserIds = bulkEnrollmentSupport.findExistingUserIds(userIds);
+        List<Long> candidates = userIds.stream()
+                .filter(existingUserIds::contains)
+                .toList();
+
+        Set<Long> alreadyRegistered = new HashSet<>();
+        Set<Long> withWallet = new HashSet<>();
+        if (!candidates.isEmpty()) {
+            alreadyRegistered.addAll(
+                    programRegistrationRepository.findRegisteredUserIds(programId, candidates));
+            withWallet.addAll(
+                    programWalletRepository.findUserIdsWithWallet(programId, candidates));
+        }
 
-        return programRegistrationRepository.findAll()
-                .stream()
-                .map(this::mapToDTO)
+        List<Long> toEnroll = candidates.stream()
+                .filter(userId -> !alreadyRegistered.contains(userId))
                 .toList();
+        Instant registeredAt = Instant.now();
+
+        bulkEnrollmentSupport.insertInBatches(toEnroll, chunk -> {
+            List<ProgramRegistration> registrations = new ArrayList<>(chunk.size());
+            List<ProgramWallet> wallets = new ArrayList<>(chunk.size());
+
+            for (Long userId : chunk) {
+                User user = userRepository.getReferenceById(userId);
+
+                ProgramRegistration registration = new ProgramRegistration();
+                registration.setProgram(program);
+                registration.setUser(user);
+                registration.setRegisteredAt(registeredAt);
+                registrations.add(registration);
+
+                if (!withWallet.contains(userId)) {
+                    ProgramWallet wallet = new ProgramWallet();
+                    wallet.setProgram(program);
+                    wallet.setUser(user);
+                    wallet.setGems(0L);
+                    wallets.add(wallet);
+                }
+            }
+
+            programRegistrationRepository.saveAll(registrations);
+            programWalletRepository.saveAll(wallets);
+        });
+
+        BulkEnrollmentResultDTO result =
+                bulkEnrollmentSupport.summarize(userIds, existingUserIds, alreadyRegistered);
+
+        log.info(
+                "Participants added to program in bulk | programId={} | requested={} | enrolled={} | alreadyRegistered={} | notFound={}",
+                programId,
+                result.requested(),
+                result.enrolled(),
+                result.alreadyRegistered(),
+                result.notFound()
+        );
+
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProgramRegistrationDTO> getAllRegistrations(String cursor, int limit) {
+
+        log.info("Fetching program registrations page | limit={}", limit);
+
+        UUID afterRegistrationId = CursorPagination.decodeUuid(cursor);
+        Limit fetch = Limit.of(limit + 1);
+
+        List<ProgramRegistrationDTO> registrations = afterRegistrationId == null
+                ? programRegistrationRepository.findDtoPage(fetch)
+                : programRegistrationRepository.findDtoPageAfter(afterRegistrationId, fetch);
+
+        return CursorPagination.toPage(
+                registrations,
+                limit,
+                ProgramRegistrationDTO::getProgramRegistrationId,
+                Function.identity()
+        );
     }
 
     @Transactional(readOnly = true)
@@ -157,16 +250,13 @@ public class ProgramRegistrationService {
 
         log.debug("Fetching registration by id | registrationId={}", id);
 
-        ProgramRegistration registration =
-                programRegistrationRepository.findById(id)
-                        .orElseThrow(() -> {
-                            log.warn("Registration not found | registrationId={}", id);
-                            return new ResourceNotFoundException(
-                                    "Registration not found with id: " + id
-                            );
-                        });
-
-        return mapToDTO(registration);
+        return programRegistrationRepository.findDtoById(id)
+                .orElseThrow(() -> {
+                    log.warn("Registration not found | registrationId={}", id);
+                    return new ResourceNotFoundException(
+                            "Registration not found with id: " + id
+                    );
+                });
     }
 
     @Transactional(readOnly = true)
@@ -174,10 +264,7 @@ public class ProgramRegistrationService {
 
         log.debug("Fetching registrations by program | programId={}", programId);
 
-        return programRegistrationRepository.findByProgramProgramId(programId)
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+        return programRegistrationRepository.findDtosByProgramId(programId);
     }
 
     @Transactional(readOnly = true)
@@ -185,10 +272,7 @@ public class ProgramRegistrationService {
 
         log.debug("Fetching registrations by user | userId={}", userId);
 
-        return programRegistrationRepository.findByUserUserId(userId)
-                .stream()
-                .map(this::mapToDTO)
-                .toList();
+        return programRegistrationRepository.findDtosByUserId(userId);
     }
 
     @Transactional
@@ -240,17 +324,6 @@ public class ProgramRegistrationService {
         );
     }
 
-    private ProgramRegistrationDTO mapToDTO(ProgramRegistration registration) {
-        return new ProgramRegistrationDTO(
-                registration.getProgramRegistrationId(),
-                registration.getProgram().getProgramId(),
-                registration.getProgram().getProgramTitle(),
-                registration.getUser().getUserId(),
-                registration.getUser().getName(),
-                registration.getRegisteredAt()
-        );
-    }
-
     @Transactional(readOnly = true)
     public long getParticipantCountForProgram(UUID programId) {
 
@@ -0,0 +1,114 @@
+package com.questevent.service;
+
+import com.questevent.dto.CursorPageDTO;
+import com.questevent.dto.ProgramSearchCriteria;
+import com.questevent.dto.ProgramSearchCursor;
+import com.questevent.dto.ProgramSearchFacetsDTO;
+import com.questevent.dto.ProgramSearchHitDTO;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.repository.ProgramSearchIndex;
+import com.questevent.utils.CursorPagination;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Ranked program search with department and status filters. Pages follow
+ * the shared cursor contract; a cursor wraps the rank and programId of the
+ * last hit served, so inserts and deletes between pages neither repeat nor
+ * skip the other hits. Paging is best-effort for edited programs: the rank
+ * is recomputed from the current text on every page, so a program whose
+ * text changes can move across the cursor and be served twice or not at
+ * all. The rank depends on the query and no index orders
+ * by it: every page still ranks all matches, but keeps only a top-N of
+ * {@code limit} rows instead of sorting and discarding an offset.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgramSearchService {
+
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+    private final ProgramSearchIndex programSearchIndex;
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<ProgramSearchHitDTO> search(
+            String query,
+            Department department,
+            ProgramStatus status,
+            String cursor,
+            int limit
+    ) {
+        ProgramSearchCriteria criteria = criteria(query, department, status);
+        ProgramSearchCursor after = decodeCursor(cursor);
+
+        long start = System.nanoTime();
+        List<ProgramSearchHitDTO> hits = programSearchIndex.search(criteria, after, limit + 1);
+
+        log.debug(
+                "Program search | query='{}' | department={} | status={} | hits={} | elapsedMs={}",
+                criteria.query(),
+                department,
+                status,
+                Math.min(hits.size(), limit),
+                (System.nanoTime() - start) / 1_000_000
+        );
+
+        return CursorPagination.toPage(hits, limit, ProgramSearchCursor::of, Function.identity());
+    }
+
+    @Transactional(readOnly = true)
+    public ProgramSearchFacetsDTO facets(String query, Department department, ProgramStatus status) {
+        return programSearchIndex.facets(criteria(query, department, status));
+    }
+
+    private static ProgramSearchCriteria criteria(
+            String query,
+            Department department,
+            ProgramStatus status
+    ) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+
+        String trimmed = query.strip();
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Search query must be at most " + MAX_QUERY_LENGTH + " characters"
+            );
+        }
+
+        return new ProgramSearchCriteria(trimmed, department, status);
+    }
+
+    private static ProgramSearchCursor decodeCursor(String cursor) {
+
+        String key = CursorPagination.decodeKey(cursor);
+        if (key == null) {
+            return null;
+        }
+
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+
+        try {
+            return new ProgramSearchCursor(
+                    Float.parseFloat(key.substring(0, separator)),
+                    UUID.fromString(key.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
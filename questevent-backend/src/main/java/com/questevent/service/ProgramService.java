@@ -1,6 +1,12 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
+import com.questevent.dto.ContentVersion;
+import com.questevent.dto.CursorPageDTO;
+import com.questevent.dto.ProgramContentVersion;
 import com.questevent.dto.ProgramRequestDTO;
+import com.questevent.dto.ProgramRowVersion;
+import com.questevent.dto.ProgramSetVersion;
 import com.questevent.dto.UserPrincipal;
 import com.questevent.entity.Judge;
 import com.questevent.entity.Program;
@@ -9,10 +15,12 @@ import com.questevent.entity.User;
 import com.questevent.enums.ProgramStatus;
 import com.questevent.exception.*;
 import com.questevent.repository.*;
+import com.questevent.utils.CursorPagination;
 import com.questevent.utils.SecurityUserResolver;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -31,6 +39,8 @@ public class ProgramService {
     private final JudgeRepository judgeRepository;
     private final ProgramRegistrationRepository programRegistrationRepository;
     private final SecurityUserResolver securityUserResolver; // ✅ added
+    private final WalletBalanceCache walletBalanceCache;
+    private final ProgramSearchIndex programSearchIndex;
 
     @Autowired
     public ProgramService(
@@ -38,13 +48,17 @@ public class ProgramService {
             UserRepository userRepository,
             JudgeRepository judgeRepository,
             ProgramRegistrationRepository programRegistrationRepository,
-            SecurityUserResolver securityUserResolver
+            SecurityUserResolver securityUserResolver,
+            WalletBalanceCache walletBalanceCache,
+            ProgramSearchIndex programSearchIndex
     ) {
         this.programRepository = programRepository;
         this.userRepository = userRepository;
         this.judgeRepository = judgeRepository;
         this.programRegistrationRepository = programRegistrationRepository;
         this.securityUserResolver = securityUserResolver;
+        this.walletBalanceCache = walletBalanceCache;
+        this.programSearchIndex = programSearchIndex;
     }
 
     @Transactional
@@ -77,7 +91,9 @@ public class ProgramService {
 
         program.setJudge(judge);
 
-        return programRepository.save(program);
+        Program saved = programRepository.save(program);
+        programSearchIndex.programChanged(saved.getProgramId());
+        return saved;
     }
 
     @Transactional
@@ -129,7 +145,9 @@ public class ProgramService {
             existingProgram.setJudge(judge);
         }
 
-        return programRepository.save(existingProgram);
+        Program saved = programRepository.save(existingProgram);
+        programSearchIndex.programChanged(programId);
+        return saved;
     }
 
     public List<Program> getMyPrograms() {
@@ -145,8 +163,65 @@ public class ProgramService {
                 );
     }
 
-    public List<Program> getAllPrograms() {
-        return programRepository.findAll();
+    /**
+     * Version of {@link #getCurrentProgram}, read from the program row rather
+     * than the second-level cache.
+     */
+    public ContentVersion getProgramVersion(UUID programId) {
+        ProgramContentVersion program = programRepository.findContentVersion(programId)
+                .orElseThrow(() ->
+                        new ProgramNotFoundException(PROGRAM_NOT_FOUND_MESSAGE)
+                );
+        return ContentVersion.of(program.updatedAt(), programId, program.updatedAt());
+    }
+
+    /** The program as its row stands, for a response validated by {@link #getProgramVersion}. */
+    public Program getCurrentProgram(UUID programId) {
+        return programRepository.findCurrentByProgramId(programId)
+                .orElseThrow(() ->
+                        new ProgramNotFoundException(PROGRAM_NOT_FOUND_MESSAGE)
+                );
+    }
+
+    /**
+     * Version of one page of {@link #getAllPrograms}: the keys and change
+     * times of the rows it returns, plus the look-ahead row that decides the
+     * next cursor. No Last-Modified, as a delete moves none.
+     */
+    public ContentVersion getAllProgramsVersion(String cursor, int limit) {
+
+        UUID afterProgramId = CursorPagination.decodeUuid(cursor);
+        Limit fetch = Limit.of(limit + 1);
+
+        List<ProgramRowVersion> rows = afterProgramId == null
+                ? programRepository.findRowVersions(fetch)
+                : programRepository.findRowVersionsAfter(afterProgramId, fetch);
+
+        return ContentVersion.of(null, cursor, limit, rows);
+    }
+
+    /** Version of the caller's hosted programs, which the hosted and draft lists filter. */
+    public ContentVersion getHostedProgramsVersion() {
+        Long userId = securityUserResolver.getCurrentUser().getUserId();
+        return setVersion("hosted", userId, programRepository.findHostedVersion(userId));
+    }
+
+    /** Version of the programs the caller judges. */
+    public ContentVersion getJudgedProgramsVersion() {
+        Long userId = securityUserResolver.getCurrentUser().getUserId();
+        return setVersion("judged", userId, programRepository.findJudgedVersion(userId));
+    }
+
+    public CursorPageDTO<Program> getAllPrograms(String cursor, int limit) {
+
+        UUID afterProgramId = CursorPagination.decodeUuid(cursor);
+        Limit fetch = Limit.of(limit + 1);
+
+        List<Program> programs = afterProgramId == null
+                ? programRepository.findByOrderByProgramIdAsc(fetch)
+                : programRepository.findByProgramIdGreaterThanOrderByProgramIdAsc(afterProgramId, fetch);
+
+        return CursorPagination.toPage(programs, limit, Program::getProgramId, program -> program);
     }
 
     public void deleteProgram(UUID programId) {
@@ -165,6 +240,8 @@ public class ProgramService {
         }
 
         programRepository.delete(program);
+        walletBalanceCache.evictProgramAfterCommit(programId);
+        programSearchIndex.programDeleted(programId);
     }
 
     public List<Program> getCompletedProgramsForUser() {
@@ -228,7 +305,9 @@ public class ProgramService {
         }
 
         program.setStatus(ProgramStatus.ACTIVE);
-        return programRepository.save(program);
+        Program saved = programRepository.save(program);
+        programSearchIndex.programChanged(programId);
+        return saved;
     }
 
     private void mapDtoToEntity(ProgramRequestDTO dto, Program program) {
@@ -239,4 +318,8 @@ public class ProgramService {
         program.setEndDate(dto.getEndDate());
         program.setStatus(dto.getStatus());
     }
+
+    private static ContentVersion setVersion(String list, Long userId, ProgramSetVersion programs) {
+        return ContentVersion.of(null, list, userId, programs.programCount(), programs.lastModified());
+    }
 }
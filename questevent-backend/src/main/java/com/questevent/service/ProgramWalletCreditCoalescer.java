@@ -0,0 +1,283 @@
+package com.questevent.service;
+
+import com.questevent.entity.ProgramWalletCreditIntent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Optional coalescing mode for program wallet credits.
+ * <p>
+ * Each credit is first written as a {@link ProgramWalletCreditIntent} inside
+ * the caller's transaction, which is cheap to insert and never contends on
+ * the wallet row. Once that transaction commits, the intent is buffered in
+ * memory per (user, program). A sweeper applies a buffer as one
+ * {@code gems = gems + :total} update when it reaches {@code max-batch}
+ * credits or has been open for {@code window}.
+ * <p>
+ * If the process dies before a flush, the intents are still in the table
+ * and are applied by {@link #recoverPendingIntents()} on startup and on a
+ * fixed interval. Applying an intent marks it in the same transaction, so an
+ * intent is never counted twice. Balances read from the wallet can lag
+ * behind approvals by up to one window while the mode is on.
+ * <p>
+ * The sweeper and recovery run on two threads of their own rather than on
+ * the shared {@code @Scheduled} thread, so the nightly jobs cannot hold up
+ * flushes and a long recovery pass cannot hold up the sweeper.
+ */
+@Slf4j
+@Service
+public class ProgramWalletCreditCoalescer {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private record WalletKey(Long userId, UUID programId) {}
+
+    private static final class PendingCredits {
+        private final List<UUID> intentIds = new ArrayList<>();
+        private final long openedAtNanos = System.nanoTime();
+    }
+
+    private final Map<WalletKey, PendingCredits> buffer = new ConcurrentHashMap<>();
+    private final AtomicLong creditsQueued = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    private final ProgramWalletCreditIntentService intentService;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatch;
+    private final Duration sweepInterval;
+    private final Duration recoveryInterval;
+    private final Duration recoveryAge;
+
+    private ScheduledExecutorService scheduler;
+
+    public ProgramWalletCreditCoalescer(
+            ProgramWalletCreditIntentService intentService,
+            @Value("${questevent.wallet-coalescing.enabled:false}") boolean enabled,
+            @Value("${questevent.wallet-coalescing.window:PT0.5S}") Duration window,
+            @Value("${questevent.wallet-coalescing.max-batch:100}") int maxBatch,
+            @Value("${questevent.wallet-coalescing.sweep-interval:PT0.1S}") Duration sweepInterval,
+            @Value("${questevent.wallet-coalescing.recovery-interval:PT1M}") Duration recoveryInterval,
+            @Value("${questevent.wallet-coalescing.recovery-age:PT1M}") Duration recoveryAge
+    ) {
+        this.intentService = intentService;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatch = maxBatch;
+        this.sweepInterval = sweepInterval;
+        this.recoveryInterval = recoveryInterval;
+        this.recoveryAge = recoveryAge;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void enqueue(Long userId, UUID programId, Long amount) {
+
+        ProgramWalletCreditIntent intent =
+                intentService.recordIntent(userId, programId, amount);
+
+        WalletKey key = new WalletKey(userId, programId);
+        UUID intentId = intent.getIntentId();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(key, intentId);
+            return;
+        }
+
+        // a rolled back intent never reaches the buffer
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(key, intentId);
+            }
+        });
+    }
+
+    // Nothing is buffered yet, so every pending intent belongs to a lost buffer
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+
+        if (!enabled) {
+            return;
+        }
+
+        recover(Instant.now());
+
+        scheduler = Executors.newScheduledThreadPool(2, Thread.ofPlatform()
+                .name("wallet-credit-coalescer-", 1)
+                .daemon()
+                .factory());
+        schedule(this::flushDue, sweepInterval, sweepInterval);
+        schedule(this::recoverPendingIntents, recoveryInterval, recoveryInterval);
+    }
+
+    // Applies buffers that are full or older than the window
+    public void flushDue() {
+
+        if (!enabled || buffer.isEmpty()) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        buffer.forEach((key, pending) -> {
+            if (pending.intentIds.size() >= maxBatch
+                    || now - pending.openedAtNanos >= windowNanos) {
+                removeAndFlush(key, pending);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushAll() {
+
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    log.warn("Program wallet credit sweeper still running at shutdown, flushing anyway");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        buffer.forEach(this::removeAndFlush);
+    }
+
+    // Picks up intents whose in-memory buffer was lost or whose flush failed
+    public void recoverPendingIntents() {
+
+        if (enabled) {
+            recover(Instant.now().minus(recoveryAge));
+        }
+    }
+
+    /**
+     * Applies every pending intent of the program, including ones not yet
+     * flushed, and returns the claimed amount per user. Used by settlement
+     * inside its own transaction.
+     */
+    public Map<Long, Long> claimPendingForProgram(UUID programId) {
+        // buffered ids for this program become no-ops on their next flush
+        return intentService.claimPendingForProgram(programId);
+    }
+
+    public long getCreditsQueued() {
+        return creditsQueued.get();
+    }
+
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    public int getBufferedWallets() {
+        return buffer.size();
+    }
+
+    // One pass over the stale intents in (createdAt, intentId) order. A wallet whose flush fails keeps
+    // its intents pending for the next pass; the cursor moves past them so the rest still gets applied.
+    private void recover(Instant cutoff) {
+
+        long recovered = 0;
+        long failed = 0;
+        ProgramWalletCreditIntent last = null;
+        List<ProgramWalletCreditIntent> batch;
+
+        do {
+            batch = intentService.findStalePending(cutoff, last);
+
+            Map<WalletKey, List<UUID>> byWallet = new LinkedHashMap<>();
+            for (ProgramWalletCreditIntent intent : batch) {
+                byWallet.computeIfAbsent(
+                        new WalletKey(intent.getUserId(), intent.getProgramId()),
+                        k -> new ArrayList<>()
+                ).add(intent.getIntentId());
+            }
+
+            for (Map.Entry<WalletKey, List<UUID>> entry : byWallet.entrySet()) {
+                if (flush(entry.getKey(), entry.getValue())) {
+                    recovered += entry.getValue().size();
+                } else {
+                    failed += entry.getValue().size();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                last = batch.get(batch.size() - 1);
+            }
+        } while (!batch.isEmpty());
+
+        if (recovered > 0 || failed > 0) {
+            log.warn(
+                    "Recovered pending program wallet credit intents | intents={} | failed={}",
+                    recovered,
+                    failed
+            );
+        }
+    }
+
+    private void schedule(Runnable task, Duration initialDelay, Duration delay) {
+        scheduler.scheduleWithFixedDelay(() -> {
+            // an escaping exception would cancel every later run
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Program wallet credit coalescer task failed", e);
+            }
+        }, initialDelay.toNanos(), delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void buffer(WalletKey key, UUID intentId) {
+        buffer.compute(key, (k, pending) -> {
+            PendingCredits credits = pending != null ? pending : new PendingCredits();
+            credits.intentIds.add(intentId);
+            return credits;
+        });
+        creditsQueued.incrementAndGet();
+    }
+
+    private void removeAndFlush(WalletKey key, PendingCredits pending) {
+        // an id buffered concurrently either leaves with this batch or opens a new one
+        if (buffer.remove(key, pending)) {
+            flush(key, pending.intentIds);
+        }
+    }
+
+    private boolean flush(WalletKey key, List<UUID> intentIds) {
+        try {
+            intentService.applyIntents(key.userId(), key.programId(), intentIds);
+            flushes.incrementAndGet();
+            return true;
+        } catch (RuntimeException e) {
+            log.error(
+                    "Program wallet credit flush failed, intents left for recovery | userId={} | programId={} | intents={}",
+                    key.userId(),
+                    key.programId(),
+                    intentIds.size(),
+                    e
+            );
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.questevent.service;
+
+import com.questevent.cache.WalletBalanceCache;
+import com.questevent.entity.ProgramWalletCreditIntent;
+import com.questevent.exception.WalletNotFoundException;
+import com.questevent.repository.ProgramWalletCreditIntentRepository;
+import com.questevent.repository.ProgramWalletRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Transactional side of credit coalescing: records credit intents and
+ * applies batches of them to program wallets.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProgramWalletCreditIntentService {
+
+    private static final int RECOVERY_PAGE_SIZE = 1000;
+
+    private final ProgramWalletCreditIntentRepository intentRepository;
+    private final ProgramWalletRepository programWalletRepository;
+    private final WalletBalanceCache walletBalanceCache;
+
+    // Joins the caller's transaction so the intent commits or rolls back with the approval
+    @Transactional
+    public ProgramWalletCreditIntent recordIntent(Long userId, UUID programId, Long amount) {
+
+        ProgramWalletCreditIntent intent = new ProgramWalletCreditIntent();
+        intent.setUserId(userId);
+        intent.setProgramId(programId);
+        intent.setAmount(amount);
+
+        ProgramWalletCreditIntent saved = intentRepository.save(intent);
+
+        log.debug(
+                "Program wallet credit intent recorded | intentId={} | userId={} | programId={} | amount={}",
+                saved.getIntentId(),
+                userId,
+                programId,
+                amount
+        );
+
+        return saved;
+    }
+
+    /**
+     * Applies the still-pending intents among {@code intentIds} to the wallet
+     * of (userId, programId) as a single increment. Intents already applied by
+     * another flush or by settlement are skipped, so calling this twice with
+     * the same ids is harmless.
+     *
+     * @return the number of gems added to the wallet
+     */
+    @Transactional
+    public long applyIntents(Long userId, UUID programId, Collection<UUID> intentIds) {
+
+        if (intentIds.isEmpty()) {
+            return 0;
+        }
+
+        List<ProgramWalletCreditIntent> pending =
+                intentRepository.findPendingForUpdate(intentIds);
+
+        long total = 0;
+        Instant now = Instant.now();
+        for (ProgramWalletCreditIntent intent : pending) {
+            total += intent.getAmount();
+            intent.setAppliedAt(now);
+        }
+
+        if (total == 0) {
+            return 0;
+        }
+
+        intentRepository.saveAll(pending);
+
+        int updated = programWalletRepository.incrementGems(userId, programId, total);
+        if (updated == 0) {
+            log.error(
+                    "Program wallet not found while applying credits | userId={} | programId={} | intents={}",
+                    userId,
+                    programId,
+                    pending.size()
+            );
+            throw new WalletNotFoundException("Program wallet not found");
+        }
+
+        programWalletRepository.findByUserUserIdAndProgramProgramId(userId, programId)
+                .ifPresent(wallet ->
+                        walletBalanceCache.putProgramWalletAfterCommit(userId, programId, wallet));
+
+        log.info(
+                "Program wallet credited from coalesced intents | userId={} | programId={} | intents={} | credited={}",
+                userId,
+                programId,
+                pending.size(),
+                total
+        );
+
+        return total;
+    }
+
+    /**
+     * Marks every pending intent of a program as applied and returns the
+     * unapplied amount per user, for settlement to fold into the transfer.
+     */
+    @Transactional
+    public Map<Long, Long> claimPendingForProgram(UUID programId) {
+
+        List<ProgramWalletCreditIntent> pending =
+                intentRepository.findPendingByProgramForUpdate(programId);
+
+        Map<Long, Long> totalsByUser = new HashMap<>();
+        Instant now = Instant.now();
+        for (ProgramWalletCreditIntent intent : pending) {
+            totalsByUser.merge(intent.getUserId(), intent.getAmount(), Long::sum);
+            intent.setAppliedAt(now);
+        }
+
+        if (!pending.isEmpty()) {
+            intentRepository.saveAll(pending);
+            log.info(
+                    "Pending credit intents claimed for settlement | programId={} | intents={}",
+                    programId,
+                    pending.size()
+            );
+        }
+
+        return totalsByUser;
+    }
+
+    /**
+     * Next page of pending intents created before {@code createdBefore}, in
+     * (createdAt, intentId) order, starting after {@code after} or from the
+     * oldest when it is {@code null}.
+     */
+    @Transactional(readOnly = true)
+    public List<ProgramWalletCreditIntent> findStalePending(
+            Instant createdBefore,
+            ProgramWalletCreditIntent after
+    ) {
+        Limit limit = Limit.of(RECOVERY_PAGE_SIZE);
+        return after == null
+                ? intentRepository.findStalePending(createdBefore, limit)
+                : intentRepository.findStalePendingAfter(
+                        createdBefore, after.getCreatedAt(), after.getIntentId(), limit);
+    }
+}
@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.dto.ProgramWalletBalanceDTO;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramWallet;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -28,17 +30,20 @@ public class ProgramWalletService {
     private final UserRepository userRepository;
     private final ProgramRepository programRepository;
     private final SecurityUserResolver securityUserResolver; // ✅ added
+    private final WalletBalanceCache walletBalanceCache;
 
     public ProgramWalletService(
             ProgramWalletRepository programWalletRepository,
             UserRepository userRepository,
             ProgramRepository programRepository,
-            SecurityUserResolver securityUserResolver
+            SecurityUserResolver securityUserResolver,
+            WalletBalanceCache walletBalanceCache
     ) {
         this.programWalletRepository = programWalletRepository;
         this.userRepository = userRepository;
         this.programRepository = programRepository;
         this.securityUserResolver = securityUserResolver;
+        this.walletBalanceCache = walletBalanceCache;
     }
 
     public ProgramWallet createWallet(Long userId, UUID programId) {
@@ -68,7 +73,10 @@ public class ProgramWalletService {
         programWallet.setProgram(program);
         programWallet.setGems(0L);
 
-        return programWalletRepository.save(programWallet);
+        ProgramWallet saved = programWalletRepository.save(programWallet);
+        walletBalanceCache.putProgramWalletAfterCommit(userId, programId, programWallet);
+
+        return saved;
     }
 
     public ProgramWalletBalanceDTO getWalletBalanceByWalletId(UUID walletId) {
@@ -110,6 +118,17 @@ public class ProgramWalletService {
 
         log.debug("Fetching my program wallet | programId={}", programId);
 
+        String email = securityUserResolver.getCurrentUserEmail();
+
+        Optional<ProgramWalletBalanceDTO> cached = walletBalanceCache
+                .findUserIdByEmail(email)
+                .flatMap(userId -> walletBalanceCache.getProgramWallet(userId, programId));
+
+        if (cached.isPresent()) {
+            log.debug("Program wallet served from cache | programId={}", programId);
+            return cached.get();
+        }
+
         User user = securityUserResolver.getCurrentUser();
 
         ProgramWallet wallet =
@@ -124,6 +143,9 @@ public class ProgramWalletService {
                                 )
                         );
 
+        walletBalanceCache.rememberUserId(email, user.getUserId());
+        walletBalanceCache.populateProgramWallet(user.getUserId(), programId, wallet);
+
         ProgramWalletBalanceDTO dto = new ProgramWalletBalanceDTO();
         dto.setProgramWalletId(wallet.getProgramWalletId());
         dto.setUserId(wallet.getUser().getUserId());
@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramWallet;
 import com.questevent.entity.User;
@@ -8,7 +9,9 @@ import com.questevent.enums.ProgramStatus;
 import com.questevent.exception.ProgramNotFoundException;
 import com.questevent.exception.ResourceConflictException;
 import com.questevent.exception.WalletNotFoundException;
+import com.questevent.metrics.Instrumented;
 import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramSearchIndex;
 import com.questevent.repository.ProgramWalletRepository;
 import com.questevent.repository.UserWalletRepository;
 import jakarta.transaction.Transactional;
@@ -17,24 +20,35 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
 @Service
+@Instrumented("wallet")
 public class ProgramWalletTransactionServiceImpl
         implements ProgramWalletTransactionService {
 
     private final ProgramWalletRepository programWalletRepository;
     private final ProgramRepository programRepository;
     private final UserWalletRepository userWalletRepository;
+    private final WalletBalanceCache walletBalanceCache;
+    private final ProgramWalletCreditCoalescer creditCoalescer;
+    private final ProgramSearchIndex programSearchIndex;
 
     public ProgramWalletTransactionServiceImpl(
             ProgramWalletRepository programWalletRepository,
             ProgramRepository programRepository,
-            UserWalletRepository userWalletRepository) {
+            UserWalletRepository userWalletRepository,
+            WalletBalanceCache walletBalanceCache,
+            ProgramWalletCreditCoalescer creditCoalescer,
+            ProgramSearchIndex programSearchIndex) {
         this.programWalletRepository = programWalletRepository;
         this.programRepository = programRepository;
         this.userWalletRepository = userWalletRepository;
+        this.walletBalanceCache = walletBalanceCache;
+        this.creditCoalescer = creditCoalescer;
+        this.programSearchIndex = programSearchIndex;
     }
 
     @Override
@@ -63,6 +77,11 @@ public class ProgramWalletTransactionServiceImpl
             throw new IllegalArgumentException("Amount must be greater than zero");
         }
 
+        if (creditCoalescer.isEnabled()) {
+            queueCredit(user.getUserId(), program.getProgramId(), amount);
+            return;
+        }
+
         ProgramWallet wallet = programWalletRepository
                 .findByUserUserIdAndProgramProgramId(
                         user.getUserId(),
@@ -80,6 +99,11 @@ public class ProgramWalletTransactionServiceImpl
         Long before = wallet.getGems();
         wallet.setGems(before + amount);
         programWalletRepository.save(wallet);
+        walletBalanceCache.putProgramWalletAfterCommit(
+                user.getUserId(),
+                program.getProgramId(),
+                wallet
+        );
 
         log.info(
                 "Program wallet credited | userId={} | programId={} | before={} | credited={} | after={}",
@@ -112,13 +136,17 @@ public class ProgramWalletTransactionServiceImpl
                     program.getProgramId()
             );
 
+            Map<Long, Long> pendingCredits =
+                    creditCoalescer.claimPendingForProgram(program.getProgramId());
+
             List<ProgramWallet> wallets =
                     programWalletRepository
-                            .findByProgramProgramId(program.getProgramId());
+                            .findByProgramIdForUpdate(program.getProgramId());
 
             for (ProgramWallet programWallet : wallets) {
 
-                Long gems = programWallet.getGems();
+                Long gems = programWallet.getGems()
+                        + pendingCredits.getOrDefault(programWallet.getUser().getUserId(), 0L);
                 if (gems <= 0) {
                     continue;
                 }
@@ -140,6 +168,7 @@ public class ProgramWalletTransactionServiceImpl
 
                 userWalletRepository.save(userWallet);
                 programWalletRepository.save(programWallet);
+                cacheSettledWallets(program.getProgramId(), programWallet, userWallet);
 
                 log.info(
                         "Auto-settled gems | programId={} | userId={} | transferred={} | userBefore={} | userAfter={}",
@@ -152,6 +181,7 @@ public class ProgramWalletTransactionServiceImpl
 
             program.setStatus(ProgramStatus.COMPLETED);
             programRepository.save(program);
+            programSearchIndex.programChanged(program.getProgramId());
 
             log.info(
                     "Program marked COMPLETED after auto-settlement | programId={}",
@@ -184,12 +214,16 @@ public class ProgramWalletTransactionServiceImpl
             throw new ResourceConflictException("Program already completed");
         }
 
+        Map<Long, Long> pendingCredits =
+                creditCoalescer.claimPendingForProgram(programId);
+
         List<ProgramWallet> wallets =
-                programWalletRepository.findByProgramProgramId(programId);
+                programWalletRepository.findByProgramIdForUpdate(programId);
 
         for (ProgramWallet programWallet : wallets) {
 
-            Long gems = programWallet.getGems();
+            Long gems = programWallet.getGems()
+                    + pendingCredits.getOrDefault(programWallet.getUser().getUserId(), 0L);
             if (gems <= 0) {
                 continue;
             }
@@ -208,6 +242,7 @@ public class ProgramWalletTransactionServiceImpl
 
             userWalletRepository.save(userWallet);
             programWalletRepository.save(programWallet);
+            cacheSettledWallets(programId, programWallet, userWallet);
 
             log.info(
                     "Manual settlement completed | programId={} | userId={} | transferred={} | userBefore={} | userAfter={}",
@@ -220,10 +255,42 @@ public class ProgramWalletTransactionServiceImpl
 
         program.setStatus(ProgramStatus.COMPLETED);
         programRepository.save(program);
+        programSearchIndex.programChanged(programId);
 
         log.info(
                 "Program marked COMPLETED after manual settlement | programId={}",
                 programId
         );
     }
+
+    private void queueCredit(Long userId, UUID programId, Long amount) {
+
+        if (!programWalletRepository.existsByUserUserIdAndProgramProgramId(userId, programId)) {
+            log.error(
+                    "Program wallet not found | userId={} | programId={}",
+                    userId,
+                    programId
+            );
+            throw new WalletNotFoundException("Program wallet not found");
+        }
+
+        creditCoalescer.enqueue(userId, programId, amount);
+
+        log.info(
+                "Program wallet credit queued | userId={} | programId={} | credited={}",
+                userId,
+                programId,
+                amount
+        );
+    }
+
+    private void cacheSettledWallets(
+            UUID programId,
+            ProgramWallet programWallet,
+            UserWallet userWallet
+    ) {
+        Long userId = programWallet.getUser().getUserId();
+        walletBalanceCache.putUserWalletAfterCommit(userId, userWallet);
+        walletBalanceCache.putProgramWalletAfterCommit(userId, programId, programWallet);
+    }
 }
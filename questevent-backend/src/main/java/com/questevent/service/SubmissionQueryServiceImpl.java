@@ -26,32 +26,23 @@ public class SubmissionQueryServiceImpl implements SubmissionQueryService {
     private final SecurityUserResolver securityUserResolver;
 
     @Override
+    @Transactional(readOnly = true)
     public SubmissionDetailsResponseDTO getSubmissionDetails(
             UUID activityId,
             Authentication ignored
     ) {
         User user = securityUserResolver.getCurrentUser();
 
-        ActivitySubmission submission =
-                submissionRepository
-                        .findByActivityRegistrationActivityActivityIdAndActivityRegistrationUserUserId(
-                                activityId,
-                                user.getUserId()
+        return submissionRepository
+                .findDetailsByActivityIdAndUserId(
+                        activityId,
+                        user.getUserId()
+                )
+                .orElseThrow(() ->
+                        new ResourceNotFoundException(
+                                "Submission not found for this activity"
                         )
-                        .orElseThrow(() ->
-                                new ResourceNotFoundException(
-                                        "Submission not found for this activity"
-                                )
-                        );
-
-        return new SubmissionDetailsResponseDTO(
-                submission.getSubmissionId(),
-                activityId,
-                submission.getSubmissionUrl(),
-                submission.getReviewStatus(),
-                submission.getAwardedGems(),
-                submission.getReviewedAt()
-        );
+                );
     }
 
     @Override
@@ -61,26 +52,7 @@ public class SubmissionQueryServiceImpl implements SubmissionQueryService {
     ) {
         User user = securityUserResolver.getCurrentUser();
 
-        List<ActivitySubmission> submissions =
-                submissionRepository
-                        .findAllByActivityRegistration_User_UserId(
-                                user.getUserId()
-                        );
-
-        return submissions.stream()
-                .map(submission -> new UserSubmissionSummaryDTO(
-                        submission.getSubmissionId(),
-                        submission.getActivityRegistration()
-                                .getActivity()
-                                .getActivityId(),
-                        submission.getActivityRegistration()
-                                .getActivity()
-                                .getActivityName(),
-                        submission.getReviewStatus(),
-                        submission.getSubmittedAt(),
-                        submission.getReviewedAt()
-                ))
-                .toList();
+        return submissionRepository.findSummariesByUserId(user.getUserId());
     }
 
     @Override
@@ -7,6 +7,7 @@ import com.questevent.enums.CompletionStatus;
 import com.questevent.enums.ReviewStatus;
 import com.questevent.exception.InvalidOperationException;
 import com.questevent.exception.ResourceNotFoundException;
+import com.questevent.metrics.Instrumented;
 import com.questevent.repository.ActivityRegistrationRepository;
 import com.questevent.repository.ActivitySubmissionRepository;
 import com.questevent.utils.SecurityUserResolver;
@@ -20,6 +21,7 @@ import java.util.UUID;
 
 @Slf4j
 @Service
+@Instrumented("submission")
 @RequiredArgsConstructor
 public class SubmissionServiceImpl implements SubmissionService {
 
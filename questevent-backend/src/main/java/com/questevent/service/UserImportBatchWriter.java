@@ -0,0 +1,87 @@
+package com.questevent.service;
+
+import com.questevent.dto.UserImportRow;
+import com.questevent.entity.User;
+import com.questevent.entity.UserWallet;
+import com.questevent.repository.UserRepository;
+import com.questevent.repository.UserWalletRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Transactional side of the user import: upserts one chunk of validated rows
+ * by email in its own transaction. New users get a wallet; existing users
+ * only have their profile fields refreshed, never their role.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserImportBatchWriter {
+
+    public record BatchResult(int created, int updated) {}
+
+    private final UserRepository userRepository;
+    private final UserWalletRepository userWalletRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public BatchResult upsert(List<UserImportRow> rows) {
+
+        Map<String, User> existing = userRepository
+                .findByEmailIn(rows.stream().map(UserImportRow::email).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+        List<User> newUsers = new ArrayList<>();
+        List<UserWallet> wallets = new ArrayList<>();
+
+        for (UserImportRow row : rows) {
+            User user = existing.get(row.email());
+
+            if (user == null) {
+                user = new User();
+                user.setEmail(row.email());
+                user.setRole(row.role());
+                newUsers.add(user);
+
+                UserWallet wallet = new UserWallet();
+                wallet.setUser(user);
+                wallet.setGems(0L);
+                wallets.add(wallet);
+            }
+
+            user.setName(row.name());
+            user.setDepartment(row.department());
+            user.setGender(row.gender());
+        }
+
+        userRepository.saveAll(newUsers);
+        userWalletRepository.saveAll(wallets);
+
+        // with open-in-view the request keeps one persistence context across
+        // chunks; clearing it keeps memory flat for large imports
+        entityManager.flush();
+        entityManager.clear();
+
+        log.debug(
+                "User import chunk written | rows={} | created={} | updated={}",
+                rows.size(),
+                newUsers.size(),
+                rows.size() - newUsers.size()
+        );
+
+        return new BatchResult(newUsers.size(), rows.size() - newUsers.size());
+    }
+}
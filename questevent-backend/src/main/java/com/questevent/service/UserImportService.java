@@ -0,0 +1,370 @@
+package com.questevent.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.dto.UserImportErrorDTO;
+import com.questevent.dto.UserImportResultDTO;
+import com.questevent.dto.UserImportRow;
+import com.questevent.enums.Department;
+import com.questevent.enums.ExportFormat;
+import com.questevent.enums.Role;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imports users from an NDJSON or CSV upload (e.g. an HR export), reading
+ * one line at a time. Valid rows are upserted by email in chunks of
+ * {@code hibernate.jdbc.batch_size}, each chunk in its own transaction via
+ * {@link UserImportBatchWriter}.
+ * <p>
+ * Invalid rows and failed chunks are reported per line and never abort the
+ * rest of the import. Only the current chunk is held in memory: an email
+ * repeated within a chunk is rejected, while a repeat in a later chunk finds
+ * the user the earlier chunk wrote and updates it. CSV input needs a header row naming the columns
+ * email, name, department, gender and optionally role; quoted fields may
+ * not span lines.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final List<String> COLUMNS =
+            List.of("email", "name", "department", "gender", "role");
+
+    private final UserImportBatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxReportedErrors;
+    private final long progressLogInterval;
+
+    public UserImportService(
+            UserImportBatchWriter batchWriter,
+            ObjectMapper objectMapper,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize,
+            @Value("${questevent.user-import.max-reported-errors:1000}") int maxReportedErrors,
+            @Value("${questevent.user-import.progress-log-interval:10000}") long progressLogInterval
+    ) {
+        this.batchWriter = batchWriter;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.progressLogInterval = progressLogInterval;
+    }
+
+    private final class ImportRun {
+
+        private final long startNanos = System.nanoTime();
+        private final Set<String> pendingEmails = new HashSet<>();
+        private final List<UserImportRow> pending = new ArrayList<>(batchSize);
+        private final List<UserImportErrorDTO> errors = new ArrayList<>();
+        private long rowsRead;
+        private long created;
+        private long updated;
+        private long failed;
+
+        void accept(UserImportRow row) {
+            // the chunk's upsert looks users up by email once, before writing
+            if (!pendingEmails.add(row.email())) {
+                fail(row.line(), row.email(), "Duplicate email in import chunk");
+                return;
+            }
+            pending.add(row);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                UserImportBatchWriter.BatchResult result = batchWriter.upsert(List.copyOf(pending));
+                created += result.created();
+                updated += result.updated();
+            } catch (RuntimeException e) {
+                log.warn(
+                        "User import chunk failed | firstLine={} | rows={} | error={}",
+                        pending.get(0).line(),
+                        pending.size(),
+                        e.getMessage()
+                );
+                for (UserImportRow row : pending) {
+                    fail(row.line(), row.email(), "Batch write failed: " + rootMessage(e));
+                }
+            }
+            pending.clear();
+            pendingEmails.clear();
+        }
+
+        void fail(long line, String email, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportErrorDTO(line, email, message));
+            }
+        }
+
+        void countRow() {
+            rowsRead++;
+            if (progressLogInterval > 0 && rowsRead % progressLogInterval == 0) {
+                log.info(
+                        "User import progress | rowsRead={} | created={} | updated={} | failed={} | rowsPerSecond={}",
+                        rowsRead,
+                        created,
+                        updated,
+                        failed,
+                        Math.round(rowsPerSecond(elapsedMillis()))
+                );
+            }
+        }
+
+        long elapsedMillis() {
+            return Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+
+        double rowsPerSecond(long elapsedMillis) {
+            return rowsRead * 1000.0 / elapsedMillis;
+        }
+
+        UserImportResultDTO result() {
+            long elapsed = elapsedMillis();
+            return new UserImportResultDTO(
+                    rowsRead,
+                    created,
+                    updated,
+                    failed,
+                    elapsed,
+                    rowsPerSecond(elapsed),
+                    List.copyOf(errors),
+                    failed > errors.size()
+            );
+        }
+    }
+
+    public UserImportResultDTO importUsers(InputStream in, ExportFormat format) {
+
+        log.info("User import started | format={}", format);
+
+        ImportRun run = new ImportRun();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+
+            if (format == ExportFormat.CSV) {
+                readCsv(reader, run);
+            } else {
+                readNdjson(reader, run);
+            }
+        } catch (IOException e) {
+            log.error("User import aborted while reading input | rowsRead={}", run.rowsRead, e);
+            throw new UncheckedIOException(e);
+        }
+
+        run.flush();
+        UserImportResultDTO result = run.result();
+
+        log.info(
+                "User import finished | rowsRead={} | created={} | updated={} | failed={} | rowsPerSecond={}",
+                result.rowsRead(),
+                result.created(),
+                result.updated(),
+                result.failed(),
+                Math.round(result.rowsPerSecond())
+        );
+
+        return result;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+
+        String line;
+        long lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.countRow();
+
+            Map<String, String> fields = new HashMap<>();
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    run.fail(lineNumber, null, "Row is not a JSON object");
+                    continue;
+                }
+                for (String column : COLUMNS) {
+                    JsonNode value = node.get(column);
+                    if (value != null && !value.isNull()) {
+                        fields.put(column, value.asText());
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                run.fail(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+
+            validate(lineNumber, fields, run);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+
+        String header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+
+        List<String> columns = parseCsvLine(header).stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        for (String required : COLUMNS.subList(0, 4)) {
+            if (!columns.contains(required)) {
+                throw new IllegalArgumentException("CSV header is missing column: " + required);
+            }
+        }
+
+        String line;
+        long lineNumber = 1;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.countRow();
+
+            List<String> values;
+            try {
+                values = parseCsvLine(line);
+            } catch (IllegalArgumentException e) {
+                run.fail(lineNumber, null, e.getMessage());
+                continue;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < columns.size() && i < values.size(); i++) {
+                fields.put(columns.get(i), values.get(i));
+            }
+
+            validate(lineNumber, fields, run);
+        }
+    }
+
+    private void validate(long line, Map<String, String> fields, ImportRun run) {
+
+        String email = trimToNull(fields.get("email"));
+        String name = trimToNull(fields.get("name"));
+        String gender = trimToNull(fields.get("gender"));
+
+        if (email == null || email.indexOf('@') < 1) {
+            run.fail(line, email, "Invalid email");
+            return;
+        }
+        if (name == null) {
+            run.fail(line, email, "Name is required");
+            return;
+        }
+        if (gender == null) {
+            run.fail(line, email, "Gender is required");
+            return;
+        }
+
+        Department department = parseEnum(Department.class, fields.get("department"));
+        if (department == null) {
+            run.fail(line, email, "Invalid department: " + fields.get("department"));
+            return;
+        }
+
+        String roleValue = trimToNull(fields.get("role"));
+        Role role = roleValue == null ? Role.USER : parseEnum(Role.class, roleValue);
+        if (role == null || role == Role.OWNER) {
+            run.fail(line, email, "Invalid role: " + roleValue);
+            return;
+        }
+
+        run.accept(new UserImportRow(line, email, name, department, gender, role));
+    }
+
+    static List<String> parseCsvLine(String line) {
+
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+
+        values.add(current.toString());
+        return values;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        String trimmed = trimToNull(value);
+        if (trimmed == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, trimmed.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+}
@@ -1,15 +1,19 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.dto.CompleteProfileRequest;
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.UserResponseDto;
 import com.questevent.entity.User;
 import com.questevent.enums.Role;
 import com.questevent.exception.UserNotFoundException;
 import com.questevent.repository.UserRepository;
+import com.questevent.utils.CursorPagination;
 import com.questevent.utils.SecurityUserResolver;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import java.util.List;
 
@@ -21,6 +25,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserWalletService userWalletService;
     private final SecurityUserResolver securityUserResolver;
+    private final WalletBalanceCache walletBalanceCache;
 
     public User addUser(User user) {
         log.debug( "Adding new user | email={} | role={}",
@@ -35,11 +40,16 @@ public class UserService {
         return savedUser;
     }
 
-    public List<UserResponseDto> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(this::convertToDto)
-                .toList();
+    public CursorPageDTO<UserResponseDto> getAllUsers(String cursor, int limit) {
+
+        Long afterUserId = CursorPagination.decodeLong(cursor);
+        Limit fetch = Limit.of(limit + 1);
+
+        List<User> users = afterUserId == null
+                ? userRepository.findByOrderByUserIdAsc(fetch)
+                : userRepository.findByUserIdGreaterThanOrderByUserIdAsc(afterUserId, fetch);
+
+        return CursorPagination.toPage(users, limit, User::getUserId, this::convertToDto);
     }
 
     public UserResponseDto getUserById(Long userId) {
@@ -91,6 +101,7 @@ public class UserService {
         }
 
         userRepository.deleteById(userId);
+        walletBalanceCache.evictUserAfterCommit(userId);
     }
 
     public UserResponseDto convertToDto(User user) {
@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.dto.UserWalletBalanceDTO;
 import com.questevent.entity.User;
 import com.questevent.entity.UserWallet;
@@ -17,17 +18,22 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @Slf4j
 public class UserWalletService {
 
     private final UserWalletRepository userWalletRepository;
     private final UserRepository userRepository;
+    private final WalletBalanceCache walletBalanceCache;
 
     public UserWalletService(UserWalletRepository userWalletRepository,
-                             UserRepository userRepository) {
+                             UserRepository userRepository,
+                             WalletBalanceCache walletBalanceCache) {
         this.userWalletRepository = userWalletRepository;
         this.userRepository = userRepository;
+        this.walletBalanceCache = walletBalanceCache;
     }
 
     @Transactional
@@ -51,6 +57,7 @@ public class UserWalletService {
         userWallet.setGems(0L);
 
         userWalletRepository.save(userWallet);
+        walletBalanceCache.putUserWalletAfterCommit(user.getUserId(), userWallet);
 
         log.info("Wallet successfully created for userId={}", user.getUserId());
     }
@@ -73,6 +80,15 @@ public class UserWalletService {
             throw new UnauthorizedException("Invalid token");
         }
 
+        Optional<UserWalletBalanceDTO> cached = walletBalanceCache
+                .findUserIdByEmail(email)
+                .flatMap(walletBalanceCache::getUserWallet);
+
+        if (cached.isPresent()) {
+            log.debug("Wallet balance served from cache | email={}", email);
+            return cached.get();
+        }
+
         log.debug("Fetching wallet balance for email={}", email);
 
         User user = userRepository.findByEmail(email)
@@ -87,6 +103,9 @@ public class UserWalletService {
             throw new WalletNotFoundException("Wallet not found");
         }
 
+        walletBalanceCache.rememberUserId(email, user.getUserId());
+        walletBalanceCache.populateUserWallet(user.getUserId(), wallet);
+
         UserWalletBalanceDTO dto = new UserWalletBalanceDTO();
         dto.setWalletId(wallet.getWalletId());
         dto.setGems(wallet.getGems());
@@ -1,21 +1,27 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.entity.User;
 import com.questevent.entity.UserWallet;
 import com.questevent.exception.WalletNotFoundException;
+import com.questevent.metrics.Instrumented;
 import com.questevent.repository.UserWalletRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Instrumented("wallet")
 @Slf4j
 public class UserWalletTransactionServiceImpl implements UserWalletTransactionService {
 
     private final UserWalletRepository userWalletRepository;
+    private final WalletBalanceCache walletBalanceCache;
 
-    public UserWalletTransactionServiceImpl(UserWalletRepository userWalletRepository) {
+    public UserWalletTransactionServiceImpl(UserWalletRepository userWalletRepository,
+                                            WalletBalanceCache walletBalanceCache) {
         this.userWalletRepository = userWalletRepository;
+        this.walletBalanceCache = walletBalanceCache;
     }
 
     @Override
@@ -45,6 +51,7 @@ public class UserWalletTransactionServiceImpl implements UserWalletTransactionSe
         wallet.setGems(before + amount);
 
         userWalletRepository.save(wallet);
+        walletBalanceCache.putUserWalletAfterCommit(user.getUserId(), wallet);
 
         log.info(
                 "Gems credited successfully | userId={} | walletId={} | before={} | credited={} | after={}",
@@ -0,0 +1,253 @@
+package com.questevent.service;
+
+import com.questevent.dto.ProgramWalletReconciliationDTO;
+import com.questevent.dto.ReconciliationStatusDTO;
+import com.questevent.dto.UserWalletReconciliationDTO;
+import com.questevent.exception.ResourceConflictException;
+import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.repository.ProgramWalletRepository;
+import com.questevent.repository.UserWalletRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Compares every user and program wallet against the approved submission
+ * history and writes the mismatches to a CSV report.
+ * <p>
+ * All three passes read forward-only result streams with a bounded JDBC
+ * fetch size, so memory stays flat regardless of table size.
+ */
+@Slf4j
+@Service
+public class WalletReconciliationService {
+
+    static final String PHASE_IDLE = "IDLE";
+    static final String PHASE_PROGRAM_WALLETS = "PROGRAM_WALLETS";
+    static final String PHASE_ORPHAN_AWARDS = "ORPHAN_AWARDS";
+    static final String PHASE_USER_WALLETS = "USER_WALLETS";
+    static final String PHASE_FINISHED = "FINISHED";
+    static final String PHASE_FAILED = "FAILED";
+
+    private static final String REPORT_HEADER =
+            "type,userId,programId,expectedGems,actualGems,difference";
+
+    private static final DateTimeFormatter REPORT_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final ProgramWalletRepository programWalletRepository;
+    private final UserWalletRepository userWalletRepository;
+    private final ActivitySubmissionRepository submissionRepository;
+    private final Path reportDir;
+    private final long progressLogInterval;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong rowsScanned = new AtomicLong();
+    private final AtomicLong discrepancies = new AtomicLong();
+    private volatile String phase = PHASE_IDLE;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Path reportPath;
+
+    public WalletReconciliationService(
+            ProgramWalletRepository programWalletRepository,
+            UserWalletRepository userWalletRepository,
+            ActivitySubmissionRepository submissionRepository,
+            @Value("${questevent.reconciliation.report-dir:reports}") String reportDir,
+            @Value("${questevent.reconciliation.progress-log-interval:100000}") long progressLogInterval
+    ) {
+        this.programWalletRepository = programWalletRepository;
+        this.userWalletRepository = userWalletRepository;
+        this.submissionRepository = submissionRepository;
+        this.reportDir = Path.of(reportDir);
+        this.progressLogInterval = progressLogInterval;
+    }
+
+    @Transactional(readOnly = true)
+    public ReconciliationStatusDTO reconcile() {
+
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Wallet reconciliation already running | phase={}", phase);
+            throw new ResourceConflictException("Wallet reconciliation already running");
+        }
+
+        rowsScanned.set(0);
+        discrepancies.set(0);
+        startedAt = Instant.now();
+        finishedAt = null;
+        reportPath = reportDir.resolve(
+                "wallet-reconciliation-" + REPORT_TIMESTAMP.format(startedAt) + ".csv"
+        );
+
+        log.info("Wallet reconciliation started | report={}", reportPath);
+
+        try {
+            Files.createDirectories(reportDir);
+
+            try (BufferedWriter writer = Files.newBufferedWriter(reportPath)) {
+                writer.write(REPORT_HEADER);
+                writer.newLine();
+
+                phase = PHASE_PROGRAM_WALLETS;
+                try (Stream<ProgramWalletReconciliationDTO> rows =
+                             programWalletRepository.streamProgramWalletReconciliation()) {
+                    rows.forEach(row -> checkProgramWallet(writer, "PROGRAM_WALLET", row));
+                }
+
+                phase = PHASE_ORPHAN_AWARDS;
+                try (Stream<ProgramWalletReconciliationDTO> rows =
+                             submissionRepository.streamApprovedGemsWithoutProgramWallet()) {
+                    rows.forEach(row -> checkProgramWallet(writer, "MISSING_PROGRAM_WALLET", row));
+                }
+
+                phase = PHASE_USER_WALLETS;
+                try (Stream<UserWalletReconciliationDTO> rows =
+                             userWalletRepository.streamUserWalletReconciliation()) {
+                    rows.forEach(row -> checkUserWallet(writer, row));
+                }
+            }
+
+            phase = PHASE_FINISHED;
+        } catch (IOException e) {
+            phase = PHASE_FAILED;
+            log.error("Wallet reconciliation report could not be written | report={}", reportPath, e);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            log.error("Wallet reconciliation failed | phase={} | rowsScanned={}", phase, rowsScanned.get(), e);
+            phase = PHASE_FAILED;
+            throw e;
+        } finally {
+            finishedAt = Instant.now();
+            running.set(false);
+        }
+
+        ReconciliationStatusDTO status = getStatus();
+
+        log.info(
+                "Wallet reconciliation finished | rowsScanned={} | discrepancies={} | rowsPerSecond={} | report={}",
+                status.rowsScanned(),
+                status.discrepancies(),
+                Math.round(status.rowsPerSecond()),
+                status.reportPath()
+        );
+
+        return status;
+    }
+
+    public ReconciliationStatusDTO getStatus() {
+
+        Instant start = startedAt;
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long scanned = rowsScanned.get();
+
+        double rowsPerSecond = 0.0;
+        if (start != null) {
+            long elapsedMillis = Math.max(1, Duration.between(start, end).toMillis());
+            rowsPerSecond = scanned * 1000.0 / elapsedMillis;
+        }
+
+        return new ReconciliationStatusDTO(
+                running.get(),
+                phase,
+                scanned,
+                discrepancies.get(),
+                rowsPerSecond,
+                start,
+                finishedAt,
+                reportPath != null ? reportPath.toString() : null
+        );
+    }
+
+    private void checkProgramWallet(
+            BufferedWriter writer,
+            String type,
+            ProgramWalletReconciliationDTO row
+    ) {
+        recordRow();
+
+        long expected = nullToZero(row.expectedGems());
+        long actual = nullToZero(row.actualGems());
+
+        if (expected != actual) {
+            writeDiscrepancy(writer, type, row.userId(), row.programId(), expected, actual);
+        }
+    }
+
+    private void checkUserWallet(BufferedWriter writer, UserWalletReconciliationDTO row) {
+        recordRow();
+
+        long expected = nullToZero(row.expectedGems());
+        long actual = nullToZero(row.actualGems());
+
+        if (expected != actual) {
+            writeDiscrepancy(writer, "USER_WALLET", row.userId(), null, expected, actual);
+        }
+    }
+
+    private void recordRow() {
+        long scanned = rowsScanned.incrementAndGet();
+
+        if (progressLogInterval > 0 && scanned % progressLogInterval == 0) {
+            log.info(
+                    "Wallet reconciliation progress | phase={} | rowsScanned={} | discrepancies={} | rowsPerSecond={}",
+                    phase,
+                    scanned,
+                    discrepancies.get(),
+                    Math.round(getStatus().rowsPerSecond())
+            );
+        }
+    }
+
+    private void writeDiscrepancy(
+            BufferedWriter writer,
+            String type,
+            Long userId,
+            Object programId,
+            long expected,
+            long actual
+    ) {
+        discrepancies.incrementAndGet();
+
+        log.warn(
+                "Wallet discrepancy | type={} | userId={} | programId={} | expected={} | actual={}",
+                type,
+                userId,
+                programId,
+                expected,
+                actual
+        );
+
+        try {
+            writer.write(String.join(",",
+                    type,
+                    String.valueOf(userId),
+                    Objects.toString(programId, ""),
+                    String.valueOf(expected),
+                    String.valueOf(actual),
+                    String.valueOf(actual - expected)
+            ));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,170 @@
+package com.questevent.timing;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Per-request phase timings behind the {@code Server-Timing} header. The
+ * {@link ServerTimingFilter} opens a collector on the request thread, and
+ * the JWT decoder, RBAC checks, JDBC statements and JSON serialization each
+ * add their time through {@link #time(Phase)}.
+ * <p>
+ * Phases are exclusive: SQL run inside an RBAC check counts as SQL, not
+ * RBAC, and whatever no phase claims is reported as {@code app} (controller
+ * and service logic, entity mapping). Work on other threads, such as the
+ * async half of a streaming export, is not seen.
+ */
+public final class RequestTimings {
+
+    public enum Phase {
+        JWT("jwt", "check"),
+        RBAC("rbac", "check"),
+        SQL("sql", "statement"),
+        SERIALIZATION("ser", "write");
+
+        private final String metric;
+        private final String unit;
+
+        Phase(String metric, String unit) {
+            this.metric = metric;
+            this.unit = unit;
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long[] nanos = new long[Phase.values().length];
+    private final int[] counts = new int[Phase.values().length];
+
+    /** The innermost open span; its parent chain mirrors the call stack. */
+    private Span open;
+
+    private RequestTimings() {
+    }
+
+    /** Starts collecting for the current thread. */
+    static RequestTimings begin() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** The collector of the request on this thread, or {@code null} outside one. */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Opens a span for {@code phase}; close it with try-with-resources. Free
+     * of bookkeeping when the thread is not serving a timed request.
+     */
+    public static Span time(Phase phase) {
+        RequestTimings timings = CURRENT.get();
+        return timings == null ? Span.NOOP : timings.openSpan(phase);
+    }
+
+    private Span openSpan(Phase phase) {
+        open = new Span(this, phase, open);
+        return open;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long nanos(Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public int count(Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /** Elapsed time no phase accounted for. */
+    public long appNanos() {
+        return appNanos(elapsedNanos());
+    }
+
+    private long appNanos(long elapsed) {
+        long claimed = 0;
+        for (long phaseNanos : nanos) {
+            claimed += phaseNanos;
+        }
+        return Math.max(0, elapsed - claimed);
+    }
+
+    /** e.g. {@code jwt;dur=1.2, sql;dur=8.4;desc="3 statements", app;dur=5.0, total;dur=14.6} */
+    public String serverTimingHeader() {
+        long elapsed = elapsedNanos();
+        StringJoiner header = new StringJoiner(", ");
+        for (Phase phase : Phase.values()) {
+            int count = count(phase);
+            if (count > 0) {
+                header.add(phase.metric + ";dur=" + millis(nanos(phase))
+                        + ";desc=\"" + count + " " + phase.unit + (count == 1 ? "" : "s") + "\"");
+            }
+        }
+        header.add("app;dur=" + millis(appNanos(elapsed)));
+        header.add("total;dur=" + millis(elapsed));
+        return header.toString();
+    }
+
+    /** The breakdown as log fields: {@code totalMs=.. | jwtMs=.. | jwtChecks=.. | ...}. */
+    public String describe() {
+        long elapsed = elapsedNanos();
+        StringJoiner fields = new StringJoiner(" | ");
+        fields.add("totalMs=" + millis(elapsed));
+        for (Phase phase : Phase.values()) {
+            fields.add(phase.metric + "Ms=" + millis(nanos(phase)));
+            fields.add(phase.metric + capitalize(phase.unit) + "s=" + count(phase));
+        }
+        fields.add("appMs=" + millis(appNanos(elapsed)));
+        return fields.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /** One timed stretch of a phase; time spent in nested spans is deducted from it. */
+    public static final class Span implements AutoCloseable {
+
+        static final Span NOOP = new Span(null, null, null);
+
+        private final RequestTimings timings;
+        private final Phase phase;
+        private final Span parent;
+        private final long startNanos;
+        private long nestedNanos;
+
+        private Span(RequestTimings timings, Phase phase, Span parent) {
+            this.timings = timings;
+            this.phase = phase;
+            this.parent = parent;
+            this.startNanos = timings == null ? 0 : System.nanoTime();
+        }
+
+        @Override
+        public void close() {
+            if (timings == null) {
+                return;
+            }
+            long elapsed = System.nanoTime() - startNanos;
+            timings.nanos[phase.ordinal()] += elapsed - nestedNanos;
+            timings.counts[phase.ordinal()]++;
+            if (parent != null) {
+                parent.nestedNanos += elapsed;
+            }
+            timings.open = parent;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.questevent.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Collects {@link RequestTimings} for an API request, sends them as a
+ * {@code Server-Timing} header and logs the breakdown of requests slower
+ * than the threshold.
+ * <p>
+ * Runs ahead of Spring Security so JWT decoding is inside the window. A
+ * response whose body has already been flushed keeps the header
+ * {@link ServerTimingResponseAdvice} set before serialization; otherwise
+ * the header is rewritten here with the complete breakdown.
+ */
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimingFilter.class);
+
+    private final boolean headerEnabled;
+    private final long slowRequestNanos;
+
+    public ServerTimingFilter(boolean headerEnabled, Duration slowRequestThreshold) {
+        this.headerEnabled = headerEnabled;
+        this.slowRequestNanos = slowRequestThreshold.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.end();
+
+            if (headerEnabled && !response.isCommitted()) {
+                response.setHeader(HEADER, timings.serverTimingHeader());
+            }
+            if (timings.elapsedNanos() >= slowRequestNanos) {
+                log.warn(
+                        "Slow request | method={} | path={} | status={} | {}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        response.getStatus(),
+                        timings.describe()
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.questevent.timing;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Adds bearer-token decoding (signature, claim validation and, on a key
+ * miss, the JWKS fetch) to the request's {@code jwt} phase.
+ */
+public class TimedJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+
+    public TimedJwtDecoder(JwtDecoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        try (RequestTimings.Span span = RequestTimings.time(RequestTimings.Phase.JWT)) {
+            return delegate.decode(token);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.questevent.utils;
+
+import com.questevent.dto.ContentVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET for read endpoints whose body has a cheap version.
+ * <p>
+ * The handler looks up the {@link ContentVersion} first and asks
+ * {@link #notModified}; when the client's {@code If-None-Match} (or, without
+ * one, {@code If-Modified-Since}) still matches, the response is already a
+ * 304 and the handler returns {@code null} without reading the body.
+ * Otherwise the validators are set on the response and the body is built
+ * as usual.
+ */
+public final class ConditionalGet {
+
+    // browsers keep the body but revalidate before each use; Spring Security would send no-store otherwise
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    public static boolean notModified(WebRequest request, ContentVersion version) {
+
+        if (request instanceof ServletWebRequest servletRequest) {
+            HttpServletResponse response = servletRequest.getResponse();
+            if (response != null) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            }
+        }
+
+        long lastModified = version.lastModified() == null ? -1 : version.lastModified().toEpochMilli();
+        return request.checkNotModified(version.etag(), lastModified);
+    }
+}
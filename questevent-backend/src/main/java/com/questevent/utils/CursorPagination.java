@@ -0,0 +1,130 @@
+package com.questevent.utils;
+
+import com.questevent.dto.CursorPageDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Shared cursor-pagination contract for list endpoints.
+ * <p>
+ * Requests take an optional opaque {@code cursor} and a {@code limit}.
+ * Responses keep the list as the body and advertise the following page
+ * through a {@code Link: <...>; rel="next"} header and
+ * {@code X-Next-Cursor}. A cursor wraps the id of the last row served,
+ * and the next page is read with {@code WHERE id > :cursor ORDER BY id},
+ * so every page costs one index range scan however deep it is.
+ */
+public final class CursorPagination {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid cursor";
+
+    private CursorPagination() {
+    }
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be greater than zero");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static Long decodeLong(String cursor) {
+        String key = decode(cursor);
+        if (key == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    public static UUID decodeUuid(String cursor) {
+        String key = decode(cursor);
+        if (key == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(key);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+    // raw key for cursors that are not a single id, e.g. ranked search positions
+    public static String decodeKey(String cursor) {
+        return decode(cursor);
+    }
+
+    public static String encode(Object key) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row
+     * only signals that another page exists.
+     */
+    public static <E, T> CursorPageDTO<T> toPage(
+            List<E> rows,
+            int limit,
+            Function<E, ?> keyOf,
+            Function<E, T> mapper
+    ) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = hasNext
+                ? encode(keyOf.apply(pageRows.get(pageRows.size() - 1)))
+                : null;
+
+        return new CursorPageDTO<>(
+                pageRows.stream().map(mapper).toList(),
+                nextCursor
+        );
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponse(CursorPageDTO<T> page, int limit) {
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+
+        if (page.hasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .replaceQueryParam("limit", limit)
+                    .toUriString();
+
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+
+        return response.body(page.items());
+    }
+
+    private static String decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+}
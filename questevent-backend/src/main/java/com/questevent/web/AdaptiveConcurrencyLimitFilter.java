@@ -0,0 +1,64 @@
+package com.questevent.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Sheds API requests that would exceed the {@link AdaptiveConcurrencyLimiter}
+ * with 503 and {@code Retry-After}, and reports the latency of every
+ * admitted synchronous request back to it. Async requests release their
+ * permit when they complete, without a sample.
+ */
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public AdaptiveConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        EndpointGroup group = EndpointGroup.of(request);
+        RequestPriority priority = RequestPriority.of(request, group);
+
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit = limiter.tryAcquire(group, priority);
+        if (permit.isEmpty()) {
+            OverloadResponses.reject(response, objectMapper, "Server is overloaded, please retry shortly");
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            AdaptiveConcurrencyLimiter.Permit admitted = permit.get();
+            if (request.isAsyncStarted()) {
+                RequestCompletion.whenDone(request, response, !completed, failed -> admitted.releaseUnsampled());
+            } else {
+                RequestCompletion.whenDone(request, response, !completed, admitted::release);
+            }
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.questevent.web;
+
+import com.questevent.dto.ConcurrencyLimitStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive concurrency limits for the API: one per {@link EndpointGroup},
+ * each a {@link GradientLimit} fed with the latency of the requests it
+ * admitted, and one across all requests.
+ * <p>
+ * The global limit takes no latency samples, since groups with different
+ * latency profiles would share one baseline. It is the sum of the group
+ * limits, capped at {@code max-limit}, and is enforced on in-flight counts
+ * alone. A request needs room under both. Under the global limit only
+ * {@link RequestPriority#CRITICAL} requests may use the full limit, so
+ * leaderboard refreshes are shed before judge review writes.
+ * <p>
+ * Async requests (streaming exports) hold their permits until they
+ * complete but are never sampled: a round trip of minutes says nothing
+ * about the group's capacity.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    static final String GLOBAL = "GLOBAL";
+
+    private final Partition global;
+    private final Map<EndpointGroup, Partition> groups = new EnumMap<>(EndpointGroup.class);
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(
+            @Value("${questevent.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${questevent.concurrency-limit.min-limit:2}") int minLimit,
+            @Value("${questevent.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${questevent.concurrency-limit.tolerance:1.5}") double tolerance
+    ) {
+        this(initialLimit, minLimit, maxLimit, tolerance, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double tolerance,
+            LongSupplier nanoClock
+    ) {
+        for (EndpointGroup group : EndpointGroup.values()) {
+            groups.put(group, new Partition(
+                    group.name(),
+                    new GradientLimit(initialLimit, minLimit, maxLimit, tolerance)
+            ));
+        }
+        this.global = new Partition(GLOBAL, null, () -> Math.min(maxLimit, groupLimitSum()));
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Admits a request or returns empty when it should be shed. The permit
+     * must be released once the request is done.
+     */
+    public Optional<Permit> tryAcquire(EndpointGroup group, RequestPriority priority) {
+
+        Partition groupPartition = groups.get(group);
+
+        if (!global.tryAcquire(priority.getLimitShare())) {
+            log.debug("Request shed by global limit | group={} | priority={} | limit={}",
+                    group, priority, global.getLimit());
+            return Optional.empty();
+        }
+
+        if (!groupPartition.tryAcquire(1.0)) {
+            global.cancel();
+            log.debug("Request shed by group limit | group={} | priority={} | limit={}",
+                    group, priority, groupPartition.getLimit());
+            return Optional.empty();
+        }
+
+        return Optional.of(new Permit(groupPartition, nanoClock.getAsLong()));
+    }
+
+    public List<ConcurrencyLimitStatsDTO> getStats() {
+        List<ConcurrencyLimitStatsDTO> stats = new ArrayList<>(groups.size() + 1);
+        stats.add(global.stats());
+        for (Partition partition : groups.values()) {
+            stats.add(partition.stats());
+        }
+        return stats;
+    }
+
+    private int groupLimitSum() {
+        int sum = 0;
+        for (Partition partition : groups.values()) {
+            sum += partition.getLimit();
+        }
+        return sum;
+    }
+
+    public final class Permit {
+
+        private final Partition group;
+        private final long startNanos;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Partition group, long startNanos) {
+            this.group = group;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * @param overloaded whether the request failed in a way that
+         *                   signals overload, which backs the limits off
+         */
+        public void release(boolean overloaded) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            long rttNanos = nanoClock.getAsLong() - startNanos;
+            global.release();
+            group.release();
+            group.sample(rttNanos, overloaded);
+        }
+
+        /** Frees the permit without a latency sample, for async and streaming requests. */
+        public void releaseUnsampled() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            global.release();
+            group.release();
+        }
+    }
+
+    private static final class Partition {
+
+        private final String name;
+        private final GradientLimit gradient;
+        private final IntSupplier limit;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder shed = new LongAdder();
+
+        private Partition(String name, GradientLimit gradient) {
+            this(name, gradient, gradient::getLimit);
+        }
+
+        // gradient is null for a partition whose limit is derived from others and never sampled
+        private Partition(String name, GradientLimit gradient, IntSupplier limit) {
+            this.name = name;
+            this.gradient = gradient;
+            this.limit = limit;
+        }
+
+        private int getLimit() {
+            return limit.getAsInt();
+        }
+
+        private boolean tryAcquire(double limitShare) {
+            int allowed = Math.max(1, (int) (getLimit() * limitShare));
+            if (inFlight.incrementAndGet() > allowed) {
+                inFlight.decrementAndGet();
+                shed.increment();
+                return false;
+            }
+            admitted.increment();
+            return true;
+        }
+
+        private void cancel() {
+            inFlight.decrementAndGet();
+            admitted.decrement();
+        }
+
+        private void release() {
+            inFlight.decrementAndGet();
+        }
+
+        // in flight at the request's end, counting the request itself
+        private void sample(long rttNanos, boolean overloaded) {
+            gradient.onSample(rttNanos, inFlight.get() + 1, overloaded);
+        }
+
+        private ConcurrencyLimitStatsDTO stats() {
+            return new ConcurrencyLimitStatsDTO(
+                    name,
+                    getLimit(),
+                    inFlight.get(),
+                    admitted.sum(),
+                    shed.sum(),
+                    gradient == null ? 0.0 : gradient.getNoLoadRttNanos() / 1_000_000.0
+            );
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.questevent.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.datasource.DatabaseBulkhead;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Admits API requests through the {@link DatabaseBulkhead} and answers
+ * 503 with {@code Retry-After} when it is full. Async requests such as
+ * streaming exports keep their permit until the async work completes.
+ */
+public class DatabaseBulkheadFilter extends OncePerRequestFilter {
+
+    private final DatabaseBulkhead bulkhead;
+    private final ObjectMapper objectMapper;
+
+    public DatabaseBulkheadFilter(DatabaseBulkhead bulkhead, ObjectMapper objectMapper) {
+        this.bulkhead = bulkhead;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (!bulkhead.tryEnter()) {
+            OverloadResponses.reject(response, objectMapper, "Server is busy, please retry shortly");
+            return;
+        }
+
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            RequestCompletion.whenDone(request, response, !completed, failed -> bulkhead.release());
+        }
+    }
+}
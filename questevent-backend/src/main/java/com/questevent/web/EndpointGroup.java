@@ -0,0 +1,40 @@
+package com.questevent.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * API areas with distinct latency profiles, each given its own adaptive
+ * concurrency limit so a slow leaderboard aggregate cannot drag down the
+ * limit of cheap CRUD reads.
+ */
+public enum EndpointGroup {
+
+    LEADERBOARD("/api/leaderboard"),
+    JUDGE("/api/judge"),
+    SUBMISSION("/api/submissions"),
+    CRUD("/api");
+
+    private final String pathPrefix;
+
+    EndpointGroup(String pathPrefix) {
+        this.pathPrefix = pathPrefix;
+    }
+
+    public static EndpointGroup of(HttpServletRequest request) {
+        String path = pathWithinApplication(request);
+        for (EndpointGroup group : values()) {
+            if (path.equals(group.pathPrefix) || path.startsWith(group.pathPrefix + "/")) {
+                return group;
+            }
+        }
+        return CRUD;
+    }
+
+    public static String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath != null && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length())
+                : uri;
+    }
+}
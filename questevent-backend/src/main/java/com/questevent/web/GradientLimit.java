@@ -0,0 +1,92 @@
+package com.questevent.web;
+
+/**
+ * Concurrency limit driven by how far latency has risen above its no-load
+ * baseline. While latency stays within {@code tolerance} of the baseline
+ * the limit grows by about {@code sqrt(limit)} per sample, scaled by the
+ * smoothing factor; beyond it the limit is scaled down by the latency
+ * ratio. An overloaded or failed request cuts the limit by a fixed factor.
+ * <p>
+ * The baseline is the minimum latency seen. Every
+ * {@value #BASELINE_WINDOW_SAMPLES} samples it is replaced by the minimum
+ * of that window, so it can follow data growth without trusting any
+ * single sample.
+ */
+final class GradientLimit {
+
+    static final int BASELINE_WINDOW_SAMPLES = 1_000;
+
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    private volatile int limit;
+
+    GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.estimatedLimit = clamp(initialLimit);
+        this.limit = (int) estimatedLimit;
+    }
+
+    int getLimit() {
+        return limit;
+    }
+
+    synchronized long getNoLoadRttNanos() {
+        return noLoadRttNanos;
+    }
+
+    synchronized void onSample(long rttNanos, int inFlight, boolean overloaded) {
+
+        if (overloaded) {
+            update(estimatedLimit * BACKOFF);
+            return;
+        }
+
+        if (noLoadRttNanos == 0 || rttNanos < noLoadRttNanos) {
+            noLoadRttNanos = Math.max(1, rttNanos);
+        }
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples >= BASELINE_WINDOW_SAMPLES) {
+            noLoadRttNanos = Math.max(1, windowMinRttNanos);
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+
+        // far below the limit the latency says nothing about the limit itself
+        if (inFlight * 2 < estimatedLimit) {
+            return;
+        }
+
+        double gradient = Math.max(
+                MIN_GRADIENT,
+                Math.min(1.0, tolerance * noLoadRttNanos / Math.max(1, rttNanos))
+        );
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+        update((1 - SMOOTHING) * estimatedLimit + SMOOTHING * target);
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = clamp(newLimit);
+        limit = (int) estimatedLimit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,53 @@
+package com.questevent.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.dto.ApiErrorDTO;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Writes the 503 that load-shedding filters answer with, in the same
+ * {@link ApiErrorDTO} shape as the exception handler.
+ */
+final class OverloadResponses {
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private OverloadResponses() {
+    }
+
+    static void reject(
+            HttpServletResponse response,
+            ObjectMapper objectMapper,
+            String message
+    ) throws IOException {
+
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getOutputStream(),
+                new ApiErrorDTO(
+                        status.value(),
+                        message,
+                        Instant.now()
+                )
+        );
+    }
+
+    /**
+     * Whether a response signals overload rather than a bug, so limiters
+     * back off on it.
+     */
+    static boolean isOverloaded(int status) {
+        return status == HttpStatus.SERVICE_UNAVAILABLE.value()
+                || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+}
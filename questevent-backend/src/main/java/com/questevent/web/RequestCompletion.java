@@ -0,0 +1,77 @@
+package com.questevent.web;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Runs a callback exactly once when a request is done: right away for a
+ * plain request, or when the async context completes for streaming and
+ * other async requests.
+ */
+final class RequestCompletion {
+
+    private RequestCompletion() {
+    }
+
+    /**
+     * @param threw    whether the filter chain ended with an exception
+     * @param callback receives {@code true} when the request failed or
+     *                 signalled overload
+     */
+    static void whenDone(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            boolean threw,
+            Consumer<Boolean> callback
+    ) {
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new Listener(response, callback));
+        } else {
+            callback.accept(threw || OverloadResponses.isOverloaded(response.getStatus()));
+        }
+    }
+
+    private static final class Listener implements AsyncListener {
+
+        private final HttpServletResponse response;
+        private final Consumer<Boolean> callback;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Listener(HttpServletResponse response, Consumer<Boolean> callback) {
+            this.response = response;
+            this.callback = callback;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            finish(OverloadResponses.isOverloaded(response.getStatus()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            finish(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finish(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // a re-dispatch starts a new cycle; stay registered for its end
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void finish(boolean failed) {
+            if (done.compareAndSet(false, true)) {
+                callback.accept(failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.questevent.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Decides which requests are shed first as the server nears its global
+ * concurrency limit. Lower priorities may only use a share of the limit,
+ * leaving headroom that judge review writes can still get into.
+ */
+public enum RequestPriority {
+
+    /** Background-style reads: leaderboard refreshes and exports. */
+    LOW(0.7),
+
+    NORMAL(0.9),
+
+    /** Judge review decisions, which users are blocked on. */
+    CRITICAL(1.0);
+
+    private final double limitShare;
+
+    RequestPriority(double limitShare) {
+        this.limitShare = limitShare;
+    }
+
+    public double getLimitShare() {
+        return limitShare;
+    }
+
+    public static RequestPriority of(HttpServletRequest request, EndpointGroup group) {
+
+        boolean read = HttpMethod.GET.matches(request.getMethod());
+
+        if (group == EndpointGroup.JUDGE && !read) {
+            return CRITICAL;
+        }
+        if (read && (group == EndpointGroup.LEADERBOARD
+                || EndpointGroup.pathWithinApplication(request).contains("/exports/"))) {
+            return LOW;
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,13 @@
+-- User.userId takes ids from a pooled sequence, 50 per nextval. Databases
+-- baselined at version 1 still carry the IDENTITY sequence with INCREMENT BY 1;
+-- on a fresh database V1 already created it this way and this only moves it on.
+ALTER SEQUENCE users_user_id_seq INCREMENT BY 50;
+
+-- the pooled optimizer hands out (value - 49 .. value) for each nextval, so the
+-- next value must clear every id already used, whether allocated one at a time
+-- or in blocks
+SELECT setval(
+        'users_user_id_seq',
+        GREATEST(COALESCE((SELECT MAX(user_id) FROM users), 0),
+                 (SELECT last_value FROM users_user_id_seq)) + 50,
+        false);
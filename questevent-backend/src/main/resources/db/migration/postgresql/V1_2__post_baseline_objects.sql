@@ -0,0 +1,29 @@
+-- Objects V1 creates that a database from before the migrations does not
+-- have. Such a database is baselined at version 1, so V1 never runs on it;
+-- on a fresh one V1 already created all of this and every statement here
+-- is a no-op.
+
+CREATE TABLE IF NOT EXISTS activity_prerequisites (
+    activity_prerequisite_id UUID NOT NULL,
+    activity_id              UUID NOT NULL,
+    prerequisite_activity_id UUID NOT NULL,
+    CONSTRAINT activity_prerequisites_pkey PRIMARY KEY (activity_prerequisite_id),
+    CONSTRAINT uk_activity_prerequisite UNIQUE (activity_id, prerequisite_activity_id),
+    CONSTRAINT fk_prerequisite_activity FOREIGN KEY (activity_id) REFERENCES activities (activity_id),
+    CONSTRAINT fk_prerequisite_prerequisite FOREIGN KEY (prerequisite_activity_id) REFERENCES activities (activity_id)
+);
+
+CREATE TABLE IF NOT EXISTS program_wallet_credit_intents (
+    intent_id  UUID                        NOT NULL,
+    user_id    BIGINT                      NOT NULL,
+    program_id UUID                        NOT NULL,
+    amount     BIGINT                      NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    applied_at TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT program_wallet_credit_intents_pkey PRIMARY KEY (intent_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_credit_intent_pending
+    ON program_wallet_credit_intents (applied_at, created_at);
+CREATE INDEX IF NOT EXISTS idx_credit_intent_program
+    ON program_wallet_credit_intents (program_id, applied_at);
@@ -0,0 +1,145 @@
+-- Schema as mapped by the entities. Runs on empty databases only: one that
+-- predates the migrations is baselined at version 1 (spring.flyway in
+-- application.yml), and an object that already exists here fails the
+-- migration instead of being skipped.
+
+-- User.userId allocates 50 ids per nextval
+CREATE SEQUENCE users_user_id_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    user_id    BIGINT                      NOT NULL,
+    name       VARCHAR(255)                NOT NULL,
+    email      VARCHAR(255)                NOT NULL,
+    department VARCHAR(255)                NOT NULL,
+    gender     VARCHAR(255)                NOT NULL,
+    role       VARCHAR(255)                NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE wallets (
+    wallet_id  UUID                        NOT NULL,
+    user_id    BIGINT                      NOT NULL,
+    gems       BIGINT                      NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT wallets_pkey PRIMARY KEY (wallet_id),
+    CONSTRAINT uk_wallets_user UNIQUE (user_id),
+    CONSTRAINT fk_wallet_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE judges (
+    judge_id UUID   NOT NULL,
+    user_id  BIGINT NOT NULL,
+    CONSTRAINT judges_pkey PRIMARY KEY (judge_id),
+    CONSTRAINT uk_judges_user UNIQUE (user_id),
+    CONSTRAINT fk_judge_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE programs (
+    program_id          UUID                        NOT NULL,
+    user_id             BIGINT                      NOT NULL,
+    program_title       VARCHAR(255)                NOT NULL,
+    program_description VARCHAR(255),
+    department          VARCHAR(255)                NOT NULL,
+    start_date          TIMESTAMP(6) WITH TIME ZONE,
+    end_date            TIMESTAMP(6) WITH TIME ZONE,
+    status              VARCHAR(255),
+    judge_id            UUID                        NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT programs_pkey PRIMARY KEY (program_id),
+    CONSTRAINT fk_program_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_program_judge FOREIGN KEY (judge_id) REFERENCES judges (judge_id)
+);
+
+CREATE TABLE activities (
+    activity_id       UUID                        NOT NULL,
+    program_id        UUID                        NOT NULL,
+    name              VARCHAR(200)                NOT NULL,
+    activity_duration INTEGER,
+    rulebook          TEXT,
+    description       TEXT,
+    reward_gems       BIGINT                      NOT NULL,
+    created_at        TIMESTAMP(6) WITH TIME ZONE,
+    is_compulsory     BOOLEAN                     NOT NULL,
+    CONSTRAINT activities_pkey PRIMARY KEY (activity_id),
+    CONSTRAINT program_id FOREIGN KEY (program_id) REFERENCES programs (program_id)
+);
+
+CREATE TABLE activity_prerequisites (
+    activity_prerequisite_id UUID NOT NULL,
+    activity_id              UUID NOT NULL,
+    prerequisite_activity_id UUID NOT NULL,
+    CONSTRAINT activity_prerequisites_pkey PRIMARY KEY (activity_prerequisite_id),
+    CONSTRAINT uk_activity_prerequisite UNIQUE (activity_id, prerequisite_activity_id),
+    CONSTRAINT fk_prerequisite_activity FOREIGN KEY (activity_id) REFERENCES activities (activity_id),
+    CONSTRAINT fk_prerequisite_prerequisite FOREIGN KEY (prerequisite_activity_id) REFERENCES activities (activity_id)
+);
+
+CREATE TABLE program_registrations (
+    program_registration_id UUID   NOT NULL,
+    program_id              UUID   NOT NULL,
+    user_id                 BIGINT NOT NULL,
+    registered_at           TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT program_registrations_pkey PRIMARY KEY (program_registration_id),
+    CONSTRAINT uk_program_registration UNIQUE (program_id, user_id),
+    CONSTRAINT program_id FOREIGN KEY (program_id) REFERENCES programs (program_id),
+    CONSTRAINT user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE program_wallets (
+    program_wallet_id UUID         NOT NULL,
+    program_id        UUID         NOT NULL,
+    user_id           BIGINT       NOT NULL,
+    gems              BIGINT       NOT NULL,
+    status            VARCHAR(255),
+    CONSTRAINT program_wallets_pkey PRIMARY KEY (program_wallet_id),
+    CONSTRAINT uk_user_program UNIQUE (user_id, program_id),
+    CONSTRAINT fk_program_wallet_program FOREIGN KEY (program_id) REFERENCES programs (program_id),
+    CONSTRAINT fk_program_wallet_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE activity_registrations (
+    activity_registration_id UUID         NOT NULL,
+    activity_id              UUID,
+    user_id                  BIGINT,
+    completion_status        VARCHAR(255) NOT NULL,
+    CONSTRAINT activity_registrations_pkey PRIMARY KEY (activity_registration_id),
+    CONSTRAINT uk_activity_registration UNIQUE (activity_id, user_id),
+    CONSTRAINT activity_id FOREIGN KEY (activity_id) REFERENCES activities (activity_id),
+    CONSTRAINT user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE activity_submissions (
+    submission_id            UUID                        NOT NULL,
+    activity_registration_id UUID                        NOT NULL,
+    review_status            VARCHAR(255)                NOT NULL,
+    submission_url           VARCHAR(255)                NOT NULL,
+    submitted_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    awarded_gems             BIGINT,
+    reviewed_at              TIMESTAMP(6) WITH TIME ZONE,
+    reviewed_by              UUID,
+    CONSTRAINT activity_submissions_pkey PRIMARY KEY (submission_id),
+    CONSTRAINT uk_submission_registration UNIQUE (activity_registration_id),
+    CONSTRAINT fk_submission_registration FOREIGN KEY (activity_registration_id)
+        REFERENCES activity_registrations (activity_registration_id),
+    CONSTRAINT fk_submission_judge FOREIGN KEY (reviewed_by) REFERENCES judges (judge_id)
+);
+
+CREATE TABLE program_wallet_credit_intents (
+    intent_id  UUID                        NOT NULL,
+    user_id    BIGINT                      NOT NULL,
+    program_id UUID                        NOT NULL,
+    amount     BIGINT                      NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    applied_at TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT program_wallet_credit_intents_pkey PRIMARY KEY (intent_id)
+);
+
+CREATE INDEX idx_credit_intent_pending
+    ON program_wallet_credit_intents (applied_at, created_at);
+CREATE INDEX idx_credit_intent_program
+    ON program_wallet_credit_intents (program_id, applied_at);
@@ -0,0 +1,50 @@
+-- Indexes for the repository access paths. Columns already leading a
+-- primary key or unique constraint are not repeated:
+--   activity_registrations (activity_id, user_id), program_registrations (program_id, user_id),
+--   program_wallets (user_id, program_id), activity_submissions (activity_registration_id),
+--   activity_prerequisites (activity_id, ...), judges (user_id), wallets (user_id), users (email).
+-- RepositoryIndexCoverageTest fails when a repository query needs a sequential scan.
+
+-- registrations, progress and submissions of a user; the leaderboards join on it
+CREATE INDEX idx_activity_registrations_user
+    ON activity_registrations (user_id, completion_status);
+
+CREATE INDEX idx_program_registrations_user
+    ON program_registrations (user_id);
+
+-- wallets, exports and the program leaderboard of one program
+CREATE INDEX idx_program_wallets_program
+    ON program_wallets (program_id);
+
+CREATE INDEX idx_activities_program
+    ON activities (program_id);
+
+-- "is a compulsory activity depending on this one"
+CREATE INDEX idx_activity_prerequisites_prerequisite
+    ON activity_prerequisites (prerequisite_activity_id);
+
+-- judge access checks and the judge's review queue start from programs.judge_id
+CREATE INDEX idx_programs_judge
+    ON programs (judge_id);
+
+-- hosted programs, optionally by status
+CREATE INDEX idx_programs_host_status
+    ON programs (user_id, status);
+
+-- settlement: programs of a status past their end date
+CREATE INDEX idx_programs_status_end_date
+    ON programs (status, end_date);
+
+-- department listings
+CREATE INDEX idx_programs_status_department
+    ON programs (status, department);
+
+CREATE INDEX idx_users_department
+    ON users (department, user_id);
+
+-- the review queue: pending submissions are a small, hot slice of the table,
+-- so this stays small while approved and rejected rows pile up
+CREATE INDEX idx_activity_submissions_pending
+    ON activity_submissions (activity_registration_id)
+    WHERE review_status = 'PENDING';
+
@@ -0,0 +1,25 @@
+-- Validators for conditional GETs (ETag / Last-Modified) on activity lists:
+-- activities get a modification time, and each program an aggregate version
+-- of its activities, bumped on every create, update and delete.
+
+ALTER TABLE activities
+    ADD COLUMN updated_at TIMESTAMP(6) WITH TIME ZONE;
+
+UPDATE activities
+SET updated_at = COALESCE(created_at, now())
+WHERE updated_at IS NULL;
+
+ALTER TABLE programs
+    ADD COLUMN activities_version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE programs
+    ADD COLUMN activities_updated_at TIMESTAMP(6) WITH TIME ZONE;
+
+UPDATE programs p
+SET activities_updated_at = COALESCE(
+        (SELECT MAX(a.updated_at) FROM activities a WHERE a.program_id = p.program_id),
+        p.updated_at)
+WHERE p.activities_updated_at IS NULL;
+
+ALTER TABLE programs
+    ALTER COLUMN activities_updated_at SET NOT NULL;
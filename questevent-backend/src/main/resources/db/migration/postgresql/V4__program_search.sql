@@ -0,0 +1,75 @@
+-- Full-text search document per program, kept current by triggers on
+-- programs and activities. Weights: title A, program description and
+-- activity names B, activity descriptions C, rulebooks D.
+--
+-- Earlier builds created these objects at startup. They are dropped and
+-- rebuilt here so every database ends up with exactly this definition;
+-- program_search only holds data derived from programs and activities.
+
+DROP TRIGGER IF EXISTS trg_programs_search ON programs;
+DROP TRIGGER IF EXISTS trg_activities_search ON activities;
+DROP TABLE IF EXISTS program_search;
+
+CREATE TABLE program_search (
+    program_id    UUID PRIMARY KEY REFERENCES programs (program_id) ON DELETE CASCADE,
+    department    VARCHAR(255) NOT NULL,
+    status        VARCHAR(255),
+    search_vector TSVECTOR     NOT NULL
+);
+
+CREATE INDEX idx_program_search_vector
+    ON program_search USING GIN (search_vector);
+
+CREATE OR REPLACE FUNCTION program_search_refresh(target UUID) RETURNS void AS $$
+BEGIN
+    INSERT INTO program_search (program_id, department, status, search_vector)
+    SELECT p.program_id,
+           p.department,
+           p.status,
+           setweight(to_tsvector('english', coalesce(p.program_title, '')), 'A')
+               || setweight(to_tsvector('english', coalesce(p.program_description, '')), 'B')
+               || setweight(to_tsvector('english', coalesce(string_agg(a.name, ' '), '')), 'B')
+               || setweight(to_tsvector('english', coalesce(string_agg(a.description, ' '), '')), 'C')
+               || setweight(to_tsvector('english', coalesce(string_agg(a.rulebook, ' '), '')), 'D')
+    FROM programs p
+    LEFT JOIN activities a ON a.program_id = p.program_id
+    WHERE p.program_id = target
+    GROUP BY p.program_id
+    ON CONFLICT (program_id) DO UPDATE
+        SET department    = EXCLUDED.department,
+            status        = EXCLUDED.status,
+            search_vector = EXCLUDED.search_vector;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION programs_search_trigger() RETURNS trigger AS $$
+BEGIN
+    PERFORM program_search_refresh(NEW.program_id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION activities_search_trigger() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' THEN
+        PERFORM program_search_refresh(OLD.program_id);
+    END IF;
+    IF TG_OP = 'INSERT' OR (TG_OP = 'UPDATE' AND NEW.program_id IS DISTINCT FROM OLD.program_id) THEN
+        PERFORM program_search_refresh(NEW.program_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_programs_search
+    AFTER INSERT OR UPDATE OF program_title, program_description, department, status
+    ON programs
+    FOR EACH ROW EXECUTE FUNCTION programs_search_trigger();
+
+CREATE TRIGGER trg_activities_search
+    AFTER INSERT OR DELETE OR UPDATE OF name, description, rulebook, program_id
+    ON activities
+    FOR EACH ROW EXECUTE FUNCTION activities_search_trigger();
+
+SELECT program_search_refresh(p.program_id)
+FROM programs p;
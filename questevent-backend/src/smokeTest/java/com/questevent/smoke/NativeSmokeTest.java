@@ -0,0 +1,196 @@
+package com.questevent.smoke;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.loadtest.LocalIssuer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Starts the native executable against a fresh PostgreSQL and walks the
+ * paths that depend on reachability metadata: Flyway's migrations, JWT
+ * resource-server auth, Hibernate entities and JPQL constructor expressions,
+ * Jackson over the DTOs, the timed JDBC proxies, springdoc and the static
+ * front end. Tokens come from the load-test harness's {@link LocalIssuer},
+ * which the {@code loadtest} profile trusts.
+ * <p>
+ * Run through {@code ./gradlew nativeSmokeTest -Pnative}, which builds the
+ * binary and passes its path as {@code smoke.executable}; the application's
+ * output lands in {@code build/reports/native-smoke}. Needs Docker.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NativeSmokeTest {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+    private static final String EMAIL = "smoke.user@questevent.test";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    private static LocalIssuer issuer;
+    private static Process application;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        String executable = System.getProperty("smoke.executable");
+        assumeTrue(executable != null && Files.isExecutable(Path.of(executable)),
+                "smoke.executable does not point to a native binary");
+
+        issuer = new LocalIssuer(freePort());
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+
+        List<String> command = new ArrayList<>(List.of(
+                executable,
+                "--server.port=" + port,
+                "--spring.profiles.active=loadtest",
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "--spring.datasource.username=" + POSTGRES.getUsername(),
+                "--spring.datasource.password=" + POSTGRES.getPassword()
+        ));
+        Path output = Path.of("build", "reports", "native-smoke", "application.log");
+        Files.createDirectories(output.getParent());
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(output.toFile());
+        builder.environment().put("LOADTEST_ISSUER_URI", issuer.issuer());
+        application = builder.start();
+
+        awaitStartup(output);
+    }
+
+    @AfterAll
+    static void stopApplication() throws InterruptedException {
+        if (application != null) {
+            application.destroy();
+            if (!application.waitFor(30, TimeUnit.SECONDS)) {
+                application.destroyForcibly();
+            }
+        }
+        if (issuer != null) {
+            issuer.close();
+        }
+    }
+
+    @Test
+    void health_isUpAfterMigrations() throws Exception {
+        HttpResponse<String> response = get("/actuator/health", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).path("status").asText()).isEqualTo("UP");
+    }
+
+    @Test
+    void api_withoutToken_isUnauthorized() throws Exception {
+        assertThat(get("/api/users/me", null).statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    void currentUser_isProvisionedFromToken() throws Exception {
+        HttpResponse<String> response = get("/api/users/me", issuer.tokenFor(EMAIL));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).path("email").asText()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    void globalLeaderboard_listsProvisionedUser() throws Exception {
+        String token = issuer.tokenFor(EMAIL);
+        assertThat(get("/api/users/me", token).statusCode()).isEqualTo(200);
+
+        HttpResponse<String> response = get("/api/leaderboard/global", token);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json(response).findValuesAsText("userName")).contains("smoke.user");
+    }
+
+    @Test
+    void api_reportsSqlPhaseInServerTiming() throws Exception {
+        HttpResponse<String> response = get("/api/users/me/wallet", issuer.tokenFor(EMAIL));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Server-Timing")).hasValueSatisfying(
+                header -> assertThat(header).contains("sql"));
+    }
+
+    @Test
+    void openApi_describesControllers() throws Exception {
+        HttpResponse<String> docs = get("/v3/api-docs", null);
+
+        assertThat(docs.statusCode()).isEqualTo(200);
+        assertThat(json(docs).path("paths").has("/api/leaderboard/global")).isTrue();
+        assertThat(get("/swagger-ui/index.html", null).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void staticFrontEnd_isServed() throws Exception {
+        HttpResponse<String> response = get("/index.html", null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).containsIgnoringCase("<html");
+    }
+
+    private static HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(10))
+                .GET();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static void awaitStartup(Path output) throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!application.isAlive()) {
+                throw new IllegalStateException("Native executable exited with " + application.exitValue()
+                        + "; see " + output);
+            }
+            try {
+                get("/actuator/health", null);
+                return;
+            } catch (IOException notListeningYet) {
+                Thread.sleep(50);
+            }
+        }
+        throw new IllegalStateException("Native executable did not answer within " + STARTUP_TIMEOUT + "; see " + output);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.questevent.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Repository slice on the embedded H2 database for the {@code benchmark}
+ * task. Tests are not wrapped in a transaction, so each benchmark commits
+ * its own fixtures and measures the same transaction boundaries as the
+ * services. Classes that read Hibernate statistics enable them through
+ * {@code @TestPropertySource}.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.questevent=WARN"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@interface BenchmarkJpaTest {
+}
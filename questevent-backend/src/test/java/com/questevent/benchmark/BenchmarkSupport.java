@@ -0,0 +1,36 @@
+package com.questevent.benchmark;
+
+import com.questevent.entity.User;
+import com.questevent.enums.Department;
+import com.questevent.enums.Role;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Fixtures and report output shared by the benchmarks. Reports go to
+ * {@code build/reports/benchmarks}, one file per benchmark class.
+ */
+final class BenchmarkSupport {
+
+    private static final Path REPORT_DIR = Path.of("build", "reports", "benchmarks");
+
+    private BenchmarkSupport() {
+    }
+
+    static User user(String email, Role role) {
+        User user = new User();
+        user.setName(email);
+        user.setEmail(email + "@benchmark.local");
+        user.setDepartment(Department.TECH);
+        user.setGender("NA");
+        user.setRole(role);
+        return user;
+    }
+
+    static void writeReport(String fileName, CharSequence report) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        Files.writeString(REPORT_DIR.resolve(fileName), report);
+    }
+}
@@ -0,0 +1,312 @@
+package com.questevent.benchmark;
+
+import com.questevent.entity.Activity;
+import com.questevent.entity.ActivityRegistration;
+import com.questevent.entity.ActivitySubmission;
+import com.questevent.entity.Judge;
+import com.questevent.entity.Program;
+import com.questevent.entity.User;
+import com.questevent.entity.UserWallet;
+import com.questevent.enums.CompletionStatus;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.enums.Role;
+import com.questevent.repository.ActivityRegistrationRepository;
+import com.questevent.repository.ActivityRepository;
+import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.UserRepository;
+import com.questevent.repository.UserWalletRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.questevent.benchmark.BenchmarkSupport.user;
+import static com.questevent.benchmark.BenchmarkSupport.writeReport;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts JDBC statements and loaded entities for the registration and
+ * submission read paths three ways: as the eager mapping this change
+ * replaced loaded them, by navigating plain lazy associations, and through
+ * the entity graphs and access queries the services use.
+ * <p>
+ * The eager mapping cannot be loaded next to the current one, so its column
+ * replays what it fetched: {@code activity} and {@code user} of every
+ * registration, the user's inverse {@code wallet} and {@code judge}, and
+ * the registration's inverse {@code activitySubmission}. List reads
+ * initialise them one select at a time, as Hibernate did for eager
+ * associations of a query result. The by-id read fetch-joins them into one
+ * statement, as {@code find} did.
+ * <p>
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}. Results
+ * are written to {@code build/reports/benchmarks/fetch-plans.txt}, one line
+ * per use case with the eager (baseline), lazy and graph/query (after)
+ * counts. The counts do not depend on the machine, so the single-statement
+ * assertions hold the after side; the other sides grow with
+ * {@link #PARTICIPANTS}.
+ */
+@BenchmarkJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class FetchPlanBenchmarkTest {
+
+    private static final int PARTICIPANTS = 50;
+
+    private record Fixture(
+            UUID activityId,
+            UUID registrationId,
+            Long hostUserId,
+            String participantEmail
+    ) {}
+
+    private record Measurement(long statements, long entities) {}
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserWalletRepository userWalletRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ActivityRegistrationRepository activityRegistrationRepository;
+
+    @Autowired
+    private ActivitySubmissionRepository submissionRepository;
+
+    @Test
+    void readPaths_lazyNavigationVersusEntityGraphs() throws IOException {
+
+        Fixture fixture = createFixture();
+        StringBuilder report = new StringBuilder();
+
+        Measurement eager = measure(() -> entityManager
+                .createQuery(
+                        "SELECT r FROM ActivityRegistration r WHERE r.activity.activityId = :activityId",
+                        ActivityRegistration.class)
+                .setParameter("activityId", fixture.activityId())
+                .getResultList()
+                .forEach(FetchPlanBenchmarkTest::loadAsEagerMapping));
+        Measurement lazy = measure(() -> entityManager
+                .createQuery(
+                        "SELECT r FROM ActivityRegistration r WHERE r.activity.activityId = :activityId",
+                        ActivityRegistration.class)
+                .setParameter("activityId", fixture.activityId())
+                .getResultList()
+                .forEach(FetchPlanBenchmarkTest::touchRegistration));
+        Measurement graph = measure(() -> activityRegistrationRepository
+                .findByActivityActivityId(fixture.activityId())
+                .forEach(FetchPlanBenchmarkTest::touchRegistration));
+        append(report, "registrations by activity", eager, lazy, graph);
+        assertEquals(1, graph.statements());
+
+        Measurement eagerSubmissions = measure(() -> entityManager
+                .createQuery("SELECT s FROM ActivitySubmission s ORDER BY s.submissionId",
+                        ActivitySubmission.class)
+                .setMaxResults(PARTICIPANTS)
+                .getResultList()
+                .forEach(submission -> loadAsEagerMapping(submission.getActivityRegistration())));
+        Measurement lazySubmissions = measure(() -> entityManager
+                .createQuery("SELECT s FROM ActivitySubmission s ORDER BY s.submissionId",
+                        ActivitySubmission.class)
+                .setMaxResults(PARTICIPANTS)
+                .getResultList()
+                .forEach(FetchPlanBenchmarkTest::touchSubmission));
+        Measurement graphSubmissions = measure(() -> submissionRepository
+                .findByOrderBySubmissionIdAsc(Limit.of(PARTICIPANTS))
+                .forEach(FetchPlanBenchmarkTest::touchSubmission));
+        append(report, "judge submission page", eagerSubmissions, lazySubmissions, graphSubmissions);
+        assertEquals(1, graphSubmissions.statements());
+
+        Measurement eagerAccess = measure(() -> {
+            ActivityRegistration reg = entityManager.createQuery("""
+                            SELECT r FROM ActivityRegistration r
+                            JOIN FETCH r.activity
+                            JOIN FETCH r.user u
+                            LEFT JOIN FETCH u.wallet
+                            LEFT JOIN FETCH u.judge
+                            LEFT JOIN FETCH r.activitySubmission
+                            WHERE r.activityRegistrationId = :registrationId
+                            """, ActivityRegistration.class)
+                    .setParameter("registrationId", fixture.registrationId())
+                    .getSingleResult();
+            Program program = reg.getActivity().getProgram();
+            assertTrue(program.getUser().getUserId().equals(fixture.hostUserId())
+                    || program.getJudge().getUser().getUserId().equals(fixture.hostUserId()));
+        });
+        Measurement lazyAccess = measure(() -> {
+            ActivityRegistration reg = entityManager.find(
+                    ActivityRegistration.class, fixture.registrationId());
+            Program program = reg.getActivity().getProgram();
+            assertTrue(program.getUser().getUserId().equals(fixture.hostUserId())
+                    || program.getJudge().getUser().getUserId().equals(fixture.hostUserId()));
+        });
+        Measurement queryAccess = measure(() -> assertTrue(activityRegistrationRepository
+                .isAccessibleBy(fixture.registrationId(), fixture.hostUserId())));
+        append(report, "rbac activity registration access", eagerAccess, lazyAccess, queryAccess);
+        assertEquals(1, queryAccess.statements());
+
+        Measurement currentUser = measure(() ->
+                userRepository.findByEmail(fixture.participantEmail()).orElseThrow());
+        append(report, "rbac current user lookup", currentUser, currentUser, currentUser);
+        assertEquals(1, currentUser.statements());
+
+        writeReport("fetch-plans.txt", report);
+
+        assertTrue(graph.statements() < lazy.statements());
+        assertTrue(graphSubmissions.statements() < lazySubmissions.statements());
+        assertTrue(graph.statements() < eager.statements());
+        assertTrue(graphSubmissions.statements() < eagerSubmissions.statements());
+        assertTrue(queryAccess.statements() <= eagerAccess.statements());
+    }
+
+    private Measurement measure(Runnable readPath) {
+
+        Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+
+        statistics.clear();
+        tx.executeWithoutResult(status -> readPath.run());
+
+        return new Measurement(
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount()
+        );
+    }
+
+    private static void touchRegistration(ActivityRegistration registration) {
+        assertNotNull(registration.getActivity().getActivityName());
+        assertNotNull(registration.getUser().getName());
+    }
+
+    // everything the replaced mapping loaded with a registration, whether the caller used it or not
+    private static void loadAsEagerMapping(ActivityRegistration registration) {
+        Hibernate.initialize(registration.getActivity());
+        Hibernate.initialize(registration.getUser());
+        Hibernate.initialize(registration.getUser().getWallet());
+        Hibernate.initialize(registration.getUser().getJudge());
+        Hibernate.initialize(registration.getActivitySubmission());
+    }
+
+    private static void touchSubmission(ActivitySubmission submission) {
+        touchRegistration(submission.getActivityRegistration());
+    }
+
+    private static void append(
+            StringBuilder report,
+            String useCase,
+            Measurement eager,
+            Measurement lazy,
+            Measurement after
+    ) {
+        report.append(String.format(
+                "%-36s eager: statements=%d entities=%d | lazy: statements=%d entities=%d"
+                        + " | graph/query: statements=%d entities=%d%n",
+                useCase,
+                eager.statements(),
+                eager.entities(),
+                lazy.statements(),
+                lazy.entities(),
+                after.statements(),
+                after.entities()
+        ));
+    }
+
+    private Fixture createFixture() {
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString();
+
+        return tx.execute(status -> {
+            User host = userRepository.save(user("host-" + suffix, Role.HOST));
+            User judgeUser = userRepository.save(user("judge-" + suffix, Role.JUDGE));
+
+            Judge judge = new Judge();
+            judge.setUser(judgeUser);
+
+            Program program = new Program();
+            program.setUser(host);
+            program.setJudge(judge);
+            program.setProgramTitle("Fetch plans");
+            program.setDepartment(Department.TECH);
+            program.setStatus(ProgramStatus.ACTIVE);
+            program.setStartDate(Instant.now());
+            program.setEndDate(Instant.now().plus(Duration.ofDays(1)));
+            program = programRepository.save(program);
+
+            Activity activity = new Activity();
+            activity.setProgram(program);
+            activity.setActivityName("Fetch plan activity");
+            activity.setRewardGems(10L);
+            activity.setIsCompulsory(false);
+            activity = activityRepository.save(activity);
+
+            List<ActivityRegistration> registrations = new ArrayList<>();
+            User firstParticipant = null;
+
+            for (int i = 0; i < PARTICIPANTS; i++) {
+                User participant = userRepository.save(user("participant-" + i + "-" + suffix, Role.USER));
+                if (firstParticipant == null) {
+                    firstParticipant = participant;
+                }
+
+                UserWallet wallet = new UserWallet();
+                wallet.setUser(participant);
+                wallet.setGems(0L);
+                userWalletRepository.save(wallet);
+
+                ActivityRegistration registration = new ActivityRegistration();
+                registration.setActivity(activity);
+                registration.setUser(participant);
+                registration.setCompletionStatus(CompletionStatus.NOT_COMPLETED);
+                registrations.add(activityRegistrationRepository.save(registration));
+
+                ActivitySubmission submission = new ActivitySubmission();
+                submission.setActivityRegistration(registration);
+                submission.setSubmissionUrl("https://example.com/" + i);
+                submissionRepository.save(submission);
+            }
+
+            return new Fixture(
+                    activity.getActivityId(),
+                    registrations.get(0).getActivityRegistrationId(),
+                    host.getUserId(),
+                    firstParticipant.getEmail()
+            );
+        });
+    }
+}
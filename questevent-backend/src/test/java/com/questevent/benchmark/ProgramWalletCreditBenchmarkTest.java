@@ -0,0 +1,268 @@
+package com.questevent.benchmark;
+
+import com.questevent.cache.WalletBalanceCache;
+import com.questevent.entity.Judge;
+import com.questevent.entity.Program;
+import com.questevent.entity.ProgramWallet;
+import com.questevent.entity.ProgramWalletCreditIntent;
+import com.questevent.entity.User;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.enums.Role;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramSearchIndex;
+import com.questevent.repository.ProgramWalletRepository;
+import com.questevent.repository.UserRepository;
+import com.questevent.repository.UserWalletRepository;
+import com.questevent.service.ProgramWalletCreditCoalescer;
+import com.questevent.service.ProgramWalletCreditIntentService;
+import com.questevent.service.ProgramWalletTransactionService;
+import com.questevent.service.ProgramWalletTransactionServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.questevent.benchmark.BenchmarkSupport.user;
+import static com.questevent.benchmark.BenchmarkSupport.writeReport;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Credits one hot program wallet from several threads, once through the
+ * direct read-modify-write path and once through the coalescing path, and
+ * reports committed credits per second and row writes per second.
+ * <p>
+ * Coalescing trades writes on the hot wallet row for writes to the intent
+ * table: each credit inserts one intent and its flush updates it once. The
+ * report counts both, and only the wallet row writes are expected to drop.
+ * <p>
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}. Results
+ * are written to {@code build/reports/benchmarks}.
+ */
+@BenchmarkJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({WalletBalanceCache.class, ProgramWalletCreditIntentService.class})
+class ProgramWalletCreditBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int CREDITS_PER_THREAD = 250;
+    private static final long AMOUNT = 5L;
+
+    private record Result(
+            String mode,
+            long credits,
+            long failedCredits,
+            long walletWrites,
+            long intentWrites,
+            long expectedGems,
+            long actualGems,
+            long elapsedMillis
+    ) {
+        double creditsPerSecond() {
+            return (credits - failedCredits) * 1000.0 / Math.max(1, elapsedMillis);
+        }
+
+        long rowWrites() {
+            return walletWrites + intentWrites;
+        }
+
+        double walletWritesPerSecond() {
+            return walletWrites * 1000.0 / Math.max(1, elapsedMillis);
+        }
+
+        double rowWritesPerSecond() {
+            return rowWrites() * 1000.0 / Math.max(1, elapsedMillis);
+        }
+
+        String describe() {
+            return String.format(
+                    "%-10s credits=%d failed=%d walletWrites=%d intentWrites=%d rowWrites=%d "
+                            + "expectedGems=%d actualGems=%d elapsedMs=%d credits/s=%.0f "
+                            + "walletWrites/s=%.0f rowWrites/s=%.0f",
+                    mode, credits, failedCredits, walletWrites, intentWrites, rowWrites(),
+                    expectedGems, actualGems, elapsedMillis, creditsPerSecond(),
+                    walletWritesPerSecond(), rowWritesPerSecond()
+            );
+        }
+    }
+
+    @Autowired
+    private ProgramWalletRepository programWalletRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserWalletRepository userWalletRepository;
+
+    @Autowired
+    private WalletBalanceCache walletBalanceCache;
+
+    @Autowired
+    private ProgramWalletCreditIntentService intentService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void hotWalletCredits_directVersusCoalesced() throws Exception {
+
+        ProgramWalletCreditCoalescer disabled = new ProgramWalletCreditCoalescer(
+                intentService, false, Duration.ZERO, 1, Duration.ofMillis(10), Duration.ofMinutes(1), Duration.ofMinutes(1)
+        );
+        ProgramWalletCreditCoalescer coalescer = new ProgramWalletCreditCoalescer(
+                intentService, true, Duration.ofMillis(50), 100, Duration.ofMillis(10), Duration.ofMinutes(1), Duration.ofMinutes(1)
+        );
+
+        Result before = run("direct", newService(disabled), null);
+        Result after = run("coalesced", newService(coalescer), coalescer);
+
+        String report = before.describe() + System.lineSeparator()
+                + after.describe() + System.lineSeparator();
+        writeReport("program-wallet-credits.txt", report);
+
+        assertEquals(after.expectedGems(), after.actualGems());
+        assertEquals(0, before.intentWrites());
+        // one insert and one applied-at update per committed credit
+        assertEquals(2 * (after.credits() - after.failedCredits()), after.intentWrites());
+        assertTrue(after.walletWrites() < before.walletWrites());
+    }
+
+    private Result run(
+            String mode,
+            ProgramWalletTransactionService service,
+            ProgramWalletCreditCoalescer coalescer
+    ) throws Exception {
+
+        ProgramWallet wallet = createHotWallet(mode);
+        User user = wallet.getUser();
+        Program program = wallet.getProgram();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        AtomicLong failed = new AtomicLong();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor();
+        if (coalescer != null) {
+            sweeper.scheduleWithFixedDelay(coalescer::flushDue, 10, 10, TimeUnit.MILLISECONDS);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(pool.submit(() -> {
+                for (int i = 0; i < CREDITS_PER_THREAD; i++) {
+                    try {
+                        // one transaction per credit, as when a judge approves a submission
+                        tx.executeWithoutResult(status ->
+                                service.creditGems(user, program, AMOUNT));
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+
+        sweeper.shutdown();
+        sweeper.awaitTermination(10, TimeUnit.SECONDS);
+        if (coalescer != null) {
+            coalescer.flushAll();
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        pool.shutdown();
+
+        long credits = (long) THREADS * CREDITS_PER_THREAD;
+        long walletWrites = coalescer != null ? coalescer.getFlushes() : credits - failed.get();
+        EntityStatistics intents =
+                statistics.getEntityStatistics(ProgramWalletCreditIntent.class.getName());
+        long intentWrites = intents.getInsertCount() + intents.getUpdateCount();
+        long actual = programWalletRepository
+                .findById(wallet.getProgramWalletId())
+                .map(ProgramWallet::getGems)
+                .orElseThrow();
+
+        return new Result(
+                mode,
+                credits,
+                failed.get(),
+                walletWrites,
+                intentWrites,
+                (credits - failed.get()) * AMOUNT,
+                actual,
+                elapsedMillis
+        );
+    }
+
+    private ProgramWalletTransactionService newService(ProgramWalletCreditCoalescer coalescer) {
+        return new ProgramWalletTransactionServiceImpl(
+                programWalletRepository,
+                programRepository,
+                userWalletRepository,
+                walletBalanceCache,
+                coalescer,
+                mock(ProgramSearchIndex.class)
+        );
+    }
+
+    private ProgramWallet createHotWallet(String mode) {
+
+        String suffix = mode + "-" + UUID.randomUUID();
+
+        User host = userRepository.save(user("host-" + suffix, Role.HOST));
+        User participant = userRepository.save(user("participant-" + suffix, Role.USER));
+        User judgeUser = userRepository.save(user("judge-" + suffix, Role.JUDGE));
+
+        Judge judge = new Judge();
+        judge.setUser(judgeUser);
+
+        Program program = new Program();
+        program.setUser(host);
+        program.setJudge(judge);
+        program.setProgramTitle("Benchmark " + mode);
+        program.setDepartment(Department.TECH);
+        program.setStatus(ProgramStatus.ACTIVE);
+        program.setStartDate(Instant.now());
+        program.setEndDate(Instant.now().plus(Duration.ofDays(1)));
+        program = programRepository.save(program);
+
+        ProgramWallet wallet = new ProgramWallet();
+        wallet.setUser(participant);
+        wallet.setProgram(program);
+        wallet.setGems(0L);
+        return programWalletRepository.save(wallet);
+    }
+}
@@ -0,0 +1,292 @@
+package com.questevent.benchmark;
+
+import com.questevent.dto.ActivityRegistrationDTO;
+import com.questevent.dto.ProgramRegistrationDTO;
+import com.questevent.dto.UserSubmissionSummaryDTO;
+import com.questevent.entity.Activity;
+import com.questevent.entity.ActivityRegistration;
+import com.questevent.entity.ActivitySubmission;
+import com.questevent.entity.Judge;
+import com.questevent.entity.Program;
+import com.questevent.entity.ProgramRegistration;
+import com.questevent.entity.User;
+import com.questevent.enums.CompletionStatus;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.enums.Role;
+import com.questevent.repository.ActivityRegistrationRepository;
+import com.questevent.repository.ActivityRepository;
+import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.repository.ProgramRegistrationRepository;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.questevent.benchmark.BenchmarkSupport.user;
+import static com.questevent.benchmark.BenchmarkSupport.writeReport;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the old entity-loading read paths (fetch entities, then map)
+ * with the DTO projection queries the services now use, reporting mean
+ * latency, bytes allocated, JDBC statements and managed entities per call
+ * for each endpoint. The entity paths are the repository calls and mapping
+ * the services made before the projections replaced them.
+ * <p>
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}. Results
+ * are written to {@code build/reports/benchmarks/projections.txt}, one line
+ * per endpoint with the entity (before) and projection (after) figures.
+ * Latency depends on the machine and is only comparable within one report;
+ * bytes per call come from the thread allocation counter and vary far less
+ * between runs. Statement and entity counts do not depend on the machine,
+ * so the assertions hold those.
+ */
+@BenchmarkJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class ProjectionBenchmarkTest {
+
+    private static final int ROWS = 200;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private record Fixture(UUID programId, UUID activityId, Long userId) {}
+
+    private record Measurement(double meanMicros, long bytesPerCall, long statements, long entities) {}
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Autowired
+    private ProgramRegistrationRepository programRegistrationRepository;
+
+    @Autowired
+    private ActivityRegistrationRepository activityRegistrationRepository;
+
+    @Autowired
+    private ActivitySubmissionRepository submissionRepository;
+
+    @Test
+    void readPaths_entityMappingVersusProjection() throws IOException {
+
+        Fixture fixture = createFixture();
+        StringBuilder report = new StringBuilder();
+
+        compare(report, "GET /activity-registrations/activity/{id}",
+                () -> activityRegistrationRepository.findByActivityActivityId(fixture.activityId())
+                        .stream()
+                        .map(ProjectionBenchmarkTest::toDto)
+                        .toList(),
+                () -> activityRegistrationRepository.findDtosByActivityId(fixture.activityId()));
+
+        compare(report, "GET /program-registrations/program/{id}",
+                () -> programRegistrationRepository.findByProgramProgramId(fixture.programId())
+                        .stream()
+                        .map(ProjectionBenchmarkTest::toDto)
+                        .toList(),
+                () -> programRegistrationRepository.findDtosByProgramId(fixture.programId()));
+
+        compare(report, "GET /submissions/me",
+                () -> submissionRepository.findAllByActivityRegistration_User_UserId(fixture.userId())
+                        .stream()
+                        .map(ProjectionBenchmarkTest::toSummary)
+                        .toList(),
+                () -> submissionRepository.findSummariesByUserId(fixture.userId()));
+
+        writeReport("projections.txt", report);
+    }
+
+    private void compare(
+            StringBuilder report,
+            String endpoint,
+            Supplier<List<?>> entityPath,
+            Supplier<List<?>> projectionPath
+    ) {
+        Measurement entities = measure(entityPath);
+        Measurement projection = measure(projectionPath);
+
+        report.append(String.format(
+                "%-42s entities: %.0fus %dB/call %d statements %d entities"
+                        + " | projection: %.0fus %dB/call %d statements %d entities%n",
+                endpoint,
+                entities.meanMicros(),
+                entities.bytesPerCall(),
+                entities.statements(),
+                entities.entities(),
+                projection.meanMicros(),
+                projection.bytesPerCall(),
+                projection.statements(),
+                projection.entities()
+        ));
+
+        assertEquals(1, projection.statements(), endpoint);
+        assertEquals(0, projection.entities(), endpoint);
+        assertTrue(projection.statements() <= entities.statements(), endpoint);
+    }
+
+    private Measurement measure(Supplier<List<?>> readPath) {
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int i = 0; i < WARMUP; i++) {
+            assertEquals(ROWS, tx.execute(status -> readPath.get()).size());
+        }
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            tx.execute(status -> readPath.get());
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // one more call, outside the timed loop, for the statement and entity counts
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        tx.execute(status -> readPath.get());
+
+        return new Measurement(
+                elapsedNanos / 1000.0 / ITERATIONS,
+                allocated / ITERATIONS,
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount()
+        );
+    }
+
+    private static ActivityRegistrationDTO toDto(ActivityRegistration registration) {
+        return new ActivityRegistrationDTO(
+                registration.getActivityRegistrationId(),
+                registration.getActivity().getActivityId(),
+                registration.getActivity().getActivityName(),
+                registration.getUser().getUserId(),
+                registration.getUser().getName(),
+                registration.getCompletionStatus()
+        );
+    }
+
+    private static ProgramRegistrationDTO toDto(ProgramRegistration registration) {
+        return new ProgramRegistrationDTO(
+                registration.getProgramRegistrationId(),
+                registration.getProgram().getProgramId(),
+                registration.getProgram().getProgramTitle(),
+                registration.getUser().getUserId(),
+                registration.getUser().getName(),
+                registration.getRegisteredAt()
+        );
+    }
+
+    private static UserSubmissionSummaryDTO toSummary(ActivitySubmission submission) {
+        return new UserSubmissionSummaryDTO(
+                submission.getSubmissionId(),
+                submission.getActivityRegistration().getActivity().getActivityId(),
+                submission.getActivityRegistration().getActivity().getActivityName(),
+                submission.getReviewStatus(),
+                submission.getSubmittedAt(),
+                submission.getReviewedAt()
+        );
+    }
+
+    private Fixture createFixture() {
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString();
+
+        return tx.execute(status -> {
+            User host = userRepository.save(user("host-" + suffix, Role.HOST));
+            User judgeUser = userRepository.save(user("judge-" + suffix, Role.JUDGE));
+
+            Judge judge = new Judge();
+            judge.setUser(judgeUser);
+
+            Program program = new Program();
+            program.setUser(host);
+            program.setJudge(judge);
+            program.setProgramTitle("Projections");
+            program.setDepartment(Department.TECH);
+            program.setStatus(ProgramStatus.ACTIVE);
+            program.setStartDate(Instant.now());
+            program.setEndDate(Instant.now().plus(Duration.ofDays(1)));
+            program = programRepository.save(program);
+
+            // one shared activity everyone joins, plus one activity per row for the busy user
+            Activity shared = activityRepository.save(activity(program, "Shared"));
+            User busy = null;
+
+            for (int i = 0; i < ROWS; i++) {
+                User participant = userRepository.save(user("participant-" + i + "-" + suffix, Role.USER));
+                if (busy == null) {
+                    busy = participant;
+                }
+
+                ProgramRegistration programRegistration = new ProgramRegistration();
+                programRegistration.setProgram(program);
+                programRegistration.setUser(participant);
+                programRegistration.setRegisteredAt(Instant.now());
+                programRegistrationRepository.save(programRegistration);
+
+                activityRegistrationRepository.save(registration(shared, participant));
+
+                Activity own = activityRepository.save(activity(program, "Activity " + i));
+                ActivitySubmission submission = new ActivitySubmission();
+                submission.setActivityRegistration(
+                        activityRegistrationRepository.save(registration(own, busy)));
+                submission.setSubmissionUrl("https://example.com/" + i);
+                submissionRepository.save(submission);
+            }
+
+            return new Fixture(program.getProgramId(), shared.getActivityId(), busy.getUserId());
+        });
+    }
+
+    private static Activity activity(Program program, String name) {
+        Activity activity = new Activity();
+        activity.setProgram(program);
+        activity.setActivityName(name);
+        activity.setRewardGems(10L);
+        activity.setIsCompulsory(false);
+        return activity;
+    }
+
+    private static ActivityRegistration registration(Activity activity, User user) {
+        ActivityRegistration registration = new ActivityRegistration();
+        registration.setActivity(activity);
+        registration.setUser(user);
+        registration.setCompletionStatus(CompletionStatus.NOT_COMPLETED);
+        return registration;
+    }
+}
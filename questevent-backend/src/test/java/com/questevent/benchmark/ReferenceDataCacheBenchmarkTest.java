@@ -0,0 +1,186 @@
+package com.questevent.benchmark;
+
+import com.questevent.cache.SecondLevelCacheStats;
+import com.questevent.dto.CacheRegionStatsDTO;
+import com.questevent.entity.Activity;
+import com.questevent.entity.Judge;
+import com.questevent.entity.Program;
+import com.questevent.entity.User;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.enums.Role;
+import com.questevent.repository.ActivityRepository;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static com.questevent.benchmark.BenchmarkSupport.user;
+import static com.questevent.benchmark.BenchmarkSupport.writeReport;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repeats the program and activity reads that every activity request makes
+ * and counts the JDBC statements with the second-level cache warm. The two
+ * access checks are not cached and must reach the database every round. Also
+ * checks that an update through the repositories is visible on the next
+ * read, i.e. the cached entity and query results were invalidated.
+ * <p>
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark}. Results
+ * are written to {@code build/reports/benchmarks}.
+ */
+@BenchmarkJpaTest
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class ReferenceDataCacheBenchmarkTest {
+
+    private static final int ACTIVITIES = 20;
+    private static final int READS = 200;
+    private static final int ACCESS_CHECKS_PER_READ = 2;
+
+    private record Fixture(UUID programId, UUID activityId, Long hostUserId) {}
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private ActivityRepository activityRepository;
+
+    @Test
+    void referenceReads_areServedFromSecondLevelCache() throws IOException {
+
+        Fixture fixture = createFixture();
+        Statistics statistics =
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        SecondLevelCacheStats cacheStats = new SecondLevelCacheStats(entityManagerFactory);
+
+        // warm-up: first reads populate the regions
+        readReferenceData(fixture);
+
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            readReferenceData(fixture);
+        }
+        long elapsedMicros = (System.nanoTime() - start) / 1_000;
+        long statements = statistics.getPrepareStatementCount();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(
+                "%d warm read rounds: statements=%d | avg=%dus%n",
+                READS, statements, elapsedMicros / READS));
+        for (CacheRegionStatsDTO region : cacheStats.getRegionStats()) {
+            report.append(String.format(
+                    "%-24s hits=%d misses=%d puts=%d hitRate=%.3f%n",
+                    region.region(), region.hits(), region.misses(), region.puts(), region.hitRate()));
+        }
+
+        assertEquals((long) ACCESS_CHECKS_PER_READ * READS, statements);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            Activity activity = activityRepository.findById(fixture.activityId()).orElseThrow();
+            activity.setActivityName("Renamed");
+            activityRepository.save(activity);
+        });
+
+        statistics.clear();
+        String renamed = readOnly(() -> activityRepository
+                .findByProgram_ProgramId(fixture.programId())
+                .stream()
+                .filter(a -> a.getActivityId().equals(fixture.activityId()))
+                .findFirst()
+                .orElseThrow()
+                .getActivityName());
+        report.append(String.format(
+                "after update: statements=%d | activityName=%s%n",
+                statistics.getPrepareStatementCount(), renamed));
+
+        writeReport("reference-data-cache.txt", report);
+
+        assertEquals("Renamed", renamed);
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+    }
+
+    private void readReferenceData(Fixture fixture) {
+        readOnly(() -> {
+            assertTrue(programRepository.findById(fixture.programId()).isPresent());
+            assertEquals(ACTIVITIES, activityRepository
+                    .findByProgram_ProgramId(fixture.programId()).size());
+            // access checks: one statement each
+            assertEquals(fixture.programId(), activityRepository
+                    .findProgramIdByActivityId(fixture.activityId()).orElseThrow());
+            assertTrue(programRepository
+                    .existsByProgramIdAndUser_UserId(fixture.programId(), fixture.hostUserId()));
+            return null;
+        });
+    }
+
+    private <T> T readOnly(Supplier<T> read) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        return tx.execute(status -> read.get());
+    }
+
+    private Fixture createFixture() {
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString();
+
+        return tx.execute(status -> {
+            User host = userRepository.save(user("host-" + suffix, Role.HOST));
+            User judgeUser = userRepository.save(user("judge-" + suffix, Role.JUDGE));
+
+            Judge judge = new Judge();
+            judge.setUser(judgeUser);
+
+            Program program = new Program();
+            program.setUser(host);
+            program.setJudge(judge);
+            program.setProgramTitle("Reference data");
+            program.setDepartment(Department.TECH);
+            program.setStatus(ProgramStatus.ACTIVE);
+            program.setStartDate(Instant.now());
+            program.setEndDate(Instant.now().plus(Duration.ofDays(1)));
+            program = programRepository.save(program);
+
+            Activity first = null;
+            for (int i = 0; i < ACTIVITIES; i++) {
+                Activity activity = new Activity();
+                activity.setProgram(program);
+                activity.setActivityName("Activity " + i);
+                activity.setRewardGems(10L);
+                activity.setIsCompulsory(i % 2 == 0);
+                activity = activityRepository.save(activity);
+                if (first == null) {
+                    first = activity;
+                }
+            }
+
+            return new Fixture(program.getProgramId(), first.getActivityId(), host.getUserId());
+        });
+    }
+}
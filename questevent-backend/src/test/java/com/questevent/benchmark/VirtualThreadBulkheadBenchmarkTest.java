@@ -0,0 +1,196 @@
+package com.questevent.benchmark;
+
+import com.questevent.datasource.DatabaseBulkhead;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static com.questevent.benchmark.BenchmarkSupport.writeReport;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sends one burst of simulated API requests at a small connection pool,
+ * on a Tomcat-sized platform thread pool and on virtual threads, each with
+ * and without the {@link DatabaseBulkhead}, and reports p99 latency of
+ * served requests, throughput, pool timeouts and bulkhead rejections.
+ * <p>
+ * Each request spends some time off the database (auth, serialization)
+ * and holds a connection for a short query. Excluded from {@code test};
+ * run with {@code ./gradlew benchmark}. Results are written to
+ * {@code build/reports/benchmarks}.
+ */
+@Tag("benchmark")
+class VirtualThreadBulkheadBenchmarkTest {
+
+    private static final int POOL_SIZE = 5;
+    private static final int PLATFORM_THREADS = 200;
+    private static final int REQUESTS = 3_000;
+    private static final long CONNECTION_TIMEOUT_MILLIS = 2_000;
+    private static final long OFF_DATABASE_MILLIS = 10;
+    private static final long QUERY_MILLIS = 5;
+
+    private record Result(
+            String mode,
+            long served,
+            long poolTimeouts,
+            long rejected,
+            long p50Millis,
+            long p99Millis,
+            long elapsedMillis
+    ) {
+        double servedPerSecond() {
+            return served * 1000.0 / Math.max(1, elapsedMillis);
+        }
+
+        String describe() {
+            return String.format(
+                    "%-28s served=%d  pool-timeouts=%d  rejected=%d  p50=%dms  p99=%dms  %.0f req/s",
+                    mode, served, poolTimeouts, rejected, p50Millis, p99Millis, servedPerSecond()
+            );
+        }
+    }
+
+    @Test
+    void compareThreadModelsWithAndWithoutBulkhead() throws Exception {
+
+        List<Result> results = List.of(
+                run("platform", () -> Executors.newFixedThreadPool(PLATFORM_THREADS), false),
+                run("platform + bulkhead", () -> Executors.newFixedThreadPool(PLATFORM_THREADS), true),
+                run("virtual", Executors::newVirtualThreadPerTaskExecutor, false),
+                run("virtual + bulkhead", Executors::newVirtualThreadPerTaskExecutor, true)
+        );
+
+        StringBuilder report = new StringBuilder();
+        for (Result result : results) {
+            report.append(result.describe()).append(System.lineSeparator());
+        }
+        writeReport("virtual-threads-bulkhead.txt", report);
+
+        for (Result result : results) {
+            assertEquals(REQUESTS, result.served() + result.poolTimeouts() + result.rejected(), result.mode());
+        }
+    }
+
+    private Result run(String mode, Supplier<ExecutorService> executors, boolean withBulkhead) throws Exception {
+
+        DatabaseBulkhead bulkhead = withBulkhead
+                ? new DatabaseBulkhead(POOL_SIZE, 50, Duration.ofMillis(500))
+                : null;
+
+        AtomicLong poolTimeouts = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+
+        try (HikariDataSource dataSource = dataSource(mode)) {
+
+            warmUp(dataSource);
+
+            List<Future<Long>> futures = new ArrayList<>(REQUESTS);
+            long start = System.nanoTime();
+
+            try (ExecutorService executor = executors.get()) {
+                for (int i = 0; i < REQUESTS; i++) {
+                    long submitted = System.nanoTime();
+                    futures.add(executor.submit(() -> {
+
+                        if (bulkhead != null && !bulkhead.tryEnter()) {
+                            rejected.incrementAndGet();
+                            return -1L;
+                        }
+
+                        try {
+                            handle(dataSource);
+                            return System.nanoTime() - submitted;
+                        } catch (SQLTransientConnectionException e) {
+                            poolTimeouts.incrementAndGet();
+                            return -1L;
+                        } finally {
+                            if (bulkhead != null) {
+                                bulkhead.release();
+                            }
+                        }
+                    }));
+                }
+            }
+
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            long[] latencies = new long[REQUESTS];
+            int served = 0;
+            for (Future<Long> future : futures) {
+                long latency = future.get();
+                if (latency >= 0) {
+                    latencies[served++] = latency;
+                }
+            }
+            long[] servedLatencies = Arrays.copyOf(latencies, served);
+            Arrays.sort(servedLatencies);
+
+            return new Result(
+                    mode,
+                    served,
+                    poolTimeouts.get(),
+                    rejected.get(),
+                    percentileMillis(servedLatencies, 0.50),
+                    percentileMillis(servedLatencies, 0.99),
+                    elapsedMillis
+            );
+        }
+    }
+
+    private static void handle(HikariDataSource dataSource) throws SQLException, InterruptedException {
+
+        Thread.sleep(OFF_DATABASE_MILLIS);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+            Thread.sleep(QUERY_MILLIS);
+        }
+    }
+
+    private static void warmUp(HikariDataSource dataSource) throws SQLException {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < POOL_SIZE; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private static HikariDataSource dataSource(String mode) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:bulkhead-" + mode.replaceAll("[^a-z]+", "-") + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(CONNECTION_TIMEOUT_MILLIS);
+        return new HikariDataSource(config);
+    }
+
+    private static long percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1_000_000;
+    }
+}
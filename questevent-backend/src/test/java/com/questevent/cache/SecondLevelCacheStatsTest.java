@@ -0,0 +1,83 @@
+package com.questevent.cache;
+
+import com.questevent.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheStatsTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    private SecondLevelCacheStats cacheStats;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        cacheStats = new SecondLevelCacheStats(entityManagerFactory);
+    }
+
+    @Test
+    void getRegionStats_shouldReportHitRatePerRegion() {
+
+        Statistics statistics = mock(Statistics.class);
+        CacheRegionStatistics programs = mock(CacheRegionStatistics.class);
+
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getCacheRegionStatistics(anyString())).thenReturn(null);
+        when(statistics.getCacheRegionStatistics(CacheRegions.PROGRAMS)).thenReturn(programs);
+        when(programs.getHitCount()).thenReturn(90L);
+        when(programs.getMissCount()).thenReturn(10L);
+        when(programs.getPutCount()).thenReturn(10L);
+        when(programs.getElementCountInMemory()).thenReturn(10L);
+
+        List<CacheRegionStatsDTO> stats = cacheStats.getRegionStats();
+
+        assertThat(stats).extracting(CacheRegionStatsDTO::region)
+                .containsExactly(
+                        CacheRegions.PROGRAMS,
+                        CacheRegions.ACTIVITIES,
+                        CacheRegions.JUDGES,
+                        CacheRegions.ACTIVITIES_BY_PROGRAM
+                );
+        assertThat(stats.get(0).hitRate()).isEqualTo(0.9);
+        assertThat(stats.get(1).hitRate()).isZero();
+    }
+
+    @Test
+    void evictRegion_shouldEvictKnownRegion() {
+
+        Cache cache = mock(Cache.class);
+        when(sessionFactory.getCache()).thenReturn(cache);
+
+        cacheStats.evictRegion(CacheRegions.ACTIVITIES_BY_PROGRAM);
+
+        verify(cache).evictRegion(CacheRegions.ACTIVITIES_BY_PROGRAM);
+    }
+
+    @Test
+    void evictRegion_shouldRejectUnknownRegion() {
+
+        assertThatThrownBy(() -> cacheStats.evictRegion("default-update-timestamps-region"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(sessionFactory, never()).getCache();
+    }
+}
@@ -0,0 +1,195 @@
+package com.questevent.cache;
+
+import com.questevent.dto.ProgramWalletBalanceDTO;
+import com.questevent.dto.UserWalletBalanceDTO;
+import com.questevent.entity.ProgramWallet;
+import com.questevent.entity.UserWallet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalletBalanceCacheTest {
+
+    private WalletBalanceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new WalletBalanceCache(true, Duration.ofMinutes(5), 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void putUserWalletAfterCommit_withoutTransaction_shouldApplyImmediately() {
+
+        cache.putUserWalletAfterCommit(1L, userWallet(40L));
+
+        Optional<UserWalletBalanceDTO> cached = cache.getUserWallet(1L);
+        assertTrue(cached.isPresent());
+        assertEquals(40L, cached.get().getGems());
+    }
+
+    @Test
+    void putProgramWalletAfterCommit_shouldPublishOnlyOnCommit() {
+
+        UUID programId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.putProgramWalletAfterCommit(1L, programId, programWallet(70L));
+
+        assertTrue(cache.getProgramWallet(1L, programId).isEmpty());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+
+        Optional<ProgramWalletBalanceDTO> cached = cache.getProgramWallet(1L, programId);
+        assertTrue(cached.isPresent());
+        assertEquals(70L, cached.get().getGems());
+        assertEquals(programId, cached.get().getProgramId());
+    }
+
+    @Test
+    void putUserWalletAfterCommit_onRollback_shouldKeepPreviousBalance() {
+
+        cache.populateUserWallet(1L, userWallet(10L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.putUserWalletAfterCommit(1L, userWallet(99L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(10L, cache.getUserWallet(1L).orElseThrow().getGems());
+    }
+
+    @Test
+    void populateUserWallet_shouldNotOverwriteWriteThroughValue() {
+
+        cache.putUserWalletAfterCommit(1L, userWallet(200L));
+
+        cache.populateUserWallet(1L, userWallet(150L));
+
+        assertEquals(200L, cache.getUserWallet(1L).orElseThrow().getGems());
+    }
+
+    @Test
+    void expiredEntries_shouldBeIgnoredAndReplacedOnRead() {
+
+        WalletBalanceCache expiring = new WalletBalanceCache(true, Duration.ZERO, 1000);
+        expiring.putUserWalletAfterCommit(1L, userWallet(5L));
+
+        assertTrue(expiring.getUserWallet(1L).isEmpty());
+    }
+
+    @Test
+    void writeThrough_whenFull_shouldNotGrowPastMaxEntries() {
+
+        WalletBalanceCache bounded = new WalletBalanceCache(true, Duration.ofMinutes(5), 2);
+        bounded.putUserWalletAfterCommit(1L, userWallet(1L));
+        bounded.putUserWalletAfterCommit(2L, userWallet(2L));
+
+        bounded.putUserWalletAfterCommit(3L, userWallet(3L));
+        bounded.putUserWalletAfterCommit(1L, userWallet(10L));
+
+        assertTrue(bounded.getUserWallet(3L).isEmpty());
+        assertEquals(10L, bounded.getUserWallet(1L).orElseThrow().getGems());
+        assertEquals(2L, bounded.getUserWallet(2L).orElseThrow().getGems());
+    }
+
+    @Test
+    void writeThrough_whenFull_shouldMakeRoomByDroppingExpiredEntries() throws InterruptedException {
+
+        WalletBalanceCache bounded = new WalletBalanceCache(true, Duration.ofMillis(200), 1);
+        UUID programId = UUID.randomUUID();
+        bounded.putProgramWalletAfterCommit(1L, programId, programWallet(1L));
+
+        Thread.sleep(250);
+        bounded.putProgramWalletAfterCommit(2L, programId, programWallet(2L));
+
+        assertEquals(2L, bounded.getProgramWallet(2L, programId).orElseThrow().getGems());
+    }
+
+    @Test
+    void writeThrough_whenBothMapsFull_shouldSweepBothInOnePass() throws InterruptedException {
+
+        WalletBalanceCache bounded = new WalletBalanceCache(true, Duration.ofMillis(200), 1);
+        UUID programId = UUID.randomUUID();
+        bounded.putUserWalletAfterCommit(1L, userWallet(1L));
+        bounded.putProgramWalletAfterCommit(1L, programId, programWallet(1L));
+
+        Thread.sleep(250);
+        // the first put opens the sweep interval; the second must not find it closed
+        bounded.putUserWalletAfterCommit(2L, userWallet(2L));
+        bounded.putProgramWalletAfterCommit(2L, programId, programWallet(2L));
+
+        assertEquals(2L, bounded.getUserWallet(2L).orElseThrow().getGems());
+        assertEquals(2L, bounded.getProgramWallet(2L, programId).orElseThrow().getGems());
+    }
+
+    @Test
+    void evictUserAfterCommit_shouldDropAllEntriesForUser() {
+
+        UUID programId = UUID.randomUUID();
+        cache.rememberUserId("user@questevent.com", 1L);
+        cache.putUserWalletAfterCommit(1L, userWallet(5L));
+        cache.putProgramWalletAfterCommit(1L, programId, programWallet(5L));
+
+        cache.evictUserAfterCommit(1L);
+
+        assertTrue(cache.findUserIdByEmail("user@questevent.com").isEmpty());
+        assertTrue(cache.getUserWallet(1L).isEmpty());
+        assertTrue(cache.getProgramWallet(1L, programId).isEmpty());
+    }
+
+    @Test
+    void evictProgramAfterCommit_shouldKeepOtherPrograms() {
+
+        UUID deleted = UUID.randomUUID();
+        UUID kept = UUID.randomUUID();
+        cache.putProgramWalletAfterCommit(1L, deleted, programWallet(5L));
+        cache.putProgramWalletAfterCommit(1L, kept, programWallet(8L));
+
+        cache.evictProgramAfterCommit(deleted);
+
+        assertTrue(cache.getProgramWallet(1L, deleted).isEmpty());
+        assertEquals(8L, cache.getProgramWallet(1L, kept).orElseThrow().getGems());
+    }
+
+    @Test
+    void disabledCache_shouldNeverReturnEntries() {
+
+        WalletBalanceCache disabled = new WalletBalanceCache(false, Duration.ofMinutes(5), 1000);
+        disabled.putUserWalletAfterCommit(1L, userWallet(5L));
+        disabled.rememberUserId("user@questevent.com", 1L);
+
+        assertTrue(disabled.getUserWallet(1L).isEmpty());
+        assertTrue(disabled.findUserIdByEmail("user@questevent.com").isEmpty());
+    }
+
+    private static UserWallet userWallet(Long gems) {
+        UserWallet wallet = new UserWallet();
+        wallet.setWalletId(UUID.randomUUID());
+        wallet.setGems(gems);
+        return wallet;
+    }
+
+    private static ProgramWallet programWallet(Long gems) {
+        ProgramWallet wallet = new ProgramWallet();
+        wallet.setProgramWalletId(UUID.randomUUID());
+        wallet.setGems(gems);
+        return wallet;
+    }
+}
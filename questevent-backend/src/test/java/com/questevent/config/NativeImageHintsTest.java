@@ -0,0 +1,69 @@
+package com.questevent.config;
+
+import com.questevent.dto.LeaderboardDTO;
+import com.questevent.entity.User;
+import com.questevent.rbac.RbacService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.lang.reflect.Constructor;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeImageHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void register() {
+        new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void jpqlConstructorExpressions_canInvokeDtoConstructors() {
+        for (Constructor<?> constructor : LeaderboardDTO.class.getDeclaredConstructors()) {
+            assertThat(RuntimeHintsPredicates.reflection().onConstructor(constructor).invoke()).accepts(hints);
+        }
+    }
+
+    @Test
+    void entities_exposeFieldsAndAccessors() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(User.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    void rbacExpressions_canInvokeRbacService() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(RbacService.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS))
+                .accepts(hints);
+    }
+
+    @Test
+    void timedDataSource_proxiesAreRegistered() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class)).accepts(hints);
+    }
+
+    @Test
+    void classpathResources_areIncluded() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("ehcache.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/postgresql/V1__baseline_schema.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/postgresql/V4__program_search.sql"))
+                .accepts(hints);
+    }
+
+    @Test
+    void jjwtImplementation_isReachable() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder")))
+                .accepts(hints);
+    }
+}
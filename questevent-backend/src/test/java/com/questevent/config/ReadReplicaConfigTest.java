@@ -0,0 +1,122 @@
+package com.questevent.config;
+
+import com.questevent.datasource.ReadReplicaRoutingDataSource;
+import com.questevent.entity.User;
+import com.questevent.enums.Department;
+import com.questevent.enums.Role;
+import com.questevent.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs JPA on the routing data source with the primary and the replica as
+ * two in-memory H2 databases of the same schema, and replays what
+ * open-in-view does to a request: one entity manager bound to the thread
+ * for a read-only transaction followed by a writing one.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.show-sql=false",
+        "questevent.read-replica.enabled=true",
+        "questevent.read-replica.datasource.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "questevent.read-replica.datasource.username=sa",
+        "questevent.read-replica.datasource.password=",
+        "logging.level.com.questevent=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ReadReplicaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadReplicaConfigTest {
+
+    private static final String EMAIL = "routed@questevent.test";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReadReplicaRoutingDataSource routing;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        replica.execute("DROP ALL OBJECTS");
+        for (String statement : primary.queryForList("SCRIPT NODATA", String.class)) {
+            replica.execute(statement);
+        }
+    }
+
+    @Test
+    void writeAfterReplicaRead_inOneSession_goesToPrimary() {
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // OpenEntityManagerInViewInterceptor binds the request's entity manager the same way
+        EntityManagerHolder holder = new EntityManagerHolder(entityManagerFactory.createEntityManager());
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, holder);
+        try {
+            assertThat(readOnly.execute(status -> userRepository.findByEmail(EMAIL))).isEmpty();
+            readWrite.executeWithoutResult(status -> userRepository.save(user()));
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            holder.getEntityManager().close();
+        }
+
+        assertThat(routing.getReplicaConnections()).isPositive();
+        assertThat(primary.queryForObject("SELECT count(*) FROM users WHERE email = ?", Long.class, EMAIL))
+                .isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT count(*) FROM users WHERE email = ?", Long.class, EMAIL))
+                .isZero();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setName("Routed");
+        user.setEmail(EMAIL);
+        user.setDepartment(Department.TECH);
+        user.setGender("NA");
+        user.setRole(Role.USER);
+        return user;
+    }
+}
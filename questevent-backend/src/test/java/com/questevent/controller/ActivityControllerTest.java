@@ -3,6 +3,7 @@ package com.questevent.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.questevent.dto.ActivityRequestDTO;
 import com.questevent.dto.ActivityWithRegistrationStatusDTO;
+import com.questevent.dto.ContentVersion;
 import com.questevent.entity.Activity;
 import com.questevent.entity.Program;
 import com.questevent.exception.ActivityNotFoundException;
@@ -131,6 +132,8 @@ class ActivityControllerTest {
         a2.setActivityName("Activity 2");
         a2.setProgram(program);
 
+        ContentVersion version = ContentVersion.of(Instant.parse("2026-01-01T00:00:00Z"), programId, 1L);
+        when(activityService.getActivitiesVersion(programId)).thenReturn(version);
         when(activityService.getActivitiesByProgramId(programId))
                 .thenReturn(List.of(a1, a2));
 
@@ -138,9 +141,28 @@ class ActivityControllerTest {
                         get("/api/programs/{programId}/activities", programId)
                 )
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", version.etag()))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    void getActivities_notModified_whenEtagMatches() throws Exception {
+        UUID programId = UUID.randomUUID();
+        ContentVersion version = ContentVersion.of(Instant.parse("2026-01-01T00:00:00Z"), programId, 1L);
+
+        when(activityService.getActivitiesVersion(programId)).thenReturn(version);
+
+        mockMvc.perform(
+                        get("/api/programs/{programId}/activities", programId)
+                                .header("If-None-Match", version.etag())
+                )
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(activityService, never()).getActivitiesByProgramId(any());
+    }
+
     // -------------------------------
     // 4️⃣ UPDATE ACTIVITY – SUCCESS
     // -------------------------------
@@ -254,6 +276,8 @@ class ActivityControllerTest {
         when(rbac.canViewProgram(any(), eq(programId)))
                 .thenReturn(true);
 
+        when(activityService.getActivitiesForUserVersion(programId))
+                .thenReturn(ContentVersion.of(null, programId, 1L, 7L, List.of()));
         when(activityService.getActivitiesForUser(programId))
                 .thenReturn(List.of(dto));
 
@@ -265,6 +289,22 @@ class ActivityControllerTest {
                 .andExpect(jsonPath("$[0].isRegistered").value(false))
                 .andExpect(jsonPath("$[0].completionStatus").doesNotExist());
     }
-}
 
+    @Test
+    void getActivitiesForUser_notModified_whenEtagMatches() throws Exception {
+        UUID programId = UUID.randomUUID();
+        ContentVersion version = ContentVersion.of(null, programId, 1L, 7L, List.of());
+
+        when(rbac.canViewProgram(any(), eq(programId)))
+                .thenReturn(true);
+        when(activityService.getActivitiesForUserVersion(programId)).thenReturn(version);
 
+        mockMvc.perform(
+                        get("/api/programs/{programId}/activities/user-view", programId)
+                                .header("If-None-Match", version.etag())
+                )
+                .andExpect(status().isNotModified());
+
+        verify(activityService, never()).getActivitiesForUser(any());
+    }
+}
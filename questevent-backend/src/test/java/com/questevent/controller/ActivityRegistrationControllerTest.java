@@ -6,6 +6,7 @@ import com.questevent.dto.ActivityRegistrationDTO;
 import com.questevent.dto.ActivityRegistrationRequestDTO;
 import com.questevent.dto.ActivityRegistrationResponseDTO;
 import com.questevent.dto.AddParticipantInActivityRequestDTO;
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.enums.CompletionStatus;
 import com.questevent.exception.ResourceNotFoundException;
 import com.questevent.service.ActivityRegistrationService;
@@ -124,12 +125,37 @@ class ActivityRegistrationControllerTest {
                         "User 2",
                         CompletionStatus.COMPLETED);
 
-        when(activityRegistrationService.getAllRegistrations())
-                .thenReturn(List.of(dto1, dto2));
+        when(activityRegistrationService.getAllRegistrations(null, 50))
+                .thenReturn(new CursorPageDTO<>(List.of(dto1, dto2), null));
 
         mockMvc.perform(get("/api/activity-registrations"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().doesNotExist("Link"));
+    }
+
+    @Test
+    void getAllRegistrations_withNextPage_returnsNextLink() throws Exception {
+        ActivityRegistrationDTO dto =
+                new ActivityRegistrationDTO(
+                        UUID.randomUUID(),
+                        UUID.randomUUID(),
+                        "Activity 1",
+                        1L,
+                        "User 1",
+                        CompletionStatus.NOT_COMPLETED);
+
+        when(activityRegistrationService.getAllRegistrations("abc", 1))
+                .thenReturn(new CursorPageDTO<>(List.of(dto), "def"));
+
+        mockMvc.perform(get("/api/activity-registrations")
+                        .param("cursor", "abc")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string("X-Next-Cursor", "def"))
+                .andExpect(header().string("Link",
+                        "<http://localhost/api/activity-registrations?cursor=def&limit=1>; rel=\"next\""));
     }
 
     @Test
@@ -0,0 +1,47 @@
+package com.questevent.controller;
+
+import com.questevent.cache.SecondLevelCacheStats;
+import com.questevent.dto.CacheRegionStatsDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheStatsControllerTest {
+
+    @Mock
+    private SecondLevelCacheStats cacheStats;
+
+    @InjectMocks
+    private CacheStatsController controller;
+
+    @Test
+    void getRegionStats_shouldReturnAllRegions() {
+
+        List<CacheRegionStatsDTO> stats = List.of(
+                new CacheRegionStatsDTO("programs", 9L, 1L, 1L, 1L, 0.9)
+        );
+
+        when(cacheStats.getRegionStats()).thenReturn(stats);
+
+        List<CacheRegionStatsDTO> result = controller.getRegionStats().getBody();
+
+        assertNotNull(result);
+        assertEquals(0.9, result.get(0).hitRate());
+    }
+
+    @Test
+    void evictRegion_shouldReturnNoContent() {
+
+        assertEquals(HttpStatus.NO_CONTENT, controller.evictRegion("programs").getStatusCode());
+        verify(cacheStats).evictRegion("programs");
+    }
+}
@@ -0,0 +1,39 @@
+package com.questevent.controller;
+
+import com.questevent.dto.ConcurrencyLimitStatsDTO;
+import com.questevent.web.AdaptiveConcurrencyLimiter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitControllerTest {
+
+    @Mock
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @InjectMocks
+    private ConcurrencyLimitController controller;
+
+    @Test
+    void getLimits_shouldReturnEveryPartition() {
+
+        List<ConcurrencyLimitStatsDTO> stats = List.of(
+                new ConcurrencyLimitStatsDTO("GLOBAL", 40, 3, 120L, 2L, 4.5)
+        );
+
+        when(limiter.getStats()).thenReturn(stats);
+
+        List<ConcurrencyLimitStatsDTO> result = controller.getLimits().getBody();
+
+        assertNotNull(result);
+        assertEquals(40, result.get(0).limit());
+    }
+}
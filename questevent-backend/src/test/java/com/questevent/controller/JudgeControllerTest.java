@@ -1,5 +1,6 @@
 package com.questevent.controller;
 
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.JudgeSubmissionDTO;
 import com.questevent.dto.JudgeSubmissionDetailsDTO;
 import com.questevent.dto.JudgeSubmissionStatsDTO;
@@ -66,8 +67,8 @@ class JudgeControllerTest {
     @WithMockUser
     void getAllSubmissions_ownerAllowed_returns200() throws Exception {
         when(rbacService.isPlatformOwner(any())).thenReturn(true);
-        when(judgeService.getAllSubmissionsForJudge(any()))
-                .thenReturn(List.of(mock(JudgeSubmissionDTO.class)));
+        when(judgeService.getAllSubmissionsForJudge(any(), eq(50), any()))
+                .thenReturn(new CursorPageDTO<>(List.of(mock(JudgeSubmissionDTO.class)), null));
 
         mockMvc.perform(get("/api/judge/submissions"))
                 .andExpect(status().isOk());
@@ -3,6 +3,8 @@ package com.questevent.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.questevent.dto.ContentVersion;
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.ProgramRequestDTO;
 import com.questevent.dto.UserPrincipal;
 import com.questevent.entity.Program;
@@ -12,6 +14,7 @@ import com.questevent.enums.ProgramStatus;
 import com.questevent.enums.Role;
 import com.questevent.service.ProgramService;
 import com.questevent.service.ProgramWalletTransactionService;
+import com.questevent.utils.CursorPagination;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +31,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -166,12 +170,30 @@ class ProgramControllerTest {
         program2.setProgramId(UUID.randomUUID());
         program2.setUser(host);
 
-        when(programService.getAllPrograms())
-                .thenReturn(List.of(program1, program2));
+        ContentVersion version = ContentVersion.of(null, null, 2);
+        when(programService.getAllProgramsVersion(null, 2)).thenReturn(version);
+        when(programService.getAllPrograms(null, 2))
+                .thenReturn(new CursorPageDTO<>(List.of(program1, program2), "next"));
 
-        mockMvc.perform(get("/api/programs"))
+        mockMvc.perform(get("/api/programs").param("limit", "2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(header().string("ETag", version.etag()))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string("X-Next-Cursor", "next"));
+    }
+
+    @Test
+    void getAllPrograms_notModified_whenEtagMatches() throws Exception {
+
+        mockAuthenticatedUser(1L);
+
+        ContentVersion version = ContentVersion.of(null, null, CursorPagination.DEFAULT_LIMIT);
+        when(programService.getAllProgramsVersion(null, CursorPagination.DEFAULT_LIMIT)).thenReturn(version);
+
+        mockMvc.perform(get("/api/programs").header("If-None-Match", version.etag()))
+                .andExpect(status().isNotModified());
+
+        verify(programService, never()).getAllPrograms(any(), anyInt());
     }
 
     /* ===================== GET PROGRAM BY ID ===================== */
@@ -189,14 +211,48 @@ class ProgramControllerTest {
         program.setProgramTitle("Test Program");
         program.setUser(host);
 
-        when(programService.getProgramById(programId))
+        when(programService.getProgramVersion(programId))
+                .thenReturn(ContentVersion.of(null, programId));
+        when(programService.getCurrentProgram(programId))
                 .thenReturn(program);
 
         mockMvc.perform(get("/api/programs/{programId}", programId))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
                 .andExpect(jsonPath("$.programId").value(programId.toString()));
     }
 
+    @Test
+    void getProgramById_notModified_sinceLastUpdate() throws Exception {
+
+        mockAuthenticatedUser(1L);
+
+        UUID programId = UUID.randomUUID();
+        Instant created = Instant.parse("2026-01-01T00:00:00Z");
+        Instant updated = Instant.parse("2026-01-02T00:00:00Z");
+        Program program = new Program();
+        program.setProgramId(programId);
+        program.setUser(mockHost(1L));
+        program.setUpdatedAt(updated);
+
+        when(programService.getProgramVersion(programId))
+                .thenReturn(ContentVersion.of(created, programId, created))
+                .thenReturn(ContentVersion.of(updated, programId, updated));
+        when(programService.getCurrentProgram(programId))
+                .thenReturn(program);
+
+        mockMvc.perform(get("/api/programs/{programId}", programId)
+                        .header("If-Modified-Since", "Thu, 01 Jan 2026 00:00:00 GMT"))
+                .andExpect(status().isNotModified());
+
+        verify(programService, never()).getCurrentProgram(any());
+
+        mockMvc.perform(get("/api/programs/{programId}", programId)
+                        .header("If-Modified-Since", "Thu, 01 Jan 2026 00:00:00 GMT"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Last-Modified", "Fri, 02 Jan 2026 00:00:00 GMT"));
+    }
+
     @Test
     void getProgramById_notFound() throws Exception {
 
@@ -204,7 +260,7 @@ class ProgramControllerTest {
 
         UUID programId = UUID.randomUUID();
 
-        when(programService.getProgramById(programId))
+        when(programService.getProgramVersion(programId))
                 .thenThrow(new ResponseStatusException(
                         HttpStatus.NOT_FOUND,
                         "Program not found"
@@ -0,0 +1,126 @@
+package com.questevent.controller;
+
+import com.questevent.enums.ExportFormat;
+import com.questevent.exception.ProgramNotFoundException;
+import com.questevent.rbac.RbacService;
+import com.questevent.service.ProgramExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProgramExportController.class)
+class ProgramExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProgramExportService programExportService;
+
+    @MockBean
+    private RbacService rbacService;
+
+    @Test
+    @WithMockUser
+    void exportRegistrations_hostAllowed_streamsNdjson() throws Exception {
+        UUID programId = UUID.randomUUID();
+
+        when(rbacService.canManageProgram(any(), eq(programId))).thenReturn(true);
+        when(programExportService.exportRegistrations(eq(programId), eq(ExportFormat.NDJSON), any()))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(2);
+                    out.write("{\"userId\":1}\n".getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+
+        MvcResult result = mockMvc.perform(
+                        get("/api/programs/{programId}/exports/registrations", programId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"program-" + programId + "-registrations.ndjson\""))
+                .andExpect(content().string("{\"userId\":1}\n"));
+    }
+
+    @Test
+    @WithMockUser
+    void exportWallets_gzipCsv_streamsCompressedBody() throws Exception {
+        UUID programId = UUID.randomUUID();
+
+        when(rbacService.canManageProgram(any(), eq(programId))).thenReturn(true);
+        when(programExportService.exportWallets(eq(programId), eq(ExportFormat.CSV), any()))
+                .thenAnswer(invocation -> {
+                    OutputStream out = invocation.getArgument(2);
+                    out.write("programWalletId,userId\n".getBytes(StandardCharsets.UTF_8));
+                    return 0L;
+                });
+
+        MvcResult result = mockMvc.perform(
+                        get("/api/programs/{programId}/exports/wallets", programId)
+                                .param("format", "csv")
+                                .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .isEqualTo("programWalletId,userId\n");
+        }
+    }
+
+    @Test
+    @WithMockUser
+    void exportSubmissions_unknownFormat_returns400() throws Exception {
+        UUID programId = UUID.randomUUID();
+
+        when(rbacService.canManageProgram(any(), eq(programId))).thenReturn(true);
+
+        mockMvc.perform(get("/api/programs/{programId}/exports/submissions", programId)
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+
+        verify(programExportService, never()).exportSubmissions(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void exportSubmissions_missingProgram_returns404() throws Exception {
+        UUID programId = UUID.randomUUID();
+
+        when(rbacService.canManageProgram(any(), eq(programId))).thenReturn(true);
+        doThrow(new ProgramNotFoundException("Program not found"))
+                .when(programExportService).requireProgram(programId);
+
+        mockMvc.perform(get("/api/programs/{programId}/exports/submissions", programId))
+                .andExpect(status().isNotFound());
+    }
+}
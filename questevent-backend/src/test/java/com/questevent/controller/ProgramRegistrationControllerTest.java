@@ -3,6 +3,7 @@ package com.questevent.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.ProgramRegistrationDTO;
 import com.questevent.dto.ProgramRegistrationRequestDTO;
 import com.questevent.dto.ProgramRegistrationResponseDTO;
@@ -105,8 +106,8 @@ class ProgramRegistrationControllerTest {
                         "User 2",
                         Instant.now());
 
-        when(programRegistrationService.getAllRegistrations())
-                .thenReturn(List.of(dto1, dto2));
+        when(programRegistrationService.getAllRegistrations(null, 50))
+                .thenReturn(new CursorPageDTO<>(List.of(dto1, dto2), null));
 
         mockMvc.perform(get("/api/program-registrations"))
                 .andExpect(status().isOk())
@@ -0,0 +1,66 @@
+package com.questevent.controller;
+
+import com.questevent.dto.CursorPageDTO;
+import com.questevent.dto.ProgramSearchFacetsDTO;
+import com.questevent.dto.ProgramSearchHitDTO;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.service.ProgramSearchService;
+import com.questevent.utils.CursorPagination;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramSearchControllerTest {
+
+    @Mock
+    private ProgramSearchService programSearchService;
+
+    @InjectMocks
+    private ProgramSearchController controller;
+
+    @Test
+    void search_shouldReturnHitsOfLastPage() {
+
+        ProgramSearchHitDTO hit = new ProgramSearchHitDTO(
+                UUID.randomUUID(), "Hackathon", null, Department.TECH, ProgramStatus.ACTIVE, 0.4f
+        );
+
+        when(programSearchService.search("hackathon", null, null, null, CursorPagination.DEFAULT_LIMIT))
+                .thenReturn(new CursorPageDTO<>(List.of(hit), null));
+
+        ResponseEntity<List<ProgramSearchHitDTO>> response =
+                controller.search("hackathon", null, null, null, null);
+
+        assertEquals(List.of(hit), response.getBody());
+        assertNull(response.getHeaders().getFirst(CursorPagination.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void facets_shouldReturnCounts() {
+
+        ProgramSearchFacetsDTO facets = new ProgramSearchFacetsDTO(
+                2L,
+                Map.of(Department.TECH, 2L),
+                Map.of(ProgramStatus.ACTIVE, 2L)
+        );
+
+        when(programSearchService.facets("hackathon", Department.TECH, null)).thenReturn(facets);
+
+        ResponseEntity<ProgramSearchFacetsDTO> response =
+                controller.facets("hackathon", Department.TECH, null);
+
+        assertEquals(2L, response.getBody().total());
+    }
+}
@@ -2,6 +2,7 @@ package com.questevent.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.questevent.dto.CompleteProfileRequest;
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.UserResponseDto;
 import com.questevent.entity.User;
 import com.questevent.enums.Department;
@@ -88,13 +89,21 @@ class UserControllerTest {
     @WithMockUser
     void getAllUsers_ownerAllowed_returns200() throws Exception {
         when(rbacService.isPlatformOwner(any())).thenReturn(true);
-        when(userService.getAllUsers()).thenReturn(List.of(mockDto()));
+        when(userService.getAllUsers(null, 50))
+                .thenReturn(new CursorPageDTO<>(List.of(mockDto()), null));
 
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].userId").value(1L));
     }
 
+    @Test
+    @WithMockUser
+    void getAllUsers_invalidLimit_returns400() throws Exception {
+        mockMvc.perform(get("/api/users").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     /* ===================== GET USER BY ID ===================== */
 
     @Test
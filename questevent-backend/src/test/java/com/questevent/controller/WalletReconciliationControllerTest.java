@@ -0,0 +1,58 @@
+package com.questevent.controller;
+
+import com.questevent.dto.ReconciliationStatusDTO;
+import com.questevent.service.WalletReconciliationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WalletReconciliationControllerTest {
+
+    @Mock
+    private WalletReconciliationService reconciliationService;
+
+    @InjectMocks
+    private WalletReconciliationController controller;
+
+    @Test
+    void runReconciliation_shouldReturnFinalStatus() {
+
+        ReconciliationStatusDTO status = new ReconciliationStatusDTO(
+                false, "FINISHED", 1200L, 2L, 600.0,
+                Instant.now(), Instant.now(), "reports/wallet-reconciliation.csv"
+        );
+
+        when(reconciliationService.reconcile()).thenReturn(status);
+
+        ReconciliationStatusDTO result = controller.runReconciliation().getBody();
+
+        assertNotNull(result);
+        assertEquals(2L, result.discrepancies());
+        verify(reconciliationService).reconcile();
+    }
+
+    @Test
+    void getReconciliationStatus_shouldReturnProgress() {
+
+        ReconciliationStatusDTO status = new ReconciliationStatusDTO(
+                true, "USER_WALLETS", 500L, 0L, 250.0,
+                Instant.now(), null, "reports/wallet-reconciliation.csv"
+        );
+
+        when(reconciliationService.getStatus()).thenReturn(status);
+
+        ReconciliationStatusDTO result = controller.getReconciliationStatus().getBody();
+
+        assertNotNull(result);
+        assertTrue(result.running());
+        assertEquals(250.0, result.rowsPerSecond());
+    }
+}
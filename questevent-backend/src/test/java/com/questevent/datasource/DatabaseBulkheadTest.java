@@ -0,0 +1,100 @@
+package com.questevent.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DatabaseBulkheadTest {
+
+    @Test
+    void tryEnter_admitsUpToMaxConcurrent() {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(2, 0, Duration.ZERO);
+
+        assertThat(bulkhead.tryEnter()).isTrue();
+        assertThat(bulkhead.tryEnter()).isTrue();
+        assertThat(bulkhead.tryEnter()).isFalse();
+
+        assertThat(bulkhead.getInFlight()).isEqualTo(2);
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void release_freesPermitForNextRequest() {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 0, Duration.ZERO);
+
+        assertThat(bulkhead.tryEnter()).isTrue();
+        bulkhead.release();
+
+        assertThat(bulkhead.tryEnter()).isTrue();
+        assertThat(bulkhead.getAdmitted()).isEqualTo(2);
+    }
+
+    @Test
+    void tryEnter_queuedRequestAdmittedWhenPermitFreed() throws Exception {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 1, Duration.ofSeconds(5));
+        assertThat(bulkhead.tryEnter()).isTrue();
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(bulkhead::tryEnter);
+        await(() -> bulkhead.getWaiting() == 1);
+
+        bulkhead.release();
+
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkhead.getWaiting()).isZero();
+    }
+
+    @Test
+    void tryEnter_fullQueueRejectsWithoutWaiting() throws Exception {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 1, Duration.ofSeconds(5));
+        assertThat(bulkhead.tryEnter()).isTrue();
+
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+            started.countDown();
+            return bulkhead.tryEnter();
+        });
+        started.await();
+        await(() -> bulkhead.getWaiting() == 1);
+
+        long start = System.nanoTime();
+        assertThat(bulkhead.tryEnter()).isFalse();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+
+        bulkhead.release();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void tryEnter_timesOutAfterMaxWait() {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(1, 1, Duration.ofMillis(50));
+        assertThat(bulkhead.tryEnter()).isTrue();
+
+        assertThat(bulkhead.tryEnter()).isFalse();
+        assertThat(bulkhead.getWaiting()).isZero();
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void constructor_rejectsNonPositiveLimit() {
+        Duration maxWait = Duration.ZERO;
+
+        assertThatThrownBy(() -> new DatabaseBulkhead(0, 0, maxWait))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within 5s");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.questevent.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs the routing data source against two in-memory H2 databases, each
+ * holding a marker row that names it.
+ */
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private DataSource primary;
+    private ReplicaHealthMonitor health;
+    private ReadReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setup() {
+        primary = database("primary");
+        DataSource replica = database("replica");
+
+        health = new ReplicaHealthMonitor(replica, Duration.ofSeconds(30));
+        routing = new ReadReplicaRoutingDataSource(
+                primary,
+                replica,
+                health,
+                new ReadYourWritesTracker(WINDOW, clock::get)
+        );
+
+        wire(routing);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_goesToReplica() {
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+        assertThat(routing.getReplicaConnections()).isEqualTo(1);
+    }
+
+    @Test
+    void readWriteTransaction_goesToPrimary() {
+        assertThat(readWrite.execute(status -> currentDatabase())).isEqualTo("primary");
+    }
+
+    @Test
+    void workOutsideTransaction_goesToPrimary() {
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimaryWithinWindow() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE marker SET writes = writes + 1"));
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        authenticate("bob");
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+
+        authenticate("alice");
+        clock.addAndGet(WINDOW.toNanos() + 1);
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWrite_doesNotMakeUserSticky() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> {
+            jdbc.update("UPDATE marker SET writes = writes + 1");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    void unhealthyReplica_fallsBackToPrimary() {
+        health.markDown("test");
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+
+        health.check();
+        assertThat(health.isHealthy()).isTrue();
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("replica");
+    }
+
+    @Test
+    void unreachableReplica_fallsBackAndIsTakenOutOfRotation() {
+        DataSource missing = new DriverManagerDataSource(
+                "jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        health = new ReplicaHealthMonitor(missing, Duration.ofSeconds(30));
+        routing = new ReadReplicaRoutingDataSource(
+                primary,
+                missing,
+                health,
+                new ReadYourWritesTracker(WINDOW, clock::get)
+        );
+        wire(routing);
+
+        assertThat(readOnly.execute(status -> currentDatabase())).isEqualTo("primary");
+        assertThat(routing.getReplicaFallbacks()).isEqualTo(1);
+        assertThat(health.isHealthy()).isFalse();
+
+        health.check();
+        assertThat(health.isHealthy()).isFalse();
+    }
+
+    private void wire(DataSource routingDataSource) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbc = new JdbcTemplate(dataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private String currentDatabase() {
+        return jdbc.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static void authenticate(String user) {
+        TestingAuthenticationToken authentication = new TestingAuthenticationToken(user, null);
+        authentication.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20), writes INT)");
+        jdbc.update("INSERT INTO marker VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
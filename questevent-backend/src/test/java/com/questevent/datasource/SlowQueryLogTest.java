@@ -0,0 +1,108 @@
+package com.questevent.datasource;
+
+import com.questevent.dto.SlowQueryDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMillis(100), 2, false, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        slowQueryLog.destroy();
+    }
+
+    @Test
+    void fingerprint_foldsLiteralsAndCollapsesInLists() {
+        assertThat(SlowQueryLog.fingerprint(
+                "select *  from users\n where email = 'a''b@x.io' and id in (?, ?, ?) and age > 42"
+        )).isEqualTo("select * from users where email = ? and id in (?+) and age > ?");
+        assertThat(SlowQueryLog.fingerprint("select * from users where id in ($1, $2)"))
+                .isEqualTo(SlowQueryLog.fingerprint("select * from users where id in (?, ?, ?, ?)"));
+    }
+
+    @Test
+    void explainCommand_analyzesPlainReadsOnly() {
+        assertThat(SlowQueryLog.explainCommand("select * from users where updated_at > ?"))
+                .isEqualTo("EXPLAIN (ANALYZE, BUFFERS) ");
+        assertThat(SlowQueryLog.explainCommand("  with recent as (select 1) select * from recent"))
+                .isEqualTo("EXPLAIN (ANALYZE, BUFFERS) ");
+
+        assertThat(SlowQueryLog.explainCommand("update user_wallets set gems = gems + ? where wallet_id = ?"))
+                .isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("insert into users (email) values (?)"))
+                .isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("select * from program_wallets where id = ? for update"))
+                .isEqualTo("EXPLAIN ");
+        assertThat(SlowQueryLog.explainCommand("with gone as (delete from users where id = ? returning id) select * from gone"))
+                .isEqualTo("EXPLAIN ");
+
+        assertThat(SlowQueryLog.explainCommand("set local statement_timeout = 100")).isNull();
+    }
+
+    @Test
+    void record_ignoresStatementsUnderThreshold() {
+        slowQueryLog.record("select 1", 99 * MS, null, null);
+
+        assertThat(slowQueryLog.snapshot()).isEmpty();
+        assertThat(slowQueryLog.getRecorded()).isZero();
+    }
+
+    @Test
+    void record_aggregatesPerFingerprint() {
+        slowQueryLog.record("select * from users where id = 1", 100 * MS, null, null);
+        slowQueryLog.record("select * from users where id = 2", 300 * MS, null, null);
+
+        List<SlowQueryDTO> queries = slowQueryLog.snapshot();
+        assertThat(queries).hasSize(1);
+        SlowQueryDTO query = queries.get(0);
+        assertThat(query.fingerprint()).isEqualTo("select * from users where id = ?");
+        assertThat(query.count()).isEqualTo(2);
+        assertThat(query.totalMillis()).isEqualTo(400.0);
+        assertThat(query.meanMillis()).isEqualTo(200.0);
+        assertThat(query.maxMillis()).isEqualTo(300.0);
+        assertThat(query.slowestSql()).isEqualTo("select * from users where id = 2");
+        assertThat(query.plan()).isNull();
+    }
+
+    @Test
+    void record_dropsNewFingerprintsBeyondLimit() {
+        slowQueryLog.record("select * from a", 100 * MS, null, null);
+        slowQueryLog.record("select * from b", 100 * MS, null, null);
+        slowQueryLog.record("select * from c", 100 * MS, null, null);
+        slowQueryLog.record("select * from a", 100 * MS, null, null);
+
+        assertThat(slowQueryLog.snapshot()).extracting(SlowQueryDTO::fingerprint)
+                .containsExactlyInAnyOrder("select * from a", "select * from b");
+        assertThat(slowQueryLog.getRecorded()).isEqualTo(4);
+        assertThat(slowQueryLog.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void snapshot_sortsByTotalTimeDescending() {
+        slowQueryLog.record("select * from a", 150 * MS, null, null);
+        slowQueryLog.record("select * from b", 200 * MS, null, null);
+        slowQueryLog.record("select * from a", 150 * MS, null, null);
+
+        assertThat(slowQueryLog.snapshot()).extracting(SlowQueryDTO::fingerprint)
+                .containsExactly("select * from a", "select * from b");
+    }
+
+    @Test
+    void reset_clearsEntriesAndCounters() {
+        slowQueryLog.record("select * from a", 150 * MS, null, null);
+
+        slowQueryLog.reset();
+
+        assertThat(slowQueryLog.snapshot()).isEmpty();
+        assertThat(slowQueryLog.getRecorded()).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.questevent.datasource;
+
+import com.questevent.timing.RequestTimings;
+import com.questevent.timing.ServerTimingFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimedDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private TimedDataSource dataSource;
+
+    @BeforeEach
+    void setup() throws Exception {
+        dataSource = new TimedDataSource(target);
+        when(target.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void outsideRequest_returnsPoolConnectionUnwrapped() throws Exception {
+        assertThat(dataSource.getConnection()).isSameAs(connection);
+    }
+
+    @Test
+    void insideRequest_countsExecutedStatements() throws Exception {
+        when(connection.prepareStatement("SELECT 1")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        RequestTimings[] captured = new RequestTimings[1];
+
+        new ServerTimingFilter(true, Duration.ofMinutes(1)).doFilter(
+                new MockHttpServletRequest("GET", "/api/programs"),
+                new MockHttpServletResponse(),
+                (req, res) -> {
+                    captured[0] = RequestTimings.current();
+                    try (Connection timed = dataSource.getConnection();
+                         PreparedStatement prepared = timed.prepareStatement("SELECT 1")) {
+                        assertThat(prepared.executeQuery()).isSameAs(resultSet);
+                        assertThat(prepared.executeQuery()).isSameAs(resultSet);
+                        assertThat(prepared.getConnection()).isSameAs(timed);
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+        );
+
+        assertThat(captured[0].count(RequestTimings.Phase.SQL)).isEqualTo(2);
+        verify(statement).close();
+        verify(connection).close();
+    }
+
+    @Test
+    void withSlowQueryLog_recordsStatementsOutsideRequests() throws Exception {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 10, false, Duration.ofSeconds(5));
+        TimedDataSource logged = new TimedDataSource(target, slowQueryLog);
+        when(connection.prepareStatement("SELECT * FROM users WHERE id = ?")).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        try (Connection timed = logged.getConnection();
+             PreparedStatement prepared = timed.prepareStatement("SELECT * FROM users WHERE id = ?")) {
+            assertThat(timed).isNotSameAs(connection);
+            prepared.setLong(1, 7L);
+            prepared.executeQuery();
+        } finally {
+            slowQueryLog.destroy();
+        }
+
+        assertThat(slowQueryLog.snapshot()).singleElement()
+                .satisfies(query -> {
+                    assertThat(query.fingerprint()).isEqualTo("SELECT * FROM users WHERE id = ?");
+                    assertThat(query.count()).isEqualTo(1);
+                });
+    }
+}
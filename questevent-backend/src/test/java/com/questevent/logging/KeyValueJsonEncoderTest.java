@@ -0,0 +1,74 @@
+package com.questevent.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class KeyValueJsonEncoderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final KeyValueJsonEncoder encoder = new KeyValueJsonEncoder();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encode_splitsKeyValueSegmentsIntoFields() throws Exception {
+        JsonNode json = encode(
+                "Program wallet credited | programWalletId={} | amount={}",
+                "a1b2", 50
+        );
+
+        assertThat(json.get("message").asText()).isEqualTo("Program wallet credited");
+        assertThat(json.get("fields").get("programWalletId").asText()).isEqualTo("a1b2");
+        assertThat(json.get("fields").get("amount").asText()).isEqualTo("50");
+        assertThat(json.get("level").asText()).isEqualTo("INFO");
+        assertThat(json.get("logger").asText()).isEqualTo("com.questevent.service.Sample");
+    }
+
+    @Test
+    void encode_keepsPlainMessageWhole() throws Exception {
+        JsonNode json = encode("Global leaderboard fetched, totalEntries={}", 12);
+
+        assertThat(json.get("message").asText()).isEqualTo("Global leaderboard fetched, totalEntries=12");
+        assertThat(json.has("fields")).isFalse();
+    }
+
+    @Test
+    void encode_valueContainingSeparatorStaysInItsField() throws Exception {
+        JsonNode json = encode("Import failed | reason={}", "bad row | line 4");
+
+        assertThat(json.get("fields").get("reason").asText()).isEqualTo("bad row | line 4");
+    }
+
+    @Test
+    void encode_writesOneLinePerEvent() {
+        String line = new String(
+                encoder.encode(event("Created | id={}", 1)),
+                StandardCharsets.UTF_8
+        );
+
+        assertThat(line).endsWith(System.lineSeparator());
+        assertThat(line.strip()).doesNotContain("\n");
+    }
+
+    private JsonNode encode(String format, Object... args) throws Exception {
+        return objectMapper.readTree(encoder.encode(event(format, args)));
+    }
+
+    private LoggingEvent event(String format, Object... args) {
+        return new LoggingEvent(
+                getClass().getName(),
+                context.getLogger("com.questevent.service.Sample"),
+                Level.INFO,
+                format,
+                null,
+                args
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.questevent.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoggerRateSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+
+    private LoggerRateSamplingFilter filter;
+
+    @BeforeEach
+    void setup() {
+        filter = new LoggerRateSamplingFilter();
+        filter.addLogger("com.questevent.controller");
+        filter.setMaxPerSecond(3);
+        filter.start();
+
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+    }
+
+    @Test
+    void decide_capsInfoEventsPerLogger() {
+        Logger logger = context.getLogger("com.questevent.controller.ProgramController");
+
+        int passed = 0;
+        for (int i = 0; i < 10; i++) {
+            if (decide(logger, Level.INFO) == FilterReply.NEUTRAL) {
+                passed++;
+            }
+        }
+
+        // a second boundary inside the loop can let one more window through
+        assertThat(passed).isBetween(3, 6);
+        assertThat(filter.getSampledOutCount()).isEqualTo(10 - passed);
+    }
+
+    @Test
+    void decide_alwaysPassesWarnings() {
+        Logger logger = context.getLogger("com.questevent.controller.ProgramController");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        }
+        assertThat(filter.getSampledOutCount()).isZero();
+    }
+
+    @Test
+    void decide_ignoresLoggersOutsidePrefixes() {
+        Logger logger = context.getLogger("com.questevent.controllers.Other");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void decide_disabledLevelsDoNotUseTheBudget() {
+        Logger logger = context.getLogger("com.questevent.controller.ProgramController");
+
+        for (int i = 0; i < 10; i++) {
+            decide(logger, Level.DEBUG);
+        }
+
+        assertThat(filter.getSampledOutCount()).isZero();
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message", null, null);
+    }
+}
@@ -0,0 +1,92 @@
+package com.questevent.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MeteredAsyncAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    private MeteredAsyncAppender appender;
+
+    @BeforeEach
+    void setup() {
+        BlockingAppender downstream = new BlockingAppender(unblock);
+        downstream.setContext(context);
+        downstream.start();
+
+        appender = new MeteredAsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(10);
+        appender.setDiscardingThreshold(5);
+        appender.setNeverBlock(true);
+        appender.addAppender(downstream);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void append_dropsInfoPastThresholdAndCountsIt() {
+        for (int i = 0; i < 20; i++) {
+            appender.doAppend(event(Level.INFO));
+        }
+
+        assertThat(appender.getDroppedCount()).isGreaterThanOrEqualTo(10);
+        assertThat(appender.getQueueDepth()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void append_keepsWarningsUntilQueueIsFull() {
+        for (int i = 0; i < 8; i++) {
+            appender.doAppend(event(Level.WARN));
+        }
+
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    private LoggingEvent event(Level level) {
+        return new LoggingEvent(
+                getClass().getName(),
+                context.getLogger("com.questevent.service.Sample"),
+                level,
+                "message",
+                null,
+                null
+        );
+    }
+
+    /** Holds the worker thread on the first event so the queue fills up. */
+    private static final class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch unblock;
+
+        private BlockingAppender(CountDownLatch unblock) {
+            this.unblock = unblock;
+        }
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.questevent.metrics;
+
+import io.micrometer.common.KeyValue;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EndpointGroupObservationConventionTest {
+
+    private final EndpointGroupObservationConvention convention = new EndpointGroupObservationConvention();
+
+    @Test
+    void apiRequest_taggedWithEndpointGroup() {
+        assertThat(convention.getLowCardinalityKeyValues(context("/api/leaderboard/global")))
+                .contains(KeyValue.of("group", "leaderboard"));
+    }
+
+    @Test
+    void nonApiRequest_taggedNone() {
+        assertThat(convention.getLowCardinalityKeyValues(context("/actuator/health")))
+                .contains(KeyValue.of("group", "none"));
+    }
+
+    private static ServerRequestObservationContext context(String uri) {
+        return new ServerRequestObservationContext(
+                new MockHttpServletRequest("GET", uri),
+                new MockHttpServletResponse()
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.questevent.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ServiceMetricsAspectTest {
+
+    private MeterRegistry registry;
+    private SampleService service;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void timeServiceCall_recordsSuccessWithGroupTags() {
+        service.work();
+
+        Timer timer = registry.get(ServiceMetricsAspect.CALLS_METRIC)
+                .tag("group", "sample")
+                .tag("class", "SampleService")
+                .tag("method", "work")
+                .tag("outcome", "success")
+                .tag("exception", "none")
+                .timer();
+
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void timeServiceCall_recordsErrorAndRethrows() {
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+        Timer timer = registry.get(ServiceMetricsAspect.CALLS_METRIC)
+                .tag("method", "fail")
+                .tag("outcome", "error")
+                .tag("exception", "IllegalStateException")
+                .timer();
+
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Instrumented("sample")
+    static class SampleService {
+
+        public String work() {
+            return "done";
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
@@ -111,12 +111,9 @@ class RbacServiceTest {
         when(userRepository.findByEmail("user@test.com"))
                 .thenReturn(Optional.of(normalUser));
 
-        Program program = new Program();
-        program.setUser(normalUser);
-
         UUID programId = UUID.randomUUID();
-        when(programRepository.findById(programId))
-                .thenReturn(Optional.of(program));
+        when(programRepository.existsByProgramIdAndUser_UserId(programId, 1L))
+                .thenReturn(true);
 
         assertThat(rbacService.canManageProgram(auth, programId))
                 .isTrue();
@@ -128,14 +125,9 @@ class RbacServiceTest {
         when(userRepository.findByEmail("user@test.com"))
                 .thenReturn(Optional.of(normalUser));
 
-        Program program = new Program();
-        User other = new User();
-        other.setUserId(2L);
-        program.setUser(other);
-
         UUID programId = UUID.randomUUID();
-        when(programRepository.findById(programId))
-                .thenReturn(Optional.of(program));
+        when(programRepository.existsByProgramIdAndUser_UserId(programId, 1L))
+                .thenReturn(false);
 
         assertThat(rbacService.canManageProgram(auth, programId))
                 .isFalse();
@@ -195,11 +187,10 @@ class RbacServiceTest {
 
         UUID activityId = UUID.randomUUID();
 
-        ActivitySubmission submission = new ActivitySubmission();
         when(submissionRepository
-                .findByActivityRegistrationActivityActivityIdAndActivityRegistrationUserUserId(
+                .existsByActivityRegistrationActivityActivityIdAndActivityRegistrationUserUserId(
                         activityId, 1L))
-                .thenReturn(Optional.of(submission));
+                .thenReturn(true);
 
         assertThat(
                 rbacService.canViewOwnSubmissionByActivity(auth, activityId)
@@ -254,23 +245,11 @@ class RbacServiceTest {
         when(userRepository.findByEmail("user@test.com"))
                 .thenReturn(Optional.of(normalUser));
 
-        Program program = new Program();
-        Judge judge = new Judge();
-        judge.setUser(normalUser);
-        program.setJudge(judge);
-
-        Activity activity = new Activity();
-        activity.setProgram(program);
-
-        ActivityRegistration reg = new ActivityRegistration();
-        reg.setActivity(activity);
-
-        ActivitySubmission submission = new ActivitySubmission();
-        submission.setActivityRegistration(reg);
-
         UUID submissionId = UUID.randomUUID();
-        when(submissionRepository.findById(submissionId))
-                .thenReturn(Optional.of(submission));
+        when(submissionRepository
+                .existsBySubmissionIdAndActivityRegistrationActivityProgramJudgeUserUserId(
+                        submissionId, 1L))
+                .thenReturn(true);
 
         assertThat(
                 rbacService.canJudgeAccessSubmission(auth, submissionId)
@@ -294,15 +273,85 @@ class RbacServiceTest {
         when(userRepository.findByEmail("user@test.com"))
                 .thenReturn(Optional.of(normalUser));
 
-        ProgramWallet wallet = new ProgramWallet();
-        wallet.setUser(normalUser);
-
         UUID walletId = UUID.randomUUID();
-        when(programWalletRepository.findById(walletId))
-                .thenReturn(Optional.of(wallet));
+        when(programWalletRepository.isAccessibleBy(walletId, 1L))
+                .thenReturn(true);
 
         assertThat(
                 rbacService.canAccessProgramWallet(auth, walletId)
         ).isTrue();
     }
+
+    @Test
+    void canRegisterForProgram_denied_forProgramJudge() {
+        auth = jwtAuth("user@test.com");
+        when(userRepository.findByEmail("user@test.com"))
+                .thenReturn(Optional.of(normalUser));
+
+        UUID programId = UUID.randomUUID();
+        when(programRepository.findJudgeUserIdByProgramId(programId))
+                .thenReturn(Optional.of(1L));
+
+        assertThat(rbacService.canRegisterForProgram(auth, programId)).isFalse();
+    }
+
+    @Test
+    void canRegisterForProgram_allowed_forOtherUser() {
+        auth = jwtAuth("user@test.com");
+        when(userRepository.findByEmail("user@test.com"))
+                .thenReturn(Optional.of(normalUser));
+
+        UUID programId = UUID.randomUUID();
+        when(programRepository.findJudgeUserIdByProgramId(programId))
+                .thenReturn(Optional.of(2L));
+
+        assertThat(rbacService.canRegisterForProgram(auth, programId)).isTrue();
+    }
+
+    @Test
+    void canRegisterForActivity_allowed_whenRegisteredForProgramOnly() {
+        auth = jwtAuth("user@test.com");
+        when(userRepository.findByEmail("user@test.com"))
+                .thenReturn(Optional.of(normalUser));
+
+        User judgeUser = new User();
+        judgeUser.setUserId(2L);
+        Judge judge = new Judge();
+        judge.setUser(judgeUser);
+
+        Program program = new Program();
+        program.setProgramId(UUID.randomUUID());
+        program.setJudge(judge);
+
+        Activity activity = new Activity();
+        activity.setActivityId(UUID.randomUUID());
+        activity.setProgram(program);
+
+        when(activityRepository.findWithProgramAndJudgeByActivityId(activity.getActivityId()))
+                .thenReturn(Optional.of(activity));
+        when(programRegistrationRepository
+                .existsByProgram_ProgramIdAndUser_UserId(program.getProgramId(), 1L))
+                .thenReturn(true);
+        when(activityRegistrationRepository
+                .existsByActivity_ActivityIdAndUser_UserId(activity.getActivityId(), 1L))
+                .thenReturn(false);
+
+        assertThat(rbacService.canRegisterForActivity(auth, activity.getActivityId()))
+                .isTrue();
+    }
+
+    @Test
+    void canAccessActivityRegistration_delegatesToAccessQuery() {
+        auth = jwtAuth("user@test.com");
+        when(userRepository.findByEmail("user@test.com"))
+                .thenReturn(Optional.of(normalUser));
+
+        UUID registrationId = UUID.randomUUID();
+        when(activityRegistrationRepository.isAccessibleBy(registrationId, 1L))
+                .thenReturn(false);
+
+        assertThat(rbacService.canAccessActivityRegistration(auth, registrationId))
+                .isFalse();
+        verify(activityRegistrationRepository, never()).findById(any());
+    }
 }
@@ -0,0 +1,173 @@
+package com.questevent.repository;
+
+import com.questevent.dto.ProgramSearchCriteria;
+import com.questevent.dto.ProgramSearchCursor;
+import com.questevent.dto.ProgramSearchFacetsDTO;
+import com.questevent.dto.ProgramSearchHitDTO;
+import com.questevent.entity.Activity;
+import com.questevent.entity.Program;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryProgramSearchIndexTest {
+
+    @Mock
+    private ProgramRepository programRepository;
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    private InMemoryProgramSearchIndex index;
+
+    private Program hackathon;
+    private Program wellness;
+    private Program security;
+
+    @BeforeEach
+    void setup() {
+        index = new InMemoryProgramSearchIndex(programRepository, activityRepository);
+
+        hackathon = program("Spring Hackathon", "Build something in a weekend", Department.TECH, ProgramStatus.ACTIVE);
+        wellness = program("Wellness Week", "Yoga and running for the whole office", Department.HR, ProgramStatus.ACTIVE);
+        security = program("Security Basics", "Phishing awareness", Department.IT, ProgramStatus.DRAFT);
+
+        Activity ctf = activity(security, "Capture the flag", "Find the hidden flags", "No hackathon tooling allowed");
+        Activity run = activity(wellness, "5k run", "Run around the park", null);
+
+        when(programRepository.findAll()).thenReturn(List.of(hackathon, wellness, security));
+        when(activityRepository.findAll()).thenReturn(List.of(ctf, run));
+
+        index.rebuild();
+    }
+
+    @Test
+    void search_titleMatchOutranksRulebookMatch() {
+        List<ProgramSearchHitDTO> hits = index.search(criteria("hackathon"), null, 10);
+
+        assertThat(hits).extracting(ProgramSearchHitDTO::programId)
+                .containsExactly(hackathon.getProgramId(), security.getProgramId());
+        assertThat(hits.get(0).rank()).isGreaterThan(hits.get(1).rank());
+    }
+
+    @Test
+    void search_requiresEveryTerm() {
+        assertThat(index.search(criteria("run park"), null, 10))
+                .extracting(ProgramSearchHitDTO::programId)
+                .containsExactly(wellness.getProgramId());
+
+        assertThat(index.search(criteria("run flags"), null, 10)).isEmpty();
+    }
+
+    @Test
+    void search_appliesFilters() {
+        ProgramSearchCriteria criteria =
+                new ProgramSearchCriteria("hackathon", null, ProgramStatus.DRAFT);
+
+        assertThat(index.search(criteria, null, 10))
+                .extracting(ProgramSearchHitDTO::programId)
+                .containsExactly(security.getProgramId());
+    }
+
+    @Test
+    void search_keysetPagesCoverEveryHitOnce() {
+        List<UUID> seen = new ArrayList<>();
+        ProgramSearchCursor after = null;
+
+        for (int page = 0; page < 5; page++) {
+            List<ProgramSearchHitDTO> hits = index.search(criteria("hackathon"), after, 1);
+            if (hits.isEmpty()) {
+                break;
+            }
+            seen.add(hits.get(0).programId());
+            after = ProgramSearchCursor.of(hits.get(0));
+        }
+
+        assertThat(seen).containsExactly(hackathon.getProgramId(), security.getProgramId());
+    }
+
+    @Test
+    void facets_countEachFacetWithoutItsOwnFilter() {
+        ProgramSearchFacetsDTO facets = index.facets(
+                new ProgramSearchCriteria("hackathon", Department.IT, null)
+        );
+
+        assertThat(facets.total()).isEqualTo(1);
+        assertThat(facets.departments())
+                .containsEntry(Department.TECH, 1L)
+                .containsEntry(Department.IT, 1L);
+        assertThat(facets.statuses())
+                .containsOnlyKeys(ProgramStatus.DRAFT);
+    }
+
+    @Test
+    void programChanged_reindexesWithoutTransaction() {
+        hackathon.setProgramTitle("Autumn Game Jam");
+        when(programRepository.findById(hackathon.getProgramId())).thenReturn(Optional.of(hackathon));
+        when(activityRepository.findByProgram_ProgramId(hackathon.getProgramId())).thenReturn(List.of());
+
+        index.programChanged(hackathon.getProgramId());
+
+        assertThat(index.search(criteria("jam"), null, 10))
+                .extracting(ProgramSearchHitDTO::programId)
+                .containsExactly(hackathon.getProgramId());
+        assertThat(index.search(criteria("hackathon"), null, 10))
+                .extracting(ProgramSearchHitDTO::programId)
+                .containsExactly(security.getProgramId());
+    }
+
+    @Test
+    void programDeleted_removesFromIndex() {
+        index.programDeleted(wellness.getProgramId());
+
+        assertThat(index.search(criteria("yoga"), null, 10)).isEmpty();
+    }
+
+    @Test
+    void tokenize_dropsStopWordsAndPunctuation() {
+        assertThat(InMemoryProgramSearchIndex.tokenize("The Spring-Hackathon, for ALL!"))
+                .containsExactly("spring", "hackathon", "all");
+    }
+
+    private static ProgramSearchCriteria criteria(String query) {
+        return new ProgramSearchCriteria(query, null, null);
+    }
+
+    private static Program program(
+            String title,
+            String description,
+            Department department,
+            ProgramStatus status
+    ) {
+        Program program = new Program();
+        program.setProgramId(UUID.randomUUID());
+        program.setProgramTitle(title);
+        program.setProgramDescription(description);
+        program.setDepartment(department);
+        program.setStatus(status);
+        return program;
+    }
+
+    private static Activity activity(Program program, String name, String description, String rulebook) {
+        Activity activity = new Activity();
+        activity.setActivityId(UUID.randomUUID());
+        activity.setProgram(program);
+        activity.setActivityName(name);
+        activity.setActivityDescription(description);
+        activity.setActivityRulebook(rulebook);
+        return activity;
+    }
+}
@@ -0,0 +1,107 @@
+package com.questevent.repository;
+
+import com.questevent.entity.User;
+import com.questevent.enums.Department;
+import com.questevent.enums.Role;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Migrates a database that predates Flyway, holding the schema and users
+ * Hibernate created from the original mappings, and starts JPA on it with
+ * {@code ddl-auto=validate} as production does. The context only comes up
+ * when the baselined database ends up matching the entities. Needs Docker;
+ * skipped without it.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "logging.level.com.questevent=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PreFlywaySchemaMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withInitScript("db/pre-flyway-schema.sql");
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void existingDatabase_isBaselinedAndMigratedPastV1() {
+
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+
+        assertThat(applied).startsWith("1").contains("1.1", "1.2", "2", "3", "4");
+        assertThat(flyway.info().applied()[0].getState()).isEqualTo(MigrationState.BASELINE);
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void existingDatabase_gainsTablesAddedAfterTheBaseline() {
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM activity_prerequisites", Long.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM program_wallet_credit_intents", Long.class)).isZero();
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM program_search", Long.class)).isZero();
+    }
+
+    @Test
+    void newUsers_takePooledIdsPastExistingOnes() {
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        Long maxExisting = jdbc.queryForObject("SELECT max(user_id) FROM users", Long.class);
+
+        assertThat(jdbc.queryForObject(
+                "SELECT increment_by FROM pg_sequences WHERE sequencename = 'users_user_id_seq'", Long.class))
+                .isEqualTo(50);
+
+        User first = userRepository.save(user("migrated.first"));
+        User second = userRepository.save(user("migrated.second"));
+
+        assertThat(first.getUserId()).isGreaterThan(maxExisting);
+        assertThat(second.getUserId()).isGreaterThan(first.getUserId());
+    }
+
+    private static User user(String name) {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(name + "@questevent.test");
+        user.setDepartment(Department.TECH);
+        user.setGender("NA");
+        user.setRole(Role.USER);
+        return user;
+    }
+}
@@ -0,0 +1,326 @@
+package com.questevent.repository;
+
+import com.questevent.config.JdbcInstrumentationConfig;
+import com.questevent.datasource.SlowQueryLog;
+import com.questevent.dto.SlowQueryDTO;
+import com.questevent.seed.SeedSettings;
+import com.questevent.seed.SyntheticDataGenerator;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Runs every query method of the repositories against a seeded PostgreSQL
+ * built by the Flyway migrations, and fails when a plan reads a large table
+ * sequentially.
+ * <p>
+ * Sequential scans are switched off server-wide, so one that still shows up
+ * has no index to use. Plans come from the {@link SlowQueryLog} with a zero
+ * threshold: every plain SELECT is re-run as {@code EXPLAIN ANALYZE} with
+ * its own bind values. Needs Docker; skipped without it.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        // every call must reach the database
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "questevent.slow-query.threshold=PT0S",
+        "questevent.slow-query.max-fingerprints=10000",
+        "questevent.slow-query.explain-enabled=true",
+        "questevent.slow-query.explain-timeout=PT30S",
+        "logging.level.com.questevent=WARN"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({
+        SyntheticDataGenerator.class,
+        LeaderboardRepositoryImpl.class,
+        SlowQueryLog.class,
+        JdbcInstrumentationConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RepositoryIndexCoverageTest {
+
+    private static final SeedSettings SETTINGS = new SeedSettings(
+            2_000, 40, 8, 1, 3, 4, 0.8, 500, 2, 7L
+    );
+
+    // judges is left out: one row per ten programs
+    private static final Set<String> LARGE_TABLES = Set.of(
+            "users",
+            "wallets",
+            "programs",
+            "activities",
+            "activity_prerequisites",
+            "activity_registrations",
+            "activity_submissions",
+            "program_registrations",
+            "program_wallets",
+            "program_wallet_credit_intents"
+    );
+
+    // whole-table passes by design: the nightly reconciliation and the unpaged global leaderboards
+    private static final Set<String> FULL_SCANS = Set.of(
+            "ActivitySubmissionRepository.streamApprovedGemsWithoutProgramWallet",
+            "ProgramWalletRepository.streamProgramWalletReconciliation",
+            "UserWalletRepository.streamUserWalletReconciliation",
+            "UserWalletRepository.findGlobalLeaderboard",
+            "LeaderboardRepository.getGlobalLeaderboard"
+    );
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withCommand("postgres", "-c", "enable_seqscan=off");
+
+    /** Ids that belong together: a pending submission and everything around it. */
+    private record Samples(
+            UUID submissionId,
+            UUID activityRegistrationId,
+            UUID activityId,
+            UUID programId,
+            UUID programRegistrationId,
+            UUID programWalletId,
+            Long userId,
+            Long judgeUserId,
+            String email
+    ) {
+
+        UUID uuid(String name) {
+            String key = name.toLowerCase(Locale.ROOT);
+            if (key.contains("submission")) return submissionId;
+            if (key.contains("programregistration")) return programRegistrationId;
+            if (key.contains("registration")) return activityRegistrationId;
+            if (key.contains("wallet")) return programWalletId;
+            if (key.contains("activity")) return activityId;
+            if (key.contains("program")) return programId;
+            return UUID.randomUUID();
+        }
+
+        Long userId(String name) {
+            return name.toLowerCase(Locale.ROOT).contains("judge") ? judgeUserId : userId;
+        }
+    }
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void repositoryQueries_doNotScanLargeTables() throws Exception {
+        generator.generate(SETTINGS);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("ANALYZE");
+        Samples samples = samples(jdbc);
+
+        List<String> problems = new ArrayList<>();
+        int explained = 0;
+
+        for (Map.Entry<Class<?>, Object> repository : repositories().entrySet()) {
+            for (Method method : queryMethods(repository.getKey())) {
+                String name = repository.getKey().getSimpleName() + "." + method.getName();
+
+                List<SlowQueryDTO> statements = run(name, repository.getValue(), method, samples, problems);
+                if (statements.isEmpty()) {
+                    problems.add(name + ": issued no statement");
+                }
+                for (SlowQueryDTO statement : statements) {
+                    // writes and locking reads are not explained
+                    if (statement.plan() == null) {
+                        continue;
+                    }
+                    explained++;
+                    if (statement.plan().startsWith("EXPLAIN failed")) {
+                        problems.add(name + ": " + statement.plan());
+                        continue;
+                    }
+                    Matcher scan = SEQ_SCAN.matcher(statement.plan());
+                    while (scan.find()) {
+                        if (LARGE_TABLES.contains(scan.group(1)) && !FULL_SCANS.contains(name)) {
+                            problems.add(name + ": sequential scan on " + scan.group(1)
+                                    + "\n" + statement.slowestSql() + "\n" + statement.plan());
+                        }
+                    }
+                }
+            }
+        }
+
+        assertThat(explained).as("explained statements").isPositive();
+        assertThat(problems).isEmpty();
+    }
+
+    private List<SlowQueryDTO> run(String name, Object repository, Method method, Samples samples, List<String> problems)
+            throws InterruptedException {
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            // incrementGems and friends must leave the seed as it is
+            status.setRollbackOnly();
+            Object[] args = Arrays.stream(method.getParameters())
+                    .map(parameter -> sample(parameter, samples))
+                    .toArray();
+            slowQueryLog.reset();
+            try {
+                if (method.invoke(repository, args) instanceof Stream<?> stream) {
+                    stream.close();
+                }
+            } catch (InvocationTargetException e) {
+                problems.add(name + ": " + e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(slowQueryLog.awaitPlans(Duration.ofSeconds(60))).as("plans of " + name).isTrue();
+        return slowQueryLog.snapshot();
+    }
+
+    /** Repository interfaces of this package and a bean implementing each. */
+    private Map<Class<?>, Object> repositories() {
+        Map<Class<?>, Object> repositories = new TreeMap<>(Comparator.comparing(Class::getSimpleName));
+        List<Object> beans = new ArrayList<>(applicationContext.getBeansOfType(Repository.class).values());
+        beans.add(applicationContext.getBean(LeaderboardRepository.class));
+
+        for (Object bean : beans) {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(bean.getClass())) {
+                if (type.getPackageName().equals(LeaderboardRepository.class.getPackageName())) {
+                    repositories.put(type, bean);
+                }
+            }
+        }
+        return repositories;
+    }
+
+    private static List<Method> queryMethods(Class<?> repository) {
+        return Arrays.stream(repository.getDeclaredMethods())
+                .filter(method -> !method.isDefault() && !method.isSynthetic())
+                .filter(method -> !Modifier.isStatic(method.getModifiers()))
+                .sorted(Comparator.comparing(Method::getName))
+                .toList();
+    }
+
+    private Object sample(Parameter parameter, Samples samples) {
+        return sample(parameter.getName(), parameter.getParameterizedType(), samples);
+    }
+
+    private Object sample(String name, Type type, Samples samples) {
+        if (type instanceof ParameterizedType collection) {
+            return List.of(sample(name, collection.getActualTypeArguments()[0], samples));
+        }
+        Class<?> raw = (Class<?>) type;
+        if (raw == UUID.class) {
+            return samples.uuid(name);
+        }
+        if (raw == Long.class) {
+            return name.equals("amount") ? 10L : samples.userId(name);
+        }
+        if (raw == String.class) {
+            return samples.email();
+        }
+        if (raw == Instant.class) {
+            return Instant.now();
+        }
+        if (raw == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (raw == Limit.class) {
+            return Limit.of(20);
+        }
+        if (raw.isEnum()) {
+            // PENDING, COMPLETED, DRAFT, HR
+            return raw.getEnumConstants()[0];
+        }
+        if (raw.isAnnotationPresent(Entity.class)) {
+            return entityManager.createQuery("SELECT e FROM " + raw.getSimpleName() + " e", raw)
+                    .setMaxResults(1)
+                    .getSingleResult();
+        }
+        throw new IllegalArgumentException("No sample for parameter " + name + " of type " + type);
+    }
+
+    private static Samples samples(JdbcTemplate jdbc) {
+        return jdbc.queryForObject("""
+                SELECT s.submission_id, ar.activity_registration_id, a.activity_id, a.program_id,
+                       pr.program_registration_id, pw.program_wallet_id, u.user_id, j.user_id, u.email
+                FROM activity_submissions s
+                JOIN activity_registrations ar ON ar.activity_registration_id = s.activity_registration_id
+                JOIN activities a ON a.activity_id = ar.activity_id
+                JOIN programs p ON p.program_id = a.program_id
+                JOIN judges j ON j.judge_id = p.judge_id
+                JOIN users u ON u.user_id = ar.user_id
+                JOIN program_registrations pr ON pr.program_id = p.program_id AND pr.user_id = u.user_id
+                JOIN program_wallets pw ON pw.program_id = p.program_id AND pw.user_id = u.user_id
+                WHERE s.review_status = 'PENDING'
+                LIMIT 1""",
+                (rs, row) -> new Samples(
+                        rs.getObject(1, UUID.class),
+                        rs.getObject(2, UUID.class),
+                        rs.getObject(3, UUID.class),
+                        rs.getObject(4, UUID.class),
+                        rs.getObject(5, UUID.class),
+                        rs.getObject(6, UUID.class),
+                        rs.getLong(7),
+                        rs.getLong(8),
+                        rs.getString(9)
+                ));
+    }
+}
@@ -0,0 +1,114 @@
+package com.questevent.seed;
+
+import com.questevent.entity.User;
+import com.questevent.enums.Department;
+import com.questevent.enums.Role;
+import com.questevent.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.flyway.enabled=false",
+        "spring.jpa.show-sql=false"
+})
+@Import(SyntheticDataGenerator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SyntheticDataGeneratorTest {
+
+    private static final SeedSettings SETTINGS = new SeedSettings(
+            300, 20, 5, 1, 3, 4, 0.8, 70, 2, 7L
+    );
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void generate_loadsConsistentWorldAndCanRunTwice() throws Exception {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long usersBefore = count(jdbc, "users");
+        long submissionsBefore = count(jdbc, "activity_submissions");
+
+        SeedReport first = generator.generate(SETTINGS);
+        SeedReport second = generator.generate(SETTINGS);
+
+        long staff = SETTINGS.hosts() + SETTINGS.judges();
+        assertThat(first.users()).isEqualTo(SETTINGS.users() + staff);
+        assertThat(count(jdbc, "users")).isEqualTo(usersBefore + first.users() + second.users());
+        assertThat(count(jdbc, "wallets")).isEqualTo(count(jdbc, "users"));
+        assertThat(count(jdbc, "activity_submissions"))
+                .isEqualTo(submissionsBefore + first.submissions() + second.submissions());
+        assertThat(count(jdbc, "program_wallets")).isEqualTo(count(jdbc, "program_registrations"));
+
+        assertThat(jdbc.queryForList("SELECT DISTINCT review_status FROM activity_submissions", String.class))
+                .containsExactlyInAnyOrder("PENDING", "APPROVED", "REJECTED");
+
+        // every registered user holds each compulsory activity of the program
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM program_registrations pr
+                JOIN activities a ON a.program_id = pr.program_id AND a.is_compulsory = TRUE
+                LEFT JOIN activity_registrations ar ON ar.activity_id = a.activity_id AND ar.user_id = pr.user_id
+                WHERE ar.activity_registration_id IS NULL""", Long.class)).isZero();
+
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM wallets w
+                WHERE w.gems <> COALESCE((
+                    SELECT SUM(s.awarded_gems) FROM activity_submissions s
+                    JOIN activity_registrations ar ON ar.activity_registration_id = s.activity_registration_id
+                    JOIN activities a ON a.activity_id = ar.activity_id
+                    JOIN programs p ON p.program_id = a.program_id
+                    WHERE s.review_status = 'APPROVED' AND ar.user_id = w.user_id AND p.status = 'COMPLETED'
+                ), 0)""", Long.class)).isZero();
+
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM program_wallets pw
+                JOIN programs p ON p.program_id = pw.program_id
+                WHERE p.status <> 'COMPLETED' AND pw.gems <> COALESCE((
+                    SELECT SUM(s.awarded_gems) FROM activity_submissions s
+                    JOIN activity_registrations ar ON ar.activity_registration_id = s.activity_registration_id
+                    JOIN activities a ON a.activity_id = ar.activity_id
+                    WHERE s.review_status = 'APPROVED' AND ar.user_id = pw.user_id AND a.program_id = pw.program_id
+                ), 0)""", Long.class)).isZero();
+
+        assertThat(count(jdbc, "program_registrations p JOIN programs g ON g.program_id = p.program_id WHERE g.status = 'DRAFT'"))
+                .isZero();
+    }
+
+    @Test
+    void generate_movesUserSequencePastSeededIds() throws Exception {
+        generator.generate(SETTINGS);
+
+        Long maxSeeded = new JdbcTemplate(dataSource).queryForObject("SELECT MAX(user_id) FROM users", Long.class);
+
+        User user = new User();
+        user.setName("After Seed");
+        user.setEmail("after-seed@questevent.test");
+        user.setDepartment(Department.TECH);
+        user.setGender("NA");
+        user.setRole(Role.USER);
+
+        List<User> saved = userRepository.saveAllAndFlush(List.of(user));
+
+        assertThat(saved.get(0).getUserId()).isGreaterThan(maxSeeded);
+    }
+
+    private static long count(JdbcTemplate jdbc, String from) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + from, Long.class);
+    }
+}
@@ -0,0 +1,338 @@
+package com.questevent.service;
+
+import com.questevent.cache.PrerequisiteGraphCache;
+import com.questevent.dto.ActivityPrerequisitesDTO;
+import com.questevent.dto.ActivityProgressRow;
+import com.questevent.dto.ActivityUnlockStatusDTO;
+import com.questevent.dto.PrerequisiteEdge;
+import com.questevent.entity.Activity;
+import com.questevent.entity.ActivityPrerequisite;
+import com.questevent.entity.Program;
+import com.questevent.enums.CompletionStatus;
+import com.questevent.enums.ReviewStatus;
+import com.questevent.exception.InvalidOperationException;
+import com.questevent.exception.ProgramNotFoundException;
+import com.questevent.exception.ResourceConflictException;
+import com.questevent.repository.ActivityPrerequisiteRepository;
+import com.questevent.repository.ActivityRegistrationRepository;
+import com.questevent.repository.ActivityRepository;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.utils.SecurityUserResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityPrerequisiteServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ActivityPrerequisiteRepository prerequisiteRepository;
+
+    @Mock
+    private ActivityRepository activityRepository;
+
+    @Mock
+    private ActivityRegistrationRepository activityRegistrationRepository;
+
+    @Mock
+    private ProgramRepository programRepository;
+
+    @Mock
+    private SecurityUserResolver securityUserResolver;
+
+    private ActivityPrerequisiteService service;
+
+    private Program program;
+    private Activity onboarding;
+    private Activity basics;
+    private Activity advanced;
+
+    @BeforeEach
+    void setup() {
+        service = new ActivityPrerequisiteService(
+                prerequisiteRepository,
+                activityRepository,
+                activityRegistrationRepository,
+                programRepository,
+                new PrerequisiteGraphCache(true, Duration.ofMinutes(10)),
+                securityUserResolver
+        );
+
+        program = new Program();
+        program.setProgramId(UUID.randomUUID());
+
+        onboarding = activity("Onboarding", true);
+        basics = activity("Basics", false);
+        advanced = activity("Advanced", false);
+    }
+
+    @Test
+    void checkEligibility_compulsoryNotRegistered_throws() {
+        stubGraph(List.of());
+        stubProgress(List.of());
+
+        assertThatThrownBy(() -> service.checkEligibility(basics, USER_ID))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessage("Register for compulsory activity 'Onboarding' before registering for this activity");
+    }
+
+    @Test
+    void checkEligibility_compulsoryNotCompleted_throws() {
+        stubGraph(List.of());
+        stubProgress(List.of(row(onboarding, CompletionStatus.NOT_COMPLETED, null)));
+
+        assertThatThrownBy(() -> service.checkEligibility(basics, USER_ID))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessage("Complete compulsory activity 'Onboarding' before registering for this activity");
+    }
+
+    @Test
+    void checkEligibility_compulsoryPendingReview_throws() {
+        stubGraph(List.of());
+        stubProgress(List.of(row(onboarding, CompletionStatus.COMPLETED, ReviewStatus.PENDING)));
+
+        assertThatThrownBy(() -> service.checkEligibility(basics, USER_ID))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessage("Compulsory activity 'Onboarding' must be approved by a judge before registering for this activity");
+    }
+
+    @Test
+    void checkEligibility_explicitPrerequisiteMissing_throws() {
+        stubGraph(List.of(edge(advanced, basics)));
+        stubProgress(List.of(row(onboarding, CompletionStatus.COMPLETED, ReviewStatus.APPROVED)));
+
+        assertThatThrownBy(() -> service.checkEligibility(advanced, USER_ID))
+                .isInstanceOf(InvalidOperationException.class)
+                .hasMessage("Register for prerequisite activity 'Basics' before registering for this activity");
+    }
+
+    @Test
+    void checkEligibility_allApproved_passes() {
+        stubGraph(List.of(edge(advanced, basics)));
+        stubProgress(List.of(
+                row(onboarding, CompletionStatus.COMPLETED, ReviewStatus.APPROVED),
+                row(basics, CompletionStatus.COMPLETED, ReviewStatus.APPROVED)
+        ));
+
+        assertThatCode(() -> service.checkEligibility(advanced, USER_ID))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void checkEligibility_noPrerequisites_skipsProgressQuery() {
+        stubGraph(List.of());
+
+        service.checkEligibility(onboarding, USER_ID);
+
+        verifyNoInteractions(activityRegistrationRepository);
+    }
+
+    @Test
+    void checkEligibility_compilesGraphOncePerProgram() {
+        stubGraph(List.of());
+        stubProgress(List.of(row(onboarding, CompletionStatus.COMPLETED, ReviewStatus.APPROVED)));
+
+        service.checkEligibility(basics, USER_ID);
+        service.checkEligibility(advanced, USER_ID);
+
+        verify(activityRepository, times(1)).findByProgram_ProgramId(program.getProgramId());
+        verify(prerequisiteRepository, times(1)).findEdgesByProgramId(program.getProgramId());
+    }
+
+    @Test
+    void getUnlockStatus_reportsMissingPrerequisites() {
+        when(programRepository.findById(program.getProgramId())).thenReturn(Optional.of(program));
+        stubGraph(List.of(edge(advanced, basics)));
+        stubProgress(List.of(row(onboarding, CompletionStatus.COMPLETED, ReviewStatus.APPROVED)));
+
+        List<ActivityUnlockStatusDTO> statuses =
+                service.getUnlockStatus(program.getProgramId(), USER_ID);
+
+        assertThat(statuses).hasSize(3);
+
+        ActivityUnlockStatusDTO basicsStatus = statuses.get(1);
+        assertThat(basicsStatus.unlocked()).isTrue();
+        assertThat(basicsStatus.approved()).isFalse();
+
+        ActivityUnlockStatusDTO advancedStatus = statuses.get(2);
+        assertThat(advancedStatus.unlocked()).isFalse();
+        assertThat(advancedStatus.missingPrerequisiteIds()).containsExactly(basics.getActivityId());
+    }
+
+    @Test
+    void getUnlockStatus_programNotFound_throws() {
+        when(programRepository.findById(program.getProgramId())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getUnlockStatus(program.getProgramId(), USER_ID))
+                .isInstanceOf(ProgramNotFoundException.class);
+    }
+
+    @Test
+    void setPrerequisites_rejectsCycle() {
+        stubProgramLock();
+        when(activityRepository.findById(basics.getActivityId())).thenReturn(Optional.of(basics));
+        stubGraph(List.of(edge(advanced, basics)));
+
+        List<UUID> prerequisites = List.of(advanced.getActivityId());
+        UUID programId = program.getProgramId();
+        UUID activityId = basics.getActivityId();
+
+        assertThatThrownBy(() -> service.setPrerequisites(programId, activityId, prerequisites))
+                .isInstanceOf(ResourceConflictException.class);
+
+        verify(prerequisiteRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void setPrerequisites_compulsoryRequiringOptional_throws() {
+        stubProgramLock();
+        when(activityRepository.findById(onboarding.getActivityId())).thenReturn(Optional.of(onboarding));
+        stubGraph(List.of());
+
+        List<UUID> prerequisites = List.of(basics.getActivityId());
+        UUID programId = program.getProgramId();
+        UUID activityId = onboarding.getActivityId();
+
+        assertThatThrownBy(() -> service.setPrerequisites(programId, activityId, prerequisites))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void setPrerequisites_selfReference_throws() {
+        stubProgramLock();
+        when(activityRepository.findById(basics.getActivityId())).thenReturn(Optional.of(basics));
+        stubGraph(List.of());
+
+        List<UUID> prerequisites = List.of(basics.getActivityId());
+        UUID programId = program.getProgramId();
+        UUID activityId = basics.getActivityId();
+
+        assertThatThrownBy(() -> service.setPrerequisites(programId, activityId, prerequisites))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("An activity cannot be its own prerequisite");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void setPrerequisites_appliesDiff() {
+        Activity extra = activity("Extra", false);
+        stubProgramLock();
+        when(activityRepository.findById(advanced.getActivityId())).thenReturn(Optional.of(advanced));
+        when(activityRepository.findByProgram_ProgramId(program.getProgramId()))
+                .thenReturn(List.of(onboarding, basics, advanced, extra));
+        when(prerequisiteRepository.findEdgesByProgramId(program.getProgramId()))
+                .thenReturn(List.of(edge(advanced, extra)));
+        when(activityRepository.getReferenceById(basics.getActivityId())).thenReturn(basics);
+
+        ActivityPrerequisite existing = new ActivityPrerequisite();
+        existing.setActivity(advanced);
+        existing.setPrerequisite(extra);
+        when(prerequisiteRepository.findByActivity_ActivityId(advanced.getActivityId()))
+                .thenReturn(List.of(existing));
+
+        ActivityPrerequisitesDTO result = service.setPrerequisites(
+                program.getProgramId(),
+                advanced.getActivityId(),
+                List.of(basics.getActivityId())
+        );
+
+        assertThat(result.prerequisiteActivityIds()).containsExactly(basics.getActivityId());
+
+        ArgumentCaptor<List<ActivityPrerequisite>> removed = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<ActivityPrerequisite>> added = ArgumentCaptor.forClass(List.class);
+        verify(prerequisiteRepository).deleteAll(removed.capture());
+        verify(prerequisiteRepository).saveAll(added.capture());
+
+        assertThat(removed.getValue()).containsExactly(existing);
+        assertThat(added.getValue()).singleElement()
+                .satisfies(edge -> assertThat(edge.getPrerequisite()).isSameAs(basics));
+
+        // the program row is locked before the graph the cycle check reads
+        InOrder order = inOrder(programRepository, prerequisiteRepository);
+        order.verify(programRepository).findByIdForUpdate(program.getProgramId());
+        order.verify(prerequisiteRepository).findEdgesByProgramId(program.getProgramId());
+    }
+
+    @Test
+    void setPrerequisites_programNotFound_throws() {
+        when(programRepository.findByIdForUpdate(program.getProgramId())).thenReturn(Optional.empty());
+
+        List<UUID> prerequisites = List.of(basics.getActivityId());
+        UUID programId = program.getProgramId();
+        UUID activityId = advanced.getActivityId();
+
+        assertThatThrownBy(() -> service.setPrerequisites(programId, activityId, prerequisites))
+                .isInstanceOf(ProgramNotFoundException.class);
+
+        verifyNoInteractions(prerequisiteRepository);
+    }
+
+    @Test
+    void validateCompulsoryChange_prerequisiteOfCompulsory_throws() {
+        stubProgramLock();
+        when(prerequisiteRepository.existsByPrerequisite_ActivityIdAndActivity_IsCompulsoryTrue(
+                onboarding.getActivityId())).thenReturn(true);
+
+        assertThatThrownBy(() -> service.validateCompulsoryChange(onboarding, false))
+                .isInstanceOf(ResourceConflictException.class);
+    }
+
+    @Test
+    void validateCompulsoryChange_unchanged_skipsChecks() {
+        service.validateCompulsoryChange(basics, false);
+
+        verifyNoInteractions(prerequisiteRepository, programRepository);
+    }
+
+    private void stubProgramLock() {
+        when(programRepository.findByIdForUpdate(program.getProgramId())).thenReturn(Optional.of(program));
+    }
+
+    private void stubGraph(List<PrerequisiteEdge> edges) {
+        when(activityRepository.findByProgram_ProgramId(program.getProgramId()))
+                .thenReturn(List.of(onboarding, basics, advanced));
+        when(prerequisiteRepository.findEdgesByProgramId(program.getProgramId()))
+                .thenReturn(edges);
+    }
+
+    private void stubProgress(List<ActivityProgressRow> rows) {
+        when(activityRegistrationRepository.findProgressByProgramIdAndUserId(program.getProgramId(), USER_ID))
+                .thenReturn(rows);
+    }
+
+    private Activity activity(String name, boolean compulsory) {
+        Activity activity = new Activity();
+        activity.setActivityId(UUID.randomUUID());
+        activity.setActivityName(name);
+        activity.setIsCompulsory(compulsory);
+        activity.setProgram(program);
+        return activity;
+    }
+
+    private static ActivityProgressRow row(
+            Activity activity,
+            CompletionStatus completionStatus,
+            ReviewStatus reviewStatus
+    ) {
+        return new ActivityProgressRow(activity.getActivityId(), completionStatus, reviewStatus);
+    }
+
+    private static PrerequisiteEdge edge(Activity activity, Activity prerequisite) {
+        return new PrerequisiteEdge(activity.getActivityId(), prerequisite.getActivityId());
+    }
+}
@@ -3,15 +3,14 @@ package com.questevent.service;
 import com.questevent.dto.*;
 import com.questevent.entity.Activity;
 import com.questevent.entity.ActivityRegistration;
-import com.questevent.entity.ActivitySubmission;
 import com.questevent.entity.Program;
 import com.questevent.entity.User;
+import com.questevent.enums.BulkEnrollmentStatus;
 import com.questevent.enums.CompletionStatus;
-import com.questevent.enums.ReviewStatus;
+import com.questevent.enums.Department;
 import com.questevent.exception.*;
 import com.questevent.repository.ActivityRegistrationRepository;
 import com.questevent.repository.ActivityRepository;
-import com.questevent.repository.ActivitySubmissionRepository;
 import com.questevent.repository.UserRepository;
 import com.questevent.utils.SecurityUserResolver;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,8 +20,10 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,11 +36,14 @@ class ActivityRegistrationServiceTest {
     private ActivityRepository activityRepository;
 
     @Mock
-    private ActivitySubmissionRepository activitySubmissionRepository;
+    private ActivityPrerequisiteService activityPrerequisiteService;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private BulkEnrollmentSupport bulkEnrollmentSupport;
+
     @Mock
     private SecurityUserResolver securityUserResolver;
 
@@ -123,23 +127,15 @@ class ActivityRegistrationServiceTest {
     }
 
     @Test
-    void compulsoryActivityNotRegistered_throwsException() {
+    void prerequisiteNotMet_blocksRegistration() {
         activity.setIsCompulsory(false);
 
-        Activity compulsory = new Activity();
-        compulsory.setActivityId(UUID.randomUUID());
-        compulsory.setActivityName("Mandatory Task");
-
         when(securityUserResolver.getCurrentUser()).thenReturn(user);
         when(activityRepository.findById(activity.getActivityId()))
                 .thenReturn(Optional.of(activity));
-        when(activityRepository
-                .findByProgram_ProgramIdAndIsCompulsoryTrue(program.getProgramId()))
-                .thenReturn(List.of(compulsory));
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserId(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(false);
+        doThrow(new InvalidOperationException(
+                "Register for compulsory activity 'Mandatory Task' before registering for this activity"))
+                .when(activityPrerequisiteService).checkEligibility(activity, user.getUserId());
 
         assertThatThrownBy(() ->
                 service.registerParticipantForActivity(
@@ -147,141 +143,17 @@ class ActivityRegistrationServiceTest {
                 ))
                 .isInstanceOf(InvalidOperationException.class)
                 .hasMessageContaining("Register for compulsory activity");
-    }
-
-    @Test
-    void compulsoryActivityNotCompleted_throwsException() {
-        activity.setIsCompulsory(false);
-
-        Activity compulsory = new Activity();
-        compulsory.setActivityId(UUID.randomUUID());
-        compulsory.setActivityName("Mandatory Task");
-
-        when(securityUserResolver.getCurrentUser()).thenReturn(user);
-        when(activityRepository.findById(activity.getActivityId()))
-                .thenReturn(Optional.of(activity));
-        when(activityRepository
-                .findByProgram_ProgramIdAndIsCompulsoryTrue(program.getProgramId()))
-                .thenReturn(List.of(compulsory));
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserId(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(true);
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserIdAndCompletionStatus(
-                        compulsory.getActivityId(), user.getUserId(), CompletionStatus.COMPLETED))
-                .thenReturn(false);
-
-        assertThatThrownBy(() ->
-                service.registerParticipantForActivity(
-                        new ActivityRegistrationRequestDTO(activity.getActivityId())
-                ))
-                .isInstanceOf(InvalidOperationException.class)
-                .hasMessageContaining("Complete compulsory activity");
-    }
-
-    @Test
-    void compulsoryActivityNotApproved_throwsException() {
-        activity.setIsCompulsory(false);
-
-        Activity compulsory = new Activity();
-        compulsory.setActivityId(UUID.randomUUID());
-        compulsory.setActivityName("Mandatory Task");
-
-        when(securityUserResolver.getCurrentUser()).thenReturn(user);
-        when(activityRepository.findById(activity.getActivityId()))
-                .thenReturn(Optional.of(activity));
-        when(activityRepository
-                .findByProgram_ProgramIdAndIsCompulsoryTrue(program.getProgramId()))
-                .thenReturn(List.of(compulsory));
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserId(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(true);
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserIdAndCompletionStatus(
-                        compulsory.getActivityId(), user.getUserId(), CompletionStatus.COMPLETED))
-                .thenReturn(true);
-        when(activitySubmissionRepository
-                .findUserSubmissionForActivity(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(Optional.empty());
-
-        assertThatThrownBy(() ->
-                service.registerParticipantForActivity(
-                        new ActivityRegistrationRequestDTO(activity.getActivityId())
-                ))
-                .isInstanceOf(InvalidOperationException.class)
-                .hasMessageContaining("must be approved by a judge");
-    }
-
-    @Test
-    void compulsoryActivitySubmissionPending_throwsException() {
-        activity.setIsCompulsory(false);
-
-        Activity compulsory = new Activity();
-        compulsory.setActivityId(UUID.randomUUID());
-        compulsory.setActivityName("Mandatory Task");
-
-        ActivitySubmission submission = new ActivitySubmission();
-        submission.setReviewStatus(ReviewStatus.PENDING);
-
-        when(securityUserResolver.getCurrentUser()).thenReturn(user);
-        when(activityRepository.findById(activity.getActivityId()))
-                .thenReturn(Optional.of(activity));
-        when(activityRepository
-                .findByProgram_ProgramIdAndIsCompulsoryTrue(program.getProgramId()))
-                .thenReturn(List.of(compulsory));
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserId(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(true);
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserIdAndCompletionStatus(
-                        compulsory.getActivityId(), user.getUserId(), CompletionStatus.COMPLETED))
-                .thenReturn(true);
-        when(activitySubmissionRepository
-                .findUserSubmissionForActivity(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(Optional.of(submission));
 
-        assertThatThrownBy(() ->
-                service.registerParticipantForActivity(
-                        new ActivityRegistrationRequestDTO(activity.getActivityId())
-                ))
-                .isInstanceOf(InvalidOperationException.class)
-                .hasMessageContaining("must be approved by a judge");
+        verify(activityRegistrationRepository, never()).save(any());
     }
 
     @Test
-    void compulsoryActivityApproved_allowsRegistration() {
+    void prerequisitesMet_allowsRegistration() {
         activity.setIsCompulsory(false);
 
-        Activity compulsory = new Activity();
-        compulsory.setActivityId(UUID.randomUUID());
-        compulsory.setActivityName("Mandatory Task");
-
-        ActivitySubmission submission = new ActivitySubmission();
-        submission.setReviewStatus(ReviewStatus.APPROVED);
-
         when(securityUserResolver.getCurrentUser()).thenReturn(user);
         when(activityRepository.findById(activity.getActivityId()))
                 .thenReturn(Optional.of(activity));
-        when(activityRepository
-                .findByProgram_ProgramIdAndIsCompulsoryTrue(program.getProgramId()))
-                .thenReturn(List.of(compulsory));
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserId(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(true);
-        when(activityRegistrationRepository
-                .existsByActivity_ActivityIdAndUser_UserIdAndCompletionStatus(
-                        compulsory.getActivityId(), user.getUserId(), CompletionStatus.COMPLETED))
-                .thenReturn(true);
-        when(activitySubmissionRepository
-                .findUserSubmissionForActivity(
-                        compulsory.getActivityId(), user.getUserId()))
-                .thenReturn(Optional.of(submission));
         when(activityRegistrationRepository
                 .existsByActivity_ActivityIdAndUser_UserId(activity.getActivityId(), user.getUserId()))
                 .thenReturn(false);
@@ -294,18 +166,21 @@ class ActivityRegistrationServiceTest {
                 );
 
         assertThat(response.getActivityId()).isEqualTo(activity.getActivityId());
-        assertThat(response.getUserId()).isEqualTo(user.getUserId());
+        verify(activityPrerequisiteService).checkEligibility(activity, user.getUserId());
     }
 
     @Test
     void getRegistrationById_success() {
-        ActivityRegistration registration = new ActivityRegistration();
-        registration.setActivityRegistrationId(UUID.randomUUID());
-        registration.setActivity(activity);
-        registration.setUser(user);
-        registration.setCompletionStatus(CompletionStatus.NOT_COMPLETED);
-
-        when(activityRegistrationRepository.findById(registration.getActivityRegistrationId()))
+        ActivityRegistrationDTO registration = new ActivityRegistrationDTO(
+                UUID.randomUUID(),
+                activity.getActivityId(),
+                activity.getActivityName(),
+                user.getUserId(),
+                user.getName(),
+                CompletionStatus.NOT_COMPLETED
+        );
+
+        when(activityRegistrationRepository.findDtoById(registration.getActivityRegistrationId()))
                 .thenReturn(Optional.of(registration));
 
         ActivityRegistrationDTO dto =
@@ -314,9 +189,29 @@ class ActivityRegistrationServiceTest {
         assertThat(dto.getUserId()).isEqualTo(user.getUserId());
     }
 
+    @Test
+    void getRegistrationsByActivityIdAndStatus_returnsProjection() {
+        ActivityRegistrationDTO registration = new ActivityRegistrationDTO(
+                UUID.randomUUID(),
+                activity.getActivityId(),
+                activity.getActivityName(),
+                user.getUserId(),
+                user.getName(),
+                CompletionStatus.COMPLETED
+        );
+
+        when(activityRegistrationRepository.findDtosByActivityIdAndStatus(
+                activity.getActivityId(), CompletionStatus.COMPLETED))
+                .thenReturn(List.of(registration));
+
+        assertThat(service.getRegistrationsByActivityIdAndStatus(
+                activity.getActivityId(), CompletionStatus.COMPLETED))
+                .containsExactly(registration);
+    }
+
     @Test
     void getRegistrationById_notFound() {
-        when(activityRegistrationRepository.findById(any()))
+        when(activityRegistrationRepository.findDtoById(any()))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() ->
@@ -331,7 +226,7 @@ class ActivityRegistrationServiceTest {
         registration.setActivity(activity);
         registration.setUser(user);
 
-        when(activityRegistrationRepository.findById(any()))
+        when(activityRegistrationRepository.findWithActivityAndUserByActivityRegistrationId(any()))
                 .thenReturn(Optional.of(registration));
         when(activityRegistrationRepository.save(any()))
                 .thenAnswer(inv -> inv.getArgument(0));
@@ -418,5 +313,49 @@ class ActivityRegistrationServiceTest {
                 .isInstanceOf(UserNotFoundException.class);
     }
 
-}
+    @Test
+    @SuppressWarnings("unchecked")
+    void addParticipantsToActivity_insertsOnlyNewRegistrations() {
+
+        UUID activityId = activity.getActivityId();
+        BulkEnrollmentRequestDTO request =
+                new BulkEnrollmentRequestDTO(null, Department.TECH);
+
+        when(activityRepository.findById(activityId)).thenReturn(Optional.of(activity));
+        when(bulkEnrollmentSupport.resolveUserIds(request)).thenReturn(List.of(1L, 2L));
+        when(bulkEnrollmentSupport.findExistingUserIds(List.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(activityRegistrationRepository.findRegisteredUserIds(activityId, List.of(1L, 2L)))
+                .thenReturn(List.of(1L));
+        when(userRepository.getReferenceById(2L)).thenReturn(user);
+        doAnswer(inv -> {
+            inv.<Consumer<List<Long>>>getArgument(1).accept(inv.getArgument(0));
+            return null;
+        }).when(bulkEnrollmentSupport).insertInBatches(anyList(), any());
+        when(bulkEnrollmentSupport.summarize(anyList(), anySet(), anyCollection()))
+                .thenCallRealMethod();
+
+        BulkEnrollmentResultDTO result = service.addParticipantsToActivity(activityId, request);
+
+        ArgumentCaptor<List<ActivityRegistration>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityRegistrationRepository).saveAll(captor.capture());
+
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getActivity()).isSameAs(activity);
+        assertThat(result.enrolled()).isEqualTo(1);
+        assertThat(result.results().get(0).status())
+                .isEqualTo(BulkEnrollmentStatus.ALREADY_REGISTERED);
+        verify(activityRegistrationRepository, never()).save(any());
+    }
+
+    @Test
+    void addParticipantsToActivity_activityNotFound() {
 
+        UUID activityId = UUID.randomUUID();
+        when(activityRepository.findById(activityId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.addParticipantsToActivity(
+                activityId, new BulkEnrollmentRequestDTO(List.of(1L), null)))
+                .isInstanceOf(ActivityNotFoundException.class);
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.questevent.service;
 
+import com.questevent.dto.ActivityProgressRow;
 import com.questevent.dto.ActivityRequestDTO;
 import com.questevent.dto.ActivityWithRegistrationStatusDTO;
+import com.questevent.dto.ContentVersion;
+import com.questevent.dto.ProgramContentVersion;
 import com.questevent.entity.Activity;
 import com.questevent.entity.Program;
 import com.questevent.entity.User;
@@ -9,21 +12,26 @@ import com.questevent.enums.CompletionStatus;
 import com.questevent.exception.ActivityNotFoundException;
 import com.questevent.exception.ProgramNotFoundException;
 import com.questevent.exception.ResourceConflictException;
+import com.questevent.repository.ActivityRegistrationRepository;
 import com.questevent.repository.ActivityRepository;
 import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramSearchIndex;
 import com.questevent.utils.SecurityUserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ActivityServiceTest {
@@ -40,6 +48,14 @@ class ActivityServiceTest {
     @Mock
     private SecurityUserResolver securityUserResolver;
 
+    @Mock
+    private ActivityPrerequisiteService activityPrerequisiteService;
+
+    @Mock
+    private ProgramSearchIndex programSearchIndex;
+
+    @Mock
+    private ActivityRegistrationRepository activityRegistrationRepository;
 
     @BeforeEach
     void setUp() {
@@ -135,6 +151,8 @@ class ActivityServiceTest {
         assertEquals("New Name", result.getActivityName());
         assertEquals(200, result.getRewardGems());
         verify(activityRepository, times(1)).save(any(Activity.class));
+        verify(activityPrerequisiteService).validateCompulsoryChange(existingActivity, null);
+        verify(activityPrerequisiteService).evictProgram(programId);
     }
 
     @Test
@@ -195,10 +213,10 @@ class ActivityServiceTest {
         Activity activity2 = new Activity();
         activity2.setActivityId(UUID.randomUUID());
 
-        when(programRepository.existsById(programId))
-                .thenReturn(true);
+        when(programRepository.findById(programId))
+                .thenReturn(Optional.of(new Program()));
 
-        when(activityRepository.findByProgram_ProgramId(programId))
+        when(activityRepository.findCurrentByProgram_ProgramId(programId))
                 .thenReturn(List.of(activity1, activity2));
 
         List<Activity> result =
@@ -206,8 +224,10 @@ class ActivityServiceTest {
 
         assertEquals(2, result.size());
 
-        verify(programRepository).existsById(programId);
-        verify(activityRepository).findByProgram_ProgramId(programId);
+        verify(programRepository).findById(programId);
+        verify(programRepository, never()).existsById(any());
+        verify(activityRepository).findCurrentByProgram_ProgramId(programId);
+        verify(activityRepository, never()).findByProgram_ProgramId(any());
     }
 
     @Test
@@ -228,7 +248,9 @@ class ActivityServiceTest {
         assertDoesNotThrow(() ->
                 activityService.deleteActivity(programId, activityId));
 
-        verify(activityRepository).delete(activity);
+        InOrder order = inOrder(activityPrerequisiteService, activityRepository);
+        order.verify(activityPrerequisiteService).lockProgram(programId);
+        order.verify(activityRepository).delete(activity);
     }
 
     @Test
@@ -292,7 +314,9 @@ class ActivityServiceTest {
                         CompletionStatus.NOT_COMPLETED
                 );
 
-        when(programRepository.existsById(programId)).thenReturn(true);
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+        when(programRepository.findContentVersion(programId))
+                .thenReturn(Optional.of(new ProgramContentVersion(changedAt, 1, changedAt)));
         when(securityUserResolver.getCurrentUser()).thenReturn(user);
         when(activityRepository.findActivitiesForUser(programId, userId))
                 .thenReturn(List.of(dto));
@@ -312,7 +336,7 @@ class ActivityServiceTest {
     void getActivitiesForUser_programNotFound() {
         UUID programId = UUID.randomUUID();
 
-        when(programRepository.existsById(programId)).thenReturn(false);
+        when(programRepository.findById(programId)).thenReturn(Optional.empty());
 
         assertThrows(
                 ProgramNotFoundException.class,
@@ -322,4 +346,93 @@ class ActivityServiceTest {
         verify(activityRepository, never())
                 .findActivitiesForUser(any(), any());
     }
+
+    @Test
+    void createActivity_bumpsProgramActivitiesVersion() {
+        UUID programId = UUID.randomUUID();
+        Program program = new Program();
+        program.setProgramId(programId);
+
+        ActivityRequestDTO dto = new ActivityRequestDTO();
+        dto.setActivityName("Test Activity");
+        dto.setRewardGems(100);
+        dto.setIsCompulsory(false);
+
+        when(programRepository.findById(programId)).thenReturn(Optional.of(program));
+        when(activityRepository.save(any(Activity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        activityService.createActivity(programId, dto);
+
+        verify(programRepository).bumpActivitiesVersion(eq(programId), any());
+    }
+
+    @Test
+    void deleteActivity_bumpsProgramActivitiesVersion() {
+        UUID programId = UUID.randomUUID();
+        UUID activityId = UUID.randomUUID();
+        Program program = new Program();
+        program.setProgramId(programId);
+        Activity activity = new Activity();
+        activity.setActivityId(activityId);
+        activity.setProgram(program);
+
+        when(activityRepository.findById(activityId)).thenReturn(Optional.of(activity));
+
+        activityService.deleteActivity(programId, activityId);
+
+        verify(programRepository).bumpActivitiesVersion(eq(programId), any());
+    }
+
+    @Test
+    void getActivitiesVersion_changesWithProgramActivitiesVersion() {
+        UUID programId = UUID.randomUUID();
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        when(programRepository.findContentVersion(programId))
+                .thenReturn(Optional.of(new ProgramContentVersion(changedAt, 3, changedAt)))
+                .thenReturn(Optional.of(new ProgramContentVersion(changedAt, 4, changedAt)));
+
+        ContentVersion before = activityService.getActivitiesVersion(programId);
+        ContentVersion after = activityService.getActivitiesVersion(programId);
+
+        assertEquals(changedAt, before.lastModified());
+        assertNotEquals(before.etag(), after.etag());
+        // the cached Program can lag a bump made on another instance
+        verify(programRepository, never()).findById(any());
+        verify(activityRepository, never()).findByProgram_ProgramId(any());
+    }
+
+    @Test
+    void getActivitiesVersion_fails_whenProgramNotFound() {
+        UUID programId = UUID.randomUUID();
+
+        when(programRepository.findContentVersion(programId)).thenReturn(Optional.empty());
+
+        assertThrows(
+                ProgramNotFoundException.class,
+                () -> activityService.getActivitiesVersion(programId)
+        );
+    }
+
+    @Test
+    void getActivitiesForUserVersion_changesWithUsersProgress() {
+        UUID programId = UUID.randomUUID();
+        UUID activityId = UUID.randomUUID();
+        Long userId = 7L;
+        User user = new User();
+        user.setUserId(userId);
+
+        when(programRepository.findById(programId)).thenReturn(Optional.of(new Program()));
+        when(securityUserResolver.getCurrentUser()).thenReturn(user);
+        when(activityRegistrationRepository.findProgressByProgramIdAndUserId(programId, userId))
+                .thenReturn(List.of(new ActivityProgressRow(activityId, CompletionStatus.NOT_COMPLETED, null)))
+                .thenReturn(List.of(new ActivityProgressRow(activityId, CompletionStatus.COMPLETED, null)));
+
+        ContentVersion registered = activityService.getActivitiesForUserVersion(programId);
+        ContentVersion completed = activityService.getActivitiesForUserVersion(programId);
+
+        assertNotEquals(registered.etag(), completed.etag());
+        assertNull(registered.lastModified());
+        verify(activityRepository, never()).findActivitiesForUser(any(), any());
+    }
 }
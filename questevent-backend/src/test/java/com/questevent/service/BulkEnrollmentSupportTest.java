@@ -0,0 +1,115 @@
+package com.questevent.service;
+
+import com.questevent.dto.BulkEnrollmentRequestDTO;
+import com.questevent.dto.BulkEnrollmentResultDTO;
+import com.questevent.enums.BulkEnrollmentStatus;
+import com.questevent.enums.Department;
+import com.questevent.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkEnrollmentSupportTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private BulkEnrollmentSupport support;
+
+    @BeforeEach
+    void setUp() {
+        support = new BulkEnrollmentSupport(userRepository, 2, 5);
+        ReflectionTestUtils.setField(support, "entityManager", entityManager);
+    }
+
+    @Test
+    void resolveUserIds_deduplicatesAndKeepsOrder() {
+
+        List<Long> userIds = support.resolveUserIds(
+                new BulkEnrollmentRequestDTO(List.of(3L, 1L, 3L, 2L), null));
+
+        assertThat(userIds).containsExactly(3L, 1L, 2L);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void resolveUserIds_loadsDepartment() {
+
+        when(userRepository.findUserIdsByDepartment(Department.HR)).thenReturn(List.of(7L, 8L));
+
+        assertThat(support.resolveUserIds(new BulkEnrollmentRequestDTO(null, Department.HR)))
+                .containsExactly(7L, 8L);
+    }
+
+    @Test
+    void resolveUserIds_rejectsNeitherOrBoth() {
+
+        assertThatThrownBy(() -> support.resolveUserIds(new BulkEnrollmentRequestDTO()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> support.resolveUserIds(
+                new BulkEnrollmentRequestDTO(List.of(1L), Department.HR)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void resolveUserIds_rejectsTooManyUsers() {
+
+        List<Long> userIds = LongStream.rangeClosed(1, 6).boxed().toList();
+
+        assertThatThrownBy(() -> support.resolveUserIds(
+                new BulkEnrollmentRequestDTO(userIds, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5");
+    }
+
+    @Test
+    void insertInBatches_flushesAndClearsPerChunk() {
+
+        List<List<Long>> chunks = new ArrayList<>();
+
+        support.insertInBatches(List.of(1L, 2L, 3L, 4L, 5L), chunk -> chunks.add(List.copyOf(chunk)));
+
+        assertThat(chunks).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void summarize_reportsStatusPerUser() {
+
+        BulkEnrollmentResultDTO result = support.summarize(
+                List.of(1L, 2L, 3L),
+                Set.of(1L, 2L),
+                Set.of(2L)
+        );
+
+        assertThat(result.requested()).isEqualTo(3);
+        assertThat(result.enrolled()).isEqualTo(1);
+        assertThat(result.alreadyRegistered()).isEqualTo(1);
+        assertThat(result.notFound()).isEqualTo(1);
+        assertThat(result.results())
+                .extracting(r -> r.status())
+                .containsExactly(
+                        BulkEnrollmentStatus.ENROLLED,
+                        BulkEnrollmentStatus.ALREADY_REGISTERED,
+                        BulkEnrollmentStatus.USER_NOT_FOUND
+                );
+    }
+}
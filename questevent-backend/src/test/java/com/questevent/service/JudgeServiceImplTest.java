@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.JudgeSubmissionDTO;
 import com.questevent.dto.UserPrincipal;
 import com.questevent.entity.*;
@@ -11,7 +12,10 @@ import com.questevent.exception.JudgeNotFoundException;
 import com.questevent.exception.SubmissionNotFoundException;
 import com.questevent.repository.ActivityRegistrationRepository;
 import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.repository.JudgeRepository;
 import com.questevent.repository.UserRepository;
+import com.questevent.utils.CursorPagination;
+import com.questevent.utils.SecurityUserResolver;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +23,7 @@ import org.junit.jupiter.api.function.Executable;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
@@ -45,6 +50,12 @@ class JudgeServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SecurityUserResolver securityUserResolver;
+
+    @Mock
+    private JudgeRepository judgeRepository;
+
     @InjectMocks
     private JudgeServiceImpl judgeService;
 
@@ -80,6 +91,72 @@ class JudgeServiceImplTest {
 //        assertEquals(ReviewStatus.PENDING, result.get(0).reviewStatus());
 //    }
 
+    /* ================= ALL SUBMISSIONS ================= */
+
+    @Test
+    void getAllSubmissionsForJudge_ownerShouldGetFirstPageAndCursor() {
+
+        User owner = new User();
+        owner.setUserId(1L);
+        owner.setRole(Role.OWNER);
+
+        ActivitySubmission first = mockSubmission(mockJudgeUser());
+        ActivitySubmission second = mockSubmission(mockJudgeUser());
+
+        when(securityUserResolver.getCurrentUser()).thenReturn(owner);
+        when(submissionRepository.findByOrderBySubmissionIdAsc(Limit.of(2)))
+                .thenReturn(List.of(first, second));
+
+        CursorPageDTO<JudgeSubmissionDTO> page =
+                judgeService.getAllSubmissionsForJudge(null, 1, null);
+
+        assertEquals(1, page.items().size());
+        assertEquals(first.getSubmissionId(), page.items().get(0).submissionId());
+        assertEquals(first.getSubmissionId(), CursorPagination.decodeUuid(page.nextCursor()));
+        verifyNoInteractions(judgeRepository);
+    }
+
+    @Test
+    void getAllSubmissionsForJudge_judgeShouldContinueAfterCursor() {
+
+        User judgeUser = mockJudgeUser();
+        ActivitySubmission submission = mockSubmission(judgeUser);
+        UUID after = UUID.randomUUID();
+
+        when(securityUserResolver.getCurrentUser()).thenReturn(judgeUser);
+        when(judgeRepository.existsByUserUserId(judgeUser.getUserId())).thenReturn(true);
+        when(submissionRepository
+                .findByActivityRegistrationActivityProgramJudgeUserUserIdAndSubmissionIdGreaterThanOrderBySubmissionIdAsc(
+                        judgeUser.getUserId(),
+                        after,
+                        Limit.of(51)
+                ))
+                .thenReturn(List.of(submission));
+
+        CursorPageDTO<JudgeSubmissionDTO> page = judgeService.getAllSubmissionsForJudge(
+                CursorPagination.encode(after), 50, null);
+
+        assertEquals(1, page.items().size());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void getAllSubmissionsForJudge_nonJudgeShouldGetEmptyPage() {
+
+        User user = new User();
+        user.setUserId(9L);
+        user.setRole(Role.USER);
+
+        when(securityUserResolver.getCurrentUser()).thenReturn(user);
+        when(judgeRepository.existsByUserUserId(9L)).thenReturn(false);
+
+        CursorPageDTO<JudgeSubmissionDTO> page =
+                judgeService.getAllSubmissionsForJudge(null, 50, null);
+
+        assertTrue(page.items().isEmpty());
+        assertNull(page.nextCursor());
+    }
+
     /* ================= REVIEW ================= */
 
     @Test
@@ -92,7 +169,7 @@ class JudgeServiceImplTest {
 
         UUID submissionId = submission.getSubmissionId();
 
-        when(submissionRepository.findById(submissionId))
+        when(submissionRepository.findWithReviewContextBySubmissionId(submissionId))
                 .thenReturn(Optional.of(submission));
 
         judgeService.reviewSubmission(submissionId);
@@ -117,7 +194,7 @@ class JudgeServiceImplTest {
 
         UUID submissionId = UUID.randomUUID();
 
-        when(submissionRepository.findById(submissionId))
+        when(submissionRepository.findWithReviewContextBySubmissionId(submissionId))
                 .thenReturn(Optional.empty());
 
         SubmissionNotFoundException ex = assertThrows(
@@ -139,7 +216,7 @@ class JudgeServiceImplTest {
 
         UUID submissionId = submission.getSubmissionId();
 
-        when(submissionRepository.findById(submissionId))
+        when(submissionRepository.findWithReviewContextBySubmissionId(submissionId))
                 .thenReturn(Optional.of(submission));
 
         Executable executable =
@@ -166,7 +243,7 @@ class JudgeServiceImplTest {
 
         UUID submissionId = submission.getSubmissionId();
 
-        when(submissionRepository.findById(submissionId))
+        when(submissionRepository.findWithReviewContextBySubmissionId(submissionId))
                 .thenReturn(Optional.of(submission));
 
         Executable executable =
@@ -195,7 +272,7 @@ class JudgeServiceImplTest {
 
         UUID submissionId = submission.getSubmissionId();
 
-        when(submissionRepository.findById(submissionId))
+        when(submissionRepository.findWithReviewContextBySubmissionId(submissionId))
                 .thenReturn(Optional.of(submission));
 
         Executable executable =
@@ -0,0 +1,115 @@
+package com.questevent.service;
+
+import com.questevent.dto.PrerequisiteEdge;
+import com.questevent.entity.Activity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PrerequisiteGraphTest {
+
+    private final UUID programId = UUID.randomUUID();
+
+    private Activity onboarding;
+    private Activity basics;
+    private Activity advanced;
+    private Activity expert;
+
+    @BeforeEach
+    void setup() {
+        onboarding = activity("Onboarding", true);
+        basics = activity("Basics", false);
+        advanced = activity("Advanced", false);
+        expert = activity("Expert", false);
+    }
+
+    @Test
+    void optionalActivity_requiresEveryCompulsoryActivity() {
+        PrerequisiteGraph graph = compile(List.of());
+
+        assertThat(graph.requires(basics.getActivityId(), onboarding.getActivityId())).isTrue();
+        assertThat(graph.requiredFor(onboarding.getActivityId())).isEmpty();
+    }
+
+    @Test
+    void requiredFor_includesTransitivePrerequisites() {
+        PrerequisiteGraph graph = compile(List.of(
+                edge(advanced, basics),
+                edge(expert, advanced)
+        ));
+
+        assertThat(graph.toIds(graph.requiredFor(expert.getActivityId())))
+                .containsExactlyInAnyOrder(
+                        onboarding.getActivityId(),
+                        basics.getActivityId(),
+                        advanced.getActivityId()
+                );
+        assertThat(graph.explicitPrerequisitesOf(expert.getActivityId()))
+                .containsExactly(advanced.getActivityId());
+    }
+
+    @Test
+    void requires_detectsWouldBeCycle() {
+        PrerequisiteGraph graph = compile(List.of(
+                edge(advanced, basics),
+                edge(expert, advanced)
+        ));
+
+        // basics -> expert would close expert -> advanced -> basics
+        assertThat(graph.requires(expert.getActivityId(), basics.getActivityId())).isTrue();
+        assertThat(graph.requires(basics.getActivityId(), expert.getActivityId())).isFalse();
+    }
+
+    @Test
+    void compile_toleratesCycleAndNeverRequiresItself() {
+        PrerequisiteGraph graph = compile(List.of(
+                edge(basics, advanced),
+                edge(advanced, basics)
+        ));
+
+        assertThat(graph.requires(basics.getActivityId(), basics.getActivityId())).isFalse();
+        assertThat(graph.requires(basics.getActivityId(), advanced.getActivityId())).isTrue();
+    }
+
+    @Test
+    void compile_ignoresEdgesOutsideProgram() {
+        PrerequisiteGraph graph = compile(List.of(
+                new PrerequisiteEdge(basics.getActivityId(), UUID.randomUUID())
+        ));
+
+        assertThat(graph.toIds(graph.requiredFor(basics.getActivityId())))
+                .containsExactly(onboarding.getActivityId());
+    }
+
+    @Test
+    void unknownActivity_throwsIllegalArgument() {
+        PrerequisiteGraph graph = compile(List.of());
+
+        assertThatThrownBy(() -> graph.requiredFor(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PrerequisiteGraph compile(List<PrerequisiteEdge> edges) {
+        return PrerequisiteGraph.compile(
+                programId,
+                List.of(onboarding, basics, advanced, expert),
+                edges
+        );
+    }
+
+    private static PrerequisiteEdge edge(Activity activity, Activity prerequisite) {
+        return new PrerequisiteEdge(activity.getActivityId(), prerequisite.getActivityId());
+    }
+
+    private static Activity activity(String name, boolean compulsory) {
+        Activity activity = new Activity();
+        activity.setActivityId(UUID.randomUUID());
+        activity.setActivityName(name);
+        activity.setIsCompulsory(compulsory);
+        return activity;
+    }
+}
@@ -0,0 +1,152 @@
+package com.questevent.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.questevent.dto.ProgramRegistrationExportRow;
+import com.questevent.dto.ProgramWalletExportRow;
+import com.questevent.dto.SubmissionExportRow;
+import com.questevent.enums.ExportFormat;
+import com.questevent.enums.ReviewStatus;
+import com.questevent.exception.ProgramNotFoundException;
+import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.repository.ProgramRegistrationRepository;
+import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramWalletRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramExportServiceTest {
+
+    private static final UUID PROGRAM_ID = UUID.randomUUID();
+
+    @Mock
+    private ProgramRepository programRepository;
+
+    @Mock
+    private ProgramRegistrationRepository programRegistrationRepository;
+
+    @Mock
+    private ActivitySubmissionRepository submissionRepository;
+
+    @Mock
+    private ProgramWalletRepository programWalletRepository;
+
+    private ProgramExportService service;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        service = new ProgramExportService(
+                programRepository,
+                programRegistrationRepository,
+                submissionRepository,
+                programWalletRepository,
+                objectMapper
+        );
+    }
+
+    @Test
+    void requireProgram_shouldThrow_whenProgramMissing() {
+        when(programRepository.existsById(PROGRAM_ID)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.requireProgram(PROGRAM_ID))
+                .isInstanceOf(ProgramNotFoundException.class);
+    }
+
+    @Test
+    void exportRegistrations_ndjson_shouldWriteOneObjectPerLineAndCloseStream() {
+
+        AtomicBoolean closed = new AtomicBoolean();
+        Instant registeredAt = Instant.parse("2026-01-01T10:00:00Z");
+
+        when(programRegistrationRepository.streamExportByProgramId(PROGRAM_ID))
+                .thenReturn(Stream.of(
+                        new ProgramRegistrationExportRow(UUID.randomUUID(), 1L, "Ann", "ann@test.com", registeredAt),
+                        new ProgramRegistrationExportRow(UUID.randomUUID(), 2L, "Bob", "bob@test.com", registeredAt)
+                ).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = service.exportRegistrations(PROGRAM_ID, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"userEmail\":\"ann@test.com\"")
+                .contains("\"registeredAt\":\"2026-01-01T10:00:00Z\"");
+        assertThat(lines[1]).contains("\"userId\":2");
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("}\n");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void exportSubmissions_csv_shouldWriteHeaderAndEscapeValues() {
+
+        UUID submissionId = UUID.randomUUID();
+        UUID activityId = UUID.randomUUID();
+
+        when(submissionRepository.streamExportByProgramId(PROGRAM_ID))
+                .thenReturn(Stream.of(new SubmissionExportRow(
+                        submissionId,
+                        activityId,
+                        "Quiz, \"final\"",
+                        7L,
+                        "=HYPERLINK(\"x\")",
+                        "http://link",
+                        ReviewStatus.APPROVED,
+                        50L,
+                        Instant.parse("2026-01-01T10:00:00Z"),
+                        null
+                )));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.exportSubmissions(PROGRAM_ID, ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines[0]).isEqualTo(
+                "submissionId,activityId,activityName,userId,userName,submissionUrl,"
+                        + "reviewStatus,awardedGems,submittedAt,reviewedAt");
+        assertThat(lines[1]).isEqualTo(
+                submissionId + "," + activityId + ",\"Quiz, \"\"final\"\"\",7,"
+                        + "\"'=HYPERLINK(\"\"x\"\")\",http://link,APPROVED,50,2026-01-01T10:00:00Z,");
+    }
+
+    @Test
+    void exportWallets_csv_shouldWriteOnlyHeader_whenProgramHasNoWallets() {
+
+        when(programWalletRepository.streamExportByProgramId(PROGRAM_ID))
+                .thenReturn(Stream.<ProgramWalletExportRow>empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = service.exportWallets(PROGRAM_ID, ExportFormat.CSV, out);
+
+        assertThat(rows).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("programWalletId,userId,userName,userEmail,gems\n");
+    }
+
+    @Test
+    void escapeCsv_shouldLeaveNumbersAlone() {
+        assertThat(ExportRowWriter.escapeCsv(-5L)).isEqualTo("-5");
+        assertThat(ExportRowWriter.escapeCsv("-5")).isEqualTo("'-5");
+    }
+}
@@ -1,17 +1,23 @@
 package com.questevent.service;
 
 import com.questevent.dto.AddParticipantInProgramRequestDTO;
+import com.questevent.dto.BulkEnrollmentRequestDTO;
+import com.questevent.dto.BulkEnrollmentResultDTO;
+import com.questevent.dto.ProgramRegistrationDTO;
 import com.questevent.dto.ProgramRegistrationRequestDTO;
 import com.questevent.dto.ProgramRegistrationResponseDTO;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramRegistration;
+import com.questevent.entity.ProgramWallet;
 import com.questevent.entity.User;
+import com.questevent.enums.BulkEnrollmentStatus;
 import com.questevent.exception.ProgramNotFoundException;
 import com.questevent.exception.ResourceConflictException;
 import com.questevent.exception.ResourceNotFoundException;
 import com.questevent.exception.UserNotFoundException;
 import com.questevent.repository.ProgramRegistrationRepository;
 import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramWalletRepository;
 import com.questevent.repository.UserRepository;
 import com.questevent.utils.SecurityUserResolver;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,11 +25,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,6 +53,12 @@ class ProgramRegistrationServiceTest {
     @Mock
     private ProgramWalletService programWalletService;
 
+    @Mock
+    private ProgramWalletRepository programWalletRepository;
+
+    @Mock
+    private BulkEnrollmentSupport bulkEnrollmentSupport;
+
     @Mock
     private SecurityUserResolver securityUserResolver;
 
@@ -198,21 +213,25 @@ class ProgramRegistrationServiceTest {
     @Test
     void getAllRegistrations_success() {
 
-        ProgramRegistration reg = new ProgramRegistration();
-        reg.setProgram(program);
-        reg.setUser(user);
-        reg.setRegisteredAt(Instant.now());
+        ProgramRegistrationDTO reg = new ProgramRegistrationDTO(
+                UUID.randomUUID(),
+                program.getProgramId(),
+                program.getProgramTitle(),
+                user.getUserId(),
+                user.getName(),
+                Instant.now()
+        );
 
-        when(programRegistrationRepository.findAll())
+        when(programRegistrationRepository.findDtoPage(Limit.of(51)))
                 .thenReturn(List.of(reg));
 
-        assertThat(service.getAllRegistrations()).hasSize(1);
+        assertThat(service.getAllRegistrations(null, 50).items()).containsExactly(reg);
     }
 
     @Test
     void getRegistrationById_notFound() {
 
-        when(programRegistrationRepository.findById(any()))
+        when(programRegistrationRepository.findDtoById(any()))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() ->
@@ -258,4 +277,78 @@ class ProgramRegistrationServiceTest {
 
         assertThat(count).isEqualTo(5L);
     }
+
+    /* =========================================================
+       bulk enrollment
+       ========================================================= */
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void addParticipantsToProgram_skipsExistingAndBatchesInserts() {
+
+        UUID programId = program.getProgramId();
+        BulkEnrollmentRequestDTO request =
+                new BulkEnrollmentRequestDTO(List.of(1L, 2L, 3L, 4L), null);
+
+        when(programRepository.findById(programId)).thenReturn(Optional.of(program));
+        when(bulkEnrollmentSupport.resolveUserIds(request)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        when(bulkEnrollmentSupport.findExistingUserIds(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(Set.of(1L, 2L, 3L));
+        when(programRegistrationRepository.findRegisteredUserIds(programId, List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(2L));
+        when(programWalletRepository.findUserIdsWithWallet(programId, List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(3L));
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(inv -> {
+            User reference = new User();
+            reference.setUserId(inv.getArgument(0));
+            return reference;
+        });
+        doAnswer(inv -> {
+            inv.<Consumer<List<Long>>>getArgument(1).accept(inv.getArgument(0));
+            return null;
+        }).when(bulkEnrollmentSupport).insertInBatches(anyList(), any());
+        when(bulkEnrollmentSupport.summarize(anyList(), anySet(), anyCollection()))
+                .thenCallRealMethod();
+
+        BulkEnrollmentResultDTO result = service.addParticipantsToProgram(programId, request);
+
+        ArgumentCaptor<List<ProgramRegistration>> registrations = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<ProgramWallet>> wallets = ArgumentCaptor.forClass(List.class);
+        verify(programRegistrationRepository).saveAll(registrations.capture());
+        verify(programWalletRepository).saveAll(wallets.capture());
+
+        assertThat(registrations.getValue())
+                .extracting(r -> r.getUser().getUserId())
+                .containsExactly(1L, 3L);
+        assertThat(wallets.getValue())
+                .extracting(w -> w.getUser().getUserId())
+                .containsExactly(1L);
+        assertThat(wallets.getValue().get(0).getGems()).isZero();
+
+        assertThat(result.enrolled()).isEqualTo(2);
+        assertThat(result.alreadyRegistered()).isEqualTo(1);
+        assertThat(result.notFound()).isEqualTo(1);
+        assertThat(result.results())
+                .extracting(r -> r.status())
+                .containsExactly(
+                        BulkEnrollmentStatus.ENROLLED,
+                        BulkEnrollmentStatus.ALREADY_REGISTERED,
+                        BulkEnrollmentStatus.ENROLLED,
+                        BulkEnrollmentStatus.USER_NOT_FOUND
+                );
+        verify(programWalletService, never()).createWallet(anyLong(), any());
+    }
+
+    @Test
+    void addParticipantsToProgram_programNotFound() {
+
+        UUID programId = UUID.randomUUID();
+        when(programRepository.findById(programId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.addParticipantsToProgram(
+                programId, new BulkEnrollmentRequestDTO(List.of(1L), null)))
+                .isInstanceOf(ProgramNotFoundException.class);
+
+        verifyNoInteractions(bulkEnrollmentSupport);
+    }
 }
@@ -0,0 +1,106 @@
+package com.questevent.service;
+
+import com.questevent.dto.CursorPageDTO;
+import com.questevent.dto.ProgramSearchCriteria;
+import com.questevent.dto.ProgramSearchCursor;
+import com.questevent.dto.ProgramSearchHitDTO;
+import com.questevent.enums.Department;
+import com.questevent.enums.ProgramStatus;
+import com.questevent.repository.ProgramSearchIndex;
+import com.questevent.utils.CursorPagination;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramSearchServiceTest {
+
+    @Mock
+    private ProgramSearchIndex programSearchIndex;
+
+    @InjectMocks
+    private ProgramSearchService service;
+
+    @Test
+    void search_fetchesOneExtraRowAndEncodesRankCursor() {
+        ProgramSearchHitDTO first = hit(0.9f);
+        ProgramSearchHitDTO second = hit(0.5f);
+        ProgramSearchHitDTO extra = hit(0.1f);
+
+        when(programSearchIndex.search(any(), isNull(), eq(3)))
+                .thenReturn(List.of(first, second, extra));
+
+        CursorPageDTO<ProgramSearchHitDTO> page =
+                service.search("  hackathon ", Department.TECH, null, null, 2);
+
+        assertThat(page.items()).containsExactly(first, second);
+        assertThat(page.nextCursor()).isEqualTo(CursorPagination.encode("0.5:" + second.programId()));
+        verify(programSearchIndex).search(
+                new ProgramSearchCriteria("hackathon", Department.TECH, null), null, 3);
+    }
+
+    @Test
+    void search_decodesCursorIntoKeysetPosition() {
+        UUID programId = UUID.randomUUID();
+        String cursor = CursorPagination.encode(new ProgramSearchCursor(0.25f, programId));
+
+        when(programSearchIndex.search(any(), any(), anyInt())).thenReturn(List.of());
+
+        CursorPageDTO<ProgramSearchHitDTO> page =
+                service.search("hackathon", null, ProgramStatus.ACTIVE, cursor, 10);
+
+        assertThat(page.hasNext()).isFalse();
+        verify(programSearchIndex).search(
+                new ProgramSearchCriteria("hackathon", null, ProgramStatus.ACTIVE),
+                new ProgramSearchCursor(0.25f, programId),
+                11
+        );
+    }
+
+    @Test
+    void search_rejectsBlankQuery() {
+        assertThatThrownBy(() -> service.search(" ", null, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(programSearchIndex);
+    }
+
+    @Test
+    void search_rejectsOverlongQuery() {
+        String query = "a".repeat(ProgramSearchService.MAX_QUERY_LENGTH + 1);
+
+        assertThatThrownBy(() -> service.search(query, null, null, null, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void search_rejectsTamperedCursor() {
+        String cursor = CursorPagination.encode(UUID.randomUUID());
+
+        assertThatThrownBy(() -> service.search("hackathon", null, null, cursor, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    private static ProgramSearchHitDTO hit(float rank) {
+        return new ProgramSearchHitDTO(
+                UUID.randomUUID(),
+                "Program",
+                null,
+                Department.TECH,
+                ProgramStatus.ACTIVE,
+                rank
+        );
+    }
+}
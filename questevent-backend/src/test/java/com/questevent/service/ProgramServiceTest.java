@@ -1,6 +1,12 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
+import com.questevent.dto.ContentVersion;
+import com.questevent.dto.CursorPageDTO;
+import com.questevent.dto.ProgramContentVersion;
 import com.questevent.dto.ProgramRequestDTO;
+import com.questevent.dto.ProgramRowVersion;
+import com.questevent.dto.ProgramSetVersion;
 import com.questevent.entity.Judge;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramRegistration;
@@ -13,7 +19,9 @@ import com.questevent.exception.UserNotFoundException;
 import com.questevent.repository.JudgeRepository;
 import com.questevent.repository.ProgramRegistrationRepository;
 import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramSearchIndex;
 import com.questevent.repository.UserRepository;
+import com.questevent.utils.CursorPagination;
 import com.questevent.utils.SecurityUserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,8 +29,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.access.AccessDeniedException;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -48,6 +58,12 @@ class ProgramServiceTest {
     @Mock
     private SecurityUserResolver securityUserResolver;
 
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
+    @Mock
+    private ProgramSearchIndex programSearchIndex;
+
     @InjectMocks
     private ProgramService service;
 
@@ -129,6 +145,7 @@ class ProgramServiceTest {
         Program updated = service.updateProgram(programId, dto);
 
         assertThat(updated.getProgramTitle()).isEqualTo("Updated");
+        verify(programSearchIndex).programChanged(programId);
     }
 
     @Test
@@ -154,6 +171,8 @@ class ProgramServiceTest {
         service.deleteProgram(programId);
 
         verify(programRepository).delete(program);
+        verify(walletBalanceCache).evictProgramAfterCommit(programId);
+        verify(programSearchIndex).programDeleted(programId);
     }
 
     @Test
@@ -255,4 +274,118 @@ class ProgramServiceTest {
                 service.getProgramById(programId))
                 .isInstanceOf(ProgramNotFoundException.class);
     }
+
+    @Test
+    void getProgramVersion_readsTheRowAndChangesWithUpdatedAt() {
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+        when(programRepository.findContentVersion(programId))
+                .thenReturn(Optional.of(new ProgramContentVersion(changedAt, 0, changedAt)))
+                .thenReturn(Optional.of(new ProgramContentVersion(changedAt.plusSeconds(1), 0, changedAt)));
+
+        ContentVersion before = service.getProgramVersion(programId);
+        ContentVersion after = service.getProgramVersion(programId);
+
+        assertThat(before.lastModified()).isEqualTo(changedAt);
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        verify(programRepository, never()).findById(any());
+    }
+
+    @Test
+    void getCurrentProgram_fails_whenNotFound() {
+        when(programRepository.findCurrentByProgramId(programId))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() ->
+                service.getCurrentProgram(programId))
+                .isInstanceOf(ProgramNotFoundException.class);
+    }
+
+    @Test
+    void getAllPrograms_shouldReadNextPageAfterCursor() {
+
+        UUID after = UUID.randomUUID();
+        Program program = new Program();
+        program.setProgramId(UUID.randomUUID());
+
+        when(programRepository.findByProgramIdGreaterThanOrderByProgramIdAsc(after, Limit.of(11)))
+                .thenReturn(List.of(program));
+
+        CursorPageDTO<Program> page =
+                service.getAllPrograms(CursorPagination.encode(after), 10);
+
+        assertThat(page.items()).containsExactly(program);
+        assertThat(page.nextCursor()).isNull();
+        verify(programRepository, never()).findAll();
+    }
+
+    @Test
+    void getAllProgramsVersion_differsPerPage() {
+
+        UUID after = UUID.randomUUID();
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+        List<ProgramRowVersion> rows = List.of(new ProgramRowVersion(UUID.randomUUID(), changedAt));
+
+        when(programRepository.findRowVersions(Limit.of(11))).thenReturn(rows);
+        when(programRepository.findRowVersionsAfter(after, Limit.of(11))).thenReturn(rows);
+        when(programRepository.findRowVersions(Limit.of(21))).thenReturn(rows);
+
+        ContentVersion firstPage = service.getAllProgramsVersion(null, 10);
+        ContentVersion nextPage = service.getAllProgramsVersion(CursorPagination.encode(after), 10);
+        ContentVersion largerPage = service.getAllProgramsVersion(null, 20);
+
+        assertThat(nextPage.etag()).isNotEqualTo(firstPage.etag());
+        assertThat(largerPage.etag()).isNotEqualTo(firstPage.etag());
+        assertThat(firstPage.lastModified()).isNull();
+    }
+
+    @Test
+    void getAllProgramsVersion_changesWhenPageRowChanges() {
+
+        UUID rowId = UUID.randomUUID();
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        when(programRepository.findRowVersions(Limit.of(11)))
+                .thenReturn(List.of(new ProgramRowVersion(rowId, changedAt)))
+                .thenReturn(List.of(new ProgramRowVersion(rowId, changedAt.plusSeconds(1))));
+
+        ContentVersion before = service.getAllProgramsVersion(null, 10);
+        ContentVersion after = service.getAllProgramsVersion(null, 10);
+
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    void getHostedProgramsVersion_changesWhenHostedProgramsChange() {
+
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+        when(securityUserResolver.getCurrentUser()).thenReturn(host);
+        when(programRepository.findHostedVersion(host.getUserId()))
+                .thenReturn(new ProgramSetVersion(2L, changedAt))
+                .thenReturn(new ProgramSetVersion(2L, changedAt))
+                .thenReturn(new ProgramSetVersion(1L, changedAt));
+
+        ContentVersion first = service.getHostedProgramsVersion();
+        ContentVersion unchanged = service.getHostedProgramsVersion();
+        ContentVersion afterDelete = service.getHostedProgramsVersion();
+
+        assertThat(unchanged).isEqualTo(first);
+        assertThat(afterDelete.etag()).isNotEqualTo(first.etag());
+        // a delete moves no timestamp, so only the ETag can validate the lists
+        assertThat(first.lastModified()).isNull();
+    }
+
+    @Test
+    void getJudgedProgramsVersion_isScopedToCaller() {
+
+        Instant changedAt = Instant.parse("2026-01-01T00:00:00Z");
+        when(securityUserResolver.getCurrentUser()).thenReturn(judgeUser);
+        when(programRepository.findJudgedVersion(judgeUser.getUserId()))
+                .thenReturn(new ProgramSetVersion(1L, changedAt));
+
+        ContentVersion judged = service.getJudgedProgramsVersion();
+
+        assertThat(judged.etag()).isNotBlank();
+        verify(programRepository).findJudgedVersion(judgeUser.getUserId());
+        verify(programRepository, never()).findHostedVersion(any());
+    }
 }
@@ -0,0 +1,185 @@
+package com.questevent.service;
+
+import com.questevent.entity.ProgramWalletCreditIntent;
+import com.questevent.exception.WalletNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramWalletCreditCoalescerTest {
+
+    private static final Long USER_ID = 1L;
+    private static final UUID PROGRAM_ID = UUID.randomUUID();
+    private static final Duration INTERVAL = Duration.ofMinutes(1);
+
+    @Mock
+    private ProgramWalletCreditIntentService intentService;
+
+    private ProgramWalletCreditCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new ProgramWalletCreditCoalescer(
+                intentService, true, Duration.ofHours(1), 3, INTERVAL, INTERVAL, Duration.ofMinutes(1)
+        );
+    }
+
+    @Test
+    void enqueue_shouldRecordIntentAndBufferIt() {
+
+        stubRecordIntent();
+
+        coalescer.enqueue(USER_ID, PROGRAM_ID, 10L);
+
+        verify(intentService).recordIntent(USER_ID, PROGRAM_ID, 10L);
+        assertEquals(1, coalescer.getCreditsQueued());
+        assertEquals(1, coalescer.getBufferedWallets());
+    }
+
+    @Test
+    void flushDue_shouldWaitUntilBatchIsFull() {
+
+        stubRecordIntent();
+
+        coalescer.enqueue(USER_ID, PROGRAM_ID, 10L);
+        coalescer.enqueue(USER_ID, PROGRAM_ID, 20L);
+        coalescer.flushDue();
+
+        verify(intentService, never()).applyIntents(any(), any(), any());
+
+        coalescer.enqueue(USER_ID, PROGRAM_ID, 30L);
+        coalescer.flushDue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(intentService).applyIntents(eq(USER_ID), eq(PROGRAM_ID), ids.capture());
+        assertEquals(3, ids.getValue().size());
+        assertEquals(1, coalescer.getFlushes());
+        assertEquals(0, coalescer.getBufferedWallets());
+    }
+
+    @Test
+    void flushDue_shouldFlushWhenWindowElapsed() {
+
+        coalescer = new ProgramWalletCreditCoalescer(
+                intentService, true, Duration.ZERO, 100, INTERVAL, INTERVAL, Duration.ofMinutes(1)
+        );
+        stubRecordIntent();
+
+        coalescer.enqueue(USER_ID, PROGRAM_ID, 10L);
+        coalescer.flushDue();
+
+        verify(intentService).applyIntents(eq(USER_ID), eq(PROGRAM_ID), anyCollection());
+    }
+
+    @Test
+    void flushAll_shouldKeepRunning_whenFlushFails() {
+
+        stubRecordIntent();
+        UUID otherProgram = UUID.randomUUID();
+
+        when(intentService.applyIntents(eq(USER_ID), eq(PROGRAM_ID), anyCollection()))
+                .thenThrow(new WalletNotFoundException("Program wallet not found"));
+        when(intentService.applyIntents(eq(USER_ID), eq(otherProgram), anyCollection()))
+                .thenReturn(10L);
+
+        coalescer.enqueue(USER_ID, PROGRAM_ID, 10L);
+        coalescer.enqueue(USER_ID, otherProgram, 10L);
+        coalescer.flushAll();
+
+        verify(intentService).applyIntents(eq(USER_ID), eq(otherProgram), anyCollection());
+        assertEquals(1, coalescer.getFlushes());
+        assertEquals(0, coalescer.getBufferedWallets());
+    }
+
+    @Test
+    void recoverPendingIntents_shouldApplyStaleIntentsGroupedByWallet() {
+
+        UUID otherProgram = UUID.randomUUID();
+        List<ProgramWalletCreditIntent> stale = List.of(
+                intent(USER_ID, PROGRAM_ID, 5L),
+                intent(USER_ID, PROGRAM_ID, 7L),
+                intent(2L, otherProgram, 9L)
+        );
+
+        when(intentService.findStalePending(any(), any()))
+                .thenReturn(stale)
+                .thenReturn(List.of());
+
+        coalescer.recoverPendingIntents();
+
+        verify(intentService).applyIntents(
+                eq(USER_ID), eq(PROGRAM_ID), argThat(ids -> ids.size() == 2));
+        verify(intentService).applyIntents(
+                eq(2L), eq(otherProgram), argThat(ids -> ids.size() == 1));
+    }
+
+    @Test
+    void recoverPendingIntents_shouldSkipFailingWalletAndKeepGoing() {
+
+        UUID otherProgram = UUID.randomUUID();
+        ProgramWalletCreditIntent poison = intent(USER_ID, PROGRAM_ID, 5L);
+        ProgramWalletCreditIntent healthy = intent(2L, otherProgram, 9L);
+        ProgramWalletCreditIntent later = intent(3L, otherProgram, 4L);
+
+        when(intentService.findStalePending(any(), isNull()))
+                .thenReturn(List.of(poison, healthy));
+        when(intentService.findStalePending(any(), same(healthy)))
+                .thenReturn(List.of(later));
+        when(intentService.findStalePending(any(), same(later)))
+                .thenReturn(List.of());
+        when(intentService.applyIntents(eq(USER_ID), eq(PROGRAM_ID), anyCollection()))
+                .thenThrow(new WalletNotFoundException("Program wallet not found"));
+
+        coalescer.recoverPendingIntents();
+
+        verify(intentService).applyIntents(eq(2L), eq(otherProgram), anyCollection());
+        verify(intentService).applyIntents(eq(3L), eq(otherProgram), anyCollection());
+        verify(intentService, times(3)).findStalePending(any(), any());
+        assertEquals(2, coalescer.getFlushes());
+    }
+
+    @Test
+    void recoverPendingIntents_shouldDoNothing_whenDisabled() {
+
+        coalescer = new ProgramWalletCreditCoalescer(
+                intentService, false, Duration.ZERO, 100, INTERVAL, INTERVAL, Duration.ofMinutes(1)
+        );
+
+        coalescer.recoverPendingIntents();
+        coalescer.flushDue();
+
+        verifyNoInteractions(intentService);
+    }
+
+    private void stubRecordIntent() {
+        when(intentService.recordIntent(any(), any(), any()))
+                .thenAnswer(invocation -> intent(
+                        invocation.getArgument(0),
+                        invocation.getArgument(1),
+                        invocation.getArgument(2)
+                ));
+    }
+
+    private static ProgramWalletCreditIntent intent(Long userId, UUID programId, Long amount) {
+        ProgramWalletCreditIntent intent = new ProgramWalletCreditIntent();
+        intent.setIntentId(UUID.randomUUID());
+        intent.setUserId(userId);
+        intent.setProgramId(programId);
+        intent.setAmount(amount);
+        return intent;
+    }
+}
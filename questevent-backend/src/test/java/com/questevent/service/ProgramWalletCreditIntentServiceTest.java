@@ -0,0 +1,134 @@
+package com.questevent.service;
+
+import com.questevent.cache.WalletBalanceCache;
+import com.questevent.entity.ProgramWallet;
+import com.questevent.entity.ProgramWalletCreditIntent;
+import com.questevent.exception.WalletNotFoundException;
+import com.questevent.repository.ProgramWalletCreditIntentRepository;
+import com.questevent.repository.ProgramWalletRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProgramWalletCreditIntentServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final UUID PROGRAM_ID = UUID.randomUUID();
+
+    @Mock
+    private ProgramWalletCreditIntentRepository intentRepository;
+
+    @Mock
+    private ProgramWalletRepository programWalletRepository;
+
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
+    @InjectMocks
+    private ProgramWalletCreditIntentService service;
+
+    @Test
+    void recordIntent_shouldSavePendingIntent() {
+
+        when(intentRepository.save(any(ProgramWalletCreditIntent.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ProgramWalletCreditIntent intent = service.recordIntent(USER_ID, PROGRAM_ID, 25L);
+
+        assertEquals(USER_ID, intent.getUserId());
+        assertEquals(PROGRAM_ID, intent.getProgramId());
+        assertEquals(25L, intent.getAmount());
+        assertNull(intent.getAppliedAt());
+    }
+
+    @Test
+    void applyIntents_shouldIncrementWalletOnceAndMarkIntentsApplied() {
+
+        ProgramWalletCreditIntent first = intent(USER_ID, 10L);
+        ProgramWalletCreditIntent second = intent(USER_ID, 15L);
+        List<UUID> ids = List.of(first.getIntentId(), second.getIntentId());
+
+        ProgramWallet wallet = new ProgramWallet();
+        wallet.setGems(125L);
+
+        when(intentRepository.findPendingForUpdate(ids)).thenReturn(List.of(first, second));
+        when(programWalletRepository.incrementGems(USER_ID, PROGRAM_ID, 25L)).thenReturn(1);
+        when(programWalletRepository.findByUserUserIdAndProgramProgramId(USER_ID, PROGRAM_ID))
+                .thenReturn(Optional.of(wallet));
+
+        long applied = service.applyIntents(USER_ID, PROGRAM_ID, ids);
+
+        assertEquals(25L, applied);
+        assertNotNull(first.getAppliedAt());
+        assertNotNull(second.getAppliedAt());
+        verify(programWalletRepository, times(1)).incrementGems(USER_ID, PROGRAM_ID, 25L);
+        verify(walletBalanceCache).putProgramWalletAfterCommit(USER_ID, PROGRAM_ID, wallet);
+    }
+
+    @Test
+    void applyIntents_shouldSkipWallet_whenIntentsAlreadyApplied() {
+
+        List<UUID> ids = List.of(UUID.randomUUID());
+        when(intentRepository.findPendingForUpdate(ids)).thenReturn(List.of());
+
+        assertEquals(0L, service.applyIntents(USER_ID, PROGRAM_ID, ids));
+
+        verifyNoInteractions(programWalletRepository, walletBalanceCache);
+    }
+
+    @Test
+    void applyIntents_shouldThrowException_whenWalletMissing() {
+
+        ProgramWalletCreditIntent pending = intent(USER_ID, 10L);
+        List<UUID> ids = List.of(pending.getIntentId());
+
+        when(intentRepository.findPendingForUpdate(ids)).thenReturn(List.of(pending));
+        when(programWalletRepository.incrementGems(USER_ID, PROGRAM_ID, 10L)).thenReturn(0);
+
+        assertThrows(
+                WalletNotFoundException.class,
+                () -> service.applyIntents(USER_ID, PROGRAM_ID, ids)
+        );
+
+        verifyNoInteractions(walletBalanceCache);
+    }
+
+    @Test
+    void claimPendingForProgram_shouldSumPerUserAndMarkApplied() {
+
+        ProgramWalletCreditIntent first = intent(USER_ID, 10L);
+        ProgramWalletCreditIntent second = intent(USER_ID, 5L);
+        ProgramWalletCreditIntent other = intent(2L, 7L);
+
+        when(intentRepository.findPendingByProgramForUpdate(PROGRAM_ID))
+                .thenReturn(List.of(first, second, other));
+
+        Map<Long, Long> totals = service.claimPendingForProgram(PROGRAM_ID);
+
+        assertEquals(Map.of(USER_ID, 15L, 2L, 7L), totals);
+        assertNotNull(first.getAppliedAt());
+        assertNotNull(other.getAppliedAt());
+        verify(intentRepository).saveAll(List.of(first, second, other));
+    }
+
+    private static ProgramWalletCreditIntent intent(Long userId, Long amount) {
+        ProgramWalletCreditIntent intent = new ProgramWalletCreditIntent();
+        intent.setIntentId(UUID.randomUUID());
+        intent.setUserId(userId);
+        intent.setProgramId(PROGRAM_ID);
+        intent.setAmount(amount);
+        return intent;
+    }
+}
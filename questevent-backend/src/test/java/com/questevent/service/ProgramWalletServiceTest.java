@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.dto.ProgramWalletBalanceDTO;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramWallet;
@@ -42,6 +43,9 @@ class ProgramWalletServiceTest {
     @Mock
     private SecurityUserResolver securityUserResolver;
 
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
     @InjectMocks
     private ProgramWalletService service;
 
@@ -131,6 +135,31 @@ class ProgramWalletServiceTest {
         assertThat(dto.getUserId()).isEqualTo(user.getUserId());
         assertThat(dto.getProgramId()).isEqualTo(program.getProgramId());
         assertThat(dto.getGems()).isEqualTo(100L);
+
+        verify(walletBalanceCache)
+                .populateProgramWallet(user.getUserId(), program.getProgramId(), wallet);
+    }
+
+    @Test
+    void getMyProgramWallet_cacheHit_skipsDatabase() {
+        ProgramWalletBalanceDTO cached = new ProgramWalletBalanceDTO();
+        cached.setUserId(user.getUserId());
+        cached.setProgramId(program.getProgramId());
+        cached.setGems(250L);
+
+        when(securityUserResolver.getCurrentUserEmail())
+                .thenReturn("user@questevent.com");
+        when(walletBalanceCache.findUserIdByEmail("user@questevent.com"))
+                .thenReturn(Optional.of(user.getUserId()));
+        when(walletBalanceCache.getProgramWallet(user.getUserId(), program.getProgramId()))
+                .thenReturn(Optional.of(cached));
+
+        ProgramWalletBalanceDTO dto =
+                service.getMyProgramWallet(program.getProgramId());
+
+        assertThat(dto.getGems()).isEqualTo(250L);
+        verify(securityUserResolver, never()).getCurrentUser();
+        verifyNoInteractions(programWalletRepository);
     }
 
     @Test
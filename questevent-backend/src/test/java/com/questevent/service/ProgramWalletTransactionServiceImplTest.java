@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.entity.Program;
 import com.questevent.entity.ProgramWallet;
 import com.questevent.entity.User;
@@ -8,6 +9,7 @@ import com.questevent.enums.ProgramStatus;
 import com.questevent.exception.ResourceConflictException;
 import com.questevent.exception.WalletNotFoundException;
 import com.questevent.repository.ProgramRepository;
+import com.questevent.repository.ProgramSearchIndex;
 import com.questevent.repository.ProgramWalletRepository;
 import com.questevent.repository.UserWalletRepository;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,6 +38,15 @@ class ProgramWalletTransactionServiceImplTest {
     @Mock
     private UserWalletRepository userWalletRepository;
 
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
+    @Mock
+    private ProgramWalletCreditCoalescer creditCoalescer;
+
+    @Mock
+    private ProgramSearchIndex programSearchIndex;
+
     @InjectMocks
     private ProgramWalletTransactionServiceImpl service;
 
@@ -64,6 +76,7 @@ class ProgramWalletTransactionServiceImplTest {
 
         assertEquals(150, wallet.getGems());
         verify(programWalletRepository).save(wallet);
+        verify(walletBalanceCache).putProgramWalletAfterCommit(userId, programId, wallet);
     }
 
     @Test
@@ -180,7 +193,7 @@ class ProgramWalletTransactionServiceImplTest {
                 .thenReturn(List.of(program));
 
         when(programWalletRepository
-                .findByProgramProgramId(programId))
+                .findByProgramIdForUpdate(programId))
                 .thenReturn(List.of(programWallet));
 
         when(userWalletRepository
@@ -215,7 +228,7 @@ class ProgramWalletTransactionServiceImplTest {
                 .thenReturn(List.of(program));
 
         when(programWalletRepository
-                .findByProgramProgramId(programId))
+                .findByProgramIdForUpdate(programId))
                 .thenReturn(List.of(programWallet));
 
         service.autoSettleExpiredProgramWallets();
@@ -248,7 +261,7 @@ class ProgramWalletTransactionServiceImplTest {
                 .thenReturn(Optional.of(program));
 
         when(programWalletRepository
-                .findByProgramProgramId(programId))
+                .findByProgramIdForUpdate(programId))
                 .thenReturn(List.of(programWallet));
 
         service.manuallySettleExpiredProgramWallets(programId);
@@ -289,4 +302,88 @@ class ProgramWalletTransactionServiceImplTest {
                 () -> service.manuallySettleExpiredProgramWallets(null)
         );
     }
+
+    @Test
+    void creditGems_shouldQueueCredit_whenCoalescingEnabled() {
+
+        Long userId = 1L;
+        UUID programId = UUID.randomUUID();
+
+        User user = new User();
+        user.setUserId(userId);
+
+        Program program = new Program();
+        program.setProgramId(programId);
+
+        when(creditCoalescer.isEnabled()).thenReturn(true);
+        when(programWalletRepository
+                .existsByUserUserIdAndProgramProgramId(userId, programId))
+                .thenReturn(true);
+
+        service.creditGems(user, program, 50L);
+
+        verify(creditCoalescer).enqueue(userId, programId, 50L);
+        verify(programWalletRepository, never()).save(any());
+        verifyNoInteractions(walletBalanceCache);
+    }
+
+    @Test
+    void creditGems_shouldThrowException_whenCoalescingEnabledAndWalletNotFound() {
+
+        Long userId = 1L;
+        UUID programId = UUID.randomUUID();
+
+        User user = new User();
+        user.setUserId(userId);
+
+        Program program = new Program();
+        program.setProgramId(programId);
+
+        when(creditCoalescer.isEnabled()).thenReturn(true);
+        when(programWalletRepository
+                .existsByUserUserIdAndProgramProgramId(userId, programId))
+                .thenReturn(false);
+
+        assertThrows(
+                WalletNotFoundException.class,
+                () -> service.creditGems(user, program, 50L)
+        );
+
+        verify(creditCoalescer, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void manuallySettleExpiredProgramWallets_shouldIncludePendingCredits() {
+
+        UUID programId = UUID.randomUUID();
+
+        Program program = new Program();
+        program.setProgramId(programId);
+        program.setStatus(ProgramStatus.ACTIVE);
+
+        UserWallet userWallet = new UserWallet();
+        userWallet.setGems(200L);
+
+        User user = new User();
+        user.setUserId(1L);
+        user.setWallet(userWallet);
+
+        ProgramWallet programWallet = new ProgramWallet();
+        programWallet.setUser(user);
+        programWallet.setGems(0L);
+
+        when(programRepository.findById(programId))
+                .thenReturn(Optional.of(program));
+        when(creditCoalescer.claimPendingForProgram(programId))
+                .thenReturn(Map.of(1L, 30L));
+        when(programWalletRepository
+                .findByProgramIdForUpdate(programId))
+                .thenReturn(List.of(programWallet));
+
+        service.manuallySettleExpiredProgramWallets(programId);
+
+        assertEquals(230, userWallet.getGems());
+        assertEquals(0, programWallet.getGems());
+        assertEquals(ProgramStatus.COMPLETED, program.getStatus());
+    }
 }
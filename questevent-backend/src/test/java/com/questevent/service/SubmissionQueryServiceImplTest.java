@@ -0,0 +1,96 @@
+package com.questevent.service;
+
+import com.questevent.dto.SubmissionDetailsResponseDTO;
+import com.questevent.dto.UserSubmissionSummaryDTO;
+import com.questevent.entity.User;
+import com.questevent.enums.ReviewStatus;
+import com.questevent.exception.ResourceNotFoundException;
+import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.utils.SecurityUserResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionQueryServiceImplTest {
+
+    @Mock
+    private ActivitySubmissionRepository submissionRepository;
+
+    @Mock
+    private SecurityUserResolver securityUserResolver;
+
+    @InjectMocks
+    private SubmissionQueryServiceImpl service;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUserId(1L);
+
+        when(securityUserResolver.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void getMySubmissions_returnsProjectedSummaries() {
+
+        UserSubmissionSummaryDTO summary = new UserSubmissionSummaryDTO(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "Quiz",
+                ReviewStatus.PENDING,
+                Instant.now(),
+                null
+        );
+
+        when(submissionRepository.findSummariesByUserId(1L))
+                .thenReturn(List.of(summary));
+
+        assertThat(service.getMySubmissions(null)).containsExactly(summary);
+        verify(submissionRepository, never()).findAllByActivityRegistration_User_UserId(any());
+    }
+
+    @Test
+    void getSubmissionDetails_returnsProjection() {
+
+        UUID activityId = UUID.randomUUID();
+        SubmissionDetailsResponseDTO details = new SubmissionDetailsResponseDTO(
+                UUID.randomUUID(),
+                activityId,
+                "http://link",
+                ReviewStatus.APPROVED,
+                50L,
+                Instant.now()
+        );
+
+        when(submissionRepository.findDetailsByActivityIdAndUserId(activityId, 1L))
+                .thenReturn(Optional.of(details));
+
+        assertThat(service.getSubmissionDetails(activityId, null)).isEqualTo(details);
+    }
+
+    @Test
+    void getSubmissionDetails_throwsWhenMissing() {
+
+        UUID activityId = UUID.randomUUID();
+
+        when(submissionRepository.findDetailsByActivityIdAndUserId(activityId, 1L))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getSubmissionDetails(activityId, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.questevent.service;
+
+import com.questevent.dto.UserImportRow;
+import com.questevent.entity.User;
+import com.questevent.entity.UserWallet;
+import com.questevent.enums.Department;
+import com.questevent.enums.Role;
+import com.questevent.repository.UserRepository;
+import com.questevent.repository.UserWalletRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportBatchWriterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private UserImportBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(writer, "entityManager", entityManager);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsert_createsNewUsersWithWalletsAndUpdatesExistingProfiles() {
+
+        User owner = new User();
+        owner.setUserId(1L);
+        owner.setEmail("owner@corp.com");
+        owner.setName("Old Name");
+        owner.setRole(Role.OWNER);
+
+        List<UserImportRow> rows = List.of(
+                new UserImportRow(2, "owner@corp.com", "New Name", Department.HR, "F", Role.USER),
+                new UserImportRow(3, "new@corp.com", "Newbie", Department.TECH, "M", Role.HOST)
+        );
+
+        when(userRepository.findByEmailIn(List.of("owner@corp.com", "new@corp.com")))
+                .thenReturn(List.of(owner));
+
+        UserImportBatchWriter.BatchResult result = writer.upsert(rows);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.updated()).isEqualTo(1);
+
+        assertThat(owner.getName()).isEqualTo("New Name");
+        assertThat(owner.getDepartment()).isEqualTo(Department.HR);
+        assertThat(owner.getRole()).isEqualTo(Role.OWNER);
+
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<UserWallet>> wallets = ArgumentCaptor.forClass(List.class);
+        verify(userRepository).saveAll(users.capture());
+        verify(userWalletRepository).saveAll(wallets.capture());
+
+        assertThat(users.getValue()).singleElement()
+                .satisfies(user -> {
+                    assertThat(user.getEmail()).isEqualTo("new@corp.com");
+                    assertThat(user.getRole()).isEqualTo(Role.HOST);
+                });
+        assertThat(wallets.getValue()).singleElement()
+                .satisfies(wallet -> {
+                    assertThat(wallet.getUser()).isSameAs(users.getValue().get(0));
+                    assertThat(wallet.getGems()).isZero();
+                });
+
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+    }
+}
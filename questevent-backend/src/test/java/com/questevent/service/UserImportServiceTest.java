@@ -0,0 +1,190 @@
+package com.questevent.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.questevent.dto.UserImportErrorDTO;
+import com.questevent.dto.UserImportResultDTO;
+import com.questevent.dto.UserImportRow;
+import com.questevent.enums.Department;
+import com.questevent.enums.ExportFormat;
+import com.questevent.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserImportBatchWriter batchWriter;
+
+    private UserImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserImportService(batchWriter, new ObjectMapper(), 2, 100, 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_validatesRowsAndWritesInChunks() {
+
+        when(batchWriter.upsert(anyList()))
+                .thenAnswer(inv -> new UserImportBatchWriter.BatchResult(
+                        inv.<List<UserImportRow>>getArgument(0).size(), 0));
+
+        String csv = """
+                email,name,department,gender,role
+                a@corp.com,Alice,TECH,F,
+                b@corp.com,"Bob, Jr.",hr,M,HOST
+                c@corp.com,Carol,NOWHERE,F,
+                a@corp.com,Alice Again,TECH,F,
+                d@corp.com,Dan,IT,M,OWNER
+                e@corp.com,Eve,IT,F,USER
+                """;
+
+        UserImportResultDTO result = service.importUsers(stream(csv), ExportFormat.CSV);
+
+        ArgumentCaptor<List<UserImportRow>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter, times(2)).upsert(chunks.capture());
+
+        assertThat(chunks.getAllValues().get(0))
+                .extracting(UserImportRow::email)
+                .containsExactly("a@corp.com", "b@corp.com");
+        assertThat(chunks.getAllValues().get(0).get(1).name()).isEqualTo("Bob, Jr.");
+        assertThat(chunks.getAllValues().get(0).get(1).department()).isEqualTo(Department.HR);
+        assertThat(chunks.getAllValues().get(0).get(1).role()).isEqualTo(Role.HOST);
+        assertThat(chunks.getAllValues().get(0).get(0).role()).isEqualTo(Role.USER);
+        // a@corp.com's first chunk is already written; the repeat upserts it again
+        assertThat(chunks.getAllValues().get(1))
+                .extracting(UserImportRow::email)
+                .containsExactly("a@corp.com", "e@corp.com");
+        assertThat(chunks.getAllValues().get(1).get(0).name()).isEqualTo("Alice Again");
+
+        assertThat(result.rowsRead()).isEqualTo(6);
+        assertThat(result.created()).isEqualTo(4);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors())
+                .extracting(UserImportErrorDTO::line)
+                .containsExactly(4L, 6L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void duplicateEmailWithinChunk_isRejected() {
+
+        when(batchWriter.upsert(anyList()))
+                .thenAnswer(inv -> new UserImportBatchWriter.BatchResult(
+                        inv.<List<UserImportRow>>getArgument(0).size(), 0));
+
+        String ndjson = """
+                {"email":"a@corp.com","name":"A","department":"TECH","gender":"F"}
+                {"email":"a@corp.com","name":"A2","department":"TECH","gender":"F"}
+                {"email":"b@corp.com","name":"B","department":"TECH","gender":"M"}
+                """;
+
+        UserImportResultDTO result = service.importUsers(stream(ndjson), ExportFormat.NDJSON);
+
+        ArgumentCaptor<List<UserImportRow>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(batchWriter).upsert(chunks.capture());
+        assertThat(chunks.getValue())
+                .extracting(UserImportRow::name)
+                .containsExactly("A", "B");
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.errors())
+                .extracting(UserImportErrorDTO::line)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void importCsv_rejectsHeaderWithoutRequiredColumns() {
+
+        assertThatThrownBy(() -> service.importUsers(stream("email,name\n"), ExportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("department");
+
+        verifyNoInteractions(batchWriter);
+    }
+
+    @Test
+    void importNdjson_reportsMalformedLinesAndContinues() {
+
+        when(batchWriter.upsert(anyList()))
+                .thenReturn(new UserImportBatchWriter.BatchResult(0, 1));
+
+        String ndjson = """
+                {"email":"a@corp.com","name":"Alice","department":"TECH","gender":"F"}
+                {"email":
+                
+                [1,2]
+                """;
+
+        UserImportResultDTO result = service.importUsers(stream(ndjson), ExportFormat.NDJSON);
+
+        assertThat(result.rowsRead()).isEqualTo(3);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors())
+                .extracting(UserImportErrorDTO::line)
+                .containsExactly(2L, 4L);
+    }
+
+    @Test
+    void failedChunk_isReportedPerRowWithoutAbortingImport() {
+
+        when(batchWriter.upsert(anyList()))
+                .thenThrow(new IllegalStateException("duplicate key"))
+                .thenReturn(new UserImportBatchWriter.BatchResult(1, 0));
+
+        String ndjson = """
+                {"email":"a@corp.com","name":"A","department":"TECH","gender":"F"}
+                {"email":"b@corp.com","name":"B","department":"TECH","gender":"M"}
+                {"email":"c@corp.com","name":"C","department":"TECH","gender":"F"}
+                """;
+
+        UserImportResultDTO result = service.importUsers(stream(ndjson), ExportFormat.NDJSON);
+
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors())
+                .extracting(UserImportErrorDTO::email)
+                .containsExactly("a@corp.com", "b@corp.com");
+    }
+
+    @Test
+    void errorList_isTruncatedAtConfiguredMaximum() {
+
+        service = new UserImportService(batchWriter, new ObjectMapper(), 2, 1, 0);
+
+        UserImportResultDTO result = service.importUsers(
+                stream("not json\nalso not json\n"), ExportFormat.NDJSON);
+
+        assertThat(result.failed()).isEqualTo(2);
+        assertThat(result.errors()).hasSize(1);
+        assertThat(result.errorsTruncated()).isTrue();
+    }
+
+    @Test
+    void parseCsvLine_handlesQuotesAndEscapedQuotes() {
+
+        assertThat(UserImportService.parseCsvLine("a,\"b, \"\"c\"\"\",,d"))
+                .containsExactly("a", "b, \"c\"", "", "d");
+
+        assertThatThrownBy(() -> UserImportService.parseCsvLine("a,\"b"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,14 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.dto.CompleteProfileRequest;
+import com.questevent.dto.CursorPageDTO;
 import com.questevent.dto.UserResponseDto;
 import com.questevent.entity.User;
 import com.questevent.enums.Department;
 import com.questevent.exception.UserNotFoundException;
 import com.questevent.repository.UserRepository;
+import com.questevent.utils.CursorPagination;
 import com.questevent.utils.SecurityUserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,6 +37,9 @@ class UserServiceTest {
     @Mock
     private SecurityUserResolver securityUserResolver;
 
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
     @InjectMocks
     private UserService userService;
 
@@ -63,12 +70,29 @@ class UserServiceTest {
 
     @Test
     void getAllUsers_success() {
-        when(userRepository.findAll()).thenReturn(List.of(user));
+        when(userRepository.findByOrderByUserIdAsc(Limit.of(51))).thenReturn(List.of(user));
+
+        CursorPageDTO<UserResponseDto> result = userService.getAllUsers(null, 50);
+
+        assertThat(result.items()).hasSize(1);
+        assertThat(result.items().get(0).userId()).isEqualTo(1L);
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    void getAllUsers_shouldContinueAfterCursor() {
+        User next = new User();
+        next.setUserId(3L);
+        next.setEmail("next@questevent.com");
+
+        when(userRepository.findByUserIdGreaterThanOrderByUserIdAsc(1L, Limit.of(2)))
+                .thenReturn(List.of(next, new User()));
 
-        List<UserResponseDto> result = userService.getAllUsers();
+        CursorPageDTO<UserResponseDto> result =
+                userService.getAllUsers(CursorPagination.encode(1L), 1);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).userId()).isEqualTo(1L);
+        assertThat(result.items()).extracting(UserResponseDto::userId).containsExactly(3L);
+        assertThat(CursorPagination.decodeLong(result.nextCursor())).isEqualTo(3L);
     }
 
     @Test
@@ -123,6 +147,7 @@ class UserServiceTest {
         userService.deleteUser(1L);
 
         verify(userRepository).deleteById(1L);
+        verify(walletBalanceCache).evictUserAfterCommit(1L);
     }
 
     @Test
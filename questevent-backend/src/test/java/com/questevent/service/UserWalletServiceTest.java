@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.dto.UserWalletBalanceDTO;
 import com.questevent.entity.User;
 import com.questevent.entity.UserWallet;
@@ -27,6 +28,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +40,9 @@ class UserWalletServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
     @InjectMocks
     private UserWalletService userWalletService;
 
@@ -77,6 +82,7 @@ class UserWalletServiceTest {
         userWalletService.createWalletForUser(user);
 
         verify(userWalletRepository).save(any(UserWallet.class));
+        verify(walletBalanceCache).putUserWalletAfterCommit(eq(user.getUserId()), any(UserWallet.class));
     }
 
     @Test
@@ -130,6 +136,33 @@ class UserWalletServiceTest {
         assertThat(dto.getGems()).isEqualTo(wallet.getGems());
         assertThat(dto.getCreatedAt()).isEqualTo(wallet.getCreatedAt());
         assertThat(dto.getUpdatedAt()).isEqualTo(wallet.getUpdatedAt());
+
+        verify(walletBalanceCache).rememberUserId(user.getEmail(), user.getUserId());
+        verify(walletBalanceCache).populateUserWallet(user.getUserId(), wallet);
+    }
+
+    @Test
+    void getMyWalletBalance_cacheHit_skipsDatabase() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "none")
+                .claim("email", user.getEmail())
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+
+        UserWalletBalanceDTO cached = new UserWalletBalanceDTO();
+        cached.setWalletId(wallet.getWalletId());
+        cached.setGems(75L);
+
+        when(walletBalanceCache.findUserIdByEmail(user.getEmail()))
+                .thenReturn(Optional.of(user.getUserId()));
+        when(walletBalanceCache.getUserWallet(user.getUserId()))
+                .thenReturn(Optional.of(cached));
+
+        UserWalletBalanceDTO dto = userWalletService.getMyWalletBalance();
+
+        assertThat(dto.getGems()).isEqualTo(75L);
+        verifyNoInteractions(userRepository, userWalletRepository);
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.questevent.service;
 
+import com.questevent.cache.WalletBalanceCache;
 import com.questevent.entity.User;
 import com.questevent.entity.UserWallet;
 import com.questevent.exception.WalletNotFoundException;
@@ -20,6 +21,9 @@ class UserWalletTransactionServiceImplTest {
     @Mock
     private UserWalletRepository userWalletRepository;
 
+    @Mock
+    private WalletBalanceCache walletBalanceCache;
+
     @InjectMocks
     private UserWalletTransactionServiceImpl userWalletTransactionService;
 
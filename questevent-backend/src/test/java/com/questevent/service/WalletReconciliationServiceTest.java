@@ -0,0 +1,148 @@
+package com.questevent.service;
+
+import com.questevent.dto.ProgramWalletReconciliationDTO;
+import com.questevent.dto.ReconciliationStatusDTO;
+import com.questevent.dto.UserWalletReconciliationDTO;
+import com.questevent.repository.ActivitySubmissionRepository;
+import com.questevent.repository.ProgramWalletRepository;
+import com.questevent.repository.UserWalletRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WalletReconciliationServiceTest {
+
+    @Mock
+    private ProgramWalletRepository programWalletRepository;
+
+    @Mock
+    private UserWalletRepository userWalletRepository;
+
+    @Mock
+    private ActivitySubmissionRepository submissionRepository;
+
+    @TempDir
+    Path reportDir;
+
+    private WalletReconciliationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WalletReconciliationService(
+                programWalletRepository,
+                userWalletRepository,
+                submissionRepository,
+                reportDir.toString(),
+                0
+        );
+    }
+
+    @Test
+    void reconcile_shouldReportOnlyMismatchedWallets() throws Exception {
+
+        UUID programId = UUID.randomUUID();
+
+        when(programWalletRepository.streamProgramWalletReconciliation())
+                .thenReturn(Stream.of(
+                        new ProgramWalletReconciliationDTO(1L, programId, 50L, 50L),
+                        new ProgramWalletReconciliationDTO(2L, programId, 30L, 40L)
+                ));
+        when(submissionRepository.streamApprovedGemsWithoutProgramWallet())
+                .thenReturn(Stream.of(
+                        new ProgramWalletReconciliationDTO(3L, programId, 0L, 20L)
+                ));
+        when(userWalletRepository.streamUserWalletReconciliation())
+                .thenReturn(Stream.of(
+                        new UserWalletReconciliationDTO(1L, 100L, 100L),
+                        new UserWalletReconciliationDTO(2L, 15L, 10L)
+                ));
+
+        ReconciliationStatusDTO status = service.reconcile();
+
+        assertFalse(status.running());
+        assertEquals("FINISHED", status.phase());
+        assertEquals(5, status.rowsScanned());
+        assertEquals(3, status.discrepancies());
+        assertNotNull(status.finishedAt());
+
+        List<String> lines = Files.readAllLines(Path.of(status.reportPath()));
+        assertEquals(4, lines.size());
+        assertEquals("type,userId,programId,expectedGems,actualGems,difference", lines.get(0));
+        assertEquals("PROGRAM_WALLET,2," + programId + ",40,30,-10", lines.get(1));
+        assertEquals("MISSING_PROGRAM_WALLET,3," + programId + ",20,0,-20", lines.get(2));
+        assertEquals("USER_WALLET,2,,10,15,5", lines.get(3));
+    }
+
+    @Test
+    void reconcile_shouldCloseEveryStream() {
+
+        AtomicBoolean programClosed = new AtomicBoolean();
+        AtomicBoolean orphanClosed = new AtomicBoolean();
+        AtomicBoolean userClosed = new AtomicBoolean();
+
+        when(programWalletRepository.streamProgramWalletReconciliation())
+                .thenReturn(Stream.<ProgramWalletReconciliationDTO>empty()
+                        .onClose(() -> programClosed.set(true)));
+        when(submissionRepository.streamApprovedGemsWithoutProgramWallet())
+                .thenReturn(Stream.<ProgramWalletReconciliationDTO>empty()
+                        .onClose(() -> orphanClosed.set(true)));
+        when(userWalletRepository.streamUserWalletReconciliation())
+                .thenReturn(Stream.<UserWalletReconciliationDTO>empty()
+                        .onClose(() -> userClosed.set(true)));
+
+        service.reconcile();
+
+        assertTrue(programClosed.get());
+        assertTrue(orphanClosed.get());
+        assertTrue(userClosed.get());
+    }
+
+    @Test
+    void reconcile_whenQueryFails_shouldMarkFailedAndAllowRerun() {
+
+        when(programWalletRepository.streamProgramWalletReconciliation())
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () -> service.reconcile());
+
+        ReconciliationStatusDTO status = service.getStatus();
+        assertEquals("FAILED", status.phase());
+        assertFalse(status.running());
+
+        reset(programWalletRepository);
+        when(programWalletRepository.streamProgramWalletReconciliation())
+                .thenReturn(Stream.empty());
+        when(submissionRepository.streamApprovedGemsWithoutProgramWallet())
+                .thenReturn(Stream.empty());
+        when(userWalletRepository.streamUserWalletReconciliation())
+                .thenReturn(Stream.empty());
+
+        assertEquals("FINISHED", service.reconcile().phase());
+    }
+
+    @Test
+    void getStatus_beforeFirstRun_shouldBeIdle() {
+
+        ReconciliationStatusDTO status = service.getStatus();
+
+        assertEquals("IDLE", status.phase());
+        assertEquals(0, status.rowsScanned());
+        assertEquals(0.0, status.rowsPerSecond());
+        assertNull(status.reportPath());
+        verifyNoInteractions(programWalletRepository, userWalletRepository, submissionRepository);
+    }
+}
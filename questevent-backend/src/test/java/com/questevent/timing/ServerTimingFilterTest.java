@@ -0,0 +1,95 @@
+package com.questevent.timing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    @Test
+    void request_getsHeaderWithEveryTimedPhase() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(true, Duration.ofMinutes(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/programs"), response, (req, res) -> {
+            try (RequestTimings.Span jwt = RequestTimings.time(RequestTimings.Phase.JWT)) {
+                sleep(2);
+            }
+            try (RequestTimings.Span sql = RequestTimings.time(RequestTimings.Phase.SQL)) {
+                sleep(2);
+            }
+        });
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER))
+                .startsWith("jwt;dur=")
+                .contains("sql;dur=", "desc=\"1 statement\"", "app;dur=", "total;dur=")
+                .doesNotContain("rbac");
+        assertThat(RequestTimings.current()).isNull();
+    }
+
+    @Test
+    void headerDisabled_stillCollectsButSendsNothing() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(false, Duration.ofMinutes(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/programs"), response, new MockFilterChain());
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).isNull();
+    }
+
+    @Test
+    void committedResponse_keepsHeaderSetBeforeBody() throws Exception {
+        ServerTimingFilter filter = new ServerTimingFilter(true, Duration.ofMinutes(1));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/programs"), response, (req, res) -> {
+            response.setHeader(ServerTimingFilter.HEADER, "app;dur=1.0");
+            res.flushBuffer();
+        });
+
+        assertThat(response.getHeader(ServerTimingFilter.HEADER)).isEqualTo("app;dur=1.0");
+    }
+
+    @Test
+    void nestedSpan_isDeductedFromItsParent() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestTimings[] captured = new RequestTimings[1];
+
+        new ServerTimingFilter(true, Duration.ofMinutes(1)).doFilter(
+                new MockHttpServletRequest("GET", "/api/programs"), response, (req, res) -> {
+                    captured[0] = RequestTimings.current();
+                    try (RequestTimings.Span rbac = RequestTimings.time(RequestTimings.Phase.RBAC)) {
+                        try (RequestTimings.Span sql = RequestTimings.time(RequestTimings.Phase.SQL)) {
+                            sleep(20);
+                        }
+                    }
+                });
+
+        RequestTimings timings = captured[0];
+        assertThat(timings.count(RequestTimings.Phase.RBAC)).isEqualTo(1);
+        assertThat(timings.count(RequestTimings.Phase.SQL)).isEqualTo(1);
+        assertThat(timings.nanos(RequestTimings.Phase.SQL)).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(timings.nanos(RequestTimings.Phase.RBAC)).isLessThan(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    void outsideRequest_spansAreNoOps() {
+        try (RequestTimings.Span span = RequestTimings.time(RequestTimings.Phase.SQL)) {
+            assertThat(RequestTimings.current()).isNull();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.questevent.utils;
+
+import com.questevent.dto.CursorPageDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CursorPaginationTest {
+
+    @Test
+    void resolveLimit_shouldDefaultAndClamp() {
+        assertThat(CursorPagination.resolveLimit(null)).isEqualTo(CursorPagination.DEFAULT_LIMIT);
+        assertThat(CursorPagination.resolveLimit(10)).isEqualTo(10);
+        assertThat(CursorPagination.resolveLimit(10_000)).isEqualTo(CursorPagination.MAX_LIMIT);
+    }
+
+    @Test
+    void resolveLimit_shouldRejectNonPositive() {
+        assertThatThrownBy(() -> CursorPagination.resolveLimit(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void cursor_shouldRoundTripKeys() {
+        UUID id = UUID.randomUUID();
+
+        assertThat(CursorPagination.decodeUuid(CursorPagination.encode(id))).isEqualTo(id);
+        assertThat(CursorPagination.decodeLong(CursorPagination.encode(42L))).isEqualTo(42L);
+        assertThat(CursorPagination.decodeUuid(null)).isNull();
+        assertThat(CursorPagination.decodeLong(" ")).isNull();
+    }
+
+    @Test
+    void cursor_shouldRejectTamperedValues() {
+        String notAUuid = CursorPagination.encode("not-a-uuid");
+
+        assertThatThrownBy(() -> CursorPagination.decodeUuid(notAUuid))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> CursorPagination.decodeLong("%%%"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void toPage_shouldTrimProbeRowAndPointCursorAtLastItem() {
+        CursorPageDTO<String> page =
+                CursorPagination.toPage(List.of(1L, 2L, 3L), 2, n -> n, String::valueOf);
+
+        assertThat(page.items()).containsExactly("1", "2");
+        assertThat(CursorPagination.decodeLong(page.nextCursor())).isEqualTo(2L);
+    }
+
+    @Test
+    void toPage_shouldHaveNoCursorOnLastPage() {
+        CursorPageDTO<String> page =
+                CursorPagination.toPage(List.of(1L, 2L), 2, n -> n, String::valueOf);
+
+        assertThat(page.items()).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
+    }
+}
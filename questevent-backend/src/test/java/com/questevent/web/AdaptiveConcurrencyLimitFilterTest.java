@@ -0,0 +1,106 @@
+package com.questevent.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.questevent.dto.ConcurrencyLimitStatsDTO;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdaptiveConcurrencyLimitFilterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private AdaptiveConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setup() {
+        limiter = new AdaptiveConcurrencyLimiter(2, 1, 2, 1.5, System::nanoTime);
+        filter = new AdaptiveConcurrencyLimitFilter(
+                limiter,
+                new ObjectMapper().registerModule(new JavaTimeModule())
+        );
+    }
+
+    @Test
+    void admittedRequest_releasesPermitAfterChain() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/programs"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limiter.getStats()).allSatisfy(stats -> assertThat(stats.inFlight()).isZero());
+    }
+
+    @Test
+    void asyncRequest_releasesOnCompletionWithoutLatencySample() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/programs/1/exports/submissions");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(stats("CRUD").inFlight()).isEqualTo(1);
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+
+        assertThat(stats("CRUD").inFlight()).isZero();
+        assertThat(stats("CRUD").noLoadLatencyMillis()).isZero();
+    }
+
+    @Test
+    void overLimit_returns503WithRetryAfter() throws Exception {
+        limiter.tryAcquire(EndpointGroup.LEADERBOARD, RequestPriority.CRITICAL).orElseThrow();
+        limiter.tryAcquire(EndpointGroup.LEADERBOARD, RequestPriority.CRITICAL).orElseThrow();
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/leaderboard/global"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void classify_mapsPathsToGroupsAndPriorities() {
+        MockHttpServletRequest review =
+                new MockHttpServletRequest("PATCH", "/api/judge/submissions/42/review");
+        MockHttpServletRequest leaderboard =
+                new MockHttpServletRequest("GET", "/api/leaderboard/global");
+        MockHttpServletRequest export =
+                new MockHttpServletRequest("GET", "/api/programs/1/exports/submissions");
+        MockHttpServletRequest submission =
+                new MockHttpServletRequest("POST", "/api/submissions");
+
+        assertThat(EndpointGroup.of(review)).isEqualTo(EndpointGroup.JUDGE);
+        assertThat(RequestPriority.of(review, EndpointGroup.JUDGE)).isEqualTo(RequestPriority.CRITICAL);
+
+        assertThat(EndpointGroup.of(leaderboard)).isEqualTo(EndpointGroup.LEADERBOARD);
+        assertThat(RequestPriority.of(leaderboard, EndpointGroup.LEADERBOARD)).isEqualTo(RequestPriority.LOW);
+
+        assertThat(EndpointGroup.of(export)).isEqualTo(EndpointGroup.CRUD);
+        assertThat(RequestPriority.of(export, EndpointGroup.CRUD)).isEqualTo(RequestPriority.LOW);
+
+        assertThat(EndpointGroup.of(submission)).isEqualTo(EndpointGroup.SUBMISSION);
+        assertThat(RequestPriority.of(submission, EndpointGroup.SUBMISSION)).isEqualTo(RequestPriority.NORMAL);
+    }
+
+    private ConcurrencyLimitStatsDTO stats(String group) {
+        return limiter.getStats().stream()
+                .filter(s -> s.group().equals(group))
+                .findFirst()
+                .orElseThrow();
+    }
+}
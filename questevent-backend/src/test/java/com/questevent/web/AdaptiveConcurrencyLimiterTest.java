@@ -0,0 +1,120 @@
+package com.questevent.web;
+
+import com.questevent.dto.ConcurrencyLimitStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setup() {
+        limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, 1.5, clock::get);
+    }
+
+    @Test
+    void tryAcquire_shedsLowPriorityBeforeCritical() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+
+        for (int i = 0; i < 7; i++) {
+            permits.add(limiter.tryAcquire(EndpointGroup.LEADERBOARD, RequestPriority.LOW).orElseThrow());
+        }
+
+        assertThat(limiter.tryAcquire(EndpointGroup.LEADERBOARD, RequestPriority.LOW)).isEmpty();
+        assertThat(limiter.tryAcquire(EndpointGroup.JUDGE, RequestPriority.CRITICAL)).isPresent();
+        assertThat(limiter.tryAcquire(EndpointGroup.JUDGE, RequestPriority.CRITICAL)).isPresent();
+        assertThat(limiter.tryAcquire(EndpointGroup.JUDGE, RequestPriority.CRITICAL)).isPresent();
+        assertThat(limiter.tryAcquire(EndpointGroup.JUDGE, RequestPriority.CRITICAL)).isEmpty();
+
+        assertThat(stats(AdaptiveConcurrencyLimiter.GLOBAL).inFlight()).isEqualTo(10);
+        assertThat(stats(AdaptiveConcurrencyLimiter.GLOBAL).shed()).isEqualTo(2);
+    }
+
+    @Test
+    void release_overloadShrinksOnlyItsGroup() {
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire(EndpointGroup.LEADERBOARD, RequestPriority.LOW)
+                    .orElseThrow()
+                    .release(true);
+        }
+
+        assertThat(stats("LEADERBOARD").limit()).isEqualTo(1);
+        assertThat(stats("JUDGE").limit()).isEqualTo(10);
+    }
+
+    @Test
+    void release_isIdempotent() {
+        Optional<AdaptiveConcurrencyLimiter.Permit> permit =
+                limiter.tryAcquire(EndpointGroup.CRUD, RequestPriority.NORMAL);
+        clock.addAndGet(5_000_000L);
+
+        permit.orElseThrow().release(false);
+        permit.orElseThrow().release(false);
+
+        assertThat(stats("CRUD").inFlight()).isZero();
+        assertThat(stats(AdaptiveConcurrencyLimiter.GLOBAL).inFlight()).isZero();
+        assertThat(stats("CRUD").noLoadLatencyMillis()).isEqualTo(5.0);
+    }
+
+    @Test
+    void releaseUnsampled_freesPermitWithoutTouchingTheLimit() {
+        AdaptiveConcurrencyLimiter.Permit export =
+                limiter.tryAcquire(EndpointGroup.CRUD, RequestPriority.LOW).orElseThrow();
+        clock.addAndGet(30L * 60 * 1_000_000_000L);
+
+        export.releaseUnsampled();
+
+        assertThat(stats("CRUD").inFlight()).isZero();
+        assertThat(stats("CRUD").limit()).isEqualTo(10);
+        assertThat(stats("CRUD").noLoadLatencyMillis()).isZero();
+        assertThat(stats(AdaptiveConcurrencyLimiter.GLOBAL).inFlight()).isZero();
+    }
+
+    @Test
+    void globalLimit_isSumOfGroupLimitsAndTakesNoSamples() {
+        AdaptiveConcurrencyLimiter wide = new AdaptiveConcurrencyLimiter(10, 1, 100, 1.5, clock::get);
+        assertThat(limit(wide, AdaptiveConcurrencyLimiter.GLOBAL)).isEqualTo(40);
+
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit =
+                    wide.tryAcquire(EndpointGroup.LEADERBOARD, RequestPriority.LOW).orElseThrow();
+            clock.addAndGet(5_000_000L);
+            permit.release(true);
+        }
+
+        assertThat(limit(wide, AdaptiveConcurrencyLimiter.GLOBAL)).isEqualTo(31);
+        assertThat(wide.getStats().get(0).noLoadLatencyMillis()).isZero();
+    }
+
+    @Test
+    void getStats_listsGlobalThenEveryGroup() {
+        assertThat(limiter.getStats())
+                .extracting(ConcurrencyLimitStatsDTO::group)
+                .containsExactly("GLOBAL", "LEADERBOARD", "JUDGE", "SUBMISSION", "CRUD");
+    }
+
+    private static int limit(AdaptiveConcurrencyLimiter limiter, String group) {
+        return limiter.getStats().stream()
+                .filter(s -> s.group().equals(group))
+                .findFirst()
+                .orElseThrow()
+                .limit();
+    }
+
+    private ConcurrencyLimitStatsDTO stats(String group) {
+        return limiter.getStats().stream()
+                .filter(s -> s.group().equals(group))
+                .findFirst()
+                .orElseThrow();
+    }
+}
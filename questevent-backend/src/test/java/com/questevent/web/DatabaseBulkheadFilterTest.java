@@ -0,0 +1,88 @@
+package com.questevent.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.questevent.datasource.DatabaseBulkhead;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DatabaseBulkheadFilterTest {
+
+    private DatabaseBulkhead bulkhead;
+    private DatabaseBulkheadFilter filter;
+
+    @BeforeEach
+    void setup() {
+        bulkhead = new DatabaseBulkhead(1, 0, Duration.ZERO);
+        filter = new DatabaseBulkheadFilter(
+                bulkhead,
+                new ObjectMapper().registerModule(new JavaTimeModule())
+        );
+    }
+
+    @Test
+    void admittedRequest_releasesPermitAfterChain() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/programs"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void fullBulkhead_returns503WithRetryAfter() throws Exception {
+        assertThat(bulkhead.tryEnter()).isTrue();
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/programs"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"status\":503");
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void preflightRequest_bypassesBulkhead() throws Exception {
+        assertThat(bulkhead.tryEnter()).isTrue();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("OPTIONS", "/api/programs"), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void asyncRequest_keepsPermitUntilComplete() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/programs/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> req.startAsync());
+
+        assertThat(bulkhead.getInFlight()).isEqualTo(1);
+
+        MockAsyncContext asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onComplete(new AsyncEvent(asyncContext));
+            listener.onComplete(new AsyncEvent(asyncContext));
+        }
+
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+package com.questevent.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GradientLimitTest {
+
+    private static final long BASELINE = 10_000_000L;
+
+    @Test
+    void onSample_growsWhileLatencyStaysAtBaseline() {
+        GradientLimit limit = new GradientLimit(10, 1, 100, 1.5);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASELINE, limit.getLimit(), false);
+        }
+
+        assertThat(limit.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    void onSample_shrinksWhenLatencyExceedsTolerance() {
+        GradientLimit limit = new GradientLimit(50, 1, 100, 1.5);
+        limit.onSample(BASELINE, 50, false);
+
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(BASELINE * 4, limit.getLimit(), false);
+        }
+
+        assertThat(limit.getLimit()).isLessThan(50);
+        assertThat(limit.getNoLoadRttNanos()).isEqualTo(BASELINE);
+    }
+
+    @Test
+    void onSample_toleratesLatencyWithinTolerance() {
+        GradientLimit limit = new GradientLimit(50, 1, 100, 1.5);
+        limit.onSample(BASELINE, 50, false);
+
+        limit.onSample(BASELINE * 14 / 10, 50, false);
+
+        assertThat(limit.getLimit()).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void onSample_ignoresLatencyWhenFarBelowLimit() {
+        GradientLimit limit = new GradientLimit(50, 1, 100, 1.5);
+        limit.onSample(BASELINE, 50, false);
+
+        limit.onSample(BASELINE * 10, 3, false);
+
+        assertThat(limit.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    void onSample_resetsBaselineToWindowMinimum() {
+        GradientLimit limit = new GradientLimit(50, 1, 100, 1.5);
+        for (int i = 0; i < GradientLimit.BASELINE_WINDOW_SAMPLES; i++) {
+            limit.onSample(BASELINE, 1, false);
+        }
+
+        limit.onSample(BASELINE * 2, 1, false);
+        for (int i = 2; i < GradientLimit.BASELINE_WINDOW_SAMPLES; i++) {
+            limit.onSample(BASELINE * 3, 1, false);
+        }
+        assertThat(limit.getNoLoadRttNanos()).isEqualTo(BASELINE);
+
+        // the window closes on a slow sample; the baseline follows the window, not that sample
+        limit.onSample(BASELINE * 5, 1, false);
+
+        assertThat(limit.getNoLoadRttNanos()).isEqualTo(BASELINE * 2);
+    }
+
+    @Test
+    void onSample_overloadBacksOffMultiplicatively() {
+        GradientLimit limit = new GradientLimit(50, 1, 100, 1.5);
+
+        limit.onSample(BASELINE, 50, true);
+
+        assertThat(limit.getLimit()).isEqualTo(45);
+    }
+
+    @Test
+    void onSample_staysWithinBounds() {
+        GradientLimit limit = new GradientLimit(5, 2, 8, 1.5);
+
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(BASELINE, limit.getLimit(), true);
+        }
+        assertThat(limit.getLimit()).isEqualTo(2);
+
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(BASELINE, limit.getLimit(), false);
+        }
+        assertThat(limit.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    void constructor_rejectsInvertedBounds() {
+        assertThatThrownBy(() -> new GradientLimit(5, 10, 2, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+-- The schema Hibernate built from the entities before the Flyway migrations,
+-- with a few users: user ids came from an IDENTITY column, and there were no
+-- activity prerequisites, credit intents, content versions or search tables.
+
+CREATE TABLE users (
+    user_id    BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name       VARCHAR(255)                NOT NULL,
+    email      VARCHAR(255)                NOT NULL,
+    department VARCHAR(255)                NOT NULL,
+    gender     VARCHAR(255)                NOT NULL,
+    role       VARCHAR(255)                NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+);
+
+CREATE TABLE wallets (
+    wallet_id  UUID                        NOT NULL,
+    user_id    BIGINT                      NOT NULL,
+    gems       BIGINT                      NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (wallet_id),
+    CONSTRAINT uksehr4dtn2x9jhx6gt3x6gq8bb UNIQUE (user_id),
+    CONSTRAINT fkc1foyisidw7wqqrkamafuwn4e FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE judges (
+    judge_id UUID   NOT NULL,
+    user_id  BIGINT NOT NULL,
+    PRIMARY KEY (judge_id),
+    CONSTRAINT ukl7wq4kuhhd6wmmmj1c4ex5ytq UNIQUE (user_id),
+    CONSTRAINT fk_judge_user FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE programs (
+    program_id          UUID                        NOT NULL,
+    user_id             BIGINT                      NOT NULL,
+    program_title       VARCHAR(255)                NOT NULL,
+    program_description VARCHAR(255),
+    department          VARCHAR(255)                NOT NULL,
+    start_date          TIMESTAMP(6) WITH TIME ZONE,
+    end_date            TIMESTAMP(6) WITH TIME ZONE,
+    status              VARCHAR(255),
+    judge_id            UUID                        NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (program_id),
+    CONSTRAINT fkx3b4nxo5qeik3atjv2m7w0af FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_program_judge FOREIGN KEY (judge_id) REFERENCES judges (judge_id)
+);
+
+CREATE TABLE activities (
+    activity_id       UUID                        NOT NULL,
+    program_id        UUID                        NOT NULL,
+    name              VARCHAR(200)                NOT NULL,
+    activity_duration INTEGER,
+    rulebook          TEXT,
+    description       TEXT,
+    reward_gems       BIGINT                      NOT NULL,
+    created_at        TIMESTAMP(6) WITH TIME ZONE,
+    is_compulsory     BOOLEAN                     NOT NULL,
+    PRIMARY KEY (activity_id),
+    CONSTRAINT program_id FOREIGN KEY (program_id) REFERENCES programs (program_id)
+);
+
+CREATE TABLE program_registrations (
+    program_registration_id UUID   NOT NULL,
+    program_id              UUID   NOT NULL,
+    user_id                 BIGINT NOT NULL,
+    registered_at           TIMESTAMP(6) WITH TIME ZONE,
+    PRIMARY KEY (program_registration_id),
+    CONSTRAINT uk9bq3n6r5w4v0l1m3k8h2j7c5d UNIQUE (program_id, user_id),
+    CONSTRAINT program_id FOREIGN KEY (program_id) REFERENCES programs (program_id),
+    CONSTRAINT user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE program_wallets (
+    program_wallet_id UUID         NOT NULL,
+    program_id        UUID         NOT NULL,
+    user_id           BIGINT       NOT NULL,
+    gems              BIGINT       NOT NULL,
+    status            VARCHAR(255),
+    PRIMARY KEY (program_wallet_id),
+    CONSTRAINT uk_user_program UNIQUE (user_id, program_id),
+    CONSTRAINT fk4kq2xk0y1a7o5e3tqgk8m2n1d FOREIGN KEY (program_id) REFERENCES programs (program_id),
+    CONSTRAINT fk7m1p0w3sd9v2q8r5t6u4y3x2z FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE activity_registrations (
+    activity_registration_id UUID         NOT NULL,
+    activity_id              UUID,
+    user_id                  BIGINT,
+    completion_status        VARCHAR(255) NOT NULL,
+    PRIMARY KEY (activity_registration_id),
+    CONSTRAINT uk2h6s8d0f3g5j7k9l1z4x6c8v0 UNIQUE (activity_id, user_id),
+    CONSTRAINT activity_id FOREIGN KEY (activity_id) REFERENCES activities (activity_id),
+    CONSTRAINT user_id FOREIGN KEY (user_id) REFERENCES users (user_id)
+);
+
+CREATE TABLE activity_submissions (
+    submission_id            UUID                        NOT NULL,
+    activity_registration_id UUID                        NOT NULL,
+    review_status            VARCHAR(255)                NOT NULL,
+    submission_url           VARCHAR(255)                NOT NULL,
+    submitted_at             TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    awarded_gems             BIGINT,
+    reviewed_at              TIMESTAMP(6) WITH TIME ZONE,
+    reviewed_by              UUID,
+    PRIMARY KEY (submission_id),
+    CONSTRAINT uk_submission_registration UNIQUE (activity_registration_id),
+    CONSTRAINT fk_submission_registration FOREIGN KEY (activity_registration_id)
+        REFERENCES activity_registrations (activity_registration_id),
+    CONSTRAINT fk_submission_judge FOREIGN KEY (reviewed_by) REFERENCES judges (judge_id)
+);
+
+INSERT INTO users (name, email, department, gender, role, created_at, updated_at)
+VALUES ('Existing One', 'existing.one@questevent.test', 'TECH', 'F', 'USER', now(), now()),
+       ('Existing Two', 'existing.two@questevent.test', 'HR', 'M', 'HOST', now(), now()),
+       ('Existing Three', 'existing.three@questevent.test', 'IT', 'F', 'USER', now(), now());